@@ -0,0 +1,72 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.GraphMailProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph 발송 처리량 벤치마크 ({@code ./gradlew jmh}).
+ *
+ * <p>$batch 호출마다 latencyMillis 지연하는 로컬 가짜 서버({@link FakeGraphBatchServer})로 메시지 100건을 보낸다.
+ * batchSize=1 은 기존 메시지당 sendMail 1회 호출과 같은 왕복 수이고, 20 은 Graph JSON batching 상한이다.
+ * 결과는 초당 메시지 수.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GraphBatchMailTransportBenchmark {
+
+    private static final int MESSAGES = 100;
+
+    @Param({"1", "20"})
+    public int batchSize;
+
+    @Param({"20"})
+    public long latencyMillis;
+
+    private FakeGraphBatchServer server;
+    private GraphBatchMailTransport transport;
+    private List<OutboundMail> mails;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = new FakeGraphBatchServer(latencyMillis, 0);
+        GraphMailProperties properties = new GraphMailProperties();
+        properties.setBaseUrl(server.baseUrl());
+        properties.setBatchSize(batchSize);
+        transport = new GraphBatchMailTransport(
+                new HttpGraphBatchEndpoint(new ObjectMapper(), properties, () -> "bench-token"),
+                properties, new SimpleMeterRegistry());
+
+        mails = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            mails.add(new OutboundMail(EmailCategory.OPERATIONAL, "noreply@bulc.co.kr", "user" + i + "@example.com", "support@bulc.co.kr",
+                    "[BulC] 공지", "<html><body><h1>공지</h1><p>본문 " + i + "</p></body></html>"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public List<MailDeliveryResult> send() throws InterruptedException {
+        return transport.send(mails);
+    }
+}
@@ -0,0 +1,47 @@
+package com.bulc.homepage.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 선정용 벤치마크 ({@code ./gradlew jmh}).
+ *
+ * <p>운영 서버에서 matches 1회가 대략 100~300ms 가 되는 cost 를
+ * bulc.password.bcrypt-strength 로 고른다. 풀 크기(코어 수)로 나누면 초당 로그인 처리량 상한이 나온다.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "11", "12", "13"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode("Benchmark-Password-1!");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("Benchmark-Password-1!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("Benchmark-Password-1!", encoded);
+    }
+}
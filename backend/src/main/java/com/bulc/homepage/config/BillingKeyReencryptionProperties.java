@@ -0,0 +1,40 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 빌링키 백그라운드 재암호화 설정 ({@code bulc.billing.reencryption}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.billing.reencryption")
+@Getter
+@Setter
+public class BillingKeyReencryptionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 기동 완료 후 시작까지 대기 시간. 기동 직후 트래픽·커넥션 풀 워밍업과 겹치지 않게 한다.
+     */
+    private Duration startDelay = Duration.ofSeconds(30);
+
+    /**
+     * 한 번에 읽어 batch UPDATE 하는 행 수.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 동시에 처리하는 청크 수.
+     */
+    private int parallelism = 4;
+
+    /**
+     * 청크 묶음 사이 대기 시간 (DB 부하 조절).
+     */
+    private Duration pause = Duration.ofMillis(200);
+}
@@ -0,0 +1,53 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * email_log 기록·보존 설정 ({@code bulc.mail.log}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.mail.log")
+@Getter
+@Setter
+public class EmailLogProperties {
+
+    /**
+     * 기록 대기 버퍼 크기. 가득 차면 호출 스레드가 직접 INSERT 한다 (유실 대신 느려짐).
+     */
+    private int bufferCapacity = 10_000;
+
+    /**
+     * batch INSERT 한 번에 넣는 최대 행 수.
+     */
+    private int batchSize = 500;
+
+    /**
+     * 버퍼가 비어 있을 때 기다리는 최대 시간. 조회에 반영되기까지의 최대 지연이기도 하다.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 월 파티션 보존 개월 수 (이번 달 제외). 이보다 오래된 달의 파티션은 DROP 한다.
+     */
+    private int retentionMonths = 12;
+
+    /**
+     * 미리 만들어 둘 다음 달 파티션 수.
+     */
+    private int precreateMonths = 2;
+
+    /**
+     * email_dedup_keys 보존 기간. 키는 발송일 단위라 며칠이면 충분하다.
+     */
+    private Duration dedupKeyRetention = Duration.ofDays(30);
+
+    /**
+     * 파티션 생성·삭제 수행 여부 (PostgreSQL 전용 — H2 테스트에서는 끔).
+     */
+    private boolean partitionMaintenance = true;
+}
@@ -0,0 +1,48 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Microsoft Graph JSON batching 발송 설정 ({@code bulc.mail.graph}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.mail.graph")
+@Getter
+@Setter
+public class GraphMailProperties {
+
+    /**
+     * Graph API 기본 URL ({@code $batch} 는 이 아래). 로컬 테스트 시 가짜 서버 주소로 바꾼다.
+     */
+    private String baseUrl = "https://graph.microsoft.com/v1.0";
+
+    /**
+     * $batch 요청 하나에 담는 sendMail 수 (Graph 상한 20).
+     */
+    private int batchSize = 20;
+
+    /**
+     * 요청 제한(429/503) 받은 항목의 최대 재요청 횟수. 넘으면 실패로 돌려 발송 큐의 재시도에 맡긴다.
+     */
+    private int maxThrottleRetries = 3;
+
+    /**
+     * 요청 제한 시 메일박스별 batch 간격의 상한.
+     */
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    /**
+     * $batch HTTP 요청 타임아웃.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 보낸 편지함 저장 여부 (기존 단건 발송과 동일하게 기본 true).
+     */
+    private boolean saveToSentItems = true;
+}
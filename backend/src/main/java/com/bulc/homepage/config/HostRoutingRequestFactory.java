@@ -0,0 +1,43 @@
+package com.bulc.homepage.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 하나의 {@link HttpClient}(= 하나의 커넥션 풀)를 공유하면서 호스트마다 다른
+ * 읽기 타임아웃을 적용하는 요청 팩토리.
+ *
+ * <p>JDK HttpClient 는 호스트(origin) 단위로 keep-alive 커넥션을 재사용하고,
+ * ALPN 으로 HTTP/2 가 협상되면 한 커넥션에 요청을 다중화한다.
+ */
+class HostRoutingRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpClient httpClient;
+    private final HttpClientProperties properties;
+    private final Map<String, JdkClientHttpRequestFactory> factories = new ConcurrentHashMap<>();
+
+    HostRoutingRequestFactory(HttpClient httpClient, HttpClientProperties properties) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        String host = uri.getHost() != null ? uri.getHost() : "";
+        return factories.computeIfAbsent(host, this::newFactory).createRequest(uri, httpMethod);
+    }
+
+    private JdkClientHttpRequestFactory newFactory(String host) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(properties.readTimeoutFor(host));
+        return factory;
+    }
+}
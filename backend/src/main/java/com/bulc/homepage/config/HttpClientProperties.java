@@ -0,0 +1,67 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출 설정 ({@code bulc.http-client}).
+ *
+ * <p>토스페이먼츠, 네이버/카카오/구글 OAuth2 토큰·사용자정보 호출이 모두 이 설정의
+ * 공유 클라이언트를 쓴다. 호스트별로 읽기 타임아웃과 동시 요청 한도를 덮어쓸 수 있다.
+ * Graph 메일 발송도 같은 커넥션 풀(연결 타임아웃 포함)을 쓰지만 요청 타임아웃은 bulc.mail.graph 설정을 따른다.
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    /**
+     * TCP/TLS 연결 수립 제한 시간.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 응답 대기 제한 시간 (호스트별 설정이 없을 때).
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 호스트별 동시 요청 상한 (호스트별 설정이 없을 때).
+     * 느린 제공자가 요청 스레드를 모두 붙잡지 못하게 한다.
+     */
+    private int maxConcurrentPerHost = 20;
+
+    /**
+     * 동시 요청 상한에 걸렸을 때 자리가 나기를 기다리는 시간. 넘으면 즉시 실패.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 호스트명 → 개별 설정.
+     */
+    private Map<String, Host> hosts = new HashMap<>();
+
+    public Duration readTimeoutFor(String host) {
+        Host override = host != null ? hosts.get(host) : null;
+        return override != null && override.getReadTimeout() != null ? override.getReadTimeout() : readTimeout;
+    }
+
+    public int maxConcurrentFor(String host) {
+        Host override = host != null ? hosts.get(host) : null;
+        return override != null && override.getMaxConcurrent() != null ? override.getMaxConcurrent() : maxConcurrentPerHost;
+    }
+
+    @Getter
+    @Setter
+    public static class Host {
+        private Duration readTimeout;
+        private Integer maxConcurrent;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 메일링 컨택 파일 임포트 설정 ({@code bulc.lead-import}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.lead-import")
+@Getter
+@Setter
+public class LeadImportProperties {
+
+    /**
+     * 한 번에 중복 확인(IN 조회) + batch INSERT 하는 행 수. 청크마다 별도 트랜잭션으로 커밋하며,
+     * 백그라운드 작업은 그 트랜잭션에 행 오류와 체크포인트도 함께 기록한다.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 요청 안에서 끝까지 처리하는 동기 임포트({@code /import})가 받는 최대 파일 크기.
+     * 이보다 큰 파일은 요청 스레드와 커넥션을 오래 잡으므로 413 으로 거절하고 {@code /import/jobs} 로 보낸다.
+     */
+    private DataSize syncMaxSize = DataSize.ofKilobytes(512);
+
+    /**
+     * 백그라운드 임포트 작업의 업로드 보관 디렉터리. 재기동 후에도 남아 있어야 이어서 진행할 수 있으며,
+     * 인스턴스가 여러 대면 모두 같은 경로(공유 볼륨)를 봐야 한다. 공유하지 않으면 파일이 없는 인스턴스는 작업을
+     * 점유했다가 바로 내려놓으므로, 업로드를 받은 인스턴스가 처리할 때까지 기다린다.
+     */
+    private String workDir = System.getProperty("java.io.tmpdir") + "/bulc-lead-import";
+
+    /**
+     * 작업 점유 유지 시간. 체크포인트마다 연장하며, 워커가 죽어 연장이 끊기면 이 시간 뒤 다른 워커가 이어서 진행한다.
+     */
+    private Duration lease = Duration.ofMinutes(2);
+
+    /**
+     * 이 인스턴스에서 백그라운드 임포트 워커를 돌릴지 여부.
+     */
+    private boolean workerEnabled = true;
+
+    /**
+     * 대기 작업이 없을 때 다시 확인하는 간격.
+     */
+    private Duration pollInterval = Duration.ofSeconds(2);
+}
@@ -0,0 +1,48 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 대량 메일 발송 큐 설정 ({@code bulc.mail.dispatch}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.mail.dispatch")
+@Getter
+@Setter
+public class MailDispatchProperties {
+
+    /**
+     * 발송 워커 수 (Graph $batch 동시 호출 수, Graph 메일박스당 동시 요청 한도 4).
+     */
+    private int concurrency = 4;
+
+    /**
+     * 인스턴스당 분당 최대 발송 건수. Exchange Online 메일박스 발송 한도(분당 30건)에 맞춘 기본값.
+     */
+    private int ratePerMinute = 30;
+
+    /**
+     * 한 번에 점유하는 수신자 수. 결과는 이 단위로 모아 batch UPDATE / email_log batch INSERT 한다.
+     */
+    private int batchSize = 50;
+
+    /**
+     * 수신자당 최대 발송 시도 횟수.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재시도 기본 대기 (시도마다 2배).
+     */
+    private Duration retryBackoff = Duration.ofMinutes(1);
+
+    /**
+     * 점유 후 이 시간이 지나도록 결과가 반영되지 않으면 다시 발송 대상이 된다.
+     */
+    private Duration lease = Duration.ofMinutes(10);
+}
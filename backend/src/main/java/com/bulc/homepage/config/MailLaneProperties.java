@@ -0,0 +1,66 @@
+package com.bulc.homepage.config;
+
+import com.bulc.homepage.email.EmailCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 카테고리별 비동기 메일 lane 설정 ({@code bulc.mail.lanes}).
+ *
+ * <p>lane 마다 전용 워커·유한 대기열·마감 시간을 둔다. 계정(인증코드·비밀번호 재설정) lane 이
+ * 가장 많은 워커를 가지며, 운영 메일이 밀리거나 Graph 지연이 있어도 다른 lane 의 대기열에 막히지 않는다.
+ * 광고성(PROMOTIONAL) 메일은 대량 발송 큐({@code MailJobService})로, 결제(TRANSACTION) 안내는
+ * 아웃박스 처리기에서 동기로 보내므로(실패 시 재시도) lane 이 없다.
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.mail.lanes")
+@Getter
+@Setter
+public class MailLaneProperties {
+
+    /** 인증 코드·비밀번호 재설정. 마감은 코드 유효시간(5분)에 맞춘다. */
+    private Lane account = new Lane(4, 200, Duration.ofMinutes(5));
+
+    /** 문의 접수·헬스 체크 알림. */
+    private Lane operational = new Lane(1, 500, Duration.ofHours(1));
+
+    /**
+     * @throws IllegalArgumentException lane 이 없는 카테고리 (TRANSACTION, PROMOTIONAL)
+     */
+    public Lane laneFor(EmailCategory category) {
+        return switch (category) {
+            case ACCOUNT -> account;
+            case OPERATIONAL -> operational;
+            case TRANSACTION -> throw new IllegalArgumentException("결제 안내는 아웃박스 처리기에서 바로 보냅니다.");
+            case PROMOTIONAL -> throw new IllegalArgumentException("광고성 메일은 대량 발송 큐로 보냅니다.");
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+
+        /**
+         * 전용 워커 수.
+         */
+        private int workers = 1;
+
+        /**
+         * 대기열 상한. 가득 차면 새 발송은 즉시 포기한다.
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * 대기열에서 이 시간 넘게 기다린 발송은 보내지 않고 버린다.
+         */
+        private Duration deadline = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,74 @@
+package com.bulc.homepage.config;
+
+import com.bulc.homepage.email.EmailCategory;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 메일 발송 경로 설정 ({@code bulc.mail.transport}).
+ *
+ * <p>카테고리별로 발송 transport(graph / smtp / memory)를 고른다.
+ * SMTP 는 계정·결제(ACCOUNT, TRANSACTION) 메일과 대량(OPERATIONAL, PROMOTIONAL) 메일이
+ * 서로 다른 연결 풀을 쓰므로 대량 발송이 인증코드 메일의 연결을 차지하지 않는다.
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.mail.transport")
+@Getter
+@Setter
+public class MailTransportProperties {
+
+    /**
+     * 카테고리 → transport 이름. 지정하지 않은 카테고리는 graph.
+     */
+    private Map<EmailCategory, String> routes = new EnumMap<>(EmailCategory.class);
+
+    private Smtp smtp = new Smtp();
+
+    public String routeFor(EmailCategory category) {
+        String name = routes.get(category);
+        return name != null && !name.isBlank() ? name.trim() : "graph";
+    }
+
+    @Getter
+    @Setter
+    public static class Smtp {
+
+        /**
+         * SMTP 서버 호스트. 비어 있으면 smtp transport 는 미설정.
+         */
+        private String host;
+
+        private int port = 587;
+
+        private String username;
+
+        private String password;
+
+        private boolean starttls = true;
+
+        /**
+         * ACCOUNT / TRANSACTION 용 연결 수.
+         */
+        private int interactivePoolSize = 2;
+
+        /**
+         * OPERATIONAL / PROMOTIONAL 용 연결 수.
+         */
+        private int bulkPoolSize = 4;
+
+        /**
+         * 연결이 모두 사용 중일 때 기다리는 시간. 넘으면 발송 실패.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(10);
+
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        private Duration timeout = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,133 @@
+package com.bulc.homepage.config;
+
+import com.bulc.homepage.exception.OutboundBulkheadRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 호출 공통 인터셉터.
+ *
+ * <ul>
+ *   <li>호스트별 동시 요청 상한(bulkhead) — 느린 제공자 하나가 Tomcat 스레드를 모두 붙잡지 못하게 한다.
+ *       한도에 걸리면 요청을 보내지 않고 {@link OutboundBulkheadRejectedException} 을 던진다.</li>
+ *   <li>엔드포인트별 지연 히스토그램 {@code bulc.http.client} (host, endpoint, method, status).</li>
+ * </ul>
+ */
+@Slf4j
+class OutboundHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String METRIC = "bulc.http.client";
+
+    /**
+     * 경로 세그먼트가 이 길이 이상이면 식별자(paymentKey, billingKey 등)로 보고 {@code {id}} 로 묶는다.
+     */
+    private static final int ID_SEGMENT_MIN_LENGTH = 20;
+
+    /**
+     * 숫자가 섞인 세그먼트는 이 길이 이상이면 식별자(orderId 등)로 본다.
+     */
+    private static final int MIXED_ID_MIN_LENGTH = 8;
+
+    private final HttpClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    OutboundHttpInterceptor(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost() != null ? request.getURI().getHost() : "unknown";
+        String endpoint = endpointOf(request.getURI().getPath());
+        Semaphore semaphore = permits.computeIfAbsent(host, h -> new Semaphore(properties.maxConcurrentFor(h)));
+
+        if (!acquire(semaphore)) {
+            record(host, endpoint, request, "REJECTED", 0);
+            log.warn("외부 호출 동시 요청 한도 초과 - host: {}, endpoint: {}", host, endpoint);
+            throw new OutboundBulkheadRejectedException("외부 서비스 응답 지연으로 요청을 처리할 수 없습니다: " + host);
+        }
+
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            semaphore.release();
+            record(host, endpoint, request, status, System.nanoTime() - start);
+        }
+    }
+
+    private boolean acquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String host, String endpoint, HttpRequest request, String status, long nanos) {
+        Timer.builder(METRIC)
+                .tag("host", host)
+                .tag("endpoint", endpoint)
+                .tag("method", request.getMethod().name())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 태그 카디널리티를 막기 위해 식별자 세그먼트를 {@code {id}} 로 치환한다.
+     * 예: /v1/payments/tgen_2024...abc → /v1/payments/{id}, /v1/payments/orders/BULC_1_1700000000 → /v1/payments/orders/{id}
+     *
+     * <p>식별자로 보는 세그먼트: {@link #ID_SEGMENT_MIN_LENGTH} 자 이상, 숫자만으로 된 것,
+     * {@link #MIXED_ID_MIN_LENGTH} 자 이상이면서 숫자를 포함한 것 (v1, oauth2 같은 짧은 버전 표기는 유지).
+     * 쿼리 문자열은 경로에 포함되지 않는다.</p>
+     */
+    static String endpointOf(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            sb.append('/').append(isIdentifier(segment) ? "{id}" : segment);
+        }
+        return sb.length() == 0 ? "/" : sb.toString();
+    }
+
+    private static boolean isIdentifier(String segment) {
+        if (segment.length() >= ID_SEGMENT_MIN_LENGTH) {
+            return true;
+        }
+        boolean hasDigit = false;
+        boolean allDigits = true;
+        for (int i = 0; i < segment.length(); i++) {
+            if (Character.isDigit(segment.charAt(i))) {
+                hasDigit = true;
+            } else {
+                allDigits = false;
+            }
+        }
+        return allDigits || (hasDigit && segment.length() >= MIXED_ID_MIN_LENGTH);
+    }
+}
@@ -1,14 +1,90 @@
 package com.bulc.homepage.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.util.List;
+
+/**
+ * 외부 HTTP 호출용 공유 클라이언트.
+ *
+ * <p>모든 RestTemplate 이 하나의 JDK {@link HttpClient} 를 공유하므로 호스트별
+ * keep-alive 커넥션 풀과 HTTP/2(ALPN 협상 시) 다중화를 함께 쓴다.
+ * 연결/읽기 타임아웃과 호스트별 동시 요청 상한은 {@link HttpClientProperties} 로 조정한다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient outboundHttpClient(HttpClientProperties properties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory outboundRequestFactory(HttpClient outboundHttpClient,
+                                                           HttpClientProperties properties) {
+        return new HostRoutingRequestFactory(outboundHttpClient, properties);
+    }
+
+    @Bean
+    public OutboundHttpInterceptor outboundHttpInterceptor(HttpClientProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        return new OutboundHttpInterceptor(properties, meterRegistry);
+    }
+
+    /**
+     * 토스페이먼츠 등 일반 외부 API 호출용.
+     */
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(ClientHttpRequestFactory outboundRequestFactory,
+                                     OutboundHttpInterceptor outboundHttpInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(outboundRequestFactory);
+        restTemplate.getInterceptors().add(outboundHttpInterceptor);
+        return restTemplate;
+    }
+
+    /**
+     * OAuth2 사용자 정보 조회용 (DefaultOAuth2UserService 기본 설정과 같은 에러 핸들러).
+     */
+    @Bean
+    public RestTemplate oauth2UserInfoRestTemplate(ClientHttpRequestFactory outboundRequestFactory,
+                                                   OutboundHttpInterceptor outboundHttpInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(outboundRequestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.getInterceptors().add(outboundHttpInterceptor);
+        return restTemplate;
+    }
+
+    /**
+     * OAuth2 인가 코드 → 토큰 교환 클라이언트 (Spring Security 기본 설정과 같은 컨버터 구성).
+     */
+    @Bean
+    public DefaultAuthorizationCodeTokenResponseClient oauth2TokenResponseClient(
+            ClientHttpRequestFactory outboundRequestFactory,
+            OutboundHttpInterceptor outboundHttpInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(outboundRequestFactory);
+        restTemplate.setMessageConverters(List.of(
+                new FormHttpMessageConverter(),
+                new OAuth2AccessTokenResponseHttpMessageConverter()));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.getInterceptors().add(outboundHttpInterceptor);
+
+        DefaultAuthorizationCodeTokenResponseClient client = new DefaultAuthorizationCodeTokenResponseClient();
+        client.setRestOperations(restTemplate);
+        return client;
     }
 }
@@ -5,6 +5,7 @@ import com.bulc.homepage.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.bulc.homepage.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.bulc.homepage.oauth2.OAuth2AuthenticationFailureHandler;
 import com.bulc.homepage.security.JwtAuthenticationFilter;
+import com.bulc.homepage.security.PasswordHashingProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +21,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -41,6 +43,7 @@ public class SecurityConfig {
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
+    private final DefaultAuthorizationCodeTokenResponseClient oauth2TokenResponseClient;
 
     @org.springframework.beans.factory.annotation.Value("${cors.allowed-origins:}")
     private String corsAllowedOrigins;
@@ -70,7 +73,8 @@ public class SecurityConfig {
 
     @Bean
     @org.springframework.core.annotation.Order(2)
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -95,6 +99,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/me/licenses/**").authenticated()
                         // 본인 결제 내역 조회는 인증 필요 (아래 permitAll 보다 먼저 매칭)
                         .requestMatchers("/api/payments/me").authenticated()
+                        .requestMatchers("/api/payments/*/fulfillment").authenticated()
                         // 결제 API (결제 완료 후 리다이렉트에서 호출)
                         .requestMatchers("/api/payments/**").permitAll()
                         // 상품/요금제 API (공개)
@@ -118,6 +123,8 @@ public class SecurityConfig {
                         // 리딤 코드 API (인증 필요)
                         .requestMatchers("/api/v1/redeem").authenticated()
                         .requestMatchers("/api/v1/admin/redeem-campaigns/**").authenticated()
+                        // 운영 메트릭 (관리자 전용)
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -129,13 +136,16 @@ public class SecurityConfig {
                         .redirectionEndpoint(redirection -> redirection
                                 .baseUri("/api/auth/oauth2/callback/*")
                         )
+                        .tokenEndpoint(token -> token
+                                .accessTokenResponseClient(oauth2TokenResponseClient)
+                        )
                         .userInfoEndpoint(userInfo -> userInfo
                                 .userService(customOAuth2UserService)
                         )
                         .successHandler(oAuth2AuthenticationSuccessHandler)
                         .failureHandler(oAuth2AuthenticationFailureHandler)
                 )
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -183,10 +193,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -195,8 +205,12 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt cost 는 bulc.password.bcrypt-strength 로 조정한다.
+     * 기존 해시는 {@link com.bulc.homepage.security.PasswordHashingService} 가 로그인 시 재해싱.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
     }
 }
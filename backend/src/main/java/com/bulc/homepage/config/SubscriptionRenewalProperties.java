@@ -0,0 +1,44 @@
+package com.bulc.homepage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 구독 자동 갱신 엔진 설정 ({@code bulc.billing.renewal}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.billing.renewal")
+@Getter
+@Setter
+public class SubscriptionRenewalProperties {
+
+    /**
+     * 한 번에 점유(SKIP LOCKED)하는 구독 수. 점유 트랜잭션은 이 건수만큼만 잠근다.
+     */
+    private int chunkSize = 100;
+
+    /**
+     * 토스 빌링 결제를 동시에 호출하는 워커 수.
+     */
+    private int concurrency = 8;
+
+    /**
+     * PENDING 결제가 이 시간 넘게 갱신되지 않으면 중단된 것으로 보고 같은 orderId 로 다시 시도한다.
+     * 토스 Idempotency-Key 덕분에 이미 승인된 건은 중복 청구되지 않는다.
+     */
+    private Duration claimLease = Duration.ofMinutes(10);
+
+    /**
+     * 재시도 폴링 한 번에 점유하는 실패 결제 수.
+     */
+    private int retryBatchSize = 20;
+
+    /**
+     * 자정 만료 처리에서 UPDATE ... RETURNING 한 문장으로 만료시키는 구독 수.
+     */
+    private int expiryChunkSize = 500;
+}
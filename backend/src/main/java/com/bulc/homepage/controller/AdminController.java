@@ -1,23 +1,30 @@
 package com.bulc.homepage.controller;
 
+import com.bulc.homepage.crypto.BillingKeyCipher;
+import com.bulc.homepage.crypto.BillingKeyReencryptionService;
 import com.bulc.homepage.entity.PricePlan;
 import com.bulc.homepage.entity.Product;
 import com.bulc.homepage.entity.User;
 import com.bulc.homepage.licensing.domain.License;
 import com.bulc.homepage.licensing.domain.LicenseStatus;
 import com.bulc.homepage.licensing.repository.LicenseRepository;
-import com.bulc.homepage.repository.PaymentRepository;
+import com.bulc.homepage.query.PaymentQueryRepository;
+import com.bulc.homepage.query.PaymentSearchCond;
+import com.bulc.homepage.query.PaymentSort;
+import com.bulc.homepage.query.view.PaymentRowView;
 import com.bulc.homepage.repository.PricePlanRepository;
 import com.bulc.homepage.licensing.repository.ProductRepository;
 import com.bulc.homepage.repository.UserRepository;
-import com.bulc.homepage.entity.Payment;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -32,7 +39,8 @@ public class AdminController {
     private final ProductRepository productRepository;
     private final PricePlanRepository pricePlanRepository;
     private final LicenseRepository licenseRepository;
-    private final PaymentRepository paymentRepository;
+    private final BillingKeyReencryptionService billingKeyReencryptionService;
+    private final PaymentQueryRepository paymentQueryRepository;
 
     /**
      * 관리자 권한 체크 (000 또는 001)
@@ -554,132 +562,100 @@ public class AdminController {
     }
 
     /**
-     * 결제 내역 조회
+     * 빌링키 재암호화 진행 상황 (시스템 관리자)
      */
-    @GetMapping("/payments")
-    public ResponseEntity<List<PaymentResponse>> getPayments() {
-        if (!isAdmin()) {
+    @GetMapping("/billing-keys/reencryption")
+    public ResponseEntity<Map<String, Object>> getBillingKeyReencryption() {
+        if (!isSystemAdmin()) {
             return ResponseEntity.status(403).build();
         }
 
-        List<PaymentResponse> payments = paymentRepository.findAll().stream()
-                .map(payment -> {
-                    String orderId = payment.getPaymentDetail() != null
-                            ? payment.getPaymentDetail().getOrderId()
-                            : null;
-                    String paymentMethod = payment.getPaymentDetail() != null
-                            ? payment.getPaymentDetail().getPaymentMethod()
-                            : null;
-                    String statusText = switch (payment.getStatus()) {
-                        case "P" -> "PENDING";
-                        case "C" -> "COMPLETED";
-                        case "F" -> "FAILED";
-                        case "R" -> "REFUNDED";
-                        default -> payment.getStatus();
-                    };
-
-                    // 사용자 정보 조회 (우선순위: User 관계 > userId 조회 > userEmail 스냅샷)
-                    // 비활성화된 계정은 "탈퇴한 사용자"로 표시
-                    String userName = null;
-                    String userEmail = null;
-                    boolean isDeactivated = false;
-
-                    // 1. User 관계가 있으면 사용
-                    if (payment.getUser() != null) {
-                        if (payment.getUser().getIsActive() != null && !payment.getUser().getIsActive()) {
-                            isDeactivated = true;
-                        } else {
-                            userName = payment.getUser().getName();
-                            userEmail = payment.getUser().getEmail();
-                        }
-                    }
-                    // 2. userId로 조회
-                    else if (payment.getUserId() != null) {
-                        var userOpt = userRepository.findById(payment.getUserId());
-                        if (userOpt.isPresent()) {
-                            var user = userOpt.get();
-                            if (user.getIsActive() != null && !user.getIsActive()) {
-                                isDeactivated = true;
-                            } else {
-                                userName = user.getName();
-                                userEmail = user.getEmail();
-                            }
-                        }
-                    }
+        Map<String, Object> result = new LinkedHashMap<>();
+        BillingKeyCipher cipher = BillingKeyCipher.getInstance();
+        result.put("activeVersion", cipher != null ? cipher.activePrefix() : null);
+        billingKeyReencryptionService.latestJob().ifPresent(job -> {
+            result.put("jobId", job.getId());
+            result.put("targetVersion", job.getTargetVersion());
+            result.put("status", job.getStatus().name());
+            result.put("totalCount", job.getTotalCount());
+            result.put("processedCount", job.getProcessedCount());
+            result.put("lastId", job.getLastId());
+            result.put("lastError", job.getLastError());
+            result.put("startedAt", job.getStartedAt());
+            result.put("updatedAt", job.getUpdatedAt());
+            result.put("finishedAt", job.getFinishedAt());
+        });
+        return ResponseEntity.ok(result);
+    }
 
-                    // 비활성화된 사용자 처리
-                    if (isDeactivated) {
-                        userName = "탈퇴한 사용자";
-                        userEmail = "(탈퇴)";
-                    }
-                    // 3. Payment에 저장된 스냅샷 값 사용 (비활성화가 아닌 경우만)
-                    else {
-                        if (userName == null) {
-                            userName = payment.getUserName();
-                        }
-                        if (userEmail == null) {
-                            userEmail = payment.getUserEmail();
-                        }
-                    }
+    /**
+     * 결제 내역 조회 (keyset 페이징)
+     *
+     * 결제·상세·사용자를 한 번의 조인 쿼리로 읽는다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+     *
+     * @param status P/C/F/R
+     * @param q      주문번호(정확히 일치) 또는 이메일·이름(앞부분 일치)
+     * @param sort   createdAt,desc(기본) / createdAt,asc / amount,desc / amount,asc
+     */
+    @GetMapping("/payments")
+    public ResponseEntity<?> getPayments(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String method,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        if (!isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
 
-                    // 카드 결제 정보
-                    String cardCompany = null;
-                    String cardNumber = null;
-                    Integer installmentMonths = null;
-                    String approveNo = null;
-
-                    // 간편결제 정보
-                    String easyPayProvider = null;
-
-                    // 가상계좌/계좌이체 추가 정보
-                    String bankName = null;
-                    String accountNumber = null;
-                    String dueDate = null;
-                    String depositorName = null;
-                    String settlementStatus = null;
-
-                    if (payment.getPaymentDetail() != null) {
-                        var detail = payment.getPaymentDetail();
-                        // 카드 정보
-                        cardCompany = detail.getCardCompany();
-                        cardNumber = detail.getCardNumber();
-                        installmentMonths = detail.getInstallmentMonths();
-                        approveNo = detail.getApproveNo();
-                        // 간편결제 정보
-                        easyPayProvider = detail.getEasyPayProvider();
-                        // 가상계좌/계좌이체 정보
-                        bankName = detail.getBankName();
-                        accountNumber = detail.getAccountNumber();
-                        dueDate = detail.getDueDate() != null ? detail.getDueDate().toString() : null;
-                        depositorName = detail.getDepositorName();
-                        settlementStatus = detail.getSettlementStatus();
-                    }
+        try {
+            PaymentSearchCond cond = new PaymentSearchCond(
+                    null, status, method,
+                    from != null ? from.atStartOfDay() : null,
+                    to != null ? to.plusDays(1).atStartOfDay() : null,
+                    q, PaymentSort.parse(sort), cursor, size);
+            return ResponseEntity.ok(paymentQueryRepository.search(cond).map(this::toPaymentResponse));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
 
-                    return new PaymentResponse(
-                            payment.getId(),
-                            userEmail,
-                            userName,
-                            orderId,
-                            payment.getAmount().longValue(),
-                            payment.getCurrency(),
-                            statusText,
-                            paymentMethod,
-                            cardCompany,
-                            cardNumber,
-                            installmentMonths,
-                            approveNo,
-                            easyPayProvider,
-                            bankName,
-                            accountNumber,
-                            dueDate,
-                            depositorName,
-                            settlementStatus,
-                            payment.getCreatedAt() != null ? payment.getCreatedAt().toString() : null
-                    );
-                })
-                .collect(Collectors.toList());
+    private PaymentResponse toPaymentResponse(PaymentRowView row) {
+        // 사용자 정보 (우선순위: 현재 회원 정보 > 결제 시점 스냅샷). 비활성화된 계정은 "탈퇴한 사용자"로 표시
+        String userName;
+        String userEmail;
+        if (row.userActive() != null && !row.userActive()) {
+            userName = "탈퇴한 사용자";
+            userEmail = "(탈퇴)";
+        } else {
+            userName = row.userName() != null ? row.userName() : row.snapshotName();
+            userEmail = row.userEmail() != null ? row.userEmail() : row.snapshotEmail();
+        }
 
-        return ResponseEntity.ok(payments);
+        return new PaymentResponse(
+                row.id(),
+                userEmail,
+                userName,
+                row.orderId(),
+                row.amount().longValue(),
+                row.currency(),
+                row.statusName(),
+                row.paymentMethod(),
+                row.cardCompany(),
+                row.cardNumber(),
+                row.installmentMonths(),
+                row.approveNo(),
+                row.easyPayProvider(),
+                row.bankName(),
+                row.accountNumber(),
+                row.dueDate() != null ? row.dueDate().toString() : null,
+                row.depositorName(),
+                row.settlementStatus(),
+                row.createdAt() != null ? row.createdAt().toString() : null
+        );
     }
 
     // DTOs
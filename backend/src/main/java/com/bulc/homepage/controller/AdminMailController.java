@@ -1,13 +1,18 @@
 package com.bulc.homepage.controller;
 
+import com.bulc.homepage.entity.MailJob;
 import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.service.EmailLogQueryService;
+import com.bulc.homepage.service.MailJobService;
 import com.bulc.homepage.service.OperationalMailService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +21,8 @@ import java.util.UUID;
 /**
  * MDP-496 운영성 메일 Admin 트리거 API.
  *
+ * 발송 요청은 대량 메일 큐에 작업으로 등록만 하고 202 로 응답한다. 진행 상황은 /jobs 로 조회.
+ *
  * 권한: roles_code 000(관리자) / 001(매니저) 만 호출 가능.
  */
 @RestController
@@ -28,6 +35,8 @@ public class AdminMailController {
     );
 
     private final OperationalMailService operationalMailService;
+    private final MailJobService mailJobService;
+    private final EmailLogQueryService emailLogQueryService;
     private final UserRepository userRepository;
 
     /**
@@ -99,7 +108,8 @@ public class AdminMailController {
         // mailType: "operational"(기본, 안내성) | "promotional"(광고성)
         boolean promotional = "promotional".equals(body.get("mailType"));
 
-        OperationalMailService.MailSendResult result;
+        UUID requestedBy = currentUserId();
+        MailJob job;
         if (promotional) {
             // 광고성: 수신 동의자(회원 marketing_agreed / 컨택 opt_in_marketing)에게만. 그룹 선택 필수.
             if (!includeMembers && !includeContacts) {
@@ -107,27 +117,80 @@ public class AdminMailController {
                         "error", "광고성 발송 대상을 한 가지 이상 선택해야 합니다 (회원 / 직접등록 컨택)"
                 ));
             }
-            result = operationalMailService.sendPromotionalNotice(
-                    title, contentHtml, subject, templateKey, includeMembers, includeContacts);
+            job = operationalMailService.enqueuePromotionalNotice(
+                    title, contentHtml, subject, templateKey, includeMembers, includeContacts, requestedBy);
         } else {
             if (!includeMembers && !includeContacts && (recipients == null || recipients.isEmpty())) {
                 return ResponseEntity.badRequest().body(Map.of(
                         "error", "발송 대상을 한 가지 이상 선택해야 합니다 (회원 / 직접등록 컨택 / 직접 지정)"
                 ));
             }
-            result = operationalMailService.sendOperationalNotice(
-                    title, contentHtml, subject, templateKey, includeMembers, includeContacts, recipients);
+            job = operationalMailService.enqueueOperationalNotice(
+                    title, contentHtml, subject, templateKey, includeMembers, includeContacts, recipients,
+                    requestedBy);
         }
 
-        return ResponseEntity.ok(Map.of(
+        // 발송은 큐에서 비동기로 진행 — 진행 상황은 GET /api/admin/mails/jobs/{jobId}
+        return ResponseEntity.accepted().body(Map.of(
+                "jobId", job.getId(),
                 "templateKey", templateKey,
                 "mailType", promotional ? "promotional" : "operational",
-                "targetCount", result.targetCount(),
-                "sentCount", result.sentCount(),
-                "failedCount", result.failedCount()
+                "status", job.getStatus().name(),
+                "targetCount", job.getTotalCount(),
+                "sentCount", job.getSentCount(),
+                "failedCount", job.getFailedCount()
         ));
     }
 
+    /**
+     * 최근 발송 작업 목록 (진행 상황 포함).
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<?> listJobs(@RequestParam(defaultValue = "20") int limit) {
+        if (!isAdmin()) {
+            return ResponseEntity.status(403).body(Map.of("error", "관리자 권한이 필요합니다"));
+        }
+        return ResponseEntity.ok(mailJobService.recentJobs(Math.max(1, Math.min(limit, 100))));
+    }
+
+    /**
+     * 발송 작업 진행 상황 (대상 / 성공 / 실패 / 대기, 분당 처리 건수).
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable Long jobId) {
+        if (!isAdmin()) {
+            return ResponseEntity.status(403).body(Map.of("error", "관리자 권한이 필요합니다"));
+        }
+        return mailJobService.getProgress(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 수신자의 하루 발송 이력 (date 생략 시 오늘). "오늘 이 사람에게 메일이 나갔는가" 확인용.
+     */
+    @GetMapping("/logs")
+    public ResponseEntity<?> recipientLogs(@RequestParam String email,
+                                           @RequestParam(required = false)
+                                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        if (!isAdmin()) {
+            return ResponseEntity.status(403).body(Map.of("error", "관리자 권한이 필요합니다"));
+        }
+        if (email.isBlank()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "email 은 필수입니다"));
+        }
+        return ResponseEntity.ok(emailLogQueryService.findByRecipientOn(email, date != null ? date : LocalDate.now()));
+    }
+
+    private UUID currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        try {
+            return auth != null ? UUID.fromString(auth.getName()) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private boolean isAdmin() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
@@ -1,6 +1,7 @@
 package com.bulc.homepage.controller;
 
 import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailLaneDispatcher;
 import com.bulc.homepage.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import java.util.Map;
 public class ContactController {
 
     private final EmailService emailService;
+    private final MailLaneDispatcher mailLaneDispatcher;
 
     @Value("${mail.from.accounts:support@msimul.com}")
     private String supportEmail;
@@ -58,14 +60,16 @@ public class ContactController {
                     ? request.category()
                     : "METEOR";
 
-            // 문의 이메일 발송 (OPERATIONAL — email_log 기록)
-            emailService.send(
-                    EmailCategory.OPERATIONAL,
-                    replyToEmail,  // 관리자에게 발송
-                    "contact_form",
-                    "[" + category + " 문의] " + request.subject(),
-                    htmlContent
-            );
+            // 문의 이메일 발송 (OPERATIONAL lane 비동기 — 발송 결과는 email_log 기록)
+            String subject = "[" + category + " 문의] " + request.subject();
+            boolean queued = mailLaneDispatcher.dispatch(EmailCategory.OPERATIONAL, "문의 " + request.email(),
+                    () -> emailService.send(EmailCategory.OPERATIONAL, replyToEmail, "contact_form", subject, htmlContent));
+            if (!queued) {
+                return ResponseEntity.status(503).body(Map.of(
+                        "success", false,
+                        "message", "문의가 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요."
+                ));
+            }
 
             log.info("문의 접수 - 이메일: {}, 제목: {}", request.email(), request.subject());
 
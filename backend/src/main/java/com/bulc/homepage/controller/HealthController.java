@@ -1,6 +1,7 @@
 package com.bulc.homepage.controller;
 
 import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailLaneDispatcher;
 import com.bulc.homepage.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ import java.util.Map;
 public class HealthController {
 
     private final EmailService emailService;
+    private final MailLaneDispatcher mailLaneDispatcher;
 
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
@@ -35,6 +37,7 @@ public class HealthController {
     /**
      * 헬스 체크 알림 이메일 발송 (서버 내부 cron에서 호출)
      * to는 콤마 구분으로 다중 수신자 지정 가능 (예: "a@x.com,b@y.com")
+     * 발송은 OPERATIONAL lane 에서 비동기로 하며, 응답은 대기열 등록 결과다 (발송 결과는 email_log).
      */
     @PostMapping("/health/alert")
     public ResponseEntity<Map<String, Object>> healthAlert(@RequestBody Map<String, String> request) {
@@ -56,30 +59,29 @@ public class HealthController {
         }
 
         String html = body.replace("\n", "<br>");
-        int sent = 0;
-        int failed = 0;
+        int queued = 0;
+        int rejected = 0;
         for (String toEmail : toEmails) {
-            try {
-                // OPERATIONAL — email_log 기록
-                emailService.send(EmailCategory.OPERATIONAL, toEmail, "health_alert", subject, html);
-                sent++;
-            } catch (Exception e) {
-                failed++;
-                log.warn("헬스 체크 알림 발송 실패 to={} 사유={}", toEmail, e.getMessage());
+            // OPERATIONAL lane — 발송 결과는 email_log 기록
+            if (mailLaneDispatcher.dispatch(EmailCategory.OPERATIONAL, "헬스 체크 알림 " + toEmail,
+                    () -> emailService.send(EmailCategory.OPERATIONAL, toEmail, "health_alert", subject, html))) {
+                queued++;
+            } else {
+                rejected++;
             }
         }
-        log.info("헬스 체크 알림 발송 — 성공 {}건 / 실패 {}건 / 대상 {}", sent, failed, toEmails);
-        if (sent == 0) {
+        log.info("헬스 체크 알림 등록 — 등록 {}건 / 거부 {}건 / 대상 {}", queued, rejected, toEmails);
+        if (queued == 0) {
             return ResponseEntity.internalServerError().body(Map.of(
                     "status", "failed",
-                    "sent", sent,
-                    "failed", failed
+                    "queued", queued,
+                    "rejected", rejected
             ));
         }
         return ResponseEntity.ok(Map.of(
-                "status", "sent",
-                "sent", sent,
-                "failed", failed
+                "status", "queued",
+                "queued", queued,
+                "rejected", rejected
         ));
     }
 
@@ -2,10 +2,14 @@ package com.bulc.homepage.controller;
 
 import com.bulc.homepage.dto.request.LeadContactRegisterRequest;
 import com.bulc.homepage.dto.request.LeadContactUnsubscribeRequest;
+import com.bulc.homepage.config.LeadImportProperties;
 import com.bulc.homepage.dto.request.LeadContactUpdateRequest;
+import com.bulc.homepage.dto.response.ApiResponse;
 import com.bulc.homepage.dto.response.LeadContactImportResult;
 import com.bulc.homepage.dto.response.LeadContactResponse;
 import com.bulc.homepage.entity.LeadContact;
+import com.bulc.homepage.leadimport.LeadImportJobService;
+import com.bulc.homepage.leadimport.LeadImportJobService.LeadImportJobProgress;
 import com.bulc.homepage.service.LeadContactService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +17,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -33,6 +39,8 @@ import java.util.UUID;
 public class LeadContactAdminController {
 
     private final LeadContactService leadContactService;
+    private final LeadImportJobService leadImportJobService;
+    private final LeadImportProperties leadImportProperties;
 
     /** 단건 등록 */
     @PostMapping
@@ -104,21 +112,79 @@ public class LeadContactAdminController {
      * 파일명 확장자(.csv / .xlsx / .xls)로 자동 분기. 헤더는 한국어 명함 양식
      * (회사·이름·부서·직함·전자 메일 주소·근무지 주소 번지·근무처 전화·근무처 팩스·
      * 휴대폰·명함 등록일·명함첩 이름·메모) 또는 영어 모두 허용. 이메일 컬럼 필수.
+     * 요청 안에서 끝까지 처리하므로 {@code bulc.lead-import.sync-max-size} 를 넘는 파일은 413 으로 거절한다.
+     *
+     * @deprecated 관리자 화면은 {@code /import/jobs} 로 등록하고 진행 상황을 조회한다. 작은 파일용 스크립트 호환으로만 남긴다.
      */
+    @Deprecated
     @PostMapping(value = "/import", consumes = "multipart/form-data")
-    public ResponseEntity<LeadContactImportResult> importFile(
+    public ResponseEntity<?> importFile(
             @RequestPart("file") MultipartFile file,
             Authentication authentication) {
         if (file == null || file.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
+        if (file.getSize() > leadImportProperties.getSyncMaxSize().toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body(ApiResponse.error("파일이 커서 즉시 임포트할 수 없습니다. /import/jobs 로 등록해 주세요. (최대 "
+                            + leadImportProperties.getSyncMaxSize().toKilobytes() + "KB)"));
+        }
         UUID adminId = UUID.fromString(authentication.getName());
         return ResponseEntity.ok(leadContactService.importFile(file, adminId));
     }
 
-    /** Backward-compat alias for the previous CSV-only endpoint. */
+    /**
+     * 백그라운드 임포트 작업 등록 (대용량 파일용).
+     *
+     * <p>업로드를 저장하고 작업만 등록한 뒤 202 로 응답한다. 형식·헤더 규칙은 {@code /import} 와 같다.
+     * 진행 상황은 GET /import/jobs/{jobId}, 행 오류는 GET /import/jobs/{jobId}/errors 로 조회.
+     */
+    @PostMapping(value = "/import/jobs", consumes = "multipart/form-data")
+    public ResponseEntity<LeadImportJobProgress> submitImportJob(
+            @RequestPart("file") MultipartFile file,
+            Authentication authentication) {
+        if (file == null || file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        UUID adminId = UUID.fromString(authentication.getName());
+        return ResponseEntity.accepted()
+                .body(LeadImportJobProgress.of(leadImportJobService.submit(file, adminId)));
+    }
+
+    /** 최근 임포트 작업 목록 (진행 상황 포함). */
+    @GetMapping("/import/jobs")
+    public ResponseEntity<List<LeadImportJobProgress>> listImportJobs(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(leadImportJobService.recentJobs(Math.max(1, Math.min(limit, 100))));
+    }
+
+    /** 임포트 작업 진행 상황 (데이터 행 / 등록 / 건너뜀 / 체크포인트 행). */
+    @GetMapping("/import/jobs/{jobId}")
+    public ResponseEntity<LeadImportJobProgress> getImportJob(@PathVariable Long jobId) {
+        return leadImportJobService.getProgress(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /** 임포트 작업의 행 오류 (행 번호 순 페이징). */
+    @GetMapping("/import/jobs/{jobId}/errors")
+    public ResponseEntity<Page<LeadContactImportResult.RowError>> getImportJobErrors(
+            @PathVariable Long jobId,
+            @PageableDefault(size = 50) Pageable pageable) {
+        if (leadImportJobService.getProgress(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(leadImportJobService.errors(jobId, pageable));
+    }
+
+    /**
+     * Backward-compat alias for the previous CSV-only endpoint.
+     *
+     * @deprecated {@code /import/jobs} 사용
+     */
+    @Deprecated
     @PostMapping(value = "/import/csv", consumes = "multipart/form-data")
-    public ResponseEntity<LeadContactImportResult> importCsvLegacy(
+    public ResponseEntity<?> importCsvLegacy(
             @RequestPart("file") MultipartFile file,
             Authentication authentication) {
         return importFile(file, authentication);
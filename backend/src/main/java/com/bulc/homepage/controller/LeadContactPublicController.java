@@ -1,8 +1,8 @@
 package com.bulc.homepage.controller;
 
 import com.bulc.homepage.dto.request.LeadContactPublicRequest;
+import com.bulc.homepage.ratelimit.RateLimiter;
 import com.bulc.homepage.service.LeadContactService;
-import com.bulc.homepage.service.PublicFormRateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +29,7 @@ import java.util.Map;
 public class LeadContactPublicController {
 
     private final LeadContactService leadContactService;
-    private final PublicFormRateLimiter rateLimiter;
+    private final RateLimiter rateLimiter;
 
     @PostMapping
     public ResponseEntity<?> submit(@Valid @RequestBody LeadContactPublicRequest req,
@@ -42,7 +42,7 @@ public class LeadContactPublicController {
             return ResponseEntity.ok(Map.of("success", true));
         }
 
-        if (!rateLimiter.tryAcquire(clientIp)) {
+        if (!rateLimiter.tryAcquire(RateLimiter.PUBLIC_FORM, clientIp)) {
             log.warn("공개 폼 레이트리밋 초과 - ip={}", clientIp);
             return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of(
                     "success", false,
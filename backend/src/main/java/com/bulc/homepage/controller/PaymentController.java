@@ -131,16 +131,41 @@ public class PaymentController {
 
     /**
      * 본인 결제 내역 조회 (MDP-576). 인증 필수 — SecurityContext의 userId 기준.
+     * 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
      */
     @GetMapping("/me")
-    public ResponseEntity<?> getMyPayments() {
+    public ResponseEntity<?> getMyPayments(@RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "20") int size) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()
                 || "anonymousUser".equals(authentication.getPrincipal())) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
         UUID userId = UUID.fromString(authentication.getName());
-        return ResponseEntity.ok(paymentService.getMyPaymentHistory(userId));
+        try {
+            return ResponseEntity.ok(paymentService.getMyPaymentHistory(userId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 결제 후속 처리(라이선스 발급) 상태 조회. 본인 결제만 조회 가능.
+     * 결제 승인 응답의 fulfillmentStatus 가 PROCESSING 이면 결제 완료 화면이 이 API 를 폴링한다.
+     */
+    @GetMapping("/{orderId}/fulfillment")
+    public ResponseEntity<?> getFulfillment(@PathVariable String orderId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        UUID userId = UUID.fromString(authentication.getName());
+        try {
+            return ResponseEntity.ok(paymentService.getFulfillmentStatus(orderId, userId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of("message", e.getMessage()));
+        }
     }
 
     /**
@@ -1,16 +1,12 @@
 package com.bulc.homepage.controller;
 
 import com.bulc.homepage.config.TossPaymentsConfig;
-import com.bulc.homepage.service.PaymentService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bulc.homepage.service.PaymentWebhookService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
@@ -22,7 +18,7 @@ import java.util.Base64;
  *
  * 보안:
  * 1. 웹훅 서명 검증 (시크릿 키 기반)
- * 2. 토스 API에 직접 결제 상태 재확인
+ * 2. 토스 API에 직접 결제 상태 재확인 (PaymentWebhookService 워커에서)
  */
 @RestController
 @RequestMapping("/api/payments")
@@ -30,19 +26,19 @@ import java.util.Base64;
 @Slf4j
 public class PaymentWebhookController {
 
-    private final PaymentService paymentService;
-    private final ObjectMapper objectMapper;
+    private final PaymentWebhookService paymentWebhookService;
     private final TossPaymentsConfig tossPaymentsConfig;
 
     /**
-     * 토스페이먼츠 웹훅 수신
+     * 토스페이먼츠 웹훅 수신.
+     *
+     * 서명 검증 후 원문을 저장만 하고 즉시 200 을 응답한다. 토스 상태 재확인과 반영은
+     * {@link PaymentWebhookService} 워커가 비동기로 수행한다. 저장에 실패하면 500 을 돌려 토스가 재전송하게 한다.
      */
     @PostMapping("/webhook")
     public ResponseEntity<?> handleWebhook(
             @RequestHeader(value = "Authorization", required = false) String authorization,
             @RequestBody String payload) {
-        log.info("웹훅 수신: {}", payload);
-
         // 1. 웹훅 서명 검증
         if (!verifyWebhookSignature(authorization)) {
             log.warn("웹훅 서명 검증 실패 — 위조 요청 의심");
@@ -50,41 +46,15 @@ public class PaymentWebhookController {
         }
 
         try {
-            JsonNode webhookData = objectMapper.readTree(payload);
-
-            String eventType = webhookData.path("eventType").asText();
-            log.info("웹훅 이벤트 타입: {}", eventType);
-
-            // 결제 상태 변경 이벤트 처리
-            if ("PAYMENT_STATUS_CHANGED".equals(eventType) || "DEPOSIT_CALLBACK".equals(eventType)) {
-                JsonNode data = webhookData.path("data");
-                String paymentKey = data.path("paymentKey").asText();
-                String orderId = data.path("orderId").asText();
-
-                log.info("웹훅 결제 이벤트: paymentKey={}, orderId={}", paymentKey, orderId);
-
-                // 2. 토스 API에 직접 결제 상태 재확인 (이중 검증)
-                String verifiedStatus = paymentService.verifyPaymentStatus(paymentKey);
-                if (verifiedStatus == null) {
-                    log.warn("토스 API 결제 상태 확인 실패 - 처리 보류: paymentKey={}", paymentKey);
-                    return ResponseEntity.ok().build();
-                }
-
-                log.info("토스 API 확인 결과: paymentKey={}, status={}", paymentKey, verifiedStatus);
-
-                // 토스 API에서 확인된 상태가 DONE일 때만 처리
-                if ("DONE".equals(verifiedStatus)) {
-                    paymentService.handlePaymentComplete(paymentKey, orderId);
-                    log.info("입금 완료 처리 성공: orderId={}", orderId);
-                }
-            }
-
+            paymentWebhookService.ingest(payload);
             return ResponseEntity.ok().build();
-
-        } catch (Exception e) {
-            log.error("웹훅 처리 오류: {}", e.getMessage(), e);
-            // 웹훅은 200 응답을 반환해야 재시도하지 않음
+        } catch (IllegalArgumentException e) {
+            // 형식이 잘못된 요청은 재전송해도 같으므로 200 으로 종료
+            log.warn("웹훅 payload 형식 오류: {}", e.getMessage());
             return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            log.error("웹훅 저장 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
         }
     }
 
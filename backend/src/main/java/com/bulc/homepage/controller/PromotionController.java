@@ -2,6 +2,7 @@ package com.bulc.homepage.controller;
 
 import com.bulc.homepage.entity.Promotion;
 import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.service.PromotionCodeIndex;
 import com.bulc.homepage.service.PromotionService;
 import com.bulc.homepage.service.PromotionService.PromotionValidationResult;
 import lombok.RequiredArgsConstructor;
@@ -69,12 +70,12 @@ public class PromotionController {
                     .body(Map.of("message", result.getMessage()));
         }
 
-        Promotion promotion = result.getPromotion();
+        PromotionCodeIndex.Coupon promotion = result.getPromotion();
         return ResponseEntity.ok(new CouponValidateResponse(
-                promotion.getCode(),
-                promotion.getName(),
-                promotion.getDiscountType(),
-                promotion.getDiscountValue(),
+                promotion.code(),
+                promotion.name(),
+                promotion.discountType(),
+                promotion.discountValue(),
                 result.getDiscountAmount()
         ));
     }
@@ -5,6 +5,7 @@ import com.bulc.homepage.entity.SubscriptionPayment;
 import com.bulc.homepage.repository.SubscriptionPaymentRepository;
 import com.bulc.homepage.repository.SubscriptionRepository;
 import com.bulc.homepage.service.SubscriptionBillingService;
+import com.bulc.homepage.service.SubscriptionRenewalEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -33,6 +34,7 @@ public class TestController {
     private final SubscriptionRepository subscriptionRepository;
     private final SubscriptionPaymentRepository subscriptionPaymentRepository;
     private final SubscriptionBillingService subscriptionBillingService;
+    private final SubscriptionRenewalEngine subscriptionRenewalEngine;
 
     /**
      * 구독 종료일을 현재 시간 근처로 변경하여 갱신 테스트 가능하게 함
@@ -133,7 +135,7 @@ public class TestController {
     public ResponseEntity<Map<String, Object>> processRenewals() {
         log.info("[테스트] 수동 구독 갱신 프로세스 실행");
 
-        subscriptionBillingService.processDueSubscriptions();
+        subscriptionRenewalEngine.runDueRenewals();
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
@@ -150,7 +152,7 @@ public class TestController {
     public ResponseEntity<Map<String, Object>> retryFailedPayments() {
         log.info("[테스트] 수동 결제 재시도 실행");
 
-        subscriptionBillingService.retryFailedPayments();
+        subscriptionRenewalEngine.runDueRetries();
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
@@ -167,11 +169,12 @@ public class TestController {
     public ResponseEntity<Map<String, Object>> processExpired() {
         log.info("[테스트] 수동 만료 구독 처리 실행");
 
-        subscriptionBillingService.processExpiredSubscriptions();
+        int expiredCount = subscriptionBillingService.processExpiredSubscriptions();
 
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("message", "만료 처리가 실행되었습니다");
+        result.put("expiredCount", expiredCount);
         result.put("executedAt", LocalDateTime.now());
 
         return ResponseEntity.ok(result);
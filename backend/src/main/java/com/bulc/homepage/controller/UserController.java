@@ -3,13 +3,13 @@ package com.bulc.homepage.controller;
 import com.bulc.homepage.config.ValidationConfig;
 import com.bulc.homepage.entity.User;
 import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.security.PasswordHashingService;
 import com.bulc.homepage.validation.ValidPhone;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -20,7 +20,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * 현재 로그인한 사용자 정보 조회
@@ -119,7 +119,7 @@ public class UserController {
         }
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.currentPassword(), user.getPasswordHash())) {
+        if (!passwordHashingService.matches(request.currentPassword(), user.getPasswordHash())) {
             return ResponseEntity.badRequest().body(new ApiResponse(false, "현재 비밀번호가 일치하지 않습니다."));
         }
 
@@ -130,7 +130,7 @@ public class UserController {
         }
 
         // 비밀번호 변경
-        user.setPasswordHash(passwordEncoder.encode(request.newPassword()));
+        user.setPasswordHash(passwordHashingService.encode(request.newPassword()));
         userRepository.save(user);
 
         return ResponseEntity.ok(new ApiResponse(true, "비밀번호가 변경되었습니다."));
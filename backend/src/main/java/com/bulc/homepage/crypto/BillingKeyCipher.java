@@ -6,20 +6,31 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * 빌링키 at-rest 암호화 (AES-256-GCM).
  *
  * - 저장 시 암호화 / 로드 시 복호화 ({@link BillingKeyCryptoConverter}가 호출).
- * - 출력 포맷: "v1:" + base64(IV(12) || ciphertext || GCM-tag(16))  — 키 버전 prefix로 로테이션 대비.
- * - 키: 환경변수 BILLING_ENC_KEY (base64 32바이트 권장). 코드/깃에 두지 않는다.
- *   미설정 시 개발용 폴백 키 사용(운영 금지 — WARN). 운영은 반드시 BILLING_ENC_KEY 설정.
+ * - 출력 포맷: "{버전}:" + base64(IV(12) || ciphertext || GCM-tag(16)).
+ * - 키: v1 은 환경변수 BILLING_ENC_KEY, 추가 버전은 BILLING_ENC_KEYS ("v2=키,v3=키").
+ *   암호화는 active-version 키로만 하고, 복호화는 prefix 의 버전 키로 한다 → 키 로테이션 시
+ *   새 버전을 추가하고 active-version 을 올린 뒤 {@link BillingKeyReencryptionService} 가 백그라운드로 재암호화.
+ *   v1 미설정 시 개발용 폴백 키 사용(운영 금지 — WARN). 운영은 반드시 BILLING_ENC_KEY 설정.
+ * - Cipher 인스턴스는 스레드별로 재사용한다 (getInstance 의 프로바이더 조회·할당을 호출마다 하지 않음).
  *
  * 컨버터(JPA가 인스턴스화)에서 Spring 빈 주입이 안 되므로, startup에 static 인스턴스를 노출한다.
  */
@@ -27,30 +38,66 @@ import java.util.Base64;
 @Component
 public class BillingKeyCipher {
 
-    public static final String PREFIX = "v1:";
+    private static final String LEGACY_VERSION = "v1";
+    private static final Pattern VERSION_PATTERN = Pattern.compile("v\\d+");
     private static final String TRANSFORMATION = "AES/GCM/NoPadding";
     private static final int IV_LENGTH = 12;          // GCM 권장 96-bit
     private static final int TAG_LENGTH_BITS = 128;
 
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new IllegalStateException("AES/GCM 미지원 JVM", e);
+        }
+    });
+
     @Value("${billing.encryption.key:}")
     private String configuredKey;
 
-    private SecretKeySpec keySpec;
+    @Value("${billing.encryption.keys:}")
+    private String additionalKeys;
+
+    @Value("${billing.encryption.active-version:v1}")
+    private String activeVersion = LEGACY_VERSION;
+
+    /** 버전 → 키. 복호화용으로 모든 버전을 보관한다. */
+    private Map<String, SecretKeySpec> keys;
+    private SecretKeySpec activeKey;
+    private String activePrefix;
     private final SecureRandom random = new SecureRandom();
 
     private static BillingKeyCipher instance;
 
     @PostConstruct
     void init() {
-        byte[] key;
+        Map<String, SecretKeySpec> ring = new LinkedHashMap<>();
         if (configuredKey != null && !configuredKey.isBlank()) {
-            key = normalizeKey(configuredKey);
+            ring.put(LEGACY_VERSION, new SecretKeySpec(normalizeKey(configuredKey), "AES"));
         } else {
             log.warn("[보안] billing.encryption.key(BILLING_ENC_KEY) 미설정 — 개발용 폴백 키 사용 중. "
                     + "운영에서는 반드시 BILLING_ENC_KEY 환경변수를 설정해야 합니다!");
-            key = sha256("dev-only-insecure-billing-key-do-not-use-in-prod");
+            ring.put(LEGACY_VERSION, new SecretKeySpec(
+                    sha256("dev-only-insecure-billing-key-do-not-use-in-prod"), "AES"));
+        }
+        if (additionalKeys != null && !additionalKeys.isBlank()) {
+            for (String entry : additionalKeys.split(",")) {
+                String[] parts = entry.trim().split("=", 2);
+                if (parts.length != 2 || !VERSION_PATTERN.matcher(parts[0].trim()).matches()) {
+                    throw new IllegalStateException("billing.encryption.keys 형식 오류 (예: v2=키,v3=키)");
+                }
+                ring.put(parts[0].trim(), new SecretKeySpec(normalizeKey(parts[1]), "AES"));
+            }
+        }
+
+        String active = activeVersion == null || activeVersion.isBlank() ? LEGACY_VERSION : activeVersion.trim();
+        if (!ring.containsKey(active)) {
+            throw new IllegalStateException("활성 빌링키 암호화 버전의 키가 없습니다: " + active);
         }
-        this.keySpec = new SecretKeySpec(key, "AES");
+        this.keys = Collections.unmodifiableMap(ring);
+        this.activeKey = ring.get(active);
+        this.activePrefix = active + ":";
+        log.info("[빌링키 암호화] 키 버전 {} 로드, 활성 버전 {}", ring.keySet(), active);
         instance = this;
     }
 
@@ -65,13 +112,13 @@ public class BillingKeyCipher {
         try {
             byte[] iv = new byte[IV_LENGTH];
             random.nextBytes(iv);
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
-            byte[] ct = cipher.doFinal(plain.getBytes(StandardCharsets.UTF_8));
-            byte[] out = new byte[iv.length + ct.length];
-            System.arraycopy(iv, 0, out, 0, iv.length);
-            System.arraycopy(ct, 0, out, iv.length, ct.length);
-            return PREFIX + Base64.getEncoder().encodeToString(out);
+            Cipher cipher = CIPHERS.get();
+            cipher.init(Cipher.ENCRYPT_MODE, activeKey, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+            ByteBuffer input = StandardCharsets.UTF_8.encode(plain);
+            ByteBuffer out = ByteBuffer.allocate(IV_LENGTH + cipher.getOutputSize(input.remaining()));
+            out.put(iv);
+            cipher.doFinal(input, out);
+            return activePrefix + Base64.getEncoder().encodeToString(out.array());
         } catch (Exception e) {
             throw new IllegalStateException("빌링키 암호화 실패", e);
         }
@@ -82,25 +129,60 @@ public class BillingKeyCipher {
             return null;
         }
         // 레거시 평문(마이그레이션 전) 또는 비암호화 값은 그대로 반환
-        if (!stored.startsWith(PREFIX)) {
+        String version = versionOf(stored);
+        if (version == null) {
             return stored;
         }
+        SecretKeySpec key = keys.get(version);
+        if (key == null) {
+            throw new IllegalStateException("빌링키 복호화 키 없음: 버전 " + version);
+        }
         try {
-            byte[] all = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
-            byte[] iv = new byte[IV_LENGTH];
-            System.arraycopy(all, 0, iv, 0, IV_LENGTH);
-            byte[] ct = new byte[all.length - IV_LENGTH];
-            System.arraycopy(all, IV_LENGTH, ct, 0, ct.length);
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
-            return new String(cipher.doFinal(ct), StandardCharsets.UTF_8);
+            byte[] all = Base64.getDecoder().decode(stored.substring(version.length() + 1));
+            Cipher cipher = CIPHERS.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, all, 0, IV_LENGTH));
+            ByteBuffer out = ByteBuffer.allocate(cipher.getOutputSize(all.length - IV_LENGTH));
+            cipher.doFinal(ByteBuffer.wrap(all, IV_LENGTH, all.length - IV_LENGTH), out);
+            out.flip();
+            return StandardCharsets.UTF_8.decode(out).toString();
         } catch (Exception e) {
             throw new IllegalStateException("빌링키 복호화 실패", e);
         }
     }
 
     public boolean isEncrypted(String v) {
-        return v != null && v.startsWith(PREFIX);
+        return versionOf(v) != null;
+    }
+
+    /**
+     * 활성 버전 키로 암호화돼 있지 않은 값(평문 또는 이전 버전)인지.
+     */
+    public boolean needsReencryption(String v) {
+        return v != null && !v.startsWith(activePrefix);
+    }
+
+    /**
+     * 현재 활성 버전 prefix (예: "v2:").
+     */
+    public String activePrefix() {
+        return activePrefix;
+    }
+
+    public Set<String> versions() {
+        return keys.keySet();
+    }
+
+    /** "vN:" prefix 의 버전. 등록 여부와 무관하게 형식만 본다. 평문이면 null. */
+    private String versionOf(String v) {
+        if (v == null) {
+            return null;
+        }
+        int colon = v.indexOf(':');
+        if (colon < 2 || colon > 4) {
+            return null;
+        }
+        String version = v.substring(0, colon);
+        return VERSION_PATTERN.matcher(version).matches() ? version : null;
     }
 
     /** base64 32바이트 키를 우선 사용, 형식이 안 맞으면 SHA-256으로 32바이트 파생. */
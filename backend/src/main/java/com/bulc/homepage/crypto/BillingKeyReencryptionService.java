@@ -0,0 +1,259 @@
+package com.bulc.homepage.crypto;
+
+import com.bulc.homepage.config.BillingKeyReencryptionProperties;
+import com.bulc.homepage.entity.BillingKeyReencryptionJob;
+import com.bulc.homepage.repository.BillingKeyReencryptionJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * billing_key 행 백그라운드 (재)암호화 (idempotent).
+ *
+ * <p>평문 행과 활성 버전이 아닌 키로 암호화된 행을 활성 버전 키로 다시 암호화한다 (초기 암호화 + 키 로테이션).
+ * 기동 완료 후 startDelay 만큼 기다렸다가 별도 스레드에서 시작하므로 행 수와 무관하게 기동 시간은 일정하다.</p>
+ *
+ * <ul>
+ *   <li>id keyset 커서로 chunkSize 건씩 읽고, parallelism 개 청크를 워커에서 재암호화한 뒤 JDBC batch UPDATE 로 쓴다.</li>
+ *   <li>UPDATE 는 읽은 값과 같을 때만 적용해 그 사이 앱이 바꾼 행을 덮어쓰지 않는다.</li>
+ *   <li>청크 묶음마다 커서와 처리 건수를 billing_key_reencryption_jobs 에 커밋하고 pause 만큼 쉰다.
+ *       재기동 시 같은 버전의 미완료 작업을 커서부터 이어서 진행한다.</li>
+ * </ul>
+ *
+ * <p>raw JDBC로 읽고/쓰므로 컨버터·Hibernate dirty-check를 우회한다
+ * (엔티티 필드값이 안 바뀌면 Hibernate가 UPDATE를 생략하는 문제 방지).</p>
+ *
+ * <p>메트릭: {@code bulc.billing.reencryption.rows} (재암호화 행 수),
+ * {@code bulc.billing.reencryption.remaining} (현재 작업의 남은 행 수 추정).</p>
+ */
+@Slf4j
+@Service
+public class BillingKeyReencryptionService {
+
+    private static final String PENDING_CONDITION =
+            "billing_key IS NOT NULL AND billing_key NOT LIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BillingKeyReencryptionJobRepository jobRepository;
+    private final BillingKeyReencryptionProperties properties;
+    private final ScheduledExecutorService starter;
+    private final ExecutorService workers;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong remaining = new AtomicLong();
+    private final Counter reencrypted;
+
+    private record Row(long id, String billingKey) {}
+
+    public BillingKeyReencryptionService(JdbcTemplate jdbcTemplate,
+                                         BillingKeyReencryptionJobRepository jobRepository,
+                                         BillingKeyReencryptionProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRepository = jobRepository;
+        this.properties = properties;
+
+        this.starter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "billing-key-reencrypt");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()), r -> {
+            Thread t = new Thread(r, "billing-key-reencrypt-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.reencrypted = Counter.builder("bulc.billing.reencryption.rows").register(meterRegistry);
+        meterRegistry.gauge("bulc.billing.reencryption.remaining", remaining);
+    }
+
+    /**
+     * 기동 완료 후 startDelay 뒤에 재암호화를 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleAfterStartup() {
+        if (!properties.isEnabled()) {
+            log.info("[빌링키 암호화] 백그라운드 재암호화 비활성화");
+            return;
+        }
+        starter.schedule(this::run, properties.getStartDelay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 가장 최근 작업 (진행 상황 조회용).
+     */
+    public Optional<BillingKeyReencryptionJob> latestJob() {
+        return jobRepository.findFirstByOrderByIdDesc();
+    }
+
+    /**
+     * 재암호화 실행. 같은 인스턴스에서 이미 실행 중이면 건너뛴다.
+     */
+    void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            BillingKeyCipher cipher = BillingKeyCipher.getInstance();
+            if (cipher == null) {
+                log.error("[빌링키 암호화] cipher 미초기화 — 재암호화 중단");
+                return;
+            }
+            reencryptAll(cipher);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[빌링키 암호화] 종료로 재암호화 중단 (재기동 시 이어서 진행)");
+        } catch (Exception e) {
+            log.error("[빌링키 암호화] 재암호화 오류: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reencryptAll(BillingKeyCipher cipher) throws InterruptedException {
+        String activePrefix = cipher.activePrefix();
+        String version = activePrefix.substring(0, activePrefix.length() - 1);
+        String activePattern = activePrefix + "%";
+
+        BillingKeyReencryptionJob job = jobRepository
+                .findFirstByTargetVersionAndStatusNotOrderByIdDesc(version, BillingKeyReencryptionJob.Status.COMPLETED)
+                .orElse(null);
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM billing_keys WHERE id > ? AND " + PENDING_CONDITION, Integer.class,
+                job != null ? job.getLastId() : 0L, activePattern);
+
+        if (pending == null || pending == 0) {
+            if (job != null) {
+                finish(job, BillingKeyReencryptionJob.Status.COMPLETED, null);
+            }
+            log.info("[빌링키 암호화] 재암호화 대상 없음 (모두 {} 키로 암호화됨)", activePrefix);
+            return;
+        }
+
+        if (job == null) {
+            job = jobRepository.save(BillingKeyReencryptionJob.builder()
+                    .targetVersion(version)
+                    .totalCount(pending)
+                    .build());
+        } else {
+            log.info("[빌링키 암호화] 이전 작업 이어서 진행: jobId={}, lastId={}, 처리={}건",
+                    job.getId(), job.getLastId(), job.getProcessedCount());
+            job.setStatus(BillingKeyReencryptionJob.Status.RUNNING);
+            job.setLastError(null);
+        }
+        remaining.set(pending);
+        log.info("[빌링키 암호화] {}건 재암호화 시작: jobId={}, 활성 버전 {}, 청크 {}, 병렬 {}",
+                pending, job.getId(), activePrefix, properties.getChunkSize(), properties.getParallelism());
+
+        int parallelism = Math.max(1, properties.getParallelism());
+        try {
+            while (true) {
+                // 청크 묶음 읽기 (keyset)
+                List<List<Row>> wave = new ArrayList<>(parallelism);
+                long afterId = job.getLastId();
+                for (int i = 0; i < parallelism; i++) {
+                    List<Row> chunk = jdbcTemplate.query(
+                            "SELECT id, billing_key FROM billing_keys WHERE id > ? AND " + PENDING_CONDITION
+                                    + " ORDER BY id LIMIT ?",
+                            (rs, n) -> new Row(rs.getLong("id"), rs.getString("billing_key")),
+                            afterId, activePattern, properties.getChunkSize());
+                    if (chunk.isEmpty()) {
+                        break;
+                    }
+                    wave.add(chunk);
+                    afterId = chunk.get(chunk.size() - 1).id();
+                    if (chunk.size() < properties.getChunkSize()) {
+                        break;
+                    }
+                }
+                if (wave.isEmpty()) {
+                    break;
+                }
+
+                // 병렬 재암호화 → 모두 끝나면 커서 커밋
+                List<Future<Integer>> futures = new ArrayList<>(wave.size());
+                for (List<Row> chunk : wave) {
+                    futures.add(workers.submit(() -> reencrypt(cipher, chunk)));
+                }
+                int updated = 0;
+                for (Future<Integer> future : futures) {
+                    updated += future.get();
+                }
+                reencrypted.increment(updated);
+                remaining.set(Math.max(0, remaining.get() - wave.stream().mapToInt(List::size).sum()));
+
+                job.setLastId(afterId);
+                job.setProcessedCount(job.getProcessedCount() + updated);
+                job = jobRepository.save(job);
+                log.info("[빌링키 암호화] 진행 {}/{} (lastId={})", job.getProcessedCount(), job.getTotalCount(), afterId);
+
+                Thread.sleep(properties.getPause().toMillis());
+            }
+            finish(job, BillingKeyReencryptionJob.Status.COMPLETED, null);
+            log.info("[빌링키 암호화] 재암호화 완료: jobId={}, {}건", job.getId(), job.getProcessedCount());
+        } catch (ExecutionException e) {
+            // 커서는 마지막 성공 묶음에 머물러 있으므로 재기동 시 그 다음부터 진행
+            finish(job, BillingKeyReencryptionJob.Status.FAILED, e.getCause().getMessage());
+            log.error("[빌링키 암호화] 재암호화 실패: jobId={}, lastId={}, error={}",
+                    job.getId(), job.getLastId(), e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void finish(BillingKeyReencryptionJob job, BillingKeyReencryptionJob.Status status, String error) {
+        job.setStatus(status);
+        job.setLastError(error);
+        job.setFinishedAt(LocalDateTime.now());
+        jobRepository.save(job);
+        remaining.set(0);
+    }
+
+    /**
+     * 한 청크 재암호화 후 batch UPDATE.
+     *
+     * @return 실제로 갱신된 행 수
+     */
+    private int reencrypt(BillingKeyCipher cipher, List<Row> chunk) {
+        List<Object[]> batch = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String plain = cipher.decrypt(row.billingKey());
+            batch.add(new Object[]{cipher.encrypt(plain), row.id(), row.billingKey()});
+        }
+        int[] results = jdbcTemplate.batchUpdate(
+                "UPDATE billing_keys SET billing_key = ? WHERE id = ? AND billing_key = ?", batch);
+        int updated = 0;
+        for (int r : results) {
+            // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) — 성공으로 센다
+            if (r > 0 || r == Statement.SUCCESS_NO_INFO) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        starter.shutdownNow();
+        workers.shutdownNow();
+    }
+}
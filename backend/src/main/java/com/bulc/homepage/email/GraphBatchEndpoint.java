@@ -0,0 +1,30 @@
+package com.bulc.homepage.email;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Microsoft Graph JSON batching ({@code POST /$batch}) 호출 경계.
+ *
+ * <p>{@link GraphBatchMailTransport} 는 이 인터페이스만 보므로 로컬 가짜 서버나 다른 구현으로 바꿔 테스트할 수 있다.</p>
+ */
+public interface GraphBatchEndpoint {
+
+    /** $batch 안의 요청 1건. url 은 버전 뒤 경로 (예: /users/{id}/sendMail). */
+    record Request(String id, String method, String url, Map<String, String> headers, Object body) {}
+
+    /** $batch 응답 1건. headers 는 대소문자 무시 조회. body 는 없으면 null. */
+    record Response(String id, int status, Map<String, String> headers, JsonNode body) {}
+
+    /**
+     * 요청 목록을 $batch 한 번으로 보낸다.
+     * 호출 전체가 요청 제한(429/503)이면 모든 항목을 해당 status 로 돌려주고,
+     * 그 밖의 호출 실패는 RuntimeException 을 던진다.
+     */
+    List<Response> post(List<Request> requests);
+
+    /** 인증 정보가 설정되어 호출 가능한지. */
+    boolean isConfigured();
+}
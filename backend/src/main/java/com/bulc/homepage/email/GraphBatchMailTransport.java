@@ -0,0 +1,219 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.GraphMailProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph JSON batching 으로 여러 메시지를 보내는 transport (graph).
+ *
+ * <ul>
+ *   <li>발신 메일박스별로 묶어 batchSize(최대 20)건씩 {@code $batch} 한 번으로 sendMail 을 보낸다.</li>
+ *   <li>요청 제한(429/503) 받은 항목만 Retry-After 만큼 기다렸다 다시 보낸다 (maxThrottleRetries 회까지).</li>
+ *   <li>메일박스별 batch 간격을 제한을 받으면 2배(최대 maxBackoff)로 늘리고, 제한 없이 성공하면 조금씩 줄인다.</li>
+ * </ul>
+ *
+ * <p>결과는 입력과 같은 순서의 {@link MailDeliveryResult} 목록으로 돌려주며, email_log 기록은 호출측이 한다.
+ * 계정·결제 메일은 발신 메일박스(accounts@ / billing@)가 대량 메일(noreply@)과 달라 요청 제한 간격도 따로 간다.</p>
+ *
+ * <p>메트릭: {@code bulc.mail.graph.batches} ($batch 호출 수), {@code bulc.mail.graph.throttled} (제한 받은 항목 수).</p>
+ */
+@Slf4j
+@Component
+public class GraphBatchMailTransport implements MailTransport {
+
+    /** Retry-After 가 없거나 0 일 때도 최소한 이만큼은 간격을 벌린다. */
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final GraphBatchEndpoint endpoint;
+    private final GraphMailProperties properties;
+    private final Counter batchCounter;
+    private final Counter throttledCounter;
+    private final Map<String, Pacer> pacers = new ConcurrentHashMap<>();
+
+    public GraphBatchMailTransport(GraphBatchEndpoint endpoint, GraphMailProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.properties = properties;
+        this.batchCounter = Counter.builder("bulc.mail.graph.batches").register(meterRegistry);
+        this.throttledCounter = Counter.builder("bulc.mail.graph.throttled").register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "graph";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return endpoint.isConfigured();
+    }
+
+    @Override
+    public List<MailDeliveryResult> send(List<OutboundMail> mails) throws InterruptedException {
+        MailDeliveryResult[] results = new MailDeliveryResult[mails.size()];
+        if (!endpoint.isConfigured()) {
+            Arrays.fill(results, MailDeliveryResult.failed("이메일 서비스가 설정되지 않았습니다."));
+            return Arrays.asList(results);
+        }
+
+        Map<String, List<Integer>> bySender = new LinkedHashMap<>();
+        for (int i = 0; i < mails.size(); i++) {
+            bySender.computeIfAbsent(mails.get(i).from().toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(i);
+        }
+        int batchSize = Math.max(1, Math.min(20, properties.getBatchSize()));
+        for (Map.Entry<String, List<Integer>> e : bySender.entrySet()) {
+            List<Integer> indexes = e.getValue();
+            for (int from = 0; from < indexes.size(); from += batchSize) {
+                sendBatch(e.getKey(), mails, indexes.subList(from, Math.min(from + batchSize, indexes.size())), results);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private void sendBatch(String sender, List<OutboundMail> mails, List<Integer> indexes,
+                           MailDeliveryResult[] results) throws InterruptedException {
+        Pacer pacer = pacers.computeIfAbsent(sender, k -> new Pacer());
+        List<Integer> pending = indexes;
+        for (int retry = 0; ; retry++) {
+            pacer.await();
+            List<GraphBatchEndpoint.Request> requests = new ArrayList<>(pending.size());
+            for (int index : pending) {
+                requests.add(toRequest(String.valueOf(index), mails.get(index)));
+            }
+
+            List<GraphBatchEndpoint.Response> responses;
+            try {
+                batchCounter.increment();
+                responses = endpoint.post(requests);
+            } catch (RuntimeException ex) {
+                log.warn("[Graph batch] 호출 실패 - {} {}건: {}", sender, pending.size(), ex.getMessage());
+                for (int index : pending) {
+                    results[index] = MailDeliveryResult.failed(ex.getMessage());
+                }
+                return;
+            }
+
+            Map<String, GraphBatchEndpoint.Response> byId = new HashMap<>();
+            responses.forEach(r -> byId.put(r.id(), r));
+            List<Integer> throttled = new ArrayList<>();
+            long retryAfterNanos = 0;
+            for (int index : pending) {
+                GraphBatchEndpoint.Response r = byId.get(String.valueOf(index));
+                if (r == null) {
+                    results[index] = MailDeliveryResult.failed("Graph $batch 응답에 항목이 없습니다.");
+                } else if (r.status() / 100 == 2) {
+                    results[index] = MailDeliveryResult.sent();
+                } else if (r.status() == 429 || r.status() == 503) {
+                    throttled.add(index);
+                    retryAfterNanos = Math.max(retryAfterNanos, retryAfterNanos(r));
+                } else {
+                    results[index] = MailDeliveryResult.failed(errorMessage(r));
+                }
+            }
+
+            if (throttled.isEmpty()) {
+                pacer.onSuccess();
+                return;
+            }
+            throttledCounter.increment(throttled.size());
+            pacer.onThrottled(retryAfterNanos, properties.getMaxBackoff().toNanos());
+            if (retry >= properties.getMaxThrottleRetries()) {
+                log.warn("[Graph batch] 요청 제한 재시도 한도 초과 - {} {}건", sender, throttled.size());
+                for (int index : throttled) {
+                    results[index] = MailDeliveryResult.failed("Graph 요청 제한(429) 재시도 한도 초과");
+                }
+                return;
+            }
+            log.info("[Graph batch] 요청 제한 - {} {}건, {}ms 후 재요청",
+                    sender, throttled.size(), TimeUnit.NANOSECONDS.toMillis(retryAfterNanos));
+            pending = throttled;
+        }
+    }
+
+    private GraphBatchEndpoint.Request toRequest(String id, OutboundMail mail) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("subject", mail.subject());
+        message.put("body", Map.of("contentType", "HTML", "content", mail.html()));
+        message.put("toRecipients", List.of(Map.of("emailAddress", Map.of("address", mail.to()))));
+        if (mail.replyTo() != null && !mail.replyTo().isBlank()) {
+            message.put("replyTo", List.of(Map.of("emailAddress", Map.of("address", mail.replyTo()))));
+        }
+        Map<String, Object> body = Map.of("message", message, "saveToSentItems", properties.isSaveToSentItems());
+        return new GraphBatchEndpoint.Request(id, "POST", "/users/" + mail.from() + "/sendMail",
+                Map.of("Content-Type", "application/json"), body);
+    }
+
+    private static long retryAfterNanos(GraphBatchEndpoint.Response r) {
+        String value = r.headers() != null ? r.headers().get("Retry-After") : null;
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static String errorMessage(GraphBatchEndpoint.Response r) {
+        JsonNode error = r.body() != null ? r.body().path("error") : null;
+        String detail = error == null || error.isMissingNode()
+                ? "HTTP " + r.status()
+                : "HTTP " + r.status() + " " + error.path("code").asText() + " - " + error.path("message").asText();
+        String reason = switch (r.status()) {
+            case 401 -> "인증 오류 (Azure AD Client Secret이 만료되었거나 잘못되었습니다)";
+            case 403 -> "권한 부족 (Azure AD에서 Mail.Send 권한을 확인하세요)";
+            case 404 -> "발신 메일박스를 찾을 수 없습니다";
+            default -> null;
+        };
+        return reason != null
+                ? "이메일 발송 실패: " + reason + " [" + detail + "]"
+                : "이메일 발송 실패: " + detail;
+    }
+
+    /**
+     * 메일박스별 batch 간격. 제한을 받으면 Retry-After 이후로 다음 슬롯을 미루고 간격을 2배로,
+     * 제한 없이 성공하면 간격을 3/4 로 줄인다.
+     */
+    private static final class Pacer {
+
+        private long intervalNanos = 0;
+        private long nextAt = System.nanoTime();
+
+        void await() throws InterruptedException {
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextAt);
+                nextAt = slot + intervalNanos;
+                wait = slot - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+
+        synchronized void onThrottled(long retryAfterNanos, long maxBackoffNanos) {
+            intervalNanos = Math.min(maxBackoffNanos, Math.max(MIN_BACKOFF_NANOS, intervalNanos * 2));
+            nextAt = Math.max(nextAt, System.nanoTime() + Math.max(retryAfterNanos, intervalNanos));
+        }
+
+        synchronized void onSuccess() {
+            intervalNanos = intervalNanos < MIN_BACKOFF_NANOS / 4 ? 0 : intervalNanos * 3 / 4;
+        }
+    }
+}
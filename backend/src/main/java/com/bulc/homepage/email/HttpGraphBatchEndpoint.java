@@ -0,0 +1,179 @@
+package com.bulc.homepage.email;
+
+import com.azure.core.credential.AccessToken;
+import com.azure.core.credential.TokenRequestContext;
+import com.azure.identity.ClientSecretCredential;
+import com.azure.identity.ClientSecretCredentialBuilder;
+import com.bulc.homepage.config.GraphMailProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * java.net.http 로 Graph {@code $batch} 를 직접 호출하는 구현.
+ *
+ * <p>토큰은 microsoft.graph.* 클라이언트 자격 증명으로 받아 만료 5분 전까지 재사용한다.
+ * 자격 증명이 없으면 {@link #isConfigured()} 가 false 이고 호출은 실패한다 (EmailService 와 동일한 규칙).</p>
+ *
+ * <p>HTTP 클라이언트는 {@link com.bulc.homepage.config.RestTemplateConfig#outboundHttpClient} 공유 인스턴스를 써서
+ * 커넥션 풀을 함께 쓴다. 요청 타임아웃은 {@link GraphMailProperties#getRequestTimeout()} 로 요청마다 준다.
+ * RestTemplate 인터셉터의 호스트별 bulkhead 는 거치지 않는데, 호출이 메일 레인 워커에서만 나가 동시 호출 수가
+ * 이미 레인 워커 수로 묶여 있고 요청 제한은 {@link GraphBatchMailTransport} 가 Retry-After 로 처리하기 때문이다.</p>
+ */
+@Component
+public class HttpGraphBatchEndpoint implements GraphBatchEndpoint {
+
+    private static final String SCOPE = "https://graph.microsoft.com/.default";
+
+    private final ObjectMapper objectMapper;
+    private final GraphMailProperties properties;
+    private final Supplier<String> accessToken;
+    private final HttpClient httpClient;
+
+    @Autowired
+    public HttpGraphBatchEndpoint(ObjectMapper objectMapper,
+                                  GraphMailProperties properties,
+                                  @Value("${microsoft.graph.tenant-id:}") String tenantId,
+                                  @Value("${microsoft.graph.client-id:}") String clientId,
+                                  @Value("${microsoft.graph.client-secret:}") String clientSecret,
+                                  HttpClient outboundHttpClient) {
+        this(objectMapper, properties, credentialToken(tenantId, clientId, clientSecret), outboundHttpClient);
+    }
+
+    /**
+     * @param accessToken Bearer 토큰 공급자 (null 이면 미설정)
+     * @param httpClient  공유 외부 호출 클라이언트
+     */
+    public HttpGraphBatchEndpoint(ObjectMapper objectMapper, GraphMailProperties properties,
+                                  Supplier<String> accessToken, HttpClient httpClient) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.accessToken = accessToken;
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return accessToken != null;
+    }
+
+    @Override
+    public List<Response> post(List<Request> requests) {
+        if (accessToken == null) {
+            throw new IllegalStateException("이메일 서비스가 설정되지 않았습니다. (MS_TENANT_ID / MS_CLIENT_ID / MS_CLIENT_SECRET 확인 필요)");
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getBaseUrl() + "/$batch"))
+                    .timeout(properties.getRequestTimeout())
+                    .header("Authorization", "Bearer " + accessToken.get())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(toJson(requests))))
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+            int status = response.statusCode();
+            if (status == 429 || status == 503) {
+                // 호출 전체가 제한됨 — 항목별 제한과 같은 경로로 재시도되도록 모든 항목을 같은 status 로 돌려준다
+                Map<String, String> headers = caseInsensitive();
+                response.headers().firstValue("Retry-After").ifPresent(v -> headers.put("Retry-After", v));
+                return requests.stream().map(r -> new Response(r.id(), status, headers, null)).toList();
+            }
+            if (status / 100 != 2) {
+                String body = new String(response.body(), StandardCharsets.UTF_8);
+                throw new RuntimeException("Graph $batch 호출 실패: HTTP " + status + " "
+                        + (body.length() <= 500 ? body : body.substring(0, 500)));
+            }
+            return fromJson(objectMapper.readTree(response.body()));
+        } catch (IOException e) {
+            throw new RuntimeException("Graph $batch 호출 실패: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Graph $batch 호출 중단", e);
+        }
+    }
+
+    private ObjectNode toJson(List<Request> requests) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode items = root.putArray("requests");
+        for (Request r : requests) {
+            ObjectNode item = items.addObject();
+            item.put("id", r.id());
+            item.put("method", r.method());
+            item.put("url", r.url());
+            if (r.headers() != null && !r.headers().isEmpty()) {
+                item.set("headers", objectMapper.valueToTree(r.headers()));
+            }
+            if (r.body() != null) {
+                item.set("body", objectMapper.valueToTree(r.body()));
+            }
+        }
+        return root;
+    }
+
+    private static List<Response> fromJson(JsonNode root) {
+        List<Response> responses = new ArrayList<>();
+        for (JsonNode item : root.path("responses")) {
+            Map<String, String> headers = caseInsensitive();
+            Iterator<Map.Entry<String, JsonNode>> fields = item.path("headers").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                headers.put(field.getKey(), field.getValue().asText());
+            }
+            JsonNode body = item.get("body");
+            responses.add(new Response(item.path("id").asText(), item.path("status").asInt(),
+                    headers, body != null && !body.isNull() ? body : null));
+        }
+        return responses;
+    }
+
+    private static Map<String, String> caseInsensitive() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    private static Supplier<String> credentialToken(String tenantId, String clientId, String clientSecret) {
+        if (isBlank(tenantId) || isBlank(clientId) || isBlank(clientSecret)) {
+            return null;
+        }
+        ClientSecretCredential credential = new ClientSecretCredentialBuilder()
+                .tenantId(tenantId)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .build();
+        TokenRequestContext context = new TokenRequestContext().addScopes(SCOPE);
+        AtomicReference<AccessToken> cached = new AtomicReference<>();
+        return () -> {
+            AccessToken token = cached.get();
+            if (token == null || token.getExpiresAt().isBefore(OffsetDateTime.now().plusMinutes(5))) {
+                token = credential.getToken(context).block();
+                if (token == null) {
+                    throw new IllegalStateException("Graph 액세스 토큰 발급 실패");
+                }
+                cached.set(token);
+            }
+            return token.getToken();
+        };
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.isBlank();
+    }
+}
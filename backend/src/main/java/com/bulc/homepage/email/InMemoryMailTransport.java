@@ -0,0 +1,64 @@
+package com.bulc.homepage.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 실제로 보내지 않고 메모리에 최근 메시지를 보관하는 transport (memory).
+ *
+ * <p>로컬 개발·테스트에서 라우팅을 memory 로 두면 Graph/SMTP 설정 없이 발송 흐름 전체를 확인할 수 있다.
+ * 최근 {@link #CAPACITY} 건만 보관한다.</p>
+ */
+@Slf4j
+@Component
+public class InMemoryMailTransport implements MailTransport {
+
+    static final int CAPACITY = 1_000;
+
+    private final Deque<OutboundMail> sent = new ArrayDeque<>();
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return true;
+    }
+
+    @Override
+    public List<MailDeliveryResult> send(List<OutboundMail> mails) {
+        synchronized (sent) {
+            for (OutboundMail mail : mails) {
+                if (sent.size() >= CAPACITY) {
+                    sent.removeFirst();
+                }
+                sent.addLast(mail);
+            }
+        }
+        mails.forEach(m -> log.info("[메일 sink] {} -> {}, Subject: {}", m.from(), m.to(), m.subject()));
+        return Collections.nCopies(mails.size(), MailDeliveryResult.sent());
+    }
+
+    /**
+     * 보관 중인 메시지 (오래된 순).
+     */
+    public List<OutboundMail> sent() {
+        synchronized (sent) {
+            return new ArrayList<>(sent);
+        }
+    }
+
+    public void clear() {
+        synchronized (sent) {
+            sent.clear();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.bulc.homepage.email;
+
+/**
+ * 메시지 1건의 발송 결과. error 가 null 이면 성공.
+ */
+public record MailDeliveryResult(String error) {
+
+    private static final MailDeliveryResult SENT = new MailDeliveryResult(null);
+
+    public static MailDeliveryResult sent() {
+        return SENT;
+    }
+
+    public static MailDeliveryResult failed(String error) {
+        return new MailDeliveryResult(error != null ? error : "알 수 없는 오류");
+    }
+
+    public boolean isSent() {
+        return error == null;
+    }
+}
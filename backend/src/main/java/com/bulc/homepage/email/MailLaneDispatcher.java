@@ -0,0 +1,148 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.MailLaneProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카테고리별 lane 으로 나눈 비동기 메일 발송기.
+ *
+ * <ul>
+ *   <li>lane 마다 전용 스레드 풀과 유한 대기열 — 운영 메일이 밀려도 계정 메일 워커는 비어 있다.</li>
+ *   <li>대기열이 가득 차면 즉시 포기한다 (요청 스레드는 기다리지 않음).</li>
+ *   <li>대기열에서 마감 시간을 넘긴 발송은 보내지 않는다 (만료된 인증 코드를 늦게 보내지 않음).</li>
+ * </ul>
+ *
+ * <p>lane 은 {@link #LANES} (계정·운영) 만 만든다. 광고성 메일은 대량 발송 큐로 보내고,
+ * 결제 안내는 실패 시 재시도되도록 아웃박스 처리기에서 동기로 보낸다.</p>
+ *
+ * <p>메트릭: {@code bulc.mail.lane.tasks} (lane, result=sent|failed|rejected|expired),
+ * {@code bulc.mail.lane.queued} (lane 별 대기 건수), {@code bulc.mail.lane.wait} (대기 시간).</p>
+ */
+@Slf4j
+@Component
+public class MailLaneDispatcher {
+
+    static final Set<EmailCategory> LANES =
+            EnumSet.of(EmailCategory.ACCOUNT, EmailCategory.OPERATIONAL);
+
+    private final MailLaneProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<EmailCategory, ThreadPoolExecutor> executors = new EnumMap<>(EmailCategory.class);
+
+    public MailLaneDispatcher(MailLaneProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (EmailCategory category : LANES) {
+            MailLaneProperties.Lane lane = properties.laneFor(category);
+            int workers = Math.max(1, lane.getWorkers());
+            String prefix = "mail-" + category.name().toLowerCase(Locale.ROOT) + "-";
+            AtomicInteger seq = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, lane.getQueueCapacity())),
+                    r -> {
+                        Thread t = new Thread(r, prefix + seq.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            executors.put(category, executor);
+            Gauge.builder("bulc.mail.lane.queued", executor, e -> e.getQueue().size())
+                    .tag("lane", category.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 lane 에 넣는다 (트랜잭션 밖이면 즉시).
+     * 롤백되면 보내지 않으므로 저장되지 않은 인증 코드가 발송되는 일이 없다.
+     */
+    public void dispatchAfterCommit(EmailCategory category, String description, Runnable send) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(category, description, send);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(category, description, send);
+            }
+        });
+    }
+
+    /**
+     * lane 대기열에 넣는다. 가득 찼으면 기다리지 않고 false.
+     */
+    public boolean dispatch(EmailCategory category, String description, Runnable send) {
+        ThreadPoolExecutor executor = executors.get(category);
+        if (executor == null) {
+            throw new IllegalArgumentException("메일 lane 이 없는 카테고리입니다: " + category);
+        }
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(category, description, send, enqueuedAt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            count(category, "rejected");
+            log.warn("[메일 lane] {} 대기열 초과로 발송 포기: {}", category, description);
+            return false;
+        }
+    }
+
+    private void run(EmailCategory category, String description, Runnable send, long enqueuedAt) {
+        long waited = System.nanoTime() - enqueuedAt;
+        Timer.builder("bulc.mail.lane.wait").tag("lane", category.name()).register(meterRegistry)
+                .record(waited, TimeUnit.NANOSECONDS);
+        Duration deadline = properties.laneFor(category).getDeadline();
+        if (waited > deadline.toNanos()) {
+            count(category, "expired");
+            log.warn("[메일 lane] {} 마감({}) 초과로 발송 포기: {}", category, deadline, description);
+            return;
+        }
+        try {
+            send.run();
+            count(category, "sent");
+        } catch (RuntimeException e) {
+            count(category, "failed");
+            log.error("[메일 lane] {} 발송 실패: {}, 오류: {}", category, description, e.getMessage());
+        }
+    }
+
+    private void count(EmailCategory category, String result) {
+        meterRegistry.counter("bulc.mail.lane.tasks", "lane", category.name(), "result", result).increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor executor : executors.values()) {
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+            }
+        }
+    }
+}
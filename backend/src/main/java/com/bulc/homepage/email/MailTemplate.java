@@ -0,0 +1,98 @@
+package com.bulc.homepage.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code {{key}}} 플레이스홀더를 가진 메일 템플릿을 리터럴/플레이스홀더 조각 목록으로 미리 컴파일한 것.
+ *
+ * <p>렌더링은 미리 크기를 잡은 StringBuilder 에 조각을 한 번씩 이어 붙이는 단일 패스다
+ * (변수마다 전체 문자열을 스캔·복사하는 String.replace 체인 대신).
+ * vars 에 없는 플레이스홀더는 {@code {{key}}} 그대로 남는다 — 본문의 {@code {{footer}}} 처럼
+ * 뒤 단계에서 채울 자리를 보존하기 위함이다. 치환값 안의 {@code {{...}}} 는 다시 치환하지 않는다.</p>
+ *
+ * <p>불변 객체라 여러 스레드가 공유해도 된다.</p>
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /** 짝수 인덱스는 리터럴, 홀수 인덱스는 플레이스홀더 키. */
+    private final String[] segments;
+    private final int literalLength;
+
+    private MailTemplate(String[] segments) {
+        this.segments = segments;
+        int length = 0;
+        for (int i = 0; i < segments.length; i += 2) {
+            length += segments[i].length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MailTemplate compile(String text) {
+        List<String> parts = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int open = text.indexOf(OPEN, pos);
+            int close = open < 0 ? -1 : text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                parts.add(text.substring(pos));
+                break;
+            }
+            parts.add(text.substring(pos, open));
+            parts.add(text.substring(open + OPEN.length(), close));
+            pos = close + CLOSE.length();
+        }
+        return new MailTemplate(parts.toArray(String[]::new));
+    }
+
+    /**
+     * 플레이스홀더를 vars 로 치환한 문자열.
+     */
+    public String render(Map<String, String> vars) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        StringBuilder sb = new StringBuilder(literalLength + (segments.length / 2) * 32);
+        for (int i = 0; i < segments.length; i++) {
+            if (i % 2 == 0) {
+                sb.append(segments[i]);
+                continue;
+            }
+            String key = segments[i];
+            if (vars.containsKey(key)) {
+                String value = vars.get(key);
+                sb.append(value != null ? value : "");
+            } else {
+                sb.append(OPEN).append(key).append(CLOSE);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * vars 에 있는 플레이스홀더만 미리 채운 템플릿 (나머지는 플레이스홀더로 남음).
+     * 고정값(회사 정보 등)을 한 번 채워 두고 수신자별 값만 렌더링할 때 쓴다.
+     */
+    public MailTemplate bind(Map<String, String> vars) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(segments[0]);
+        for (int i = 1; i < segments.length; i += 2) {
+            String key = segments[i];
+            if (vars.containsKey(key)) {
+                String value = vars.get(key);
+                literal.append(value != null ? value : "");
+            } else {
+                parts.add(literal.toString());
+                parts.add(key);
+                literal.setLength(0);
+            }
+            literal.append(segments[i + 1]);
+        }
+        parts.add(literal.toString());
+        return new MailTemplate(parts.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,29 @@
+package com.bulc.homepage.email;
+
+import java.util.List;
+
+/**
+ * 메일 발송 경로 SPI.
+ *
+ * <p>구현: {@link GraphBatchMailTransport} (graph), {@link SmtpMailTransport} (smtp),
+ * {@link InMemoryMailTransport} (memory). 카테고리별 선택은 {@link MailTransportRouter} 가 한다.</p>
+ */
+public interface MailTransport {
+
+    /**
+     * 라우팅 설정({@code bulc.mail.transport.routes})에서 쓰는 이름.
+     */
+    String name();
+
+    /**
+     * 발송에 필요한 설정이 있는지.
+     */
+    boolean isConfigured();
+
+    /**
+     * 메시지를 보낸다. 개별 메시지 실패는 예외가 아니라 결과로 돌려준다.
+     *
+     * @return mails 와 같은 순서의 발송 결과
+     */
+    List<MailDeliveryResult> send(List<OutboundMail> mails) throws InterruptedException;
+}
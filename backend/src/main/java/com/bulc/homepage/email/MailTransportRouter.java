@@ -0,0 +1,91 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.MailTransportProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리별 발송 transport 선택 ({@code bulc.mail.transport.routes}).
+ *
+ * <p>기동 시 라우팅이 없는 transport 를 가리키면 실패한다.
+ * 여러 카테고리가 섞인 목록은 transport 별로 나눠 보내고 결과를 원래 순서로 합친다.</p>
+ */
+@Slf4j
+@Component
+public class MailTransportRouter {
+
+    private final Map<String, MailTransport> transports;
+    private final Map<EmailCategory, MailTransport> routes = new EnumMap<>(EmailCategory.class);
+
+    public MailTransportRouter(List<MailTransport> transports, MailTransportProperties properties) {
+        this.transports = transports.stream()
+                .collect(Collectors.toMap(MailTransport::name, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        for (EmailCategory category : EmailCategory.values()) {
+            String name = properties.routeFor(category);
+            MailTransport transport = this.transports.get(name);
+            if (transport == null) {
+                throw new IllegalStateException("알 수 없는 메일 transport: " + category + " -> " + name
+                        + " (가능: " + this.transports.keySet() + ")");
+            }
+            routes.put(category, transport);
+        }
+        log.info("메일 transport 라우팅: {}", describeRoutes());
+    }
+
+    public MailTransport transportFor(EmailCategory category) {
+        return routes.get(category);
+    }
+
+    /**
+     * 단건 발송. 인터럽트되면 실패 결과를 돌려준다.
+     */
+    public MailDeliveryResult send(OutboundMail mail) {
+        try {
+            return transportFor(mail.category()).send(List.of(mail)).get(0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return MailDeliveryResult.failed("메일 발송이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * @return mails 와 같은 순서의 발송 결과
+     */
+    public List<MailDeliveryResult> send(List<OutboundMail> mails) throws InterruptedException {
+        Map<MailTransport, List<Integer>> byTransport = new LinkedHashMap<>();
+        for (int i = 0; i < mails.size(); i++) {
+            byTransport.computeIfAbsent(transportFor(mails.get(i).category()), k -> new ArrayList<>()).add(i);
+        }
+        if (byTransport.size() == 1) {
+            return byTransport.keySet().iterator().next().send(mails);
+        }
+        MailDeliveryResult[] results = new MailDeliveryResult[mails.size()];
+        for (Map.Entry<MailTransport, List<Integer>> e : byTransport.entrySet()) {
+            List<Integer> indexes = e.getValue();
+            List<MailDeliveryResult> partial = e.getKey().send(indexes.stream().map(mails::get).toList());
+            for (int i = 0; i < indexes.size(); i++) {
+                results[indexes.get(i)] = partial.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 카테고리 → "transport(설정 여부)" (진단용).
+     */
+    public Map<String, String> describeRoutes() {
+        Map<String, String> described = new LinkedHashMap<>();
+        routes.forEach((category, transport) -> described.put(category.name(),
+                transport.name() + (transport.isConfigured() ? "" : " (미설정)")));
+        return described;
+    }
+}
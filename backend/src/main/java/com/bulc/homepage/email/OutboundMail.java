@@ -0,0 +1,8 @@
+package com.bulc.homepage.email;
+
+/**
+ * 제목 prefix·footer·발신 메일박스까지 확정된 발송 메시지 1건.
+ * category 는 transport 라우팅과 연결 풀(lane) 선택에 쓴다.
+ */
+public record OutboundMail(EmailCategory category, String from, String to, String replyTo,
+                           String subject, String html) {}
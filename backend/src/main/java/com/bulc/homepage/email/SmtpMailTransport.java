@@ -0,0 +1,239 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.MailTransportProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결을 재사용하는 SMTP transport (smtp).
+ *
+ * <ul>
+ *   <li>lane 별 연결 풀: ACCOUNT/TRANSACTION(interactive) 과 OPERATIONAL/PROMOTIONAL(bulk) 이 서로 다른 풀을 쓴다.</li>
+ *   <li>send 한 번에 lane 별로 연결 하나를 빌려 메시지를 연달아 보낸다 (메시지마다 연결·TLS·AUTH 를 반복하지 않음).</li>
+ *   <li>빌린 연결이 끊겨 있으면 다시 연결하고, 발송 중 연결이 끊기면 해당 메시지를 새 연결로 한 번 더 보낸다.</li>
+ *   <li>수신자 거부(SendFailedException)는 그 메시지만 실패로 돌려주고 연결은 계속 쓴다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SmtpMailTransport implements MailTransport {
+
+    private enum Lane { INTERACTIVE, BULK }
+
+    private final MailTransportProperties.Smtp properties;
+    private final Session session;
+    private final Map<Lane, Pool> pools = new EnumMap<>(Lane.class);
+
+    public SmtpMailTransport(MailTransportProperties transportProperties) {
+        this.properties = transportProperties.getSmtp();
+        this.session = isConfigured() ? Session.getInstance(sessionProperties(properties)) : null;
+        pools.put(Lane.INTERACTIVE, new Pool(properties.getInteractivePoolSize()));
+        pools.put(Lane.BULK, new Pool(properties.getBulkPoolSize()));
+    }
+
+    @Override
+    public String name() {
+        return "smtp";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return properties.getHost() != null && !properties.getHost().isBlank();
+    }
+
+    @Override
+    public List<MailDeliveryResult> send(List<OutboundMail> mails) throws InterruptedException {
+        MailDeliveryResult[] results = new MailDeliveryResult[mails.size()];
+        if (!isConfigured()) {
+            Arrays.fill(results, MailDeliveryResult.failed("SMTP 설정이 없습니다. (bulc.mail.transport.smtp.host)"));
+            return Arrays.asList(results);
+        }
+
+        Map<Lane, List<Integer>> byLane = new LinkedHashMap<>();
+        for (int i = 0; i < mails.size(); i++) {
+            byLane.computeIfAbsent(laneOf(mails.get(i).category()), k -> new ArrayList<>()).add(i);
+        }
+        for (Map.Entry<Lane, List<Integer>> e : byLane.entrySet()) {
+            Pool pool = pools.get(e.getKey());
+            Transport transport;
+            try {
+                transport = pool.borrow();
+            } catch (MessagingException | IllegalStateException ex) {
+                for (int index : e.getValue()) {
+                    results[index] = MailDeliveryResult.failed("SMTP 연결 실패: " + ex.getMessage());
+                }
+                continue;
+            }
+            try {
+                for (int index : e.getValue()) {
+                    MimeMessage message;
+                    try {
+                        message = toMessage(mails.get(index));
+                    } catch (MessagingException ex) {
+                        results[index] = MailDeliveryResult.failed("메일 생성 실패: " + ex.getMessage());
+                        continue;
+                    }
+                    try {
+                        transport.sendMessage(message, message.getAllRecipients());
+                        results[index] = MailDeliveryResult.sent();
+                    } catch (MessagingException ex) {
+                        // 서버가 연결을 끊어도 EOF·421 응답이 SendFailedException 으로 올 수 있어 연결 상태를 먼저 본다
+                        if (transport.isConnected()) {
+                            results[index] = MailDeliveryResult.failed(ex instanceof SendFailedException
+                                    ? "SMTP 수신자 거부: " + ex.getMessage()
+                                    : "SMTP 발송 실패: " + ex.getMessage());
+                            continue;
+                        }
+                        // 서버가 유휴 연결을 끊은 경우 — 새 연결로 한 번만 다시 보낸다
+                        transport = pool.reconnect(transport);
+                        try {
+                            transport.sendMessage(message, message.getAllRecipients());
+                            results[index] = MailDeliveryResult.sent();
+                        } catch (MessagingException retry) {
+                            results[index] = MailDeliveryResult.failed("SMTP 발송 실패: " + retry.getMessage());
+                        }
+                    }
+                }
+            } catch (MessagingException ex) {
+                // 재연결 실패 — 남은 메시지는 실패 처리 (대량 발송 큐가 재시도)
+                for (int index : e.getValue()) {
+                    if (results[index] == null) {
+                        results[index] = MailDeliveryResult.failed("SMTP 연결 실패: " + ex.getMessage());
+                    }
+                }
+            } finally {
+                pool.release(transport);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private MimeMessage toMessage(OutboundMail mail) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(mail.from()));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(mail.to()));
+        if (mail.replyTo() != null && !mail.replyTo().isBlank()) {
+            message.setReplyTo(new Address[]{new InternetAddress(mail.replyTo())});
+        }
+        message.setSubject(mail.subject(), StandardCharsets.UTF_8.name());
+        message.setContent(mail.html(), "text/html; charset=UTF-8");
+        return message;
+    }
+
+    private static Lane laneOf(EmailCategory category) {
+        return switch (category) {
+            case ACCOUNT, TRANSACTION -> Lane.INTERACTIVE;
+            case OPERATIONAL, PROMOTIONAL -> Lane.BULK;
+        };
+    }
+
+    private static Properties sessionProperties(MailTransportProperties.Smtp smtp) {
+        Properties props = new Properties();
+        props.put("mail.transport.protocol", "smtp");
+        props.put("mail.smtp.host", smtp.getHost());
+        props.put("mail.smtp.port", String.valueOf(smtp.getPort()));
+        props.put("mail.smtp.auth", String.valueOf(smtp.getUsername() != null && !smtp.getUsername().isBlank()));
+        props.put("mail.smtp.starttls.enable", String.valueOf(smtp.isStarttls()));
+        props.put("mail.smtp.starttls.required", String.valueOf(smtp.isStarttls()));
+        props.put("mail.smtp.connectiontimeout", String.valueOf(smtp.getConnectTimeout().toMillis()));
+        props.put("mail.smtp.timeout", String.valueOf(smtp.getTimeout().toMillis()));
+        props.put("mail.smtp.writetimeout", String.valueOf(smtp.getTimeout().toMillis()));
+        // QUIT 응답을 기다리지 않음 (연결 반납·종료 지연 방지)
+        props.put("mail.smtp.quitwait", "false");
+        return props;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pools.values().forEach(Pool::closeAll);
+    }
+
+    /**
+     * lane 하나의 SMTP 연결 풀. 최대 size 개까지 만들고, 유휴 연결은 큐에 보관한다.
+     */
+    private final class Pool {
+
+        private final Semaphore permits;
+        private final BlockingQueue<Transport> idle = new LinkedBlockingQueue<>();
+
+        Pool(int size) {
+            this.permits = new Semaphore(Math.max(1, size));
+        }
+
+        Transport borrow() throws InterruptedException, MessagingException {
+            if (!permits.tryAcquire(properties.getAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("사용 가능한 SMTP 연결이 없습니다.");
+            }
+            try {
+                Transport transport = idle.poll();
+                if (transport != null && transport.isConnected()) {
+                    return transport;
+                }
+                return connect(transport);
+            } catch (MessagingException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        Transport reconnect(Transport broken) throws MessagingException {
+            return connect(broken);
+        }
+
+        void release(Transport transport) {
+            if (transport.isConnected()) {
+                idle.offer(transport);
+            } else {
+                close(transport);
+            }
+            permits.release();
+        }
+
+        void closeAll() {
+            Transport transport;
+            while ((transport = idle.poll()) != null) {
+                close(transport);
+            }
+        }
+
+        private Transport connect(Transport previous) throws MessagingException {
+            if (previous != null) {
+                close(previous);
+            }
+            Transport transport = session.getTransport("smtp");
+            transport.connect(properties.getHost(), properties.getPort(), properties.getUsername(), properties.getPassword());
+            log.debug("SMTP 연결 수립: {}:{}", properties.getHost(), properties.getPort());
+            return transport;
+        }
+
+        private void close(Transport transport) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
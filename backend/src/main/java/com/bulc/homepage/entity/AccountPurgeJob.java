@@ -0,0 +1,83 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비활성 계정 재가입 시 이전 이력 정리 작업.
+ *
+ * <p>재가입 트랜잭션에서는 작업 행만 남기고, 실제 삭제는 {@code AccountPurgeService} 가
+ * 요청 경로 밖에서 청크 단위로 수행한다. cutoff 이하 id 만 지우므로 재가입 이후 생긴 기록은 보존된다.</p>
+ */
+@Entity
+@Table(name = "account_purge_jobs", indexes = {
+        @Index(name = "idx_account_purge_jobs_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountPurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    /** 이 id 이하의 activity_logs 만 삭제 (재가입 시점 스냅샷, 없으면 0). */
+    @Column(name = "activity_log_cutoff_id", nullable = false)
+    private Long activityLogCutoffId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "deleted_count", nullable = false)
+    @Builder.Default
+    private Long deletedCount = 0L;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /** 처리 중인 워커의 점유 만료 시각. 진행 반영은 이 값이 점유 때 건 값과 같을 때만 적용된다. */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
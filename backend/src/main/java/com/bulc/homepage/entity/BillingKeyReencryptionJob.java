@@ -0,0 +1,78 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 빌링키 재암호화 작업 (활성 키 버전 1개 = 1행).
+ *
+ * <p>청크 묶음마다 처리 건수와 마지막으로 처리한 billing_keys.id 를 커밋하므로,
+ * 인스턴스가 재기동돼도 같은 버전 작업은 이 커서부터 이어서 진행한다.</p>
+ */
+@Entity
+@Table(name = "billing_key_reencryption_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BillingKeyReencryptionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 재암호화 대상 키 버전 (예: v2). */
+    @Column(name = "target_version", nullable = false, length = 10)
+    private String targetVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    /** 시작 시점의 대상 행 수 (진행률 분모). */
+    @Column(name = "total_count", nullable = false)
+    @Builder.Default
+    private Integer totalCount = 0;
+
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private Integer processedCount = 0;
+
+    /** 마지막으로 처리한 billing_keys.id (keyset 커서). */
+    @Column(name = "last_id", nullable = false)
+    @Builder.Default
+    private Long lastId = 0L;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
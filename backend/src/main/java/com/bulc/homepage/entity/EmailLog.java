@@ -10,10 +10,13 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 
+/**
+ * 메일 발송 이력. 테이블은 sent_at 월 단위 파티션 (PK 는 DB 상 (id, sent_at), id 는 시퀀스라 단독으로도 유일).
+ * 일반 발송은 {@code EmailLogAppender} 가 버퍼에 모아 batch INSERT 한다.
+ */
 @Entity
 @Table(name = "email_log", indexes = {
-        @Index(name = "idx_email_log_recipient", columnList = "recipient_email"),
-        @Index(name = "idx_email_log_sent_at", columnList = "sent_at")
+        @Index(name = "idx_email_log_recipient_sent", columnList = "recipient_email, sent_at")
 })
 @Getter
 @Setter
@@ -23,7 +26,7 @@ import java.time.LocalDateTime;
 public class EmailLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)  // BIGSERIAL (파티션 테이블은 identity 컬럼 불가)
     private Long id;
 
     @Column(name = "recipient_email", nullable = false, length = 255)
@@ -50,9 +53,15 @@ public class EmailLog {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    /** 예약 발송 키 (유일성은 email_dedup_keys 가 보장). 일반 발송은 null. */
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
     public enum Status {
         SUCCESS,
         SKIPPED,
-        FAILED
+        FAILED,
+        /** dedup_key 로 예약만 하고 발송 큐에서 대기 중 (결과가 나면 SUCCESS / FAILED 로 바뀜). */
+        QUEUED
     }
 }
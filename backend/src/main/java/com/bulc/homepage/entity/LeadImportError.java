@@ -0,0 +1,35 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 백그라운드 임포트 행 오류. 워커가 체크포인트와 같은 트랜잭션으로 batch INSERT 한다 (조회 전용).
+ */
+@Entity
+@Table(name = "lead_import_errors")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeadImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "row_number", nullable = false)
+    private Integer rowNumber;
+
+    @Column(name = "email", length = 255)
+    private String email;
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+}
@@ -0,0 +1,98 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 메일링 컨택 백그라운드 임포트 작업 (업로드 1회 = 1행).
+ *
+ * <p>업로드는 작업 디렉터리의 file_path 에 보관하고 {@code LeadImportJobService} 워커가 요청 스레드 밖에서 처리한다.
+ * 청크마다 건수와 last_row_number(체크포인트)를 커밋하므로, 재기동 후에는 그 다음 행부터 이어서 진행한다.
+ * 진행 중 건수·체크포인트·점유는 워커가 UPDATE 로 직접 갱신한다.</p>
+ */
+@Entity
+@Table(name = "lead_import_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeadImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 업로드 원본 파일명 (표시용). */
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    /** 빈 행을 뺀 데이터 행 수 (체크포인트까지). */
+    @Column(name = "total_rows", nullable = false)
+    @Builder.Default
+    private Integer totalRows = 0;
+
+    @Column(name = "registered_count", nullable = false)
+    @Builder.Default
+    private Integer registeredCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    @Builder.Default
+    private Integer skippedCount = 0;
+
+    /** 체크포인트 — 이 행(헤더 포함 1부터)까지 반영 완료. */
+    @Column(name = "last_row_number", nullable = false)
+    @Builder.Default
+    private Integer lastRowNumber = 0;
+
+    /** 워커 점유 만료 시각. */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_by", nullable = false)
+    private UUID createdBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,83 @@
+package com.bulc.homepage.entity;
+
+import com.bulc.homepage.email.EmailCategory;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 대량 메일 발송 작업 (관리자 발송 1회 = 1행).
+ *
+ * <p>수신자는 mail_job_recipients 에 펼쳐 두고 {@code MailDispatchEngine} 이 요청 스레드 밖에서 발송한다.
+ * 본문은 footer 치환 전 HTML 이며, 수신자별 footer(수신거부 링크)는 발송 시 붙인다.
+ * 건수는 발송 결과 반영 시 UPDATE 로 누적한다.</p>
+ */
+@Entity
+@Table(name = "mail_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 20)
+    private EmailCategory category;
+
+    /** email_log 분류 키 (program_update, terms_change, security_notice 등). */
+    @Column(name = "template_key", nullable = false, length = 100)
+    private String templateKey;
+
+    @Column(name = "subject", nullable = false, length = 500)
+    private String subject;
+
+    @Column(name = "html", nullable = false, columnDefinition = "TEXT")
+    private String html;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.QUEUED;
+
+    @Column(name = "total_count", nullable = false)
+    @Builder.Default
+    private Integer totalCount = 0;
+
+    @Column(name = "sent_count", nullable = false)
+    @Builder.Default
+    private Integer sentCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    @Column(name = "created_by")
+    private UUID createdBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED
+    }
+}
@@ -0,0 +1,78 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 대량 메일 작업의 수신자 1명.
+ *
+ * <p>PENDING 중 next_attempt_at 이 지난 행을 SKIP LOCKED 로 점유하고, 점유 시 lease 만큼 next_attempt_at 을
+ * 미뤄 두므로 발송 중 인스턴스가 죽어도 lease 뒤 다시 발송된다. 실패하면 백오프 후 재시도하고
+ * 최대 시도 횟수를 넘기면 FAILED 로 남긴다.</p>
+ */
+@Entity
+@Table(name = "mail_job_recipients")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailJobRecipient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "email", nullable = false, length = 255)
+    private String email;
+
+    /** 광고성 footer 의 수신거부 토큰 (안내성은 null). */
+    @Column(name = "unsubscribe_token", length = 64)
+    private String unsubscribeToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /** 수신자별 템플릿 변수. 있으면 작업 제목·본문의 {{key}} 를 발송 시 이 값으로 채운다. */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "vars")
+    private Map<String, String> vars;
+
+    /** 예약 발송 키. 있으면 발송 결과를 같은 키의 email_log QUEUED 행에 반영한다. */
+    @Column(name = "dedup_key", length = 200)
+    private String dedupKey;
+
+    public enum Status {
+        PENDING,
+        SENT,
+        FAILED
+    }
+}
@@ -0,0 +1,75 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트.
+ *
+ * <p>업무 트랜잭션과 함께 커밋되고, {@code OutboxDispatcher} 가 트랜잭션 밖에서 꺼내
+ * 이벤트 타입별 핸들러로 처리한다. (event_type, aggregate_id) 는 유일하므로 같은 주문에 대해
+ * 같은 후속 처리가 두 번 등록되지 않는다.</p>
+ */
+@Entity
+@Table(name = "outbox_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_events_type_aggregate",
+                columnNames = {"event_type", "aggregate_id"}),
+        indexes = @Index(name = "idx_outbox_events_due", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    /** 이벤트 대상 식별자 (예: 주문 ID). */
+    @Column(name = "aggregate_id", nullable = false, length = 255)
+    private String aggregateId;
+
+    /** 핸들러 입력 (JSON). */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /** 이 시각 이후 처리 대상. 점유 시 lease 만큼 미뤄 두므로 워커가 죽어도 다시 처리된다. */
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public enum Status {
+        PENDING,
+        DONE,
+        FAILED
+    }
+}
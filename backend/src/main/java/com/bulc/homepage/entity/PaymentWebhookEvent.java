@@ -0,0 +1,78 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신한 토스페이먼츠 웹훅 원문.
+ *
+ * <p>컨트롤러는 서명 검증 후 이 행만 저장하고 바로 200 을 응답한다. dedup_key 가 유일하므로
+ * 토스 재전송·중복 전송은 저장 단계에서 걸러지고, 실제 검증·반영은 {@code PaymentWebhookService} 워커가 한다.</p>
+ */
+@Entity
+@Table(name = "payment_webhook_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_webhook_events_dedup", columnNames = "dedup_key"),
+        indexes = @Index(name = "idx_payment_webhook_events_due", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaymentWebhookEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** eventType:paymentKey:status (식별 필드가 없으면 원문 SHA-256). */
+    @Column(name = "dedup_key", nullable = false, length = 255)
+    private String dedupKey;
+
+    @Column(name = "event_type", length = 50)
+    private String eventType;
+
+    @Column(name = "payment_key", length = 255)
+    private String paymentKey;
+
+    @Column(name = "order_id", length = 255)
+    private String orderId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RECEIVED;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime receivedAt = LocalDateTime.now();
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public enum Status {
+        RECEIVED,   // 처리 대기
+        APPLIED,    // 검증·반영 완료
+        IGNORED,    // 처리 대상 아님 (이벤트 타입/식별자 없음)
+        FAILED      // 재시도 한도 초과
+    }
+}
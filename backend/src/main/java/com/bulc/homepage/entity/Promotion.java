@@ -98,6 +98,13 @@ public class Promotion {
      * 할인 금액 계산
      */
     public BigDecimal calculateDiscount(BigDecimal originalPrice) {
+        return calculateDiscount(discountType, discountValue, originalPrice);
+    }
+
+    /**
+     * 할인 금액 계산 (캐시 스냅샷과 공용)
+     */
+    public static BigDecimal calculateDiscount(Integer discountType, BigDecimal discountValue, BigDecimal originalPrice) {
         if (discountType == null || discountValue == null) {
             return BigDecimal.ZERO;
         }
@@ -105,11 +112,4 @@ public class Promotion {
         BigDecimal discountRate = BigDecimal.valueOf(discountType).divide(BigDecimal.valueOf(100));
         return originalPrice.multiply(discountRate).setScale(0, java.math.RoundingMode.DOWN);
     }
-
-    /**
-     * 사용 횟수 증가
-     */
-    public void incrementUsageCount() {
-        this.usageCount = (this.usageCount == null ? 0 : this.usageCount) + 1;
-    }
 }
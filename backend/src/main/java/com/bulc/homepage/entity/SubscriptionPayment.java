@@ -43,7 +43,7 @@ public class SubscriptionPayment {
     @Column(name = "payment_key", length = 255)
     private String paymentKey;
 
-    @Column(name = "order_id", nullable = false, length = 255)
+    @Column(name = "order_id", nullable = false, length = 255, unique = true)
     private String orderId;
 
     @Column(nullable = false, precision = 15, scale = 2)
@@ -67,6 +67,10 @@ public class SubscriptionPayment {
     @Builder.Default
     private Integer retryCount = 0;
 
+    /** FAILED 건의 다음 재시도 시각. null 이면 재시도하지 않음 (PaymentRetryPolicy 참고). */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -0,0 +1,68 @@
+package com.bulc.homepage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독 자동 갱신 실행 기록 (1회 스케줄 실행 = 1행).
+ *
+ * <p>청크마다 진행 건수와 마지막으로 스캔한 구독 id 를 갱신하므로, 실행 중에도
+ * 어디까지 처리됐는지 조회할 수 있다.</p>
+ */
+@Entity
+@Table(name = "subscription_renewal_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubscriptionRenewalRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    /** 결제를 시도하기 위해 점유한 구독 수. */
+    @Column(name = "claimed_count", nullable = false)
+    @Builder.Default
+    private Integer claimedCount = 0;
+
+    @Column(name = "succeeded_count", nullable = false)
+    @Builder.Default
+    private Integer succeededCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    /** 마지막으로 스캔한 구독 id (keyset 커서). */
+    @Column(name = "last_subscription_id")
+    private Long lastSubscriptionId;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    @Builder.Default
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
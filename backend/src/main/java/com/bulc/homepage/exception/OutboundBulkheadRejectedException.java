@@ -0,0 +1,15 @@
+package com.bulc.homepage.exception;
+
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 호스트별 동시 요청 한도(bulkhead)에 걸려 외부 호출을 보내지 못했을 때.
+ *
+ * <p>요청이 프로세스 밖으로 나가지 않았으므로 타임아웃과 달리 결과가 불명확하지 않다 — 호출측은 "보내지 않음" 으로
+ * 보고 바로 재시도 대상으로 처리할 수 있다. 기존 {@link ResourceAccessException} 처리와 호환되도록 하위 타입이다.</p>
+ */
+public class OutboundBulkheadRejectedException extends ResourceAccessException {
+    public OutboundBulkheadRejectedException(String message) {
+        super(message);
+    }
+}
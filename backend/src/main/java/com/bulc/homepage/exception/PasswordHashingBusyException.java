@@ -0,0 +1,11 @@
+package com.bulc.homepage.exception;
+
+/**
+ * 비밀번호 해싱 풀이 포화되어 요청을 받을 수 없을 때.
+ * 인증 실패가 아니므로 로그인 실패 횟수에 포함하지 않는다 (503 응답).
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
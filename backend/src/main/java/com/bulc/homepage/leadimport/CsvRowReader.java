@@ -0,0 +1,118 @@
+package com.bulc.homepage.leadimport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UTF-8 / CP949 CSV 스트리밍 토크나이저.
+ *
+ * <p>문자 단위 상태 기계로 한 레코드씩 만든다 — 따옴표 안의 쉼표·줄바꿈, {@code ""} 이스케이프,
+ * CRLF/LF, 선두 BOM 을 처리한다. rowNumber 는 레코드 번호다 (따옴표 안 줄바꿈은 한 레코드).</p>
+ *
+ * <p>엑셀에서 "CSV" 로 저장한 한글 파일은 CP949 이므로 앞부분이 올바른 UTF-8 이 아니면 CP949 로 읽는다.
+ * 어느 쪽이든 깨진 바이트는 예외 대신 대체 문자(U+FFFD)로 바꿔 나머지 행은 계속 읽는다.</p>
+ */
+public class CsvRowReader implements LeadRowReader {
+
+    static final Charset CP949 = Charset.forName("MS949");
+
+    private static final char BOM = '\uFEFF';
+    private static final int SNIFF_BYTES = 64 * 1024;
+
+    @Override
+    public void read(Path file, RowHandler handler) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), SNIFF_BYTES)) {
+            CharsetDecoder decoder = detectCharset(in).newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            read(new BufferedReader(new InputStreamReader(in, decoder), 64 * 1024), handler);
+        }
+    }
+
+    /**
+     * 앞부분 {@link #SNIFF_BYTES} 가 올바른 UTF-8 이면 UTF-8, 아니면 CP949. 스트림 위치는 되돌린다.
+     */
+    static Charset detectCharset(InputStream in) throws IOException {
+        in.mark(SNIFF_BYTES);
+        byte[] head = in.readNBytes(SNIFF_BYTES);
+        in.reset();
+        // endOfInput=false — 잘라 읽은 끝의 미완성 멀티바이트 문자는 오류로 보지 않는다
+        boolean utf8 = !StandardCharsets.UTF_8.newDecoder()
+                .decode(ByteBuffer.wrap(head), CharBuffer.allocate(head.length), false)
+                .isError();
+        return utf8 ? StandardCharsets.UTF_8 : CP949;
+    }
+
+    void read(Reader reader, RowHandler handler) throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean inQuotes = false;
+        boolean started = false;   // 현재 레코드에 읽은 문자가 있는지 (빈 마지막 줄 구분)
+        int rowNumber = 0;
+        int ch = reader.read();
+        if (ch == BOM) {
+            ch = reader.read();
+        }
+        for (; ch != -1; ch = reader.read()) {
+            char c = (char) ch;
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cur.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cur.append(c);
+                }
+                continue;
+            }
+            started = true;
+            if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                cells.add(cur.toString());
+                cur.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                cells.add(cur.toString());
+                cur.setLength(0);
+                if (!handler.onRow(++rowNumber, cells)) {
+                    return;
+                }
+                cells = new ArrayList<>();
+                started = false;
+            } else {
+                cur.append(c);
+            }
+        }
+        if (started || inQuotes) {
+            cells.add(cur.toString());
+            handler.onRow(++rowNumber, cells);
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package com.bulc.homepage.leadimport;
+
+import com.bulc.homepage.config.LeadImportProperties;
+import com.bulc.homepage.dto.response.LeadContactImportResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 메일링 컨택 CSV / Excel 임포트 엔진 (MDP-549).
+ *
+ * <ul>
+ *   <li>읽기: {@link LeadRowReader} 로 한 행씩 스트리밍 (XLSX 는 SAX, CSV 는 토크나이저) — 전체 행 목록을 만들지 않는다.</li>
+ *   <li>청크: chunkSize 행씩 모아 이미 등록된 이메일을 IN 조회 한 번으로 확인하고, 나머지를 batch INSERT 한다.</li>
+ *   <li>트랜잭션: 청크마다 따로 커밋 — 중간에 실패해도 앞선 청크는 남고, 잠금·undo 도 청크 크기로 제한된다.
+ *       {@link Listener#beforeChunkCommit} 도 같은 트랜잭션에서 불리므로 청크 INSERT 와 체크포인트가 함께 커밋된다.</li>
+ *   <li>batch 가 실패하면(길이 초과 등) savepoint 로 되돌린 뒤 같은 트랜잭션에서 행 단위로 다시 넣어 잘못된 행을 골라낸다.</li>
+ * </ul>
+ *
+ * <p>헤더는 한국어 명함 양식 또는 영어 모두 허용하며 email 컬럼은 필수. 임포트로 등록된 컨택은 기본값으로
+ * {@code consent_method='import'}, {@code opt_in_marketing=false}, {@code opt_in_transactional=true}
+ * (정보통신망법 50조 안전 기본값).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeadContactImporter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO lead_contacts (email, contact_name, company_name, department, role, address,
+                                       work_phone, work_fax, mobile_phone, source_event, source_date, collected_by,
+                                       consent_method, consent_date, opt_in_marketing, opt_in_transactional,
+                                       tags, notes, unsubscribe_token, created_by, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING""";
+
+    private static final String DUPLICATE_MESSAGE = "이미 등록된 이메일";
+
+    /** 헤더 별칭 → 내부 정규 필드명 매핑 (소문자·공백제거 키 기준) */
+    private static final Map<String, String> HEADER_ALIASES = new HashMap<>();
+    static {
+        // 한국어 명함 양식 (사용자 양식 12개)
+        HEADER_ALIASES.put("회사", "company_name");
+        HEADER_ALIASES.put("이름", "contact_name");
+        HEADER_ALIASES.put("부서", "department");
+        HEADER_ALIASES.put("직함", "role");
+        HEADER_ALIASES.put("전자메일주소", "email");
+        HEADER_ALIASES.put("이메일", "email");
+        HEADER_ALIASES.put("e-mail", "email");
+        HEADER_ALIASES.put("근무지주소번지", "address");
+        HEADER_ALIASES.put("근무지주소", "address");
+        HEADER_ALIASES.put("주소", "address");
+        HEADER_ALIASES.put("근무처전화", "work_phone");
+        HEADER_ALIASES.put("회사전화", "work_phone");
+        HEADER_ALIASES.put("근무처팩스", "work_fax");
+        HEADER_ALIASES.put("팩스", "work_fax");
+        HEADER_ALIASES.put("휴대폰", "mobile_phone");
+        HEADER_ALIASES.put("핸드폰", "mobile_phone");
+        HEADER_ALIASES.put("모바일", "mobile_phone");
+        HEADER_ALIASES.put("명함등록일", "source_date");
+        HEADER_ALIASES.put("명함첩이름", "source_event");
+        HEADER_ALIASES.put("메모", "notes");
+        // 영어 (backward compat)
+        HEADER_ALIASES.put("email", "email");
+        HEADER_ALIASES.put("contact_name", "contact_name");
+        HEADER_ALIASES.put("contactname", "contact_name");
+        HEADER_ALIASES.put("company_name", "company_name");
+        HEADER_ALIASES.put("companyname", "company_name");
+        HEADER_ALIASES.put("company", "company_name");
+        HEADER_ALIASES.put("department", "department");
+        HEADER_ALIASES.put("role", "role");
+        HEADER_ALIASES.put("title", "role");
+        HEADER_ALIASES.put("address", "address");
+        HEADER_ALIASES.put("work_phone", "work_phone");
+        HEADER_ALIASES.put("workphone", "work_phone");
+        HEADER_ALIASES.put("work_fax", "work_fax");
+        HEADER_ALIASES.put("workfax", "work_fax");
+        HEADER_ALIASES.put("fax", "work_fax");
+        HEADER_ALIASES.put("mobile_phone", "mobile_phone");
+        HEADER_ALIASES.put("mobilephone", "mobile_phone");
+        HEADER_ALIASES.put("mobile", "mobile_phone");
+        HEADER_ALIASES.put("source_event", "source_event");
+        HEADER_ALIASES.put("source_date", "source_date");
+        HEADER_ALIASES.put("collected_by", "collected_by");
+        HEADER_ALIASES.put("consent_method", "consent_method");
+        HEADER_ALIASES.put("consent_date", "consent_date");
+        HEADER_ALIASES.put("opt_in_marketing", "opt_in_marketing");
+        HEADER_ALIASES.put("opt_in_transactional", "opt_in_transactional");
+        HEADER_ALIASES.put("tags", "tags");
+        HEADER_ALIASES.put("notes", "notes");
+        HEADER_ALIASES.put("note", "notes");
+    }
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,                       // 2026-06-04
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+            DateTimeFormatter.ofPattern("yyyy. M. d"),
+            DateTimeFormatter.ofPattern("yyyy-M-d"),
+            DateTimeFormatter.ofPattern("M/d/yyyy"),
+            // 한글 표기 (zero-pad / 1자리 모두 허용)
+            DateTimeFormatter.ofPattern("yyyy'년' MM'월' dd'일'"),
+            DateTimeFormatter.ofPattern("yyyy'년' M'월' d'일'"),
+            DateTimeFormatter.ofPattern("yyyy'년'MM'월'dd'일'"),
+            DateTimeFormatter.ofPattern("yyyy'년'M'월'd'일'")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeadImportProperties properties;
+
+    /** 행 오류·청크 커밋 통지. */
+    public interface Listener {
+
+        void onError(LeadContactImportResult.RowError error);
+
+        /** 청크 INSERT 와 같은 트랜잭션 안에서 커밋 직전 — 예외를 던지면 그 청크의 INSERT 도 롤백된다. */
+        default void beforeChunkCommit(Progress progress) {
+        }
+
+        /** 청크 커밋 직후 — lastRowNumber 행까지 반영이 끝났다. */
+        default void onChunkCommitted(Progress progress) {
+        }
+    }
+
+    /** 누적 진행 상황. totalRows 는 빈 행을 뺀 데이터 행 수. */
+    public record Progress(int totalRows, int registered, int skipped, int lastRowNumber) {
+
+        /** 처음부터 시작. */
+        public static final Progress START = new Progress(0, 0, 0, 0);
+    }
+
+    /** 검증을 마치고 INSERT 를 기다리는 행. */
+    private record Pending(int rowNumber, String email, Object[] values) {}
+
+    /**
+     * 파일 전체를 임포트한다.
+     *
+     * @throws IllegalArgumentException 빈 파일이거나 헤더에 이메일 컬럼이 없을 때
+     */
+    public Progress run(Path file, UUID adminId, Listener listener) throws IOException {
+        return run(file, adminId, Progress.START, listener);
+    }
+
+    /**
+     * 체크포인트 다음 행부터 이어서 임포트한다. resumeFrom.lastRowNumber 이하 행은 헤더만 읽고 건너뛰며,
+     * 건수는 resumeFrom 에 이어서 누적한다.
+     *
+     * @throws IllegalArgumentException 빈 파일이거나 헤더에 이메일 컬럼이 없을 때
+     */
+    public Progress run(Path file, UUID adminId, Progress resumeFrom, Listener listener) throws IOException {
+        Run run = new Run(adminId, listener, Math.max(1, properties.getChunkSize()), resumeFrom);
+        LeadRowReader.detect(file).read(file, run::onRow);
+        if (run.header == null) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        run.flush();
+        log.info("[컨택 임포트] 완료: 데이터 행={}, 등록={}, 건너뜀={}", run.total, run.registered, run.skipped);
+        return run.progress();
+    }
+
+    /** 임포트 1회의 상태 (헤더, 대기 청크, 누적 건수). */
+    private final class Run {
+
+        private final UUID adminId;
+        private final Listener listener;
+        private final int chunkSize;
+        private final List<Pending> pending;
+        private final int resumeAfter;
+        private Map<String, Integer> header;
+        private int total;
+        private int registered;
+        private int skipped;
+        private int lastRowNumber;
+        /** 마지막 flush 이후 읽은 데이터 행 수 (오류 행 포함 — 오류만 있는 파일도 chunkSize 마다 커밋). */
+        private int rowsInChunk;
+
+        Run(UUID adminId, Listener listener, int chunkSize, Progress resumeFrom) {
+            this.adminId = adminId;
+            this.listener = listener;
+            this.chunkSize = chunkSize;
+            this.pending = new ArrayList<>(chunkSize);
+            this.resumeAfter = resumeFrom.lastRowNumber();
+            this.total = resumeFrom.totalRows();
+            this.registered = resumeFrom.registered();
+            this.skipped = resumeFrom.skipped();
+            this.lastRowNumber = resumeFrom.lastRowNumber();
+        }
+
+        boolean onRow(int rowNumber, List<String> cells) {
+            if (header == null) {
+                header = resolveHeader(cells);
+                return true;
+            }
+            if (rowNumber <= resumeAfter) {
+                return true;
+            }
+            lastRowNumber = rowNumber;
+            if (cells.stream().allMatch(s -> s == null || s.isBlank())) {
+                return true;
+            }
+            total++;
+            rowsInChunk++;
+
+            String email = getCell(cells, header, "email");
+            if (email == null) {
+                error(rowNumber, null, "이메일 누락");
+                flushIfFull();
+                return true;
+            }
+            String normalized = email.trim().toLowerCase(Locale.ROOT);
+            try {
+                pending.add(new Pending(rowNumber, normalized, values(normalized, cells, header, adminId)));
+            } catch (IllegalArgumentException ex) {
+                error(rowNumber, normalized, ex.getMessage());
+            }
+            flushIfFull();
+            return true;
+        }
+
+        private void flushIfFull() {
+            if (rowsInChunk >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            // 청크 INSERT 와 listener 의 체크포인트를 한 트랜잭션으로 — 커밋 전에 멈추면 둘 다 남지 않는다
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!pending.isEmpty()) {
+                    insertChunk();
+                }
+                listener.beforeChunkCommit(progress());
+            });
+            pending.clear();
+            rowsInChunk = 0;
+            listener.onChunkCommitted(progress());
+        }
+
+        Progress progress() {
+            return new Progress(total, registered, skipped, lastRowNumber);
+        }
+
+        private void insertChunk() {
+            // 같은 청크 안의 중복은 앞 행만 남기고, 이미 등록된 이메일은 IN 조회 한 번으로 거른다
+            Map<String, Pending> unique = new LinkedHashMap<>();
+            for (Pending p : pending) {
+                if (unique.putIfAbsent(p.email(), p) != null) {
+                    error(p.rowNumber(), p.email(), DUPLICATE_MESSAGE);
+                }
+            }
+            Set<String> existing = existingEmails(unique.keySet());
+            List<Pending> toInsert = new ArrayList<>(unique.size());
+            for (Pending p : unique.values()) {
+                if (existing.contains(p.email())) {
+                    error(p.rowNumber(), p.email(), DUPLICATE_MESSAGE);
+                } else {
+                    toInsert.add(p);
+                }
+            }
+            if (toInsert.isEmpty()) {
+                return;
+            }
+
+            int[] counts;
+            Savepoint savepoint = setSavepoint();
+            try {
+                counts = jdbcTemplate.batchUpdate(INSERT_SQL, toInsert.stream().map(Pending::values).toList());
+                releaseSavepoint(savepoint);
+            } catch (DataAccessException ex) {
+                rollbackTo(savepoint);
+                log.warn("[컨택 임포트] batch INSERT 실패 — 행 단위로 재시도 ({}건): {}", toInsert.size(), ex.getMessage());
+                insertOneByOne(toInsert);
+                return;
+            }
+            for (int i = 0; i < toInsert.size(); i++) {
+                // 0 = 조회 후 다른 요청이 먼저 등록함 (ON CONFLICT DO NOTHING)
+                if (counts[i] == 0) {
+                    error(toInsert.get(i).rowNumber(), toInsert.get(i).email(), DUPLICATE_MESSAGE);
+                } else if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    registered++;
+                }
+            }
+        }
+
+        private void insertOneByOne(List<Pending> rows) {
+            for (Pending p : rows) {
+                Savepoint savepoint = setSavepoint();
+                try {
+                    int inserted = jdbcTemplate.update(INSERT_SQL, p.values());
+                    releaseSavepoint(savepoint);
+                    if (inserted > 0) {
+                        registered++;
+                    } else {
+                        error(p.rowNumber(), p.email(), DUPLICATE_MESSAGE);
+                    }
+                } catch (DataAccessException ex) {
+                    rollbackTo(savepoint);
+                    error(p.rowNumber(), p.email(), rootMessage(ex));
+                }
+            }
+        }
+
+        private Set<String> existingEmails(Set<String> emails) {
+            if (emails.isEmpty()) {
+                return Collections.emptySet();
+            }
+            String placeholders = String.join(",", Collections.nCopies(emails.size(), "?"));
+            return new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT email FROM lead_contacts WHERE email IN (" + placeholders + ")",
+                    String.class, emails.toArray()));
+        }
+
+        private void error(int rowNumber, String email, String message) {
+            skipped++;
+            listener.onError(LeadContactImportResult.RowError.builder()
+                    .rowNumber(rowNumber).email(email).message(message).build());
+        }
+    }
+
+    // ---- 청크 트랜잭션 안의 savepoint ------------------------------------------
+    // PostgreSQL 은 문장 하나가 실패하면 트랜잭션 전체가 중단되므로, 실패한 INSERT 만 되돌리고 같은 트랜잭션을 이어 쓴다.
+    // 청크 트랜잭션에 묶인 커넥션을 JdbcTemplate 으로 받아 JDBC savepoint 를 직접 쓴다.
+
+    private Savepoint setSavepoint() {
+        return jdbcTemplate.execute((ConnectionCallback<Savepoint>) Connection::setSavepoint);
+    }
+
+    private void releaseSavepoint(Savepoint savepoint) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            con.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    private void rollbackTo(Savepoint savepoint) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            con.rollback(savepoint);
+            return null;
+        });
+    }
+
+    // ---- 행 → INSERT 값 -----------------------------------------------------
+
+    private static Object[] values(String email, List<String> cells, Map<String, Integer> colIdx, UUID adminId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{
+                email,
+                getCell(cells, colIdx, "contact_name"),
+                getCell(cells, colIdx, "company_name"),
+                getCell(cells, colIdx, "department"),
+                getCell(cells, colIdx, "role"),
+                getCell(cells, colIdx, "address"),
+                getCell(cells, colIdx, "work_phone"),
+                getCell(cells, colIdx, "work_fax"),
+                getCell(cells, colIdx, "mobile_phone"),
+                getCell(cells, colIdx, "source_event"),
+                toSqlDate(parseFlexibleDate(getCell(cells, colIdx, "source_date"))),
+                getCell(cells, colIdx, "collected_by"),
+                firstNonBlank(getCell(cells, colIdx, "consent_method"), "import"),
+                toSqlDate(parseFlexibleDate(getCell(cells, colIdx, "consent_date"))),
+                parseBool(getCell(cells, colIdx, "opt_in_marketing"), false),
+                parseBool(getCell(cells, colIdx, "opt_in_transactional"), true),
+                getCell(cells, colIdx, "tags"),
+                getCell(cells, colIdx, "notes"),
+                UUID.randomUUID(),
+                adminId,
+                now,
+                now
+        };
+    }
+
+    private static Map<String, Integer> resolveHeader(List<String> headerRow) {
+        Map<String, Integer> idx = new HashMap<>();
+        for (int i = 0; i < headerRow.size(); i++) {
+            String canonical = canonicalize(headerRow.get(i));
+            if (canonical != null && !idx.containsKey(canonical)) {
+                idx.put(canonical, i);
+            }
+        }
+        if (!idx.containsKey("email")) {
+            // 디버그용: 원본 헤더 + canonicalize 결과 함께 노출
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < headerRow.size(); i++) {
+                String raw = headerRow.get(i);
+                sb.append("[").append(i).append("] '").append(raw == null ? "" : raw)
+                  .append("' → canonical='").append(canonicalize(raw)).append("'; ");
+            }
+            throw new IllegalArgumentException(
+                    "헤더에 이메일 컬럼이 필요합니다 (전자 메일 주소 / 이메일 / email). 인식된 헤더: " + sb
+            );
+        }
+        return idx;
+    }
+
+    private static String canonicalize(String header) {
+        if (header == null) return null;
+        String key = header
+                .replace("﻿", "")     // UTF-8 BOM
+                .replace(" ", "")     // non-breaking space (NBSP)
+                .replace("​", "")     // zero-width space
+                .replace("　", "")     // CJK 전각 공백
+                .trim()
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[\\s\\p{Z}]+", ""); // 일반·Unicode 공백 일괄 제거
+        return HEADER_ALIASES.get(key);
+    }
+
+    private static String getCell(List<String> cells, Map<String, Integer> colIdx, String canonical) {
+        Integer i = colIdx.get(canonical);
+        if (i == null || i >= cells.size()) return null;
+        String v = cells.get(i);
+        return v == null || v.isBlank() ? null : v.trim();
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String v : values) {
+            if (v != null && !v.isBlank()) return v;
+        }
+        return null;
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
+    static LocalDate parseFlexibleDate(String s) {
+        if (s == null || s.isBlank()) return null;
+        // 다중 공백 단일화, 양끝 공백 제거
+        String v = s.trim().replaceAll("\\s+", " ");
+        for (DateTimeFormatter fmt : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(v, fmt);
+            } catch (DateTimeParseException ignored) { /* try next */ }
+        }
+        // Excel 시리얼 숫자 (예: "45828") 대응
+        try {
+            double serial = Double.parseDouble(v);
+            return org.apache.poi.ss.usermodel.DateUtil.getJavaDate(serial)
+                    .toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
+        } catch (NumberFormatException ignored) { /* not a serial */ }
+        throw new IllegalArgumentException("날짜 형식 인식 불가: " + s);
+    }
+
+    private static boolean parseBool(String s, boolean defaultValue) {
+        if (s == null || s.isBlank()) return defaultValue;
+        String v = s.trim().toLowerCase(Locale.ROOT);
+        return v.equals("true") || v.equals("1") || v.equals("y") || v.equals("yes") || v.equals("동의");
+    }
+
+    private static String rootMessage(Throwable t) {
+        Throwable root = t;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -0,0 +1,378 @@
+package com.bulc.homepage.leadimport;
+
+import com.bulc.homepage.config.LeadImportProperties;
+import com.bulc.homepage.dto.response.LeadContactImportResult;
+import com.bulc.homepage.entity.LeadImportJob;
+import com.bulc.homepage.repository.LeadImportErrorRepository;
+import com.bulc.homepage.repository.LeadImportJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일링 컨택 백그라운드 임포트 작업.
+ *
+ * <p>요청은 업로드를 작업 디렉터리(workDir)에 저장하고 작업 행만 등록한 뒤 바로 응답한다 ({@link #submit}).
+ * 전용 스레드가 다음을 반복한다.</p>
+ * <ol>
+ *   <li>점유: 대기 작업 또는 lease 가 끝난 진행 중 작업 하나를 SKIP LOCKED 로 점유하고 lease 를 건다.</li>
+ *   <li>처리: {@link LeadContactImporter} 로 체크포인트 다음 행부터 읽는다.</li>
+ *   <li>체크포인트: 청크(chunkSize 행)마다 그 청크의 컨택 INSERT, 행 오류 batch INSERT, 건수·last_row_number·lease
+ *       연장을 한 트랜잭션으로 커밋한다. 점유를 잃었으면 청크째 롤백한다. 행 오류는 메모리에 청크 단위로만 머문다.</li>
+ * </ol>
+ *
+ * <p>재기동·워커 중단 시 작업은 RUNNING 으로 남고 lease 가 끝나면 다시 점유돼 체크포인트 다음 행부터 이어서 진행한다
+ * (정상 종료면 lease 를 바로 풀어 재기동 즉시 이어 간다). 체크포인트 전에 멈춘 청크는 컨택도 남지 않으므로
+ * 다시 읽을 때 처음 그대로 등록된다.</p>
+ *
+ * <p>업로드 파일은 받은 인스턴스의 workDir 에 있다. 점유한 작업의 파일이 이 인스턴스에 없으면 실패로 끝내지 않고
+ * lease 를 풀어 파일을 가진 인스턴스가 가져가게 한다 (여러 대면 workDir 을 공유 볼륨으로 두는 것을 권장).</p>
+ *
+ * <p>메트릭: {@code bulc.lead.import.jobs} (result=completed|failed).</p>
+ */
+@Slf4j
+@Service
+public class LeadImportJobService {
+
+    private static final String CLAIM_SQL = """
+            UPDATE lead_import_jobs
+               SET status = 'RUNNING', lease_until = ?, started_at = COALESCE(started_at, ?), updated_at = ?,
+                   last_error = NULL
+             WHERE id = (SELECT id FROM lead_import_jobs
+                          WHERE status = 'QUEUED' OR (status = 'RUNNING' AND lease_until < ?)
+                          ORDER BY id
+                          LIMIT 1
+                          FOR UPDATE SKIP LOCKED)
+            RETURNING id""";
+
+    /** 점유가 그대로일 때(lease_until 이 내가 건 값)만 반영 — 다른 워커가 가져간 작업은 덮어쓰지 않는다. */
+    private static final String CHECKPOINT_SQL = """
+            UPDATE lead_import_jobs
+               SET total_rows = ?, registered_count = ?, skipped_count = ?, last_row_number = ?,
+                   lease_until = ?, updated_at = ?
+             WHERE id = ? AND status = 'RUNNING' AND lease_until = ?""";
+
+    /** 업로드 파일이 없는 인스턴스가 점유를 내려놓는다. */
+    private static final String RELEASE_MISSING_FILE_SQL = """
+            UPDATE lead_import_jobs
+               SET lease_until = ?, last_error = ?, updated_at = ?
+             WHERE id = ? AND status = 'RUNNING' AND lease_until = ?""";
+
+    private static final String ERROR_INSERT_SQL =
+            "INSERT INTO lead_import_errors (job_id, row_number, email, message) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LeadImportJobRepository jobRepository;
+    private final LeadImportErrorRepository errorRepository;
+    private final LeadContactImporter importer;
+    private final LeadImportProperties properties;
+    private final ExecutorService worker;
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private volatile boolean stopped = false;
+
+    /** 작업 진행 상황. lastRowNumber 는 체크포인트 (헤더 포함 1부터). */
+    public record LeadImportJobProgress(Long id, String fileName, LeadImportJob.Status status, int totalRows,
+                                        int registered, int skipped, int lastRowNumber, String lastError,
+                                        LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime updatedAt,
+                                        LocalDateTime finishedAt) {
+
+        public static LeadImportJobProgress of(LeadImportJob job) {
+            return new LeadImportJobProgress(job.getId(), job.getFileName(), job.getStatus(), job.getTotalRows(),
+                    job.getRegisteredCount(), job.getSkippedCount(), job.getLastRowNumber(), job.getLastError(),
+                    job.getCreatedAt(), job.getStartedAt(), job.getUpdatedAt(), job.getFinishedAt());
+        }
+    }
+
+    public LeadImportJobService(JdbcTemplate jdbcTemplate,
+                                LeadImportJobRepository jobRepository,
+                                LeadImportErrorRepository errorRepository,
+                                LeadContactImporter importer,
+                                LeadImportProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.importer = importer;
+        this.properties = properties;
+        this.completedCounter = Counter.builder("bulc.lead.import.jobs").tag("result", "completed").register(meterRegistry);
+        this.failedCounter = Counter.builder("bulc.lead.import.jobs").tag("result", "failed").register(meterRegistry);
+
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "lead-import");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isWorkerEnabled()) {
+            log.info("[컨택 임포트] 백그라운드 임포트 워커 비활성화");
+            return;
+        }
+        worker.submit(this::loop);
+    }
+
+    /**
+     * 업로드를 작업 디렉터리에 저장하고 대기 작업으로 등록한다. 처리는 워커가 한다.
+     */
+    public LeadImportJob submit(MultipartFile file, UUID adminId) {
+        Path path;
+        try {
+            Path dir = Path.of(properties.getWorkDir());
+            Files.createDirectories(dir);
+            path = Files.createTempFile(dir, "lead-import-", ".upload");
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 저장 실패: " + e.getMessage(), e);
+        }
+        try {
+            String fileName = file.getOriginalFilename();
+            LeadImportJob job = jobRepository.save(LeadImportJob.builder()
+                    .fileName(fileName == null || fileName.isBlank() ? path.getFileName().toString() : fileName)
+                    .filePath(path.toAbsolutePath().toString())
+                    .createdBy(adminId)
+                    .build());
+            log.info("[컨택 임포트] 작업 등록: jobId={}, file={}, {} bytes", job.getId(), job.getFileName(), file.getSize());
+            return job;
+        } catch (RuntimeException e) {
+            deleteQuietly(path);
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LeadImportJobProgress> getProgress(Long jobId) {
+        return jobRepository.findById(jobId).map(LeadImportJobProgress::of);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeadImportJobProgress> recentJobs(int limit) {
+        return jobRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit)).stream()
+                .map(LeadImportJobProgress::of)
+                .toList();
+    }
+
+    /**
+     * 작업의 행 오류 (행 번호 순). 정렬 파라미터는 무시한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<LeadContactImportResult.RowError> errors(Long jobId, Pageable pageable) {
+        return errorRepository.findByJobIdOrderByRowNumberAscIdAsc(
+                        jobId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .map(e -> LeadContactImportResult.RowError.builder()
+                        .rowNumber(e.getRowNumber())
+                        .email(e.getEmail())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    // ---- worker ------------------------------------------------------------
+
+    record Claim(long jobId, LocalDateTime leaseUntil) {}
+
+    private void loop() {
+        long idleMillis = Math.max(100, properties.getPollInterval().toMillis());
+        while (!stopped) {
+            try {
+                Claim claim = claimNext();
+                if (claim == null) {
+                    Thread.sleep(idleMillis);
+                    continue;
+                }
+                process(claim);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[컨택 임포트] 워커 오류: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(idleMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    Claim claimNext() {
+        LocalDateTime now = now();
+        LocalDateTime leaseUntil = now.plus(properties.getLease());
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_SQL, Long.class,
+                Timestamp.valueOf(leaseUntil), Timestamp.valueOf(now), Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return ids.isEmpty() ? null : new Claim(ids.get(0), leaseUntil);
+    }
+
+    void process(Claim claim) {
+        LeadImportJob job = jobRepository.findById(claim.jobId())
+                .orElseThrow(() -> new IllegalStateException("임포트 작업을 찾을 수 없습니다: " + claim.jobId()));
+        Path file = Path.of(job.getFilePath());
+        if (!Files.isReadable(file)) {
+            // 다른 인스턴스가 받은 업로드 — 실패로 끝내지 않고 poll 간격 뒤 다시 점유할 수 있게 lease 만 풀어 둔다
+            LocalDateTime now = now();
+            jdbcTemplate.update(RELEASE_MISSING_FILE_SQL,
+                    Timestamp.valueOf(now.plus(properties.getPollInterval())),
+                    "이 인스턴스에 업로드 파일이 없어 다른 인스턴스를 기다립니다: " + file, Timestamp.valueOf(now),
+                    job.getId(), Timestamp.valueOf(claim.leaseUntil()));
+            log.warn("[컨택 임포트] 업로드 파일 없음 — lease 를 풀고 파일을 가진 인스턴스에 넘김: jobId={}, file={}",
+                    job.getId(), file);
+            return;
+        }
+        if (job.getLastRowNumber() > 0) {
+            log.info("[컨택 임포트] 이전 작업 이어서 진행: jobId={}, 체크포인트 {}행, 등록={}, 건너뜀={}",
+                    job.getId(), job.getLastRowNumber(), job.getRegisteredCount(), job.getSkippedCount());
+        } else {
+            log.info("[컨택 임포트] 작업 시작: jobId={}, file={}", job.getId(), job.getFileName());
+        }
+
+        Checkpointer checkpointer = new Checkpointer(job.getId(), claim.leaseUntil());
+        LeadContactImporter.Progress resumeFrom = new LeadContactImporter.Progress(
+                job.getTotalRows(), job.getRegisteredCount(), job.getSkippedCount(), job.getLastRowNumber());
+        try {
+            LeadContactImporter.Progress progress = importer.run(file, job.getCreatedBy(), resumeFrom, checkpointer);
+            finish(job.getId(), LeadImportJob.Status.COMPLETED, null);
+            completedCounter.increment();
+            deleteQuietly(file);
+            log.info("[컨택 임포트] 작업 완료: jobId={}, 데이터 행={}, 등록={}, 건너뜀={}",
+                    job.getId(), progress.totalRows(), progress.registered(), progress.skipped());
+        } catch (LeaseLostException e) {
+            log.warn("[컨택 임포트] 점유를 잃어 중단 (다른 워커가 이어서 진행): jobId={}", job.getId());
+        } catch (StoppedException e) {
+            // 정상 종료 — lease 를 바로 풀어 재기동 시 체크포인트 다음 행부터 이어서 진행
+            jdbcTemplate.update("UPDATE lead_import_jobs SET lease_until = ? WHERE id = ? AND lease_until = ?",
+                    Timestamp.valueOf(now()), job.getId(), Timestamp.valueOf(checkpointer.leaseUntil));
+            log.info("[컨택 임포트] 종료로 중단 (재기동 시 이어서 진행): jobId={}, 체크포인트 {}행",
+                    job.getId(), checkpointer.lastRowNumber);
+        } catch (DataAccessException e) {
+            // DB 일시 오류일 수 있으므로 RUNNING 유지 — lease 가 끝나면 체크포인트부터 다시 시도
+            log.error("[컨택 임포트] DB 오류로 중단 (lease 후 재시도): jobId={}, error={}", job.getId(), e.getMessage(), e);
+        } catch (IOException | RuntimeException e) {
+            finish(job.getId(), LeadImportJob.Status.FAILED, e.getMessage());
+            failedCounter.increment();
+            deleteQuietly(file);
+            log.error("[컨택 임포트] 작업 실패: jobId={}, 체크포인트 {}행, error={}",
+                    job.getId(), checkpointer.lastRowNumber, e.getMessage(), e);
+        }
+    }
+
+    private void finish(Long jobId, LeadImportJob.Status status, String error) {
+        Timestamp now = Timestamp.valueOf(now());
+        jdbcTemplate.update("UPDATE lead_import_jobs SET status = ?, last_error = ?, lease_until = NULL, "
+                + "finished_at = ?, updated_at = ? WHERE id = ?", status.name(), error, now, now, jobId);
+    }
+
+    /**
+     * 청크 INSERT 트랜잭션 안에서 행 오류와 체크포인트를 기록하고 lease 를 연장한다.
+     */
+    private final class Checkpointer implements LeadContactImporter.Listener {
+
+        private final long jobId;
+        private final List<Object[]> errors = new ArrayList<>();
+        private LocalDateTime leaseUntil;
+        private LocalDateTime pendingLeaseUntil;
+        private int lastRowNumber;
+
+        Checkpointer(long jobId, LocalDateTime leaseUntil) {
+            this.jobId = jobId;
+            this.leaseUntil = leaseUntil;
+        }
+
+        @Override
+        public void onError(LeadContactImportResult.RowError error) {
+            errors.add(new Object[]{jobId, error.getRowNumber(), error.getEmail(), error.getMessage()});
+        }
+
+        @Override
+        public void beforeChunkCommit(LeadContactImporter.Progress progress) {
+            LocalDateTime now = now();
+            LocalDateTime nextLease = now.plus(properties.getLease());
+            if (!errors.isEmpty()) {
+                jdbcTemplate.batchUpdate(ERROR_INSERT_SQL, errors);
+            }
+            int updated = jdbcTemplate.update(CHECKPOINT_SQL,
+                    progress.totalRows(), progress.registered(), progress.skipped(), progress.lastRowNumber(),
+                    Timestamp.valueOf(nextLease), Timestamp.valueOf(now),
+                    jobId, Timestamp.valueOf(leaseUntil));
+            if (updated == 0) {
+                // 청크 트랜잭션째 롤백 — 이 청크의 컨택도 남기지 않고 다른 워커에게 맡긴다
+                throw new LeaseLostException();
+            }
+            pendingLeaseUntil = nextLease;
+        }
+
+        @Override
+        public void onChunkCommitted(LeadContactImporter.Progress progress) {
+            errors.clear();
+            leaseUntil = pendingLeaseUntil;
+            lastRowNumber = progress.lastRowNumber();
+            log.debug("[컨택 임포트] 체크포인트: jobId={}, {}행, 등록={}, 건너뜀={}",
+                    jobId, progress.lastRowNumber(), progress.registered(), progress.skipped());
+            if (stopped) {
+                throw new StoppedException();
+            }
+        }
+    }
+
+    /** 체크포인트 시점에 lease 가 이미 다른 워커에게 넘어감. */
+    private static final class LeaseLostException extends RuntimeException {
+        LeaseLostException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /** 종료 요청으로 체크포인트 커밋 직후 중단. */
+    private static final class StoppedException extends RuntimeException {
+        StoppedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /** PostgreSQL TIMESTAMP 정밀도에 맞춰 자른다 (lease_until 비교용). */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[컨택 임포트] 업로드 파일 삭제 실패: {}", path);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopped = true;
+        worker.shutdown();
+        if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+            worker.shutdownNow();
+        }
+    }
+}
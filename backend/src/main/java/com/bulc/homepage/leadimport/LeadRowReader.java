@@ -0,0 +1,46 @@
+package com.bulc.homepage.leadimport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 임포트 파일의 첫 시트를 행 단위로 흘려보내는 리더.
+ *
+ * <p>전체 행을 메모리에 올리지 않고 handler 에 한 행씩 넘긴다. rowNumber 는 1부터(헤더 포함)이며
+ * 비어 있는 행은 건너뛸 수 있어 연속이 아닐 수 있다. handler 가 false 를 돌려주면 읽기를 멈춘다.</p>
+ */
+public interface LeadRowReader {
+
+    void read(Path file, RowHandler handler) throws IOException;
+
+    @FunctionalInterface
+    interface RowHandler {
+        boolean onRow(int rowNumber, List<String> cells);
+    }
+
+    /**
+     * 파일 내용(magic bytes)으로 형식 감지 — 확장자가 .csv 여도 실제 내용이 Excel 이면 Excel 로 읽는다.
+     * XLSX = ZIP(PK\x03\x04), XLS = CFB/OLE2(D0CF11E0A1B11AE1), 그 외는 CSV(UTF-8 / CP949).
+     */
+    static LeadRowReader detect(Path file) throws IOException {
+        byte[] head = new byte[8];
+        int n;
+        try (InputStream in = Files.newInputStream(file)) {
+            n = in.readNBytes(head, 0, head.length);
+        }
+        if (n >= 4 && head[0] == 'P' && head[1] == 'K' && head[2] == 0x03 && head[3] == 0x04) {
+            return new XlsxRowReader();
+        }
+        if (n == 8
+                && (head[0] & 0xFF) == 0xD0 && (head[1] & 0xFF) == 0xCF
+                && (head[2] & 0xFF) == 0x11 && (head[3] & 0xFF) == 0xE0
+                && (head[4] & 0xFF) == 0xA1 && (head[5] & 0xFF) == 0xB1
+                && (head[6] & 0xFF) == 0x1A && (head[7] & 0xFF) == 0xE1) {
+            return new XlsRowReader();
+        }
+        return new CsvRowReader();
+    }
+}
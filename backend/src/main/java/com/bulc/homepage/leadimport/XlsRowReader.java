@@ -0,0 +1,41 @@
+package com.bulc.homepage.leadimport;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구형 XLS(BIFF) 첫 시트 리더.
+ *
+ * <p>XLS 는 시트당 65,536 행이 상한이라 파일 크기가 제한적이므로 Workbook 으로 읽되,
+ * 행은 다른 리더와 같이 한 행씩 넘긴다 (전체 행 목록을 따로 만들지 않음).</p>
+ */
+public class XlsRowReader implements LeadRowReader {
+
+    @Override
+    public void read(Path file, RowHandler handler) throws IOException {
+        DataFormatter formatter = new DataFormatter();
+        try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            for (Row row : sheet) {
+                List<String> cells = new ArrayList<>();
+                int lastCell = row.getLastCellNum();
+                for (int c = 0; c < lastCell; c++) {
+                    Cell cell = row.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+                    cells.add(cell == null ? "" : formatter.formatCellValue(cell).trim());
+                }
+                if (!handler.onRow(row.getRowNum() + 1, cells)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -179,6 +179,19 @@ public class License {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * 구독 만료: 구독 종료 시각을 넘는 유효기간을 잘라낸다.
+     */
+    public void endSubscription(Instant subscriptionEnd) {
+        if (this.licenseType != LicenseType.SUBSCRIPTION) {
+            throw new IllegalStateException("구독형 라이선스만 구독 만료 처리할 수 있습니다.");
+        }
+        if (this.validUntil == null || this.validUntil.isAfter(subscriptionEnd)) {
+            this.validUntil = subscriptionEnd;
+            this.updatedAt = Instant.now();
+        }
+    }
+
     /**
      * 라이선스가 특정 사용자 소유인지 확인.
      */
@@ -6,6 +6,7 @@ import com.bulc.homepage.licensing.dto.RedeemClaimResponse;
 import com.bulc.homepage.licensing.exception.LicenseException;
 import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
 import com.bulc.homepage.licensing.repository.*;
+import com.bulc.homepage.ratelimit.RateLimiter;
 import com.bulc.homepage.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,7 +31,7 @@ public class RedeemService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final RedeemCodeHashService hashService;
-    private final RedeemRateLimiter rateLimiter;
+    private final RateLimiter rateLimiter;
 
     public RedeemService(RedeemCodeRepository codeRepository,
                          RedeemCampaignRepository campaignRepository,
@@ -41,7 +42,7 @@ public class RedeemService {
                          ProductRepository productRepository,
                          UserRepository userRepository,
                          RedeemCodeHashService hashService,
-                         RedeemRateLimiter rateLimiter) {
+                         RateLimiter rateLimiter) {
         this.codeRepository = codeRepository;
         this.campaignRepository = campaignRepository;
         this.redemptionRepository = redemptionRepository;
@@ -57,7 +58,7 @@ public class RedeemService {
     @Transactional
     public RedeemClaimResponse claim(UUID userId, String rawCode, String ipAddress, String userAgent) {
         // Rate limit 확인
-        if (!rateLimiter.isAllowed(userId)) {
+        if (!rateLimiter.tryAcquire(RateLimiter.REDEEM_CLAIM, userId.toString())) {
             throw new LicenseException(ErrorCode.REDEEM_RATE_LIMITED);
         }
 
@@ -3,12 +3,14 @@ package com.bulc.homepage.oauth2;
 import com.bulc.homepage.config.ValidationConfig;
 import com.bulc.homepage.entity.User;
 import com.bulc.homepage.entity.UserSocialAccount;
-import com.bulc.homepage.repository.ActivityLogRepository;
 import com.bulc.homepage.repository.RefreshTokenRepository;
 import com.bulc.homepage.repository.UserRepository;
 import com.bulc.homepage.repository.UserSocialAccountRepository;
+import com.bulc.homepage.service.AccountPurgeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -16,6 +18,7 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestOperations;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -28,9 +31,17 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final UserSocialAccountRepository socialAccountRepository;
-    private final ActivityLogRepository activityLogRepository;
+    private final AccountPurgeService accountPurgeService;
     private final RefreshTokenRepository refreshTokenRepository;
 
+    /**
+     * 사용자 정보 조회를 공유 HTTP 클라이언트(타임아웃·커넥션 풀·지연 메트릭)로 보낸다.
+     */
+    @Autowired
+    void configureRestOperations(@Qualifier("oauth2UserInfoRestTemplate") RestOperations restOperations) {
+        setRestOperations(restOperations);
+    }
+
     @Override
     @Transactional
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -189,8 +200,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
      * 사용자 관련 데이터 정리 (재가입 시)
      */
     private void cleanupUserData(UUID userId) {
-        // 활동 로그 삭제
-        activityLogRepository.deleteByUserId(userId);
+        // 활동 로그 삭제 (요청 경로 밖에서 청크 단위로)
+        accountPurgeService.schedule(userId);
         // 리프레시 토큰 삭제
         refreshTokenRepository.deleteAllByUserId(userId);
         log.info("사용자 관련 데이터 정리 완료: userId={}", userId);
@@ -0,0 +1,122 @@
+package com.bulc.homepage.outbox;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 처리기.
+ *
+ * <p>1초 간격으로 처리 시각이 된 이벤트를 SKIP LOCKED 로 점유하고(점유 시 {@link #LEASE} 만큼
+ * 다음 처리 시각을 미뤄 둔다), 이벤트마다 별도 트랜잭션에서 핸들러 실행과 완료 표시를 함께 커밋한다.
+ * 실패하면 지수 백오프로 다시 시도하고 {@link #MAX_ATTEMPTS} 회를 넘기면 FAILED 로 남긴다.
+ * 인스턴스가 여러 대여도 같은 이벤트를 동시에 처리하지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    static final int BATCH_SIZE = 50;
+    static final int MAX_ATTEMPTS = 10;
+    static final Duration LEASE = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, OutboxHandler> handlers;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            List<OutboxHandler> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxHandler::eventType, Function.identity()));
+    }
+
+    @Scheduled(fixedDelay = 1_000)
+    public void dispatch() {
+        List<OutboxEvent> events;
+        do {
+            events = claim();
+            for (OutboxEvent event : events) {
+                process(event);
+            }
+        } while (events.size() == BATCH_SIZE);
+    }
+
+    private List<OutboxEvent> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.claimDue(now, PageRequest.of(0, BATCH_SIZE));
+            for (OutboxEvent event : due) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setNextAttemptAt(now.plus(LEASE));
+            }
+            return outboxEventRepository.saveAll(due);
+        });
+    }
+
+    private void process(OutboxEvent event) {
+        OutboxHandler handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            markFailed(event.getId(), "핸들러 없음: " + event.getEventType(), true);
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                OutboxEvent current = outboxEventRepository.findById(event.getId()).orElseThrow();
+                try {
+                    handler.handle(current);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                current.setStatus(OutboxEvent.Status.DONE);
+                current.setProcessedAt(LocalDateTime.now());
+                current.setLastError(null);
+                outboxEventRepository.save(current);
+            });
+            log.info("[아웃박스] 처리 완료 - id: {}, type: {}, aggregateId: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId());
+        } catch (Exception e) {
+            log.error("[아웃박스] 처리 실패 - id: {}, type: {}, aggregateId: {}, 시도: {}회, error: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), e.getMessage(), e);
+            markFailed(event.getId(), e.getMessage(), event.getAttempts() >= MAX_ATTEMPTS);
+        }
+    }
+
+    private void markFailed(Long eventId, String error, boolean giveUp) {
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(eventId).ifPresent(event -> {
+                    event.setLastError(error);
+                    if (giveUp) {
+                        event.setStatus(OutboxEvent.Status.FAILED);
+                    } else {
+                        event.setNextAttemptAt(LocalDateTime.now().plus(backoff(event.getAttempts())));
+                    }
+                    outboxEventRepository.save(event);
+                }));
+    }
+
+    /**
+     * 10초, 20초, 40초 ... 최대 1시간.
+     */
+    static Duration backoff(int attempts) {
+        long seconds = 10L << Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = Duration.ofSeconds(seconds);
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bulc.homepage.outbox;
+
+import com.bulc.homepage.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 타입별 처리기.
+ *
+ * <p>{@link #handle(OutboxEvent)} 는 이벤트 완료 표시와 같은 트랜잭션에서 실행된다.
+ * 재시도·중복 실행될 수 있으므로 이미 처리된 단계는 건너뛰도록 멱등하게 구현한다.</p>
+ */
+public interface OutboxHandler {
+
+    String eventType();
+
+    void handle(OutboxEvent event) throws Exception;
+}
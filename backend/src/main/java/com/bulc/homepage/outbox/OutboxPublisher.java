@@ -0,0 +1,45 @@
+package com.bulc.homepage.outbox;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 등록. 업무 데이터와 같은 트랜잭션에서만 호출할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 등록. 같은 (eventType, aggregateId) 가 이미 있으면 무시한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, String aggregateId, Map<String, ?> payload) {
+        if (outboxEventRepository.existsByEventTypeAndAggregateId(eventType, aggregateId)) {
+            log.info("[아웃박스] 이미 등록된 이벤트 - type: {}, aggregateId: {}", eventType, aggregateId);
+            return;
+        }
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .eventType(eventType)
+                    .aggregateId(aggregateId)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 payload 직렬화 실패: " + eventType, e);
+        }
+    }
+}
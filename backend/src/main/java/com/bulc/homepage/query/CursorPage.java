@@ -0,0 +1,19 @@
+package com.bulc.homepage.query;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(커서) 페이지 응답.
+ *
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 커서 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasMore
+) {
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,14 @@
+package com.bulc.homepage.query;
+
+import com.bulc.homepage.query.view.PaymentRowView;
+
+/**
+ * 결제 목록 조회 전용 Repository
+ */
+public interface PaymentQueryRepository {
+
+    /**
+     * 조건 기반 결제 검색 (keyset 페이징, 단일 조인 쿼리)
+     */
+    CursorPage<PaymentRowView> search(PaymentSearchCond cond);
+}
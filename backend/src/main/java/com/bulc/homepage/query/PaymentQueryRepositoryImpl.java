@@ -0,0 +1,140 @@
+package com.bulc.homepage.query;
+
+import com.bulc.homepage.query.view.PaymentRowView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 결제 목록 조회.
+ *
+ * payments 를 기준으로 payment_details·users 를 LEFT JOIN 한 단일 프로젝션 쿼리로 읽는다.
+ * 정렬 키 + id 로 keyset 페이징하므로 OFFSET·COUNT 없이 페이지 깊이와 무관하게 인덱스 범위만 읽는다.
+ * (인덱스: idx_payments_created_at_id, idx_payments_status_created_at_id, idx_payments_user_created_at_id,
+ * idx_payments_amount_id, idx_payments_user_email_lower, idx_payments_user_name_lower)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentQueryRepositoryImpl implements PaymentQueryRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public CursorPage<PaymentRowView> search(PaymentSearchCond cond) {
+        PaymentSort sort = cond.sort();
+        String sortPath = "p." + sort.property();
+        String dir = sort.ascending() ? "ASC" : "DESC";
+
+        StringBuilder jpql = new StringBuilder("""
+                SELECT new com.bulc.homepage.query.view.PaymentRowView(
+                    p.id, p.userId, p.userEmail, p.userName, u.email, u.name, u.isActive,
+                    pd.orderId, p.orderName, p.amount, p.currency, p.status,
+                    pd.paymentMethod, pd.cardCompany, pd.cardNumber, pd.installmentMonths, pd.approveNo,
+                    pd.easyPayProvider, pd.bankName, pd.accountNumber, pd.dueDate, pd.depositorName,
+                    pd.settlementStatus, p.paidAt, p.refundedAt, p.refundAmount, p.createdAt)
+                FROM Payment p
+                LEFT JOIN p.paymentDetail pd
+                LEFT JOIN p.user u
+                WHERE 1 = 1
+                """);
+        Map<String, Object> params = new HashMap<>();
+
+        if (cond.userId() != null) {
+            jpql.append(" AND p.userId = :userId");
+            params.put("userId", cond.userId());
+        }
+        if (cond.status() != null && !cond.status().isBlank()) {
+            jpql.append(" AND p.status = :status");
+            params.put("status", cond.status());
+        }
+        if (cond.paymentMethod() != null && !cond.paymentMethod().isBlank()) {
+            jpql.append(" AND pd.paymentMethod = :paymentMethod");
+            params.put("paymentMethod", cond.paymentMethod());
+        }
+        if (cond.from() != null) {
+            jpql.append(" AND p.createdAt >= :from");
+            params.put("from", cond.from());
+        }
+        if (cond.to() != null) {
+            jpql.append(" AND p.createdAt < :to");
+            params.put("to", cond.to());
+        }
+        if (cond.keyword() != null && !cond.keyword().isBlank()) {
+            String keyword = cond.keyword().trim();
+            jpql.append(" AND (pd.orderId = :orderId")
+                    .append(" OR LOWER(p.userEmail) LIKE :prefix ESCAPE '\\'")
+                    .append(" OR LOWER(p.userName) LIKE :prefix ESCAPE '\\')");
+            params.put("orderId", keyword);
+            params.put("prefix", escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%");
+        }
+
+        if (cond.cursor() != null && !cond.cursor().isBlank()) {
+            Cursor cursor = Cursor.decode(cond.cursor(), sort);
+            String cmp = sort.ascending() ? ">" : "<";
+            jpql.append(" AND (").append(sortPath).append(' ').append(cmp).append(" :cursorValue")
+                    .append(" OR (").append(sortPath).append(" = :cursorValue AND p.id ").append(cmp).append(" :cursorId))");
+            params.put("cursorValue", cursor.value());
+            params.put("cursorId", cursor.id());
+        }
+
+        jpql.append(" ORDER BY ").append(sortPath).append(' ').append(dir).append(", p.id ").append(dir);
+
+        TypedQuery<PaymentRowView> query = em.createQuery(jpql.toString(), PaymentRowView.class);
+        params.forEach(query::setParameter);
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단 (COUNT 쿼리 없음)
+        query.setMaxResults(cond.size() + 1);
+
+        List<PaymentRowView> rows = query.getResultList();
+        boolean hasMore = rows.size() > cond.size();
+        List<PaymentRowView> items = hasMore ? rows.subList(0, cond.size()) : rows;
+        String nextCursor = hasMore ? Cursor.of(items.get(items.size() - 1), sort).encode(sort) : null;
+        return new CursorPage<>(List.copyOf(items), nextCursor, hasMore);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * keyset 커서: 마지막 행의 정렬 키 값 + id. 정렬 기준이 다른 커서는 거부한다.
+     */
+    private record Cursor(Object value, long id) {
+
+        static Cursor of(PaymentRowView row, PaymentSort sort) {
+            Object value = "amount".equals(sort.property()) ? row.amount() : row.createdAt();
+            return new Cursor(value, row.id());
+        }
+
+        String encode(PaymentSort sort) {
+            String raw = sort.name() + "|" + value + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String encoded, PaymentSort sort) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", 3);
+                if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                    throw new IllegalArgumentException("정렬 기준과 맞지 않는 커서입니다.");
+                }
+                Object value = "amount".equals(sort.property())
+                        ? new BigDecimal(parts[1])
+                        : LocalDateTime.parse(parts[1]);
+                return new Cursor(value, Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.", e);
+            }
+        }
+    }
+}
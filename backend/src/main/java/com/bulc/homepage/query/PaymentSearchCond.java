@@ -0,0 +1,37 @@
+package com.bulc.homepage.query;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 결제 목록 검색 조건
+ *
+ * @param keyword 주문번호(정확히 일치) 또는 이메일·이름(앞부분 일치, 대소문자 무시)
+ * @param cursor  이전 페이지 응답의 nextCursor (첫 페이지면 null)
+ */
+public record PaymentSearchCond(
+        UUID userId,
+        String status,
+        String paymentMethod,
+        LocalDateTime from,
+        LocalDateTime to,
+        String keyword,
+        PaymentSort sort,
+        String cursor,
+        int size
+) {
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public PaymentSearchCond {
+        if (sort == null) {
+            sort = PaymentSort.CREATED_AT_DESC;
+        }
+        size = size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    public static PaymentSearchCond ofUser(UUID userId, String cursor, int size) {
+        return new PaymentSearchCond(userId, null, null, null, null, null,
+                PaymentSort.CREATED_AT_DESC, cursor, size);
+    }
+}
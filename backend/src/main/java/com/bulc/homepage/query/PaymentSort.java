@@ -0,0 +1,43 @@
+package com.bulc.homepage.query;
+
+/**
+ * 결제 목록 정렬 기준. 모두 id 를 보조 키로 써서 keyset 커서가 유일하게 정해진다.
+ */
+public enum PaymentSort {
+    CREATED_AT_DESC("createdAt", false),
+    CREATED_AT_ASC("createdAt", true),
+    AMOUNT_DESC("amount", false),
+    AMOUNT_ASC("amount", true);
+
+    private final String property;
+    private final boolean ascending;
+
+    PaymentSort(String property, boolean ascending) {
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+
+    /**
+     * "createdAt,desc" 형식 파싱. 비어 있으면 최신순.
+     */
+    public static PaymentSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return CREATED_AT_DESC;
+        }
+        String[] parts = sort.split(",");
+        boolean asc = parts.length > 1 && "asc".equalsIgnoreCase(parts[1].trim());
+        return switch (parts[0].trim()) {
+            case "createdAt" -> asc ? CREATED_AT_ASC : CREATED_AT_DESC;
+            case "amount" -> asc ? AMOUNT_ASC : AMOUNT_DESC;
+            default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.bulc.homepage.query.view;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 빌링키 카드 정보 프로젝션.
+ * billing_key 컬럼을 읽지 않으므로 복호화(BillingKeyCryptoConverter)가 일어나지 않는다.
+ */
+public record BillingKeyView(
+        Long id,
+        UUID userId,
+        String customerKey,
+        String cardCompany,
+        String cardNumber,
+        String cardType,
+        String ownerType,
+        Boolean isDefault,
+        LocalDateTime createdAt
+) {
+    public BillingKeyView asDefault() {
+        return new BillingKeyView(id, userId, customerKey, cardCompany, cardNumber, cardType, ownerType,
+                true, createdAt);
+    }
+}
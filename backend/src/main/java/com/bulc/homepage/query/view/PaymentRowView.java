@@ -0,0 +1,52 @@
+package com.bulc.homepage.query.view;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 결제 목록 한 행 (payments + payment_details + users 조인 프로젝션).
+ * 엔티티를 로드하지 않으므로 행마다 추가 조회가 없다.
+ */
+public record PaymentRowView(
+        Long id,
+        UUID userId,
+        String snapshotEmail,
+        String snapshotName,
+        String userEmail,
+        String userName,
+        Boolean userActive,
+        String orderId,
+        String orderName,
+        BigDecimal amount,
+        String currency,
+        String status,
+        String paymentMethod,
+        String cardCompany,
+        String cardNumber,
+        Integer installmentMonths,
+        String approveNo,
+        String easyPayProvider,
+        String bankName,
+        String accountNumber,
+        LocalDateTime dueDate,
+        String depositorName,
+        String settlementStatus,
+        LocalDateTime paidAt,
+        LocalDateTime refundedAt,
+        BigDecimal refundAmount,
+        LocalDateTime createdAt
+) {
+    /**
+     * 상태 코드(P/C/F/R) → 응답용 상태명
+     */
+    public String statusName() {
+        return switch (status == null ? "" : status) {
+            case "P" -> "PENDING";
+            case "C" -> "COMPLETED";
+            case "F" -> "FAILED";
+            case "R" -> "REFUNDED";
+            default -> status;
+        };
+    }
+}
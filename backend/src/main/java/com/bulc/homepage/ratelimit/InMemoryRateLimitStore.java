@@ -0,0 +1,81 @@
+package com.bulc.homepage.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 로컬 레이트리밋 저장소 (기본).
+ *
+ * <p>키마다 TAT 하나(long)만 {@link AtomicLong} 으로 두고 CAS 로 갱신하므로 락이 없다.
+ * 정책별로 맵을 분리해 정책 간 경합을 없앤다.</p>
+ *
+ * <p>TAT 가 현재 이전인 항목은 버킷이 가득 찬 상태라 지워도 판정이 같다.
+ * {@link #evictExpired()} 는 그런 항목을 {@link #EVICTED} 로 CAS 마킹한 뒤 제거하며,
+ * 마킹된 셀을 잡은 요청은 맵에서 새 셀을 받아 재시도하므로 제거 중에도 한도가 새지 않는다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "bulc.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final Map<String, ConcurrentHashMap<String, AtomicLong>> cellsByPolicy = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimitStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean tryAcquire(RateLimitPolicy policy, String key) {
+        ConcurrentHashMap<String, AtomicLong> cells =
+                cellsByPolicy.computeIfAbsent(policy.name(), p -> new ConcurrentHashMap<>());
+        long interval = policy.intervalNanos();
+        long window = policy.windowNanos();
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            AtomicLong cell = cells.computeIfAbsent(key, k -> new AtomicLong(now));
+            long tat = cell.get();
+            if (tat == EVICTED) {
+                cells.remove(key, cell);
+                continue;
+            }
+            long base = tat - now > 0 ? tat : now;
+            long next = base + interval;
+            if (next - now > window) {
+                return false;
+            }
+            if (cell.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void evictExpired() {
+        long now = nanoClock.getAsLong();
+        for (ConcurrentHashMap<String, AtomicLong> cells : cellsByPolicy.values()) {
+            cells.forEach((key, cell) -> {
+                long tat = cell.get();
+                if (tat != EVICTED && tat - now <= 0 && cell.compareAndSet(tat, EVICTED)) {
+                    cells.remove(key, cell);
+                }
+            });
+        }
+    }
+
+    int size(String policyName) {
+        Map<String, AtomicLong> cells = cellsByPolicy.get(policyName);
+        return cells == null ? 0 : cells.size();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bulc.homepage.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 인스턴스 공유 레이트리밋 저장소 ({@code bulc.rate-limit.store=jdbc}).
+ *
+ * <p>MDP-659: 백엔드를 여러 대로 늘리면 인메모리 한도가 인스턴스마다 따로 적용되므로,
+ * rate_limit_buckets 테이블의 TAT(epoch millis) 한 컬럼을 단일 UPSERT 로 갱신한다.
+ * 판정·소비가 한 문장이라 행 락 구간이 짧고, 갱신 건수 1 = 허용 / 0 = 거부.</p>
+ *
+ * <p>PostgreSQL 의 {@code ON CONFLICT ... DO UPDATE ... WHERE} 를 사용한다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bulc.rate-limit.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO rate_limit_buckets (policy, bucket_key, tat) VALUES (?, ?, ?) "
+                    + "ON CONFLICT (policy, bucket_key) DO UPDATE "
+                    + "SET tat = GREATEST(rate_limit_buckets.tat, ?) + ? "
+                    + "WHERE GREATEST(rate_limit_buckets.tat, ?) + ? - ? <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean tryAcquire(RateLimitPolicy policy, String key) {
+        long now = System.currentTimeMillis();
+        long interval = policy.intervalMillis();
+        long window = policy.windowMillis();
+        try {
+            int updated = jdbcTemplate.update(ACQUIRE_SQL,
+                    policy.name(), key, now + interval,
+                    now, interval,
+                    now, interval, now, window);
+            return updated > 0;
+        } catch (Exception e) {
+            // 저장소 장애로 정상 사용자를 막지 않는다 (fail-open)
+            log.warn("[레이트리밋] 공유 저장소 조회 실패 — 허용 처리: policy={}, error={}",
+                    policy.name(), e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void evictExpired() {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM rate_limit_buckets WHERE tat < ?", System.currentTimeMillis());
+        if (deleted > 0) {
+            log.debug("[레이트리밋] 만료 버킷 {}건 정리", deleted);
+        }
+    }
+}
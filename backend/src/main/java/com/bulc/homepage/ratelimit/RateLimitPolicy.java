@@ -0,0 +1,33 @@
+package com.bulc.homepage.ratelimit;
+
+/**
+ * 확정된 레이트리밋 정책.
+ *
+ * <p>GCRA(Generic Cell Rate Algorithm) 파라미터로 변환해 둔다.
+ * 요청 1건은 TAT(theoretical arrival time)를 {@code intervalNanos} 만큼 밀어내고,
+ * 밀어낸 TAT 가 현재보다 {@code windowNanos} 를 넘게 앞서면 거부한다.
+ * → 최대 {@code limit} 회 버스트 후, {@code window / limit} 마다 1회 회복되는 토큰 버킷과 동일.</p>
+ */
+public record RateLimitPolicy(String name, int limit, long windowNanos) {
+
+    public RateLimitPolicy {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다: " + name);
+        }
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("window 는 0 보다 커야 합니다: " + name);
+        }
+    }
+
+    public long intervalNanos() {
+        return windowNanos / limit;
+    }
+
+    public long windowMillis() {
+        return windowNanos / 1_000_000L;
+    }
+
+    public long intervalMillis() {
+        return Math.max(1L, windowMillis() / limit);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bulc.homepage.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 레이트리밋 설정 ({@code bulc.rate-limit}).
+ *
+ * <p>엔드포인트별 정책을 이름으로 등록하고, 호출부는 {@link RateLimiter#tryAcquire(String, String)}
+ * 에 정책 이름만 넘긴다. 등록되지 않은 정책은 제한하지 않는다(설정 누락으로 API 가 막히지 않도록).</p>
+ *
+ * <pre>
+ * bulc:
+ *   rate-limit:
+ *     store: memory          # memory | jdbc
+ *     policies:
+ *       redeem-claim: { limit: 5, window: 60s }
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    /**
+     * 상태 저장소. memory(기본, 인스턴스 로컬) / jdbc(rate_limit_buckets 공유, 다중 인스턴스 일관).
+     */
+    private String store = "memory";
+
+    /**
+     * 정책 목록. key: 정책 이름, value: 한도 설정
+     */
+    private Map<String, Policy> policies = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+        /**
+         * 윈도우 내 허용 횟수 (버스트 허용량).
+         */
+        private int limit;
+
+        /**
+         * 윈도우 길이. limit 회를 모두 쓰면 window / limit 마다 1회씩 회복된다.
+         */
+        private Duration window = Duration.ofMinutes(1);
+    }
+}
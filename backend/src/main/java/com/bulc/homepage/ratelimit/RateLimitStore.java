@@ -0,0 +1,19 @@
+package com.bulc.homepage.ratelimit;
+
+/**
+ * 레이트리밋 상태 저장소.
+ *
+ * <p>구현체는 {@code bulc.rate-limit.store} 값으로 하나만 등록된다.</p>
+ */
+public interface RateLimitStore {
+
+    /**
+     * 1회 허용 여부를 판정하고, 허용이면 그 자리에서 소비한다 (원자적).
+     */
+    boolean tryAcquire(RateLimitPolicy policy, String key);
+
+    /**
+     * 버킷이 가득 찬(=기록이 없는 것과 같은) 항목 정리.
+     */
+    void evictExpired();
+}
@@ -0,0 +1,59 @@
+package com.bulc.homepage.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공용 레이트리밋 진입점.
+ *
+ * <p>호출부는 정책 이름과 키(사용자 ID, 클라이언트 IP 등)만 넘긴다.
+ * 한도는 {@code bulc.rate-limit.policies} 에서 정책별로 설정하고,
+ * 상태 저장은 {@link RateLimitStore} 구현(memory / jdbc)에 위임한다.</p>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    /** 리딤 코드 사용 (사용자 ID 기준). */
+    public static final String REDEEM_CLAIM = "redeem-claim";
+
+    /** 인증 없는 공개 폼 (클라이언트 IP 기준). */
+    public static final String PUBLIC_FORM = "public-form";
+
+    private final RateLimitStore store;
+    private final Map<String, RateLimitPolicy> policies = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitStore store, RateLimitProperties properties) {
+        this.store = store;
+        properties.getPolicies().forEach((name, p) ->
+                policies.put(name, new RateLimitPolicy(name, p.getLimit(), p.getWindow().toNanos())));
+        log.info("[레이트리밋] store={}, policies={}", properties.getStore(), policies.keySet());
+    }
+
+    /**
+     * 1회 허용 여부. 허용이면 한도를 소비한다.
+     *
+     * @param policyName 정책 이름 (등록되지 않았으면 항상 허용)
+     * @param key        제한 대상 키 (null/blank 면 항상 허용)
+     */
+    public boolean tryAcquire(String policyName, String key) {
+        if (key == null || key.isBlank()) {
+            return true;
+        }
+        RateLimitPolicy policy = policies.get(policyName);
+        if (policy == null) {
+            return true;
+        }
+        return store.tryAcquire(policy, key);
+    }
+
+    /** 만료 버킷 정리 (메모리·테이블 누수 방지). */
+    @Scheduled(fixedRate = 600_000)
+    public void evictExpired() {
+        store.evictExpired();
+    }
+}
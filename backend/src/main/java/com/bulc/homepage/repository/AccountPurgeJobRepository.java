@@ -0,0 +1,57 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.AccountPurgeJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountPurgeJobRepository extends JpaRepository<AccountPurgeJob, Long> {
+
+    /**
+     * 대기 작업 또는 lease 가 끝난(워커가 멈춘) 진행 중 작업을 id 순으로 점유 (FOR UPDATE SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM AccountPurgeJob j WHERE j.status IN ('PENDING', 'RUNNING')"
+            + " AND (j.leaseUntil IS NULL OR j.leaseUntil < :now) ORDER BY j.id")
+    List<AccountPurgeJob> claimDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 청크 삭제 건수 누적 + lease 연장. 점유가 그대로일 때(lease_until 이 내가 건 값)만 반영되며,
+     * 삭제와 같은 트랜잭션에서 호출해 0 이면 롤백한다.
+     */
+    @Modifying
+    @Query("UPDATE AccountPurgeJob j SET j.deletedCount = j.deletedCount + :deleted, j.leaseUntil = :nextLease,"
+            + " j.updatedAt = :now WHERE j.id = :id AND j.leaseUntil = :lease")
+    int recordProgress(@Param("id") Long id,
+                       @Param("deleted") long deleted,
+                       @Param("lease") LocalDateTime lease,
+                       @Param("nextLease") LocalDateTime nextLease,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 점유가 그대로일 때만 상태 전이 (완료·실패·재시도 대기). lease 는 nextLease 로 바꾼다
+     * (NULL 이면 바로, 재시도 대기면 그 시각 이후 다시 점유 가능).
+     */
+    @Modifying
+    @Query("UPDATE AccountPurgeJob j SET j.status = :status, j.lastError = :error, j.completedAt = :completedAt,"
+            + " j.leaseUntil = :nextLease, j.updatedAt = :now WHERE j.id = :id AND j.leaseUntil = :lease")
+    int release(@Param("id") Long id,
+                @Param("lease") LocalDateTime lease,
+                @Param("status") AccountPurgeJob.Status status,
+                @Param("error") String error,
+                @Param("completedAt") LocalDateTime completedAt,
+                @Param("nextLease") LocalDateTime nextLease,
+                @Param("now") LocalDateTime now);
+}
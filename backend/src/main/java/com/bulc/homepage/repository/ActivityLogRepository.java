@@ -2,7 +2,11 @@ package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.ActivityLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,5 +21,22 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
 
     List<ActivityLog> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime after);
 
-    void deleteByUserId(UUID userId);
+    /**
+     * 재가입 정리 cutoff 스냅샷 (idx_activity_logs_user_id 사용, 없으면 0).
+     */
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM ActivityLog a WHERE a.userId = :userId")
+    long findMaxIdByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 재가입 정리: cutoff 이하 로그를 최대 limit 건 삭제 (엔티티 로드 없이 단일 DELETE).
+     * 청크마다 별도 트랜잭션으로 커밋해 행 락·WAL 을 작게 유지한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM activity_logs WHERE id IN ("
+            + "SELECT id FROM activity_logs WHERE user_id = :userId AND id <= :cutoffId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunkByUserId(@Param("userId") UUID userId,
+                            @Param("cutoffId") long cutoffId,
+                            @Param("limit") int limit);
 }
@@ -0,0 +1,19 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.BillingKeyReencryptionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BillingKeyReencryptionJobRepository extends JpaRepository<BillingKeyReencryptionJob, Long> {
+
+    /**
+     * 이어서 진행할 작업 (같은 버전의 가장 최근 미완료 작업).
+     */
+    Optional<BillingKeyReencryptionJob> findFirstByTargetVersionAndStatusNotOrderByIdDesc(
+            String targetVersion, BillingKeyReencryptionJob.Status status);
+
+    Optional<BillingKeyReencryptionJob> findFirstByOrderByIdDesc();
+}
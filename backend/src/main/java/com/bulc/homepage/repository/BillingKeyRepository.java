@@ -1,11 +1,13 @@
 package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.BillingKey;
+import com.bulc.homepage.query.view.BillingKeyView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,4 +52,82 @@ public interface BillingKeyRepository extends JpaRepository<BillingKey, Long> {
      * 사용자에게 활성화된 빌링키가 있는지 확인
      */
     boolean existsByUserIdAndIsActiveTrue(UUID userId);
+
+    /**
+     * 활성 빌링키인지 확인 (복호화 없이)
+     */
+    boolean existsByIdAndIsActiveTrue(Long id);
+
+    /**
+     * 사용자의 활성 빌링키 카드 정보 (기본 결제 수단 먼저, 최신순). billing_key 는 읽지 않는다.
+     */
+    @Query("""
+            SELECT new com.bulc.homepage.query.view.BillingKeyView(
+                b.id, b.userId, b.customerKey, b.cardCompany, b.cardNumber, b.cardType, b.ownerType,
+                b.isDefault, b.createdAt)
+            FROM BillingKey b
+            WHERE b.userId = :userId AND b.isActive = true
+            ORDER BY b.isDefault DESC, b.createdAt DESC, b.id DESC
+            """)
+    List<BillingKeyView> findActiveViewsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 활성 빌링키 카드 정보 단건. billing_key 는 읽지 않는다.
+     */
+    @Query("""
+            SELECT new com.bulc.homepage.query.view.BillingKeyView(
+                b.id, b.userId, b.customerKey, b.cardCompany, b.cardNumber, b.cardType, b.ownerType,
+                b.isDefault, b.createdAt)
+            FROM BillingKey b
+            WHERE b.id = :id AND b.isActive = true
+            """)
+    Optional<BillingKeyView> findActiveViewById(@Param("id") Long id);
+
+    /**
+     * 기본 결제 수단 교체 (단일 UPDATE).
+     * 기존 기본 키 해제와 새 기본 키 설정이 한 문장이라 중간 상태(기본 키 0개/2개)가 보이지 않는다.
+     *
+     * @return 갱신된 행 수 (0 이면 대상 키가 이 사용자의 활성 키가 아님)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE billing_keys
+               SET is_default = (id = :billingKeyId), updated_at = CURRENT_TIMESTAMP
+             WHERE user_id = :userId
+               AND is_active = true
+               AND (is_default = true OR id = :billingKeyId)
+               AND EXISTS (SELECT 1 FROM billing_keys t
+                            WHERE t.id = :billingKeyId AND t.user_id = :userId AND t.is_active = true)
+            """, nativeQuery = true)
+    int swapDefault(@Param("userId") UUID userId, @Param("billingKeyId") Long billingKeyId);
+
+    /**
+     * 빌링키 비활성화 + (기본 키였다면) 남은 최신 키를 기본으로 승격 (단일 문장).
+     * CTE 의 하위 문장은 같은 스냅샷을 보므로 삭제 대상 키는 id 로 제외한다.
+     *
+     * @return 비활성화된 행 수 (0 이면 대상 키가 이 사용자의 활성 키가 아님)
+     */
+    @Transactional
+    @Query(value = """
+            WITH removed AS (
+                UPDATE billing_keys
+                   SET is_active = false, is_default = false, updated_at = CURRENT_TIMESTAMP
+                 WHERE id = :billingKeyId AND user_id = :userId AND is_active = true
+                RETURNING id
+            ), promoted AS (
+                UPDATE billing_keys
+                   SET is_default = true, updated_at = CURRENT_TIMESTAMP
+                 WHERE id = (SELECT n.id FROM billing_keys n
+                              WHERE n.user_id = :userId AND n.is_active = true AND n.id <> :billingKeyId
+                              ORDER BY n.created_at DESC, n.id DESC
+                              LIMIT 1)
+                   AND EXISTS (SELECT 1 FROM removed)
+                   AND NOT EXISTS (SELECT 1 FROM billing_keys d
+                                    WHERE d.user_id = :userId AND d.is_active = true AND d.is_default = true
+                                      AND d.id <> :billingKeyId)
+                RETURNING id
+            )
+            SELECT COUNT(*) FROM removed
+            """, nativeQuery = true)
+    long deactivateAndPromoteNext(@Param("userId") UUID userId, @Param("billingKeyId") Long billingKeyId);
 }
@@ -5,19 +5,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface EmailLogRepository extends JpaRepository<EmailLog, Long> {
 
     /**
-     * MDP-505: 중복 발송 가드용 조회.
-     * 동일 수신자 + 동일 templateKey + 동일 status + 지정 기간 내 발송 이력 존재 여부.
+     * 수신자의 [from, to) 발송 이력 ("오늘 X 에게 보냈는가").
+     * sent_at 범위로 월 파티션이 걸러지고 (recipient_email, sent_at) 인덱스 범위만 읽으므로 전체 이력을 훑지 않는다.
      */
-    boolean existsByRecipientEmailAndTemplateKeyAndStatusAndSentAtBetween(
+    List<EmailLog> findByRecipientEmailAndSentAtGreaterThanEqualAndSentAtLessThanOrderBySentAtDesc(
             String recipientEmail,
-            String templateKey,
-            EmailLog.Status status,
-            LocalDateTime start,
-            LocalDateTime end
+            LocalDateTime from,
+            LocalDateTime to
     );
 }
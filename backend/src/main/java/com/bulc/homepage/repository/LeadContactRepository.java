@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,28 +18,6 @@ public interface LeadContactRepository extends JpaRepository<LeadContact, Long>
 
     boolean existsByEmail(String email);
 
-    /**
-     * 안내성(운영성) 메일 발송 대상 컨택의 이메일 목록.
-     * 미해지(unsubscribedAt IS NULL) + 안내성 수신동의(optInTransactional=true).
-     */
-    @Query("""
-            SELECT lc.email FROM LeadContact lc
-             WHERE lc.unsubscribedAt IS NULL
-               AND lc.optInTransactional = true
-            """)
-    List<String> findActiveTransactionalEmails();
-
-    /**
-     * 광고성 메일 발송 대상 컨택. 미해지 + 광고성 수신동의(optInMarketing=true).
-     * 수신거부 링크에 컨택별 토큰을 넣어야 하므로 엔티티로 반환한다.
-     */
-    @Query("""
-            SELECT lc FROM LeadContact lc
-             WHERE lc.unsubscribedAt IS NULL
-               AND lc.optInMarketing = true
-            """)
-    List<LeadContact> findActiveMarketingContacts();
-
     /**
      * 검색 쿼리. 빈 필터는 '' (빈 문자열)로 전달해야 한다.
      * <p>null 파라미터를 :param IS NULL 로 비교하면 PostgreSQL JDBC가
@@ -0,0 +1,16 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.LeadImportError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LeadImportErrorRepository extends JpaRepository<LeadImportError, Long> {
+
+    /**
+     * 작업의 행 오류 (행 번호 순 페이지).
+     */
+    Page<LeadImportError> findByJobIdOrderByRowNumberAscIdAsc(Long jobId, Pageable pageable);
+}
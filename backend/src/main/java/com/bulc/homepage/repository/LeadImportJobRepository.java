@@ -0,0 +1,14 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.LeadImportJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeadImportJobRepository extends JpaRepository<LeadImportJob, Long> {
+
+    List<LeadImportJob> findAllByOrderByIdDesc(Pageable pageable);
+}
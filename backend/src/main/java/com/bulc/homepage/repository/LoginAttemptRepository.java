@@ -2,8 +2,14 @@ package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.LoginAttempt;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,5 +17,16 @@ public interface LoginAttemptRepository extends JpaRepository<LoginAttempt, Long
 
     Optional<LoginAttempt> findByEmail(String email);
 
-    void deleteByEmail(String email);
+    /**
+     * 재기동 시 잠금 상태 복구용 - 아직 잠금이 유효한 행만 조회.
+     */
+    List<LoginAttempt> findAllByLockedUntilAfter(LocalDateTime now);
+
+    /**
+     * 잠금 해제 반영 (행이 없으면 0건, 엔티티 로드 없이 단일 DELETE).
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LoginAttempt a WHERE a.email = :email")
+    int deleteByEmail(@Param("email") String email);
 }
@@ -0,0 +1,27 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.MailJobRecipient;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailJobRecipientRepository extends JpaRepository<MailJobRecipient, Long> {
+
+    /**
+     * 발송 시각이 된 PENDING 수신자를 id 순으로 점유 (FOR UPDATE SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM MailJobRecipient r WHERE r.status = 'PENDING' AND r.nextAttemptAt <= :now ORDER BY r.id")
+    List<MailJobRecipient> claimDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.MailJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface MailJobRepository extends JpaRepository<MailJob, Long> {
+
+    List<MailJob> findAllByOrderByIdDesc(Pageable pageable);
+}
@@ -2,6 +2,7 @@ package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,4 +26,13 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     @Query("SELECT CASE WHEN COUNT(pd) > 0 THEN true ELSE false END FROM PaymentDetail pd WHERE pd.orderId = :orderId")
     boolean existsByOrderId(@Param("orderId") String orderId);
+
+    /**
+     * 토스 승인 호출 전 orderId 선점. 1 이면 이 요청이 선점, 0 이면 다른 요청이 이미 선점(진행 중 또는 처리됨).
+     * 커밋된 뒤에야 다른 요청에 보이므로 별도 트랜잭션으로 호출한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_order_claims (order_id, user_id, claimed_at) VALUES (:orderId, :userId, now())"
+            + " ON CONFLICT (order_id) DO NOTHING", nativeQuery = true)
+    int claimOrder(@Param("orderId") String orderId, @Param("userId") UUID userId);
 }
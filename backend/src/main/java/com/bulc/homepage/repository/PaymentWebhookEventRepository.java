@@ -0,0 +1,42 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.PaymentWebhookEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    long countByStatus(PaymentWebhookEvent.Status status);
+
+    /**
+     * 재시도 한도를 넘겨 FAILED 로 끝난 이벤트를 다시 대기 상태로 되돌린다 (토스 재전송 수신 시).
+     *
+     * @return 되돌린 건수 (FAILED 가 아니면 0)
+     */
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.status = 'RECEIVED', e.attempts = 0, e.nextAttemptAt = :now, " +
+            "e.lastError = NULL, e.processedAt = NULL WHERE e.dedupKey = :dedupKey AND e.status = 'FAILED'")
+    int rearmFailed(@Param("dedupKey") String dedupKey, @Param("now") LocalDateTime now);
+
+    /**
+     * 처리 시각이 된 RECEIVED 이벤트를 id 순으로 점유 (FOR UPDATE SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM PaymentWebhookEvent e WHERE e.status = 'RECEIVED' AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<PaymentWebhookEvent> claimDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -2,8 +2,12 @@ package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.Promotion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,15 +15,10 @@ import java.util.Optional;
 public interface PromotionRepository extends JpaRepository<Promotion, Long> {
 
     /**
-     * 쿠폰 코드로 조회
+     * 쿠폰 코드로 조회 (코드는 대문자로 정규화되어 저장됨)
      */
     Optional<Promotion> findByCode(String code);
 
-    /**
-     * 쿠폰 코드로 조회 (대소문자 무시)
-     */
-    Optional<Promotion> findByCodeIgnoreCase(String code);
-
     /**
      * 활성화된 프로모션 목록
      */
@@ -41,7 +40,19 @@ public interface PromotionRepository extends JpaRepository<Promotion, Long> {
     boolean existsByCode(String code);
 
     /**
-     * 쿠폰 코드 존재 여부 확인 (대소문자 무시)
+     * 사용 가능한 쿠폰이면 사용 횟수를 1 증가 (조건부 단일 UPDATE — 동시 사용 시에도 한도를 넘지 않음)
+     *
+     * @return 갱신된 행 수 (0 이면 없는 코드·비활성·기간 외·한도 초과)
      */
-    boolean existsByCodeIgnoreCase(String code);
+    @Modifying
+    @Query("""
+            UPDATE Promotion p
+               SET p.usageCount = p.usageCount + 1, p.updatedAt = :now
+             WHERE p.code = :code
+               AND p.isActive = true
+               AND p.validFrom <= :now
+               AND (p.validUntil IS NULL OR p.validUntil >= :now)
+               AND (p.usageLimit IS NULL OR p.usageCount < p.usageLimit)
+            """)
+    int incrementUsageIfAvailable(@Param("code") String code, @Param("now") LocalDateTime now);
 }
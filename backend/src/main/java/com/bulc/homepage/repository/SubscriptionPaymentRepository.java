@@ -1,12 +1,18 @@
 package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.SubscriptionPayment;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,10 +31,30 @@ public interface SubscriptionPaymentRepository extends JpaRepository<Subscriptio
     List<SubscriptionPayment> findPendingByBillingDate(@Param("billingDate") LocalDate billingDate);
 
     /**
-     * 실패한 결제 중 재시도 가능한 항목 조회 (retry_count < 3)
+     * 재시도 시각이 된 실패 결제와, staleBefore 이전에 멈춘 PENDING 재시도를 점유 (FOR UPDATE SKIP LOCKED).
      */
-    @Query("SELECT sp FROM SubscriptionPayment sp WHERE sp.status = 'FAILED' AND sp.retryCount < 3")
-    List<SubscriptionPayment> findRetryablePayments();
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT sp FROM SubscriptionPayment sp WHERE " +
+           "(sp.status = 'FAILED' AND sp.nextAttemptAt <= :now) " +
+           "OR (sp.status = 'PENDING' AND sp.retryCount > 0 AND sp.updatedAt < :staleBefore) " +
+           "ORDER BY sp.nextAttemptAt")
+    List<SubscriptionPayment> claimDueRetries(@Param("now") LocalDateTime now,
+                                              @Param("staleBefore") LocalDateTime staleBefore,
+                                              Pageable pageable);
+
+    /**
+     * 결과 반영용 행 잠금 조회 (같은 건을 두 워커가 동시에 반영하지 않도록).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT sp FROM SubscriptionPayment sp WHERE sp.id = :id")
+    Optional<SubscriptionPayment> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 구독의 특정 결제 주기 이력 조회 (재시도 orderId 는 주기 orderId 에 -R{n} 을 붙인 형태).
+     */
+    Optional<SubscriptionPayment> findFirstBySubscriptionIdAndOrderIdStartingWithOrderByIdDesc(
+            Long subscriptionId, String orderIdPrefix);
 
     /**
      * 특정 구독의 최근 결제 조회
@@ -0,0 +1,9 @@
+package com.bulc.homepage.repository;
+
+import com.bulc.homepage.entity.SubscriptionRenewalRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SubscriptionRenewalRunRepository extends JpaRepository<SubscriptionRenewalRun, Long> {
+}
@@ -1,10 +1,16 @@
 package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.Subscription;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,16 +36,45 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     Optional<Subscription> findByUserIdAndProductCodeAndStatus(UUID userId, String productCode, String status);
 
     /**
-     * 자동 갱신이 설정된 구독 중 결제 예정일이 도래한 구독 조회
+     * 결제 예정일이 도래한 자동 갱신 구독을 id 순으로 한 청크 점유 (FOR UPDATE SKIP LOCKED).
+     * 다른 인스턴스가 잠근 행은 건너뛰므로 여러 워커가 같은 구독을 동시에 잡지 않는다.
      */
-    @Query("SELECT s FROM Subscription s WHERE s.autoRenew = true AND s.status = 'A' AND s.nextBillingDate <= :now")
-    List<Subscription> findDueForRenewal(@Param("now") LocalDateTime now);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM Subscription s WHERE s.autoRenew = true AND s.status = 'A' " +
+           "AND s.nextBillingDate <= :now AND s.id > :afterId ORDER BY s.id")
+    List<Subscription> claimDueForRenewal(@Param("now") LocalDateTime now,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
 
     /**
-     * 만료된 구독 조회 (자동갱신 OFF인 경우)
+     * 종료일이 지난 자동갱신 OFF 구독을 id 순으로 최대 limit 건 만료(E) 처리하고 만료된 id 를 반환.
+     *
+     * 엔티티를 로드하지 않고 UPDATE ... RETURNING 한 문장으로 상태를 바꾸며, 같은 문장에서
+     * 후속 처리용 SUBSCRIPTION_EXPIRED 아웃박스 이벤트도 등록한다 (이미 있으면 무시).
+     * 이벤트 aggregate_id 는 "{구독 id}-{종료일}" 이라 재구독 후 다시 만료돼도 새 이벤트가 등록된다.
+     * 다른 트랜잭션이 잠근 행은 건너뛴다(SKIP LOCKED). 청크마다 별도 트랜잭션으로 커밋한다.
      */
-    @Query("SELECT s FROM Subscription s WHERE s.status = 'A' AND s.endDate < :now AND s.autoRenew = false")
-    List<Subscription> findExpiredWithoutAutoRenew(@Param("now") LocalDateTime now);
+    @Transactional
+    @Query(value = "WITH due AS ("
+            + " SELECT id FROM subscriptions"
+            + " WHERE status = 'A' AND auto_renew = false AND end_date < :now AND id > :afterId"
+            + " ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED),"
+            + " expired AS ("
+            + " UPDATE subscriptions s SET status = 'E', updated_at = :now"
+            + " FROM due WHERE s.id = due.id RETURNING s.id, s.end_date),"
+            + " events AS ("
+            + " INSERT INTO outbox_events (event_type, aggregate_id, payload, status, attempts, next_attempt_at, created_at)"
+            + " SELECT 'SUBSCRIPTION_EXPIRED',"
+            + " CAST(id AS VARCHAR) || '-' || CAST(CAST(end_date AS DATE) AS VARCHAR),"
+            + " CAST(json_build_object('subscriptionId', id, 'endDate', end_date) AS TEXT),"
+            + " 'PENDING', 0, :now, :now FROM expired"
+            + " ON CONFLICT (event_type, aggregate_id) DO NOTHING)"
+            + " SELECT id FROM expired ORDER BY id",
+            nativeQuery = true)
+    List<Long> expireChunkWithoutAutoRenew(@Param("now") LocalDateTime now,
+                                           @Param("afterId") long afterId,
+                                           @Param("limit") int limit);
 
     /**
      * 특정 빌링키를 사용하는 구독 목록 조회
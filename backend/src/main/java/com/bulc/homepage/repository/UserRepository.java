@@ -2,9 +2,10 @@ package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,11 +16,18 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsByEmail(String email);
 
-    /** 활성 사용자 전체 조회 (운영성 메일 일괄 발송용). */
-    List<User> findAllByIsActiveTrue();
-
-    /** 광고성 메일 발송 대상 — 활성 + 마케팅 수신동의 회원. */
-    List<User> findAllByIsActiveTrueAndMarketingAgreedTrue();
+    /**
+     * 광고성 메일 발송 전, 토큰이 없는 활성 + 마케팅 수신동의 회원(레거시)에게 수신거부 토큰을 일괄 발급.
+     *
+     * @return 토큰을 발급한 회원 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE users SET unsubscribe_token = gen_random_uuid()::text
+             WHERE is_active = true AND marketing_agreed = true
+               AND (unsubscribe_token IS NULL OR unsubscribe_token = '')
+            """, nativeQuery = true)
+    int backfillMarketingUnsubscribeTokens();
 
     /** 수신거부 토큰으로 회원 조회 (광고성 메일 수신거부 링크 처리용). */
     Optional<User> findByUnsubscribeToken(String unsubscribeToken);
@@ -2,6 +2,9 @@ package com.bulc.homepage.repository;
 
 import com.bulc.homepage.entity.UserSocialAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,5 +19,10 @@ public interface UserSocialAccountRepository extends JpaRepository<UserSocialAcc
 
     Optional<UserSocialAccount> findByUserIdAndProvider(UUID userId, String provider);
 
-    void deleteByUserId(UUID userId);
+    /**
+     * 사용자 소셜 연동 일괄 삭제 (엔티티 로드 없이 단일 DELETE).
+     */
+    @Modifying
+    @Query("DELETE FROM UserSocialAccount s WHERE s.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
 }
@@ -0,0 +1,31 @@
+package com.bulc.homepage.scheduler;
+
+import com.bulc.homepage.service.EmailLogPartitionMaintainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * email_log 파티션 관리 스케줄러.
+ *
+ * 매일 03:30 다음 달 파티션 생성 + 보존 기간 지난 파티션·중복 방지 키 삭제.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailLogMaintenanceScheduler {
+
+    private final EmailLogPartitionMaintainer partitionMaintainer;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void maintainPartitions() {
+        try {
+            partitionMaintainer.maintain(LocalDate.now());
+        } catch (Exception e) {
+            log.error("email_log 파티션 관리 스케줄러 오류: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,11 +1,6 @@
 package com.bulc.homepage.scheduler;
 
-import com.bulc.homepage.entity.User;
-import com.bulc.homepage.licensing.domain.License;
-import com.bulc.homepage.licensing.domain.LicensePlan;
-import com.bulc.homepage.licensing.repository.LicensePlanRepository;
-import com.bulc.homepage.licensing.repository.LicenseRepository;
-import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.entity.MailJob;
 import com.bulc.homepage.service.OperationalMailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,18 +11,16 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Optional;
 
 /**
  * MDP-496 라이선스 만료 임박 알림 스케줄러.
  *
  * 매일 KST 09:00 실행. ACTIVE USER 라이선스 중 valid_until 이
- * D-30 (정확히 30일 후 날짜) 또는 D-7 (정확히 7일 후 날짜)에 해당하는 건에 대해
- * OperationalMailService 로 알림 발송.
+ * D-30 (정확히 30일 후 날짜) 또는 D-7 (정확히 7일 후 날짜)에 해당하는 건을
+ * OperationalMailService 로 대량 메일 큐에 등록한다 (발송은 MailDispatchEngine 이 비동기로).
  *
- * 중복 발송 가드는 후속 이슈로 미룸 (현재는 매일 단일 회 실행 가정).
+ * 대상 선정과 중복 방지는 INSERT ... SELECT 한 문장 — 대상 수와 무관하게 스케줄러 스레드는 곧바로 끝난다.
+ * 중복 방지 키 (license_expiry:{userId}:{오늘}) 예약 덕분에 재실행·다중 인스턴스에서도 회원당 하루 한 통.
  */
 @Slf4j
 @Component
@@ -36,9 +29,6 @@ public class LicenseExpiryNotificationScheduler {
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-    private final LicenseRepository licenseRepository;
-    private final LicensePlanRepository licensePlanRepository;
-    private final UserRepository userRepository;
     private final OperationalMailService operationalMailService;
 
     @Value("${mail.site-url:https://bulc.msimul.com}")
@@ -56,46 +46,17 @@ public class LicenseExpiryNotificationScheduler {
     }
 
     private void notifyForDaysAhead(int daysAhead) {
-        LocalDate target = LocalDate.now(KST).plusDays(daysAhead);
+        LocalDate today = LocalDate.now(KST);
+        LocalDate target = today.plusDays(daysAhead);
         Instant start = target.atStartOfDay(KST).toInstant();
         Instant end = target.plusDays(1).atStartOfDay(KST).toInstant();
 
-        List<License> licenses = licenseRepository
-                .findActiveUserLicensesExpiringBetween(start, end);
-        if (licenses.isEmpty()) {
-            return;
+        try {
+            MailJob job = operationalMailService.enqueueLicenseExpiryNotices(
+                    today, target, start, end, siteUrl + "/payment");
+            log.info("라이선스 만료 D-{} 알림 등록: jobId={}, 대상={}명", daysAhead, job.getId(), job.getTotalCount());
+        } catch (Exception e) {
+            log.error("라이선스 만료 D-{} 알림 등록 실패 (재실행 시 미예약 대상만 등록): {}", daysAhead, e.getMessage(), e);
         }
-
-        String renewUrl = siteUrl + "/payment";
-        int sent = 0;
-        for (License license : licenses) {
-            try {
-                Optional<User> userOpt = userRepository.findById(license.getOwnerId());
-                if (userOpt.isEmpty()) continue;
-                User user = userOpt.get();
-                if (!Boolean.TRUE.equals(user.getIsActive())) continue;
-
-                String planName = resolvePlanName(license);
-                LocalDate validUntil = license.getValidUntil().atZone(KST).toLocalDate();
-                long daysRemaining = ChronoUnit.DAYS.between(LocalDate.now(KST), validUntil);
-
-                operationalMailService.sendLicenseExpiryNotice(
-                        user.getEmail(), planName, validUntil, daysRemaining, renewUrl);
-                sent++;
-            } catch (Exception e) {
-                log.warn("라이선스 만료 알림 발송 실패 license={} 사유={}",
-                        license.getId(), e.getMessage());
-            }
-        }
-        log.info("라이선스 만료 D-{} 알림 발송: 대상={}건, 성공={}건",
-                daysAhead, licenses.size(), sent);
-    }
-
-    private String resolvePlanName(License license) {
-        if (license.getPlanId() == null) return "BUL:C";
-        return licensePlanRepository.findById(license.getPlanId())
-                .map(LicensePlan::getName)
-                .filter(n -> n != null && !n.isBlank())
-                .orElse("BUL:C");
     }
 }
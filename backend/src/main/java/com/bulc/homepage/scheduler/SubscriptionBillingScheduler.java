@@ -1,6 +1,7 @@
 package com.bulc.homepage.scheduler;
 
 import com.bulc.homepage.service.SubscriptionBillingService;
+import com.bulc.homepage.service.SubscriptionRenewalEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,7 +12,7 @@ import org.springframework.stereotype.Component;
  *
  * 주요 기능:
  * 1. 갱신 대상 구독 결제 처리 (매일 오전 9시)
- * 2. 실패한 결제 재시도 (매일 오후 2시, 6시)
+ * 2. 실패한 결제 재시도 (1분마다 재시도 시각이 된 건만)
  * 3. 만료된 구독 처리 (매일 자정)
  */
 @Component
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class SubscriptionBillingScheduler {
 
     private final SubscriptionBillingService subscriptionBillingService;
+    private final SubscriptionRenewalEngine subscriptionRenewalEngine;
 
     /**
      * 갱신 대상 구독 결제 처리
@@ -29,7 +31,7 @@ public class SubscriptionBillingScheduler {
     public void processDueSubscriptions() {
         log.info("===== 구독 갱신 결제 스케줄러 시작 =====");
         try {
-            subscriptionBillingService.processDueSubscriptions();
+            subscriptionRenewalEngine.runDueRenewals();
         } catch (Exception e) {
             log.error("구독 갱신 결제 스케줄러 오류: {}", e.getMessage(), e);
         }
@@ -38,17 +40,15 @@ public class SubscriptionBillingScheduler {
 
     /**
      * 실패한 결제 재시도
-     * 매일 오후 2시, 6시 실행
+     * 1분마다 next_attempt_at 이 지난 건을 점유해 청구 (실패 분류별 지수 백오프)
      */
-    @Scheduled(cron = "0 0 14,18 * * *")
+    @Scheduled(fixedDelay = 60_000)
     public void retryFailedPayments() {
-        log.info("===== 결제 재시도 스케줄러 시작 =====");
         try {
-            subscriptionBillingService.retryFailedPayments();
+            subscriptionRenewalEngine.runDueRetries();
         } catch (Exception e) {
             log.error("결제 재시도 스케줄러 오류: {}", e.getMessage(), e);
         }
-        log.info("===== 결제 재시도 스케줄러 종료 =====");
     }
 
     /**
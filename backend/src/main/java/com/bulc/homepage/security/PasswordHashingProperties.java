@@ -0,0 +1,39 @@
+package com.bulc.homepage.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정 ({@code bulc.password}).
+ */
+@Component
+@ConfigurationProperties(prefix = "bulc.password")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost (log2 rounds). 올리면 기존 해시는 다음 로그인 때 재해싱된다.
+     * 값 선정은 src/jmh 의 PasswordHashingBenchmark 로 측정한다.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해싱 전용 워커 수. 0 이면 CPU 코어 수.
+     */
+    private int poolSize = 0;
+
+    /**
+     * 워커 대기열 상한. 초과 시 즉시 거부(503)해 Tomcat 스레드가 쌓이지 않게 한다.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 대기 + 해싱 전체 허용 시간.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,139 @@
+package com.bulc.homepage.security;
+
+import com.bulc.homepage.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱/검증 전용 서비스.
+ *
+ * <p>BCrypt 는 CPU 를 오래 점유하므로 Tomcat 요청 스레드에서 직접 돌리지 않고,
+ * 코어 수만큼의 전용 워커 풀(대기열 상한 있음)에서 실행한다. 로그인 폭주 시에도
+ * 동시에 해싱하는 스레드 수가 고정되어 라이선스 heartbeat 등 I/O 요청이 CPU 를 받을 수 있고,
+ * 대기열이 차면 {@link PasswordHashingBusyException} 으로 즉시 거부한다.</p>
+ *
+ * <p>{@link #needsRehash(String)} 가 true 인 해시는 로그인 성공 시 현재 cost 로 재해싱한다
+ * (bulc.password.bcrypt-strength 상향 시 점진 업그레이드).</p>
+ *
+ * <p>메트릭: {@code bulc.password.hash} (op=encode|matches, 실행 시간),
+ * {@code bulc.password.hash.queue} (대기 시간), {@code bulc.password.hash.rejected}.</p>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = properties.getTimeout().toMillis();
+
+        int poolSize = properties.getPoolSize() > 0
+                ? properties.getPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "pw-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("bulc.password.hash").tag("op", "encode")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.matchesTimer = Timer.builder("bulc.password.hash").tag("op", "matches")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.queueTimer = Timer.builder("bulc.password.hash.queue")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.rejectedCounter = Counter.builder("bulc.password.hash.rejected").register(meterRegistry);
+
+        log.info("[비밀번호 해싱] 전용 풀 {}스레드, 대기열 {}, bcrypt cost {}",
+                poolSize, properties.getQueueCapacity(), properties.getBcryptStrength());
+    }
+
+    /**
+     * 평문 비밀번호 해싱 (전용 풀에서 실행, 완료까지 대기).
+     */
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (전용 풀에서 실행, 완료까지 대기).
+     * 저장된 해시가 없으면(소셜 전용 계정 등) 해싱 없이 false.
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isBlank()) {
+            return false;
+        }
+        return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 현재 cost 보다 낮은 해시인지 (로그인 성공 직후 재해싱 판단용).
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return encodedPassword != null && !encodedPassword.isBlank()
+                && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer timer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[비밀번호 해싱] 대기열 포화로 거부 (active={}, queued={})",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new PasswordHashingBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 처리 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
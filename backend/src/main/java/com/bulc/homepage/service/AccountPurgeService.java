@@ -0,0 +1,153 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.AccountPurgeJob;
+import com.bulc.homepage.repository.AccountPurgeJobRepository;
+import com.bulc.homepage.repository.ActivityLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비활성 계정 재가입 시 이전 계정 이력 정리.
+ *
+ * <p>재가입 요청에서는 {@link #schedule(UUID)} 로 작업 행만 남기고(재가입 트랜잭션과 함께 커밋),
+ * 실제 activity_logs 삭제는 스케줄러가 {@link #CHUNK_SIZE} 건씩 별도 트랜잭션으로 수행한다.
+ * 이력이 수십만 건이어도 재가입 응답 시간은 일정하다.</p>
+ *
+ * <p>삭제 범위는 재가입 시점의 최대 id(cutoff) 이하로 고정되므로, 재가입 직후 기록되는
+ * 로그(signup 등)는 지워지지 않는다. 작업은 멱등이라 중단·재시작에도 안전하다.</p>
+ *
+ * <p>인스턴스가 여러 대여도 작업은 한 워커만 처리한다. 작업을 SKIP LOCKED 로 점유해 {@link #LEASE} 를 걸고,
+ * 청크 삭제와 deleted_count 누적·lease 연장은 lease 가 그대로일 때만 함께 커밋된다.
+ * 워커가 멈추면 lease 가 끝난 뒤 다른 워커가 이어서 처리한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountPurgeService {
+
+    static final int CHUNK_SIZE = 5_000;
+    static final int MAX_ATTEMPTS = 5;
+    static final int MAX_JOBS_PER_RUN = 20;
+    static final Duration LEASE = Duration.ofMinutes(2);
+    static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final AccountPurgeJobRepository purgeJobRepository;
+    private final ActivityLogRepository activityLogRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 이전 계정 이력 정리 예약. 호출 트랜잭션에 참여한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(UUID userId) {
+        long cutoffId = activityLogRepository.findMaxIdByUserId(userId);
+        if (cutoffId == 0) {
+            return;
+        }
+        purgeJobRepository.save(AccountPurgeJob.builder()
+                .userId(userId)
+                .activityLogCutoffId(cutoffId)
+                .build());
+        log.info("재가입 이력 정리 예약 - userId: {}, cutoffId: {}", userId, cutoffId);
+    }
+
+    /**
+     * 대기 중인 정리 작업 처리 (5초 간격). 한 주기에 최대 {@link #MAX_JOBS_PER_RUN} 건.
+     */
+    @Scheduled(fixedDelay = 5_000)
+    public void processPendingJobs() {
+        for (int i = 0; i < MAX_JOBS_PER_RUN; i++) {
+            AccountPurgeJob job = claimNext();
+            if (job == null) {
+                return;
+            }
+            run(job);
+        }
+    }
+
+    /**
+     * 작업 하나를 SKIP LOCKED 로 점유하고 lease 를 건 뒤 바로 커밋한다.
+     */
+    AccountPurgeJob claimNext() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = now();
+            List<AccountPurgeJob> due = purgeJobRepository.claimDue(now, PageRequest.of(0, 1));
+            if (due.isEmpty()) {
+                return null;
+            }
+            AccountPurgeJob job = due.get(0);
+            job.setStatus(AccountPurgeJob.Status.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setLeaseUntil(now.plus(LEASE));
+            return purgeJobRepository.save(job);
+        });
+    }
+
+    /**
+     * 청크마다 삭제와 건수 누적·lease 연장을 한 트랜잭션으로 커밋한다.
+     * 점유를 잃으면(lease 만료 후 다른 인스턴스가 가져감) 그 청크는 롤백하고 손을 뗀다.
+     */
+    void run(AccountPurgeJob job) {
+        LocalDateTime lease = job.getLeaseUntil();
+        try {
+            int deleted;
+            do {
+                LocalDateTime currentLease = lease;
+                LocalDateTime nextLease = now().plus(LEASE);
+                Integer result = transactionTemplate.execute(status -> {
+                    int count = activityLogRepository.deleteChunkByUserId(
+                            job.getUserId(), job.getActivityLogCutoffId(), CHUNK_SIZE);
+                    if (purgeJobRepository.recordProgress(job.getId(), count, currentLease, nextLease, now()) == 0) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return count;
+                });
+                if (result == null) {
+                    log.warn("재가입 이력 정리 점유 상실 - jobId: {} (다른 인스턴스가 이어서 처리)", job.getId());
+                    return;
+                }
+                deleted = result;
+                lease = nextLease;
+            } while (deleted == CHUNK_SIZE);
+
+            release(job, lease, AccountPurgeJob.Status.COMPLETED, null, now(), null);
+            log.info("재가입 이력 정리 완료 - jobId: {}, userId: {}", job.getId(), job.getUserId());
+        } catch (Exception e) {
+            boolean giveUp = job.getAttempts() >= MAX_ATTEMPTS;
+            try {
+                // 재시도는 RETRY_DELAY 뒤 점유 가능하도록 lease 를 그만큼 남겨 둔다
+                release(job, lease, giveUp ? AccountPurgeJob.Status.FAILED : AccountPurgeJob.Status.RUNNING,
+                        e.getMessage(), null, giveUp ? null : now().plus(RETRY_DELAY));
+            } catch (Exception releaseError) {
+                // lease 가 끝나면 다시 점유된다
+                log.warn("재가입 이력 정리 실패 기록 실패 - jobId: {}, error: {}", job.getId(), releaseError.getMessage());
+            }
+            log.error("재가입 이력 정리 실패 - jobId: {}, 시도: {}회, error: {}",
+                    job.getId(), job.getAttempts(), e.getMessage());
+        }
+    }
+
+    private void release(AccountPurgeJob job, LocalDateTime lease, AccountPurgeJob.Status status,
+                         String error, LocalDateTime completedAt, LocalDateTime nextLease) {
+        transactionTemplate.execute(tx ->
+                purgeJobRepository.release(job.getId(), lease, status, error, completedAt, nextLease, now()));
+    }
+
+    /** lease 비교용 — DB TIMESTAMP 정밀도에 맞춰 잘라 둔다. */
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+}
@@ -11,6 +11,7 @@ import com.bulc.homepage.entity.SignupTicket;
 import com.bulc.homepage.entity.User;
 import com.bulc.homepage.entity.UserSocialAccount;
 import com.bulc.homepage.exception.DeactivatedAccountException;
+import com.bulc.homepage.exception.PasswordHashingBusyException;
 import com.bulc.homepage.licensing.domain.OwnerType;
 import com.bulc.homepage.licensing.domain.UsageCategory;
 import com.bulc.homepage.licensing.service.LicenseService;
@@ -19,14 +20,11 @@ import com.bulc.homepage.repository.RefreshTokenRepository;
 import com.bulc.homepage.repository.UserRepository;
 import com.bulc.homepage.repository.UserSocialAccountRepository;
 import com.bulc.homepage.security.JwtTokenProvider;
+import com.bulc.homepage.security.PasswordHashingService;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,9 +44,9 @@ public class AuthService {
     private final SignupTicketService signupTicketService;
     private final LicenseService licenseService;
     private final LoginAttemptService loginAttemptService;
-    private final PasswordEncoder passwordEncoder;
+    private final AccountPurgeService accountPurgeService;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
 
     private static final String TRIAL_PLAN_CODE = "BULC-TRIAL-14D";
 
@@ -81,8 +79,8 @@ public class AuthService {
             // 비활성화된 계정인 경우 재활성화 (라이선스는 기존 것 유지)
             if (!existingUser.getIsActive()) {
                 log.info("비활성화된 계정 재활성화 처리: {}", email);
-                // 관련 데이터 정리
-                activityLogRepository.deleteByUserId(existingUser.getId());
+                // 관련 데이터 정리 (활동 로그는 요청 경로 밖에서 청크 삭제)
+                accountPurgeService.schedule(existingUser.getId());
                 refreshTokenRepository.deleteAllByUserId(existingUser.getId());
                 // 소셜 계정 삭제
                 socialAccountRepository.deleteByUserId(existingUser.getId());
@@ -90,7 +88,7 @@ public class AuthService {
                 // 기존 사용자 정보 초기화 및 재활성화
                 existingUser.setName(null);
                 existingUser.setPhone(null);
-                existingUser.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+                existingUser.setPasswordHash(passwordHashingService.encode(request.getPassword()));
                 existingUser.setEmailVerified(true);
                 existingUser.setEmailVerifiedAt(LocalDateTime.now());
                 existingUser.setIsActive(true);
@@ -111,7 +109,7 @@ public class AuthService {
             String normalizedLang = normalizeLanguage(request.getLanguage());
             User.UserBuilder builder = User.builder()
                     .email(email)
-                    .passwordHash(passwordEncoder.encode(request.getPassword()))
+                    .passwordHash(passwordHashingService.encode(request.getPassword()))
                     .emailVerified(true)
                     .emailVerifiedAt(LocalDateTime.now())
                     .rolesCode("002")  // 기본값: 일반 사용자
@@ -187,17 +185,32 @@ public class AuthService {
             throw new RuntimeException(AUTH_FAILURE_MESSAGE);
         }
 
-        try {
-            // 인증 (비밀번호 확인) - userId를 username으로 사용
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(user.getId().toString(), password)
-            );
-            return user;
-        } catch (org.springframework.security.authentication.BadCredentialsException e) {
+        // 비밀번호 확인 (전용 해싱 풀에서 실행)
+        if (!passwordHashingService.matches(password, user.getPasswordHash())) {
             log.warn("인증 실패 - 비밀번호 오류, 이메일: {}", email);
             // 보안: 비밀번호 오류와 이메일 미존재를 구분하지 않음
             throw new RuntimeException(AUTH_FAILURE_MESSAGE);
         }
+
+        rehashIfNeeded(user, password);
+        return user;
+    }
+
+    /**
+     * 저장된 해시가 현재 BCrypt cost 보다 낮으면 로그인 성공 시점에 재해싱.
+     * 실패해도 로그인은 진행한다 (다음 로그인 때 재시도).
+     */
+    private void rehashIfNeeded(User user, String password) {
+        if (!passwordHashingService.needsRehash(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            user.setPasswordHash(passwordHashingService.encode(password));
+            userRepository.save(user);
+            log.info("비밀번호 해시 cost 업그레이드 - userId: {}", user.getId());
+        } catch (Exception e) {
+            log.warn("비밀번호 재해싱 실패 (로그인은 계속) - userId: {}, error: {}", user.getId(), e.getMessage());
+        }
     }
 
     @Transactional
@@ -238,6 +251,9 @@ public class AuthService {
                             .language(user.getLanguageCode())
                             .build())
                     .build();
+        } catch (PasswordHashingBusyException e) {
+            // 서버 포화 - 사용자의 실패가 아니므로 실패 횟수에 포함하지 않음
+            throw e;
         } catch (RuntimeException e) {
             // 로그인 실패 → 실패 횟수 기록
             loginAttemptService.recordFailure(request.getEmail());
@@ -473,15 +489,15 @@ public class AuthService {
             // 비활성화된 계정이면 재활성화 (라이선스는 기존 것 유지)
             if (!existingUser.getIsActive()) {
                 log.info("비활성화된 계정 재활성화 후 OAuth 재가입 처리: {}", email);
-                // 관련 데이터 정리
-                activityLogRepository.deleteByUserId(existingUser.getId());
+                // 관련 데이터 정리 (활동 로그는 요청 경로 밖에서 청크 삭제)
+                accountPurgeService.schedule(existingUser.getId());
                 refreshTokenRepository.deleteAllByUserId(existingUser.getId());
                 socialAccountRepository.deleteByUserId(existingUser.getId());
 
                 // 기존 사용자 정보 초기화 및 재활성화
                 existingUser.setName(request.getName());
                 existingUser.setPhone(request.getPhone());
-                existingUser.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+                existingUser.setPasswordHash(passwordHashingService.encode(request.getPassword()));
                 existingUser.setIsActive(true);
                 existingUser.setDeactivatedAt(null);
                 existingUser.setCreatedAt(LocalDateTime.now());
@@ -501,7 +517,7 @@ public class AuthService {
                     : "KR";
             user = User.builder()
                     .email(email)
-                    .passwordHash(passwordEncoder.encode(request.getPassword()))
+                    .passwordHash(passwordHashingService.encode(request.getPassword()))
                     .name(request.getName())
                     .phone(request.getPhone())
                     .rolesCode("002")  // 일반 사용자
@@ -4,6 +4,7 @@ import com.bulc.homepage.config.TossPaymentsConfig;
 import com.bulc.homepage.dto.request.BillingKeyIssueRequest;
 import com.bulc.homepage.dto.response.BillingKeyResponse;
 import com.bulc.homepage.entity.BillingKey;
+import com.bulc.homepage.query.view.BillingKeyView;
 import com.bulc.homepage.repository.BillingKeyRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
@@ -31,6 +33,7 @@ public class BillingKeyService {
     private final TossPaymentsConfig tossPaymentsConfig;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
+    private final BillingKeyViewCache viewCache;
 
     private static final String BILLING_AUTH_URL = "https://api.tosspayments.com/v1/billing/authorizations/issue";
     private static final String BILLING_PAYMENT_URL = "https://api.tosspayments.com/v1/billing";
@@ -93,6 +96,7 @@ public class BillingKeyService {
                         .build();
 
                 billingKey = billingKeyRepository.save(billingKey);
+                viewCache.evictAfterCommit(userId);
                 log.info("빌링키 발급 성공: id={}, cardNumber={}", billingKey.getId(), billingKey.getCardNumber());
 
                 return toBillingKeyResponse(billingKey);
@@ -106,9 +110,13 @@ public class BillingKeyService {
     }
 
     /**
-     * 빌링키로 결제 요청
+     * 빌링키로 결제 요청.
+     *
+     * 자체 트랜잭션을 열지 않는다(호출자 트랜잭션이 있으면 참여). 구독 갱신 엔진은 트랜잭션 밖에서 호출해
+     * 토스 응답을 기다리는 동안 DB 커넥션을 붙잡지 않는다.
+     * orderId 를 Idempotency-Key 로 보내므로 같은 orderId 재요청은 토스가 기존 결과를 돌려준다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> requestBillingPayment(Long billingKeyId, String orderId, String orderName,
                                                       int amount, UUID userId) {
         log.info("빌링 결제 요청: billingKeyId={}, orderId={}, amount={}", billingKeyId, orderId, amount);
@@ -122,6 +130,7 @@ public class BillingKeyService {
 
         HttpHeaders headers = createAuthHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("Idempotency-Key", orderId);
 
         Map<String, Object> body = new HashMap<>();
         body.put("customerKey", billingKey.getCustomerKey());
@@ -152,79 +161,74 @@ public class BillingKeyService {
             }
         } catch (Exception e) {
             log.error("빌링 결제 오류: {}", e.getMessage(), e);
-            throw new RuntimeException("빌링 결제 중 오류가 발생했습니다: " + e.getMessage());
+            throw new RuntimeException("빌링 결제 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
     /**
-     * 사용자의 빌링키 목록 조회
+     * 사용자의 빌링키 목록 조회 (카드 정보 캐시 — 복호화 없음)
      */
-    @Transactional(readOnly = true)
     public List<BillingKeyResponse> getUserBillingKeys(UUID userId) {
-        return billingKeyRepository.findByUserIdAndIsActiveTrue(userId)
-                .stream()
+        return viewCache.get(userId).stream()
                 .map(this::toBillingKeyResponse)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 기본 결제 수단 변경
+     * 기본 결제 수단 변경 (단일 UPDATE 로 교체)
      */
     @Transactional
     public BillingKeyResponse setDefaultBillingKey(Long billingKeyId, UUID userId) {
-        BillingKey billingKey = billingKeyRepository.findByIdAndIsActiveTrue(billingKeyId)
-                .orElseThrow(() -> new RuntimeException("빌링키를 찾을 수 없습니다."));
+        BillingKeyView billingKey = requireOwnedKey(billingKeyId, userId);
 
-        if (!billingKey.getUserId().equals(userId)) {
-            throw new RuntimeException("빌링키 접근 권한이 없습니다.");
+        if (billingKeyRepository.swapDefault(userId, billingKeyId) == 0) {
+            throw new RuntimeException("빌링키를 찾을 수 없습니다.");
         }
-
-        // 기존 기본 결제 수단 해제
-        billingKeyRepository.unsetDefaultByUserId(userId);
-
-        // 새 기본 결제 수단 설정
-        billingKey.setAsDefault();
-        billingKeyRepository.save(billingKey);
+        viewCache.evictAfterCommit(userId);
 
         log.info("기본 결제 수단 변경: billingKeyId={}", billingKeyId);
-        return toBillingKeyResponse(billingKey);
+        return toBillingKeyResponse(billingKey.asDefault());
     }
 
     /**
-     * 빌링키 삭제 (비활성화)
+     * 빌링키 삭제 (비활성화). 기본 결제 수단이었다면 남은 최신 카드를 같은 문장에서 기본으로 설정.
      */
     @Transactional
     public void deleteBillingKey(Long billingKeyId, UUID userId) {
-        BillingKey billingKey = billingKeyRepository.findByIdAndIsActiveTrue(billingKeyId)
-                .orElseThrow(() -> new RuntimeException("빌링키를 찾을 수 없습니다."));
+        requireOwnedKey(billingKeyId, userId);
 
-        if (!billingKey.getUserId().equals(userId)) {
-            throw new RuntimeException("빌링키 접근 권한이 없습니다.");
-        }
-
-        billingKey.deactivate();
-        billingKeyRepository.save(billingKey);
-
-        // 만약 기본 결제 수단이었다면 다른 활성 카드를 기본으로 설정
-        List<BillingKey> remainingKeys = billingKeyRepository.findByUserIdAndIsActiveTrue(userId);
-        if (!remainingKeys.isEmpty() && remainingKeys.stream().noneMatch(BillingKey::getIsDefault)) {
-            remainingKeys.get(0).setAsDefault();
-            billingKeyRepository.save(remainingKeys.get(0));
+        if (billingKeyRepository.deactivateAndPromoteNext(userId, billingKeyId) == 0) {
+            throw new RuntimeException("빌링키를 찾을 수 없습니다.");
         }
+        viewCache.evictAfterCommit(userId);
 
         log.info("빌링키 삭제: billingKeyId={}", billingKeyId);
     }
 
     /**
-     * 기본 결제 수단 조회
+     * 기본 결제 수단 조회 (카드 정보 캐시 — 복호화 없음)
      */
-    @Transactional(readOnly = true)
     public BillingKeyResponse getDefaultBillingKey(UUID userId) {
-        return billingKeyRepository.findByUserIdAndIsDefaultTrueAndIsActiveTrue(userId)
+        return viewCache.get(userId).stream()
+                .filter(key -> Boolean.TRUE.equals(key.isDefault()))
+                .findFirst()
                 .map(this::toBillingKeyResponse)
                 .orElse(null);
     }
 
+    /**
+     * 변경 대상 키 검증은 캐시가 아닌 DB 기준 (billing_key 는 읽지 않음)
+     */
+    private BillingKeyView requireOwnedKey(Long billingKeyId, UUID userId) {
+        BillingKeyView billingKey = billingKeyRepository.findActiveViewById(billingKeyId)
+                .orElseThrow(() -> new RuntimeException("빌링키를 찾을 수 없습니다."));
+
+        if (!billingKey.userId().equals(userId)) {
+            throw new RuntimeException("빌링키 접근 권한이 없습니다.");
+        }
+        return billingKey;
+    }
+
     private HttpHeaders createAuthHeaders() {
         HttpHeaders headers = new HttpHeaders();
         String credentials = tossPaymentsConfig.getSecretKey() + ":";
@@ -244,4 +248,16 @@ public class BillingKeyService {
                 .createdAt(billingKey.getCreatedAt())
                 .build();
     }
+
+    private BillingKeyResponse toBillingKeyResponse(BillingKeyView billingKey) {
+        return BillingKeyResponse.builder()
+                .id(billingKey.id())
+                .cardCompany(billingKey.cardCompany())
+                .cardNumber(billingKey.cardNumber())
+                .cardType(billingKey.cardType())
+                .ownerType(billingKey.ownerType())
+                .isDefault(billingKey.isDefault())
+                .createdAt(billingKey.createdAt())
+                .build();
+    }
 }
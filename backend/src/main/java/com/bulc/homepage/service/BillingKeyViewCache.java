@@ -0,0 +1,63 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.query.view.BillingKeyView;
+import com.bulc.homepage.repository.BillingKeyRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사용자별 활성 빌링키 목록(카드 정보) 캐시.
+ *
+ * <p>빌링키 원문은 담지 않는다 — {@link BillingKeyView} 는 billing_key 컬럼을 읽지 않는 프로젝션이라
+ * 목록·기본 결제 수단 조회에서 AES-GCM 복호화가 일어나지 않는다. 원문은 결제 요청 시에만 복호화된다.
+ * 변경(발급·기본 변경·삭제)은 커밋 후 무효화하고, 다른 인스턴스의 변경은 TTL 로 반영된다.</p>
+ */
+@Component
+public class BillingKeyViewCache {
+
+    /** 캐시하는 사용자 수 상한 — 넘으면 만료 항목 정리 후 자리가 없으면 DB 조회 결과를 캐시하지 않는다 */
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final BillingKeyRepository billingKeyRepository;
+    private final TtlCache<UUID, List<BillingKeyView>> cache;
+
+    @Autowired
+    public BillingKeyViewCache(BillingKeyRepository billingKeyRepository,
+                               @Value("${bulc.billing.key-view-cache-ttl:60s}") Duration ttl) {
+        this(billingKeyRepository, ttl, MAX_ENTRIES);
+    }
+
+    BillingKeyViewCache(BillingKeyRepository billingKeyRepository, Duration ttl, int maxEntries) {
+        this.billingKeyRepository = billingKeyRepository;
+        this.cache = new TtlCache<>(ttl, maxEntries);
+    }
+
+    /**
+     * 활성 빌링키 목록 (기본 결제 수단 먼저, 최신순).
+     */
+    public List<BillingKeyView> get(UUID userId) {
+        List<BillingKeyView> cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        List<BillingKeyView> keys = List.copyOf(billingKeyRepository.findActiveViewsByUserId(userId));
+        cache.put(userId, keys);
+        return keys;
+    }
+
+    public void evict(UUID userId) {
+        cache.evict(userId);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 무효화. 트랜잭션 밖이면 즉시 무효화한다.
+     */
+    public void evictAfterCommit(UUID userId) {
+        cache.evictAfterCommit(List.of(userId));
+    }
+}
@@ -0,0 +1,135 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.EmailLogProperties;
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.entity.EmailLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * email_log 버퍼 기록기.
+ *
+ * <ul>
+ *   <li>발송 스레드는 {@link #append} 로 유한 버퍼에 넣기만 하고, 전용 스레드가 모인 만큼(최대 batchSize) JDBC batch INSERT 한다.</li>
+ *   <li>버퍼가 비면 flushInterval 까지 기다리므로 조회에 반영되기까지 최대 그만큼 늦다.</li>
+ *   <li>버퍼가 가득 차면 호출 스레드에서 바로 INSERT 한다 (유실 대신 느려짐).</li>
+ *   <li>기록 실패는 경고만 남긴다 — 발송 자체에는 영향 없음 (기존 logEmail 과 같은 규칙).</li>
+ *   <li>종료 시 남은 버퍼를 모두 기록한다.</li>
+ * </ul>
+ *
+ * <p>대량 발송 큐의 결과는 수신자 상태와 같은 트랜잭션으로 {@link MailJobService#recordResults} 가 직접 batch INSERT 한다.</p>
+ *
+ * <p>메트릭: {@code bulc.mail.log.buffered} (대기 건수), {@code bulc.mail.log.rows} (result=written|failed|overflow).</p>
+ */
+@Slf4j
+@Component
+public class EmailLogAppender {
+
+    private static final String INSERT_SQL = "INSERT INTO email_log "
+            + "(recipient_email, category, template_key, status, sent_at, skip_reason, error_message) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    /** 기록 대기 1건. */
+    public record Entry(String recipientEmail, EmailCategory category, String templateKey, EmailLog.Status status,
+                        LocalDateTime sentAt, String skipReason, String errorMessage) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailLogProperties properties;
+    private final BlockingQueue<Entry> buffer;
+    private final ExecutorService flusher;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Counter overflowCounter;
+    private volatile boolean stopped = false;
+
+    public EmailLogAppender(JdbcTemplate jdbcTemplate, EmailLogProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferCapacity()));
+        this.writtenCounter = Counter.builder("bulc.mail.log.rows").tag("result", "written").register(meterRegistry);
+        this.failedCounter = Counter.builder("bulc.mail.log.rows").tag("result", "failed").register(meterRegistry);
+        this.overflowCounter = Counter.builder("bulc.mail.log.rows").tag("result", "overflow").register(meterRegistry);
+        Gauge.builder("bulc.mail.log.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+
+        this.flusher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "email-log-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.submit(this::run);
+    }
+
+    public void append(Entry entry) {
+        if (stopped || !buffer.offer(entry)) {
+            overflowCounter.increment();
+            write(List.of(entry));
+        }
+    }
+
+    private void run() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long waitMillis = Math.max(1, properties.getFlushInterval().toMillis());
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (!stopped) {
+            try {
+                Entry first = buffer.poll(waitMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("email_log 기록 루프 오류: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Entry> entries) {
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (Entry e : entries) {
+            rows.add(new Object[]{e.recipientEmail(), e.category().name(), e.templateKey(), e.status().name(),
+                    Timestamp.valueOf(e.sentAt()), e.skipReason(), e.errorMessage()});
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            writtenCounter.increment(rows.size());
+        } catch (Exception e) {
+            failedCounter.increment(rows.size());
+            log.warn("email_log 저장 실패 {}건 (발송 자체는 영향 없음): {}", rows.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopped = true;
+        flusher.shutdown();
+        flusher.awaitTermination(properties.getFlushInterval().toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        List<Entry> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            write(rest.subList(from, Math.min(from + batchSize, rest.size())));
+        }
+    }
+}
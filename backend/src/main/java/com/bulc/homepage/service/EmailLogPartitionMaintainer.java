@@ -0,0 +1,99 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.EmailLogProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * email_log 월 파티션 관리.
+ *
+ * <ul>
+ *   <li>이번 달 ~ precreateMonths 개월 뒤까지 파티션을 미리 만든다 (없으면 기본 파티션에 쌓임).</li>
+ *   <li>retentionMonths 보다 오래된 달의 파티션은 DETACH 후 DROP — DELETE 없이 통째로 지운다.</li>
+ *   <li>dedupKeyRetention 이 지난 email_dedup_keys 를 지운다.</li>
+ * </ul>
+ *
+ * 기동 시 한 번, 이후 {@code EmailLogMaintenanceScheduler} 가 매일 실행한다.
+ * 모든 DDL 이 IF (NOT) EXISTS 라 여러 인스턴스가 같이 돌아도 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailLogPartitionMaintainer {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("email_log_p(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailLogProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain(LocalDate.now());
+    }
+
+    public void maintain(LocalDate today) {
+        if (!properties.isPartitionMaintenance()) {
+            return;
+        }
+        YearMonth current = YearMonth.from(today);
+        for (int i = 0; i <= Math.max(0, properties.getPrecreateMonths()); i++) {
+            createPartition(current.plusMonths(i));
+        }
+        dropExpiredPartitions(current.minusMonths(Math.max(0, properties.getRetentionMonths())));
+
+        int purged = jdbcTemplate.update("DELETE FROM email_dedup_keys WHERE created_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(properties.getDedupKeyRetention())));
+        if (purged > 0) {
+            log.info("[email_log] 만료된 중복 방지 키 삭제: {}건", purged);
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = "email_log_p" + month.format(SUFFIX);
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF email_log "
+                    + "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        } catch (DataAccessException e) {
+            // 기본 파티션에 이미 그 달 행이 있으면 실패한다 — 기본 파티션 행을 옮긴 뒤 다시 실행해야 함
+            log.error("[email_log] 파티션 생성 실패 {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void dropExpiredPartitions(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                  JOIN pg_class p ON p.oid = i.inhparent
+                 WHERE p.relname = 'email_log'
+                """, String.class);
+        for (String name : partitions) {
+            Matcher m = PARTITION_NAME.matcher(name);
+            if (!m.matches() || !YearMonth.parse(m.group(1), SUFFIX).isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("ALTER TABLE email_log DETACH PARTITION " + name);
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + name);
+                log.info("[email_log] 보존 기간 지난 파티션 삭제: {}", name);
+            } catch (DataAccessException e) {
+                log.error("[email_log] 파티션 삭제 실패 {}: {}", name, e.getMessage());
+            }
+        }
+    }
+}
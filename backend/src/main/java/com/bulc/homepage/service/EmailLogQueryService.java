@@ -0,0 +1,48 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.entity.EmailLog;
+import com.bulc.homepage.repository.EmailLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * email_log 조회 (관리자 발송 이력 확인).
+ *
+ * 버퍼 기록({@link EmailLogAppender}) 때문에 방금 보낸 메일은 flushInterval 만큼 늦게 보일 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailLogQueryService {
+
+    private final EmailLogRepository emailLogRepository;
+
+    /** 발송 이력 1건. */
+    public record EmailLogView(Long id, EmailCategory category, String templateKey, EmailLog.Status status,
+                               LocalDateTime sentAt, String skipReason, String errorMessage) {
+
+        static EmailLogView of(EmailLog log) {
+            return new EmailLogView(log.getId(), log.getCategory(), log.getTemplateKey(), log.getStatus(),
+                    log.getSentAt(), log.getSkipReason(), log.getErrorMessage());
+        }
+    }
+
+    /**
+     * 수신자가 해당 날짜(서버 시각 기준)에 받은 메일 이력 — 최신순.
+     */
+    @Transactional(readOnly = true)
+    public List<EmailLogView> findByRecipientOn(String email, LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        return emailLogRepository
+                .findByRecipientEmailAndSentAtGreaterThanEqualAndSentAtLessThanOrderBySentAtDesc(
+                        email.trim(), from, from.plusDays(1))
+                .stream()
+                .map(EmailLogView::of)
+                .toList();
+    }
+}
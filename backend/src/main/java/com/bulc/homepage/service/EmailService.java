@@ -1,20 +1,13 @@
 package com.bulc.homepage.service;
 
-import com.azure.identity.ClientSecretCredential;
-import com.azure.identity.ClientSecretCredentialBuilder;
 import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailDeliveryResult;
+import com.bulc.homepage.email.MailTransportRouter;
+import com.bulc.homepage.email.MailTemplate;
+import com.bulc.homepage.email.OutboundMail;
 import com.bulc.homepage.entity.EmailLog;
 import com.bulc.homepage.entity.User;
-import com.bulc.homepage.repository.EmailLogRepository;
 import com.bulc.homepage.repository.UserRepository;
-import com.microsoft.graph.models.BodyType;
-import com.microsoft.graph.models.EmailAddress;
-import com.microsoft.graph.models.ItemBody;
-import com.microsoft.graph.models.Message;
-import com.microsoft.graph.models.Recipient;
-import com.microsoft.graph.serviceclient.GraphServiceClient;
-import com.microsoft.graph.users.item.sendmail.SendMailPostRequestBody;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,9 +17,8 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -37,7 +29,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class EmailService {
 
     private final UserRepository userRepository;
-    private final EmailLogRepository emailLogRepository;
+    private final EmailLogAppender emailLogAppender;
+    private final MailTransportRouter transportRouter;
 
     @Value("${microsoft.graph.tenant-id:}")
     private String tenantId;
@@ -78,61 +71,27 @@ public class EmailService {
     @Value("${mail.company.contact-email:simul@msimul.com}")
     private String companyContactEmail;
 
-    // 템플릿 캐시 (classpath 리소스 1회 로드 후 재사용)
-    private final Map<String, String> templateCache = new ConcurrentHashMap<>();
-
-    private GraphServiceClient graphClient;
-    private boolean isConfigured = false;
-    private String initError = null;
-
-    @PostConstruct
-    public void init() {
-        if (tenantId != null && !tenantId.isEmpty() &&
-            clientId != null && !clientId.isEmpty() &&
-            clientSecret != null && !clientSecret.isEmpty()) {
-
-            try {
-                ClientSecretCredential credential = new ClientSecretCredentialBuilder()
-                        .tenantId(tenantId)
-                        .clientId(clientId)
-                        .clientSecret(clientSecret)
-                        .build();
-
-                graphClient = new GraphServiceClient(credential, "https://graph.microsoft.com/.default");
-                isConfigured = true;
-                initError = null;
-                log.info("Microsoft Graph 이메일 서비스 초기화 완료");
-            } catch (Exception e) {
-                log.error("Microsoft Graph 초기화 실패: {}", e.getMessage(), e);
-                isConfigured = false;
-                initError = "Graph 초기화 실패: " + e.getMessage();
-            }
-        } else {
-            String missing = "";
-            if (tenantId == null || tenantId.isEmpty()) missing += "MS_TENANT_ID ";
-            if (clientId == null || clientId.isEmpty()) missing += "MS_CLIENT_ID ";
-            if (clientSecret == null || clientSecret.isEmpty()) missing += "MS_CLIENT_SECRET ";
-            initError = "환경변수 누락: " + missing.trim();
-            log.warn("Microsoft Graph 설정이 없습니다. 누락: {}. 이메일은 로그로만 출력됩니다.", missing.trim());
-            isConfigured = false;
-        }
-    }
+    private static final String FOOTER_PLACEHOLDER = "{{footer}}";
+
+    // 컴파일된 템플릿 캐시 (classpath 리소스 1회 로드·컴파일 후 재사용)
+    private final Map<String, MailTemplate> templateCache = new ConcurrentHashMap<>();
+
+    // 회사 정보를 미리 채운 footer (광고성은 unsubscribe_url 자리만 남음)
+    private final Map<String, MailTemplate> footerCache = new ConcurrentHashMap<>();
 
     /**
      * 이메일 서비스 진단 정보 반환
      */
     public Map<String, Object> getDiagnostics() {
         Map<String, Object> info = new LinkedHashMap<>();
-        info.put("configured", isConfigured);
+        info.put("configured", transportRouter.transportFor(EmailCategory.ACCOUNT).isConfigured());
+        info.put("routes", transportRouter.describeRoutes());
         info.put("tenantIdSet", tenantId != null && !tenantId.isEmpty());
         info.put("clientIdSet", clientId != null && !clientId.isEmpty());
         info.put("clientSecretSet", clientSecret != null && !clientSecret.isEmpty());
         info.put("fromAccounts", mailFromAccounts);
         info.put("fromBilling", mailFromBilling);
         info.put("replyTo", mailReplyTo);
-        if (initError != null) {
-            info.put("initError", initError);
-        }
         return info;
     }
 
@@ -207,86 +166,86 @@ public class EmailService {
         // 3. 카테고리별 발신 메일박스 선택
         String fromAddr = resolveFromAddress(category);
 
-        // 4. 실제 발송 + 로그
-        try {
-            sendEmail(fromAddr, toEmail, finalSubject, finalHtml);
-            logEmail(toEmail, category, templateKey, EmailLog.Status.SUCCESS, null, null);
-        } catch (RuntimeException e) {
+        // 4. 카테고리별 transport 로 발송 + 로그
+        MailDeliveryResult result = transportRouter.send(
+                new OutboundMail(category, fromAddr, toEmail, mailReplyTo, finalSubject, finalHtml));
+        if (!result.isSent()) {
+            log.error("이메일 발송 실패: {} -> {}, 오류: {}", fromAddr, toEmail, result.error());
             logEmail(toEmail, category, templateKey, EmailLog.Status.FAILED,
-                    null, truncate(e.getMessage(), 1000));
-            throw e;
+                    null, truncate(result.error(), 1000));
+            throw new RuntimeException(result.error());
         }
+        log.info("이메일 발송 성공: {} -> {}", fromAddr, toEmail);
+        logEmail(toEmail, category, templateKey, EmailLog.Status.SUCCESS, null, null);
     }
 
     /**
-     * 광고성 메일을 사전 동의 확인된 수신자에게 직접 발송 (MDP-608).
+     * 수신 동의가 확인된 수신자에게 보낼 메시지를 카테고리 규칙(제목 prefix, footer, 발신 메일박스)대로 만든다 (MDP-608).
      *
      * 수신 동의(회원 marketing_agreed / 컨택 opt_in_marketing)는 호출측에서 이미 필터링했다고 가정한다.
      * 회원이 아닌 컨택(LeadContact)에게도 보낼 수 있도록 unsubscribeToken 을 직접 받아 광고성 footer 의
-     * 수신거부 링크에 주입한다. (광고) 제목 prefix 자동 부착.
+     * 수신거부 링크에 주입한다. 발송과 email_log 기록은 대량 발송 큐({@code MailDispatchEngine})가
+     * {@link MailTransportRouter} 로 보내고 결과를 모아 batch 로 기록한다.
      */
-    public void sendPromotionalPreapproved(String toEmail, String unsubscribeToken,
-                                           String templateKey, String subject, String htmlContent) {
-        String finalSubject = "(광고) " + subject;
-        String finalHtml = injectFooter(htmlContent, EmailCategory.PROMOTIONAL, unsubscribeToken);
-        String fromAddr = resolveFromAddress(EmailCategory.PROMOTIONAL);
-        try {
-            sendEmail(fromAddr, toEmail, finalSubject, finalHtml);
-            logEmail(toEmail, EmailCategory.PROMOTIONAL, templateKey, EmailLog.Status.SUCCESS, null, null);
-        } catch (RuntimeException e) {
-            logEmail(toEmail, EmailCategory.PROMOTIONAL, templateKey, EmailLog.Status.FAILED,
-                    null, truncate(e.getMessage(), 1000));
-            throw e;
-        }
+    public OutboundMail prepare(EmailCategory category, String toEmail, String unsubscribeToken,
+                                String subject, String htmlContent) {
+        String finalSubject = category.requiresMarketingConsent() ? "(광고) " + subject : subject;
+        String finalHtml = injectFooter(htmlContent, category, unsubscribeToken);
+        return new OutboundMail(category, resolveFromAddress(category), toEmail, mailReplyTo, finalSubject, finalHtml);
     }
 
     /**
      * 템플릿 본문에 {{footer}} 플레이스홀더가 있으면 카테고리별 footer 로 치환.
      * 없으면 원본 그대로 반환 (기존 sendBillingEmail 같이 외부에서 만든 HTML 호환).
+     * 회사 정보는 footer 캐시에 미리 채워져 있으므로 수신자마다 채우는 것은 수신거부 링크뿐이다.
      */
     private String injectFooter(String html, EmailCategory category, String unsubscribeToken) {
-        if (html == null || !html.contains("{{footer}}")) {
+        int at = html != null ? html.indexOf(FOOTER_PLACEHOLDER) : -1;
+        if (at < 0) {
             return html;
         }
         String footerKey = category.requiresMarketingConsent()
                 ? "_footer_promotional"
                 : "_footer_operational";
-
-        Map<String, String> vars = new HashMap<>();
-        vars.put("company.name", companyName);
-        vars.put("company.representative", companyRepresentative);
-        vars.put("company.businessNumber", companyBusinessNumber);
-        vars.put("company.address", companyAddress);
-        vars.put("company.contactEmail", companyContactEmail);
-
-        if (category.requiresMarketingConsent()) {
-            String token = unsubscribeToken != null ? unsubscribeToken : "";
-            vars.put("unsubscribe_url", siteUrl + "/unsubscribe?token=" + token);
+        MailTemplate footerTemplate = footerCache.computeIfAbsent(footerKey, key -> loadTemplate(key).bind(Map.of(
+                "company.name", companyName,
+                "company.representative", companyRepresentative,
+                "company.businessNumber", companyBusinessNumber,
+                "company.address", companyAddress,
+                "company.contactEmail", companyContactEmail)));
+
+        String footer = category.requiresMarketingConsent()
+                ? footerTemplate.render(Map.of("unsubscribe_url",
+                        siteUrl + "/unsubscribe?token=" + (unsubscribeToken != null ? unsubscribeToken : "")))
+                : footerTemplate.render(Map.of());
+
+        StringBuilder sb = new StringBuilder(html.length() + footer.length());
+        int from = 0;
+        while (at >= 0) {
+            sb.append(html, from, at).append(footer);
+            from = at + FOOTER_PLACEHOLDER.length();
+            at = html.indexOf(FOOTER_PLACEHOLDER, from);
         }
-
-        String footer = renderTemplate(footerKey, vars);
-        return html.replace("{{footer}}", footer);
+        return sb.append(html, from, html.length()).toString();
     }
 
     /**
      * classpath:templates/mail/<key>.html 로드 + {{var}} 치환.
-     * 첫 호출 시 캐시 적재 후 재사용.
+     * 첫 호출 시 컴파일해 캐시 적재 후 재사용. vars 에 없는 플레이스홀더({{footer}} 등)는 그대로 남는다.
      */
     public String renderTemplate(String templateKey, Map<String, String> vars) {
-        String tpl = templateCache.computeIfAbsent(templateKey, key -> {
+        return loadTemplate(templateKey).render(vars);
+    }
+
+    private MailTemplate loadTemplate(String templateKey) {
+        return templateCache.computeIfAbsent(templateKey, key -> {
             String path = "templates/mail/" + key + ".html";
             try (InputStream is = new ClassPathResource(path).getInputStream()) {
-                return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+                return MailTemplate.compile(new String(is.readAllBytes(), StandardCharsets.UTF_8));
             } catch (IOException e) {
                 throw new RuntimeException("메일 템플릿 로드 실패: " + path, e);
             }
         });
-        String result = tpl;
-        for (Map.Entry<String, String> entry : vars.entrySet()) {
-            result = result.replace("{{" + entry.getKey() + "}}",
-                    entry.getValue() != null ? entry.getValue() : "");
-        }
-        return result;
     }
 
     private String resolveFromAddress(EmailCategory category) {
@@ -299,113 +258,13 @@ public class EmailService {
 
     private void logEmail(String recipient, EmailCategory category, String templateKey,
                           EmailLog.Status status, String skipReason, String errorMessage) {
-        try {
-            emailLogRepository.save(EmailLog.builder()
-                    .recipientEmail(recipient)
-                    .category(category)
-                    .templateKey(templateKey)
-                    .status(status)
-                    .skipReason(skipReason)
-                    .errorMessage(errorMessage)
-                    .build());
-        } catch (Exception e) {
-            log.warn("email_log 저장 실패 (발송 자체는 영향 없음): {}", e.getMessage());
-        }
+        // 발송 스레드에서 INSERT 하지 않고 버퍼에 넣어 batch 로 기록 (실패해도 발송엔 영향 없음)
+        emailLogAppender.append(new EmailLogAppender.Entry(recipient, category, templateKey, status,
+                LocalDateTime.now(), skipReason, errorMessage));
     }
 
     private static String truncate(String s, int max) {
         if (s == null) return null;
         return s.length() <= max ? s : s.substring(0, max);
     }
-
-    /**
-     * 일반 이메일 발송 (단일 수신자)
-     */
-    public void sendEmail(String fromEmail, String toEmail, String subject, String htmlContent) {
-        sendEmail(fromEmail, List.of(toEmail), subject, htmlContent);
-    }
-
-    /**
-     * 일반 이메일 발송 (다중 수신자)
-     */
-    public void sendEmail(String fromEmail, List<String> toEmails, String subject, String htmlContent) {
-        if (!isConfigured) {
-            log.info("[이메일 미설정] To: {}, Subject: {}", toEmails, subject);
-            log.debug("[이메일 내용]\n{}", htmlContent);
-            throw new RuntimeException("이메일 서비스가 설정되지 않았습니다. (" + (initError != null ? initError : "환경변수 확인 필요") + ")");
-        }
-
-        if (toEmails == null || toEmails.isEmpty()) {
-            throw new RuntimeException("수신자 이메일이 비어 있습니다.");
-        }
-
-        try {
-            Message message = new Message();
-            message.setSubject(subject);
-
-            ItemBody body = new ItemBody();
-            body.setContentType(BodyType.Html);
-            body.setContent(htmlContent);
-            message.setBody(body);
-
-            List<Recipient> recipients = toEmails.stream()
-                    .map(email -> {
-                        Recipient r = new Recipient();
-                        EmailAddress addr = new EmailAddress();
-                        addr.setAddress(email);
-                        r.setEmailAddress(addr);
-                        return r;
-                    })
-                    .toList();
-            message.setToRecipients(recipients);
-
-            // Reply-To 설정
-            Recipient replyToRecipient = new Recipient();
-            EmailAddress replyToAddress = new EmailAddress();
-            replyToAddress.setAddress(mailReplyTo);
-            replyToRecipient.setEmailAddress(replyToAddress);
-            message.setReplyTo(List.of(replyToRecipient));
-
-            SendMailPostRequestBody sendMailRequest = new SendMailPostRequestBody();
-            sendMailRequest.setMessage(message);
-            sendMailRequest.setSaveToSentItems(true);
-
-            graphClient.users().byUserId(fromEmail).sendMail().post(sendMailRequest);
-            log.info("이메일 발송 성공: {} -> {}", fromEmail, toEmails);
-        } catch (Exception e) {
-            log.error("이메일 발송 실패: {} -> {}, 오류: {}", fromEmail, toEmails, e.getMessage(), e);
-
-            // Graph API 에러 메시지 분류
-            String errorMsg = e.getMessage() != null ? e.getMessage() : "알 수 없는 오류";
-            String userMessage;
-
-            if (errorMsg.contains("Authorization") || errorMsg.contains("401") || errorMsg.contains("InvalidAuthenticationToken")) {
-                userMessage = "이메일 발송 실패: 인증 오류 (Azure AD Client Secret이 만료되었거나 잘못되었습니다)";
-            } else if (errorMsg.contains("403") || errorMsg.contains("Forbidden") || errorMsg.contains("MailboxNotEnabledForRESTAPI")) {
-                userMessage = "이메일 발송 실패: 권한 부족 (Azure AD에서 Mail.Send 권한을 확인하세요)";
-            } else if (errorMsg.contains("404") || errorMsg.contains("MailboxNotFound") || errorMsg.contains("ResourceNotFound")) {
-                userMessage = "이메일 발송 실패: 발신 메일박스를 찾을 수 없습니다 (" + fromEmail + ")";
-            } else if (errorMsg.contains("connect") || errorMsg.contains("timeout") || errorMsg.contains("UnknownHost")) {
-                userMessage = "이메일 발송 실패: Microsoft Graph API에 연결할 수 없습니다 (네트워크 확인)";
-            } else {
-                userMessage = "이메일 발송에 실패했습니다: " + errorMsg;
-            }
-
-            throw new RuntimeException(userMessage, e);
-        }
-    }
-
-    /**
-     * 기본 발신자로 이메일 발송 (단일 수신자)
-     */
-    public void sendHtmlEmail(String toEmail, String subject, String htmlContent) {
-        sendEmail(mailFrom, toEmail, subject, htmlContent);
-    }
-
-    /**
-     * 기본 발신자로 이메일 발송 (다중 수신자)
-     */
-    public void sendHtmlEmail(List<String> toEmails, String subject, String htmlContent) {
-        sendEmail(mailFrom, toEmails, subject, htmlContent);
-    }
 }
@@ -1,5 +1,7 @@
 package com.bulc.homepage.service;
 
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailLaneDispatcher;
 import com.bulc.homepage.entity.EmailVerification;
 import com.bulc.homepage.entity.EmailVerificationAttempt;
 import com.bulc.homepage.repository.EmailVerificationAttemptRepository;
@@ -12,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Random;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -23,6 +24,7 @@ public class EmailVerificationService {
     private final EmailVerificationAttemptRepository attemptRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final MailLaneDispatcher mailLaneDispatcher;
 
     private static final int CODE_LENGTH = 6;
     private static final int EXPIRATION_MINUTES = 5;
@@ -82,14 +84,9 @@ public class EmailVerificationService {
 
         log.info("인증 코드 발송 - 이메일: {}", email);
 
-        // 비동기 이메일 발송 (DB에 코드 저장 후 즉시 응답)
-        CompletableFuture.runAsync(() -> {
-            try {
-                emailService.sendVerificationEmail(email, code);
-            } catch (Exception e) {
-                log.error("인증 이메일 발송 실패 (비동기) - 이메일: {}, 오류: {}", email, e.getMessage());
-            }
-        });
+        // 커밋 후 ACCOUNT lane 으로 비동기 발송 (요청은 즉시 응답)
+        mailLaneDispatcher.dispatchAfterCommit(EmailCategory.ACCOUNT, "인증 코드 " + email,
+                () -> emailService.sendVerificationEmail(email, code));
 
         return code;
     }
@@ -5,35 +5,24 @@ import com.bulc.homepage.dto.request.LeadContactRegisterRequest;
 import com.bulc.homepage.dto.request.LeadContactUpdateRequest;
 import com.bulc.homepage.dto.response.LeadContactImportResult;
 import com.bulc.homepage.entity.LeadContact;
+import com.bulc.homepage.leadimport.LeadContactImporter;
 import com.bulc.homepage.repository.LeadContactRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -48,6 +37,7 @@ import java.util.UUID;
 public class LeadContactService {
 
     private final LeadContactRepository leadContactRepository;
+    private final LeadContactImporter leadContactImporter;
 
     /** 공개 폼(MDP-707) 동의 방식. init.sql 의 consent_method 규약을 따른다. */
     private static final String CONSENT_METHOD_WEB_FORM = "web_form";
@@ -63,75 +53,6 @@ public class LeadContactService {
 
     private static final String COLLECTED_BY_SELF = "본인 직접 입력(QR)";
 
-    /** 헤더 별칭 → 내부 정규 필드명 매핑 (소문자·공백제거 키 기준) */
-    private static final Map<String, String> HEADER_ALIASES = new HashMap<>();
-    static {
-        // 한국어 명함 양식 (사용자 양식 12개)
-        HEADER_ALIASES.put("회사", "company_name");
-        HEADER_ALIASES.put("이름", "contact_name");
-        HEADER_ALIASES.put("부서", "department");
-        HEADER_ALIASES.put("직함", "role");
-        HEADER_ALIASES.put("전자메일주소", "email");
-        HEADER_ALIASES.put("이메일", "email");
-        HEADER_ALIASES.put("e-mail", "email");
-        HEADER_ALIASES.put("근무지주소번지", "address");
-        HEADER_ALIASES.put("근무지주소", "address");
-        HEADER_ALIASES.put("주소", "address");
-        HEADER_ALIASES.put("근무처전화", "work_phone");
-        HEADER_ALIASES.put("회사전화", "work_phone");
-        HEADER_ALIASES.put("근무처팩스", "work_fax");
-        HEADER_ALIASES.put("팩스", "work_fax");
-        HEADER_ALIASES.put("휴대폰", "mobile_phone");
-        HEADER_ALIASES.put("핸드폰", "mobile_phone");
-        HEADER_ALIASES.put("모바일", "mobile_phone");
-        HEADER_ALIASES.put("명함등록일", "source_date");
-        HEADER_ALIASES.put("명함첩이름", "source_event");
-        HEADER_ALIASES.put("메모", "notes");
-        // 영어 (backward compat)
-        HEADER_ALIASES.put("email", "email");
-        HEADER_ALIASES.put("contact_name", "contact_name");
-        HEADER_ALIASES.put("contactname", "contact_name");
-        HEADER_ALIASES.put("company_name", "company_name");
-        HEADER_ALIASES.put("companyname", "company_name");
-        HEADER_ALIASES.put("company", "company_name");
-        HEADER_ALIASES.put("department", "department");
-        HEADER_ALIASES.put("role", "role");
-        HEADER_ALIASES.put("title", "role");
-        HEADER_ALIASES.put("address", "address");
-        HEADER_ALIASES.put("work_phone", "work_phone");
-        HEADER_ALIASES.put("workphone", "work_phone");
-        HEADER_ALIASES.put("work_fax", "work_fax");
-        HEADER_ALIASES.put("workfax", "work_fax");
-        HEADER_ALIASES.put("fax", "work_fax");
-        HEADER_ALIASES.put("mobile_phone", "mobile_phone");
-        HEADER_ALIASES.put("mobilephone", "mobile_phone");
-        HEADER_ALIASES.put("mobile", "mobile_phone");
-        HEADER_ALIASES.put("source_event", "source_event");
-        HEADER_ALIASES.put("source_date", "source_date");
-        HEADER_ALIASES.put("collected_by", "collected_by");
-        HEADER_ALIASES.put("consent_method", "consent_method");
-        HEADER_ALIASES.put("consent_date", "consent_date");
-        HEADER_ALIASES.put("opt_in_marketing", "opt_in_marketing");
-        HEADER_ALIASES.put("opt_in_transactional", "opt_in_transactional");
-        HEADER_ALIASES.put("tags", "tags");
-        HEADER_ALIASES.put("notes", "notes");
-        HEADER_ALIASES.put("note", "notes");
-    }
-
-    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
-            DateTimeFormatter.ISO_LOCAL_DATE,                       // 2026-06-04
-            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
-            DateTimeFormatter.ofPattern("yyyy/MM/dd"),
-            DateTimeFormatter.ofPattern("yyyy. M. d"),
-            DateTimeFormatter.ofPattern("yyyy-M-d"),
-            DateTimeFormatter.ofPattern("M/d/yyyy"),
-            // 한글 표기 (zero-pad / 1자리 모두 허용)
-            DateTimeFormatter.ofPattern("yyyy'년' MM'월' dd'일'"),
-            DateTimeFormatter.ofPattern("yyyy'년' M'월' d'일'"),
-            DateTimeFormatter.ofPattern("yyyy'년'MM'월'dd'일'"),
-            DateTimeFormatter.ofPattern("yyyy'년'M'월'd'일'")
-    );
-
     // ---- CRUD --------------------------------------------------------------
 
     @Transactional
@@ -385,231 +306,42 @@ public class LeadContactService {
     /**
      * CSV(.csv) / Excel(.xlsx, .xls) 일괄 임포트.
      *
-     * <p>파일명 확장자로 형식 자동 감지. 헤더는 한국어 명함 양식 또는 영어 모두 허용.
-     * email 컬럼은 필수. 명함 임포트로 등록된 컨택은 기본값으로
-     * {@code consent_method='import'}, {@code opt_in_marketing=false},
-     * {@code opt_in_transactional=true} 적용 (정보통신망법 50조 안전 기본값).
+     * <p>업로드를 임시 파일로 옮긴 뒤 {@link LeadContactImporter} 로 스트리밍 처리한다
+     * (파일 내용으로 형식 자동 감지, 청크 단위 중복 확인·batch INSERT·커밋).
+     * 헤더 규칙과 기본 동의값은 {@link LeadContactImporter} 참고.
      */
-    @Transactional
     public LeadContactImportResult importFile(MultipartFile file, UUID adminId) {
-        byte[] bytes;
+        Path tmp = null;
         try {
-            bytes = file.getBytes();
+            tmp = Files.createTempFile("lead-import-", ".upload");
+            file.transferTo(tmp);
+
+            List<LeadContactImportResult.RowError> errors = new ArrayList<>();
+            LeadContactImporter.Progress progress = leadContactImporter.run(tmp, adminId, errors::add);
+            return LeadContactImportResult.builder()
+                    .totalRows(progress.totalRows())
+                    .registered(progress.registered())
+                    .skipped(progress.skipped())
+                    .errors(errors)
+                    .build();
         } catch (IOException e) {
-            throw new RuntimeException("파일을 읽는 중 오류: " + e.getMessage(), e);
+            throw new RuntimeException("파일 파싱 오류: " + e.getMessage(), e);
+        } finally {
+            deleteQuietly(tmp);
         }
+    }
 
-        List<List<String>> rows;
+    private static void deleteQuietly(Path path) {
+        if (path == null) return;
         try {
-            if (isExcelBytes(bytes)) {
-                // 확장자가 .csv 여도 실제 내용이 Excel(XLSX/XLS)이면 Excel로 처리
-                rows = readExcelBytes(bytes);
-            } else {
-                rows = readCsvBytes(bytes);
-            }
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            throw new RuntimeException("파일 파싱 오류: " + e.getMessage(), e);
-        }
-
-        if (rows.isEmpty()) {
-            throw new IllegalArgumentException("빈 파일입니다.");
+            log.warn("임포트 임시 파일 삭제 실패: {}", path);
         }
-
-        List<String> headerRow = rows.get(0);
-        Map<String, Integer> colIdx = resolveHeader(headerRow);
-        if (!colIdx.containsKey("email")) {
-            // 디버그용: 원본 헤더 + canonicalize 결과 함께 노출
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < headerRow.size(); i++) {
-                String raw = headerRow.get(i);
-                sb.append("[").append(i).append("] '").append(raw == null ? "" : raw)
-                  .append("' → canonical='").append(canonicalize(raw)).append("'; ");
-            }
-            throw new IllegalArgumentException(
-                    "헤더에 이메일 컬럼이 필요합니다 (전자 메일 주소 / 이메일 / email). 인식된 헤더: " + sb
-            );
-        }
-
-        int total = 0;
-        int registered = 0;
-        int skipped = 0;
-        List<LeadContactImportResult.RowError> errors = new ArrayList<>();
-
-        for (int rowIdx = 1; rowIdx < rows.size(); rowIdx++) {
-            int rowNumber = rowIdx + 1; // 1-based, header counted
-            List<String> cells = rows.get(rowIdx);
-            if (cells.stream().allMatch(s -> s == null || s.isBlank())) continue;
-            total++;
-
-            String email = getCell(cells, colIdx, "email");
-            if (email == null || email.isBlank()) {
-                skipped++;
-                errors.add(LeadContactImportResult.RowError.builder()
-                        .rowNumber(rowNumber).email(email).message("이메일 누락").build());
-                continue;
-            }
-            String normalized = normalizeEmail(email);
-            if (leadContactRepository.existsByEmail(normalized)) {
-                skipped++;
-                errors.add(LeadContactImportResult.RowError.builder()
-                        .rowNumber(rowNumber).email(normalized).message("이미 등록된 이메일").build());
-                continue;
-            }
-            try {
-                LeadContact contact = LeadContact.builder()
-                        .email(normalized)
-                        .contactName(getCell(cells, colIdx, "contact_name"))
-                        .companyName(getCell(cells, colIdx, "company_name"))
-                        .department(getCell(cells, colIdx, "department"))
-                        .role(getCell(cells, colIdx, "role"))
-                        .address(getCell(cells, colIdx, "address"))
-                        .workPhone(getCell(cells, colIdx, "work_phone"))
-                        .workFax(getCell(cells, colIdx, "work_fax"))
-                        .mobilePhone(getCell(cells, colIdx, "mobile_phone"))
-                        .sourceEvent(getCell(cells, colIdx, "source_event"))
-                        .sourceDate(parseFlexibleDate(getCell(cells, colIdx, "source_date")))
-                        .collectedBy(getCell(cells, colIdx, "collected_by"))
-                        .consentMethod(firstNonBlank(getCell(cells, colIdx, "consent_method"), "import"))
-                        .consentDate(parseFlexibleDate(getCell(cells, colIdx, "consent_date")))
-                        .optInMarketing(parseBool(getCell(cells, colIdx, "opt_in_marketing"), false))
-                        .optInTransactional(parseBool(getCell(cells, colIdx, "opt_in_transactional"), true))
-                        .tags(getCell(cells, colIdx, "tags"))
-                        .notes(getCell(cells, colIdx, "notes"))
-                        .createdBy(adminId)
-                        .build();
-                leadContactRepository.save(contact);
-                registered++;
-            } catch (Exception ex) {
-                skipped++;
-                errors.add(LeadContactImportResult.RowError.builder()
-                        .rowNumber(rowNumber).email(normalized).message(ex.getMessage()).build());
-            }
-        }
-
-        return LeadContactImportResult.builder()
-                .totalRows(total)
-                .registered(registered)
-                .skipped(skipped)
-                .errors(errors)
-                .build();
     }
 
     // ---- helpers -----------------------------------------------------------
 
-    /**
-     * 파일 내용(magic bytes)이 Excel 인지 검사.
-     * XLSX = ZIP(PK\x03\x04), XLS = CFB/OLE2(D0CF11E0A1B11AE1)
-     */
-    private static boolean isExcelBytes(byte[] bytes) {
-        if (bytes == null || bytes.length < 4) return false;
-        // XLSX/ZIP signature
-        if (bytes[0] == 'P' && bytes[1] == 'K' && bytes[2] == 0x03 && bytes[3] == 0x04) return true;
-        // XLS / CFB signature
-        if (bytes.length >= 8
-                && (bytes[0] & 0xFF) == 0xD0 && (bytes[1] & 0xFF) == 0xCF
-                && (bytes[2] & 0xFF) == 0x11 && (bytes[3] & 0xFF) == 0xE0
-                && (bytes[4] & 0xFF) == 0xA1 && (bytes[5] & 0xFF) == 0xB1
-                && (bytes[6] & 0xFF) == 0x1A && (bytes[7] & 0xFF) == 0xE1) return true;
-        return false;
-    }
-
-    private List<List<String>> readCsvBytes(byte[] bytes) throws IOException {
-        List<List<String>> rows = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new java.io.ByteArrayInputStream(bytes), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                rows.add(parseCsvLine(line));
-            }
-        }
-        return rows;
-    }
-
-    private List<List<String>> readExcelBytes(byte[] bytes) throws IOException {
-        List<List<String>> rows = new ArrayList<>();
-        DataFormatter formatter = new DataFormatter();
-        try (InputStream is = new java.io.ByteArrayInputStream(bytes);
-             Workbook workbook = WorkbookFactory.create(is)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            int lastRow = sheet.getLastRowNum();
-            for (int r = 0; r <= lastRow; r++) {
-                Row row = sheet.getRow(r);
-                List<String> cells = new ArrayList<>();
-                if (row == null) { rows.add(cells); continue; }
-                int lastCell = row.getLastCellNum();
-                for (int c = 0; c < lastCell; c++) {
-                    Cell cell = row.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-                    cells.add(cell == null ? "" : formatter.formatCellValue(cell).trim());
-                }
-                rows.add(cells);
-            }
-        }
-        return rows;
-    }
-
-    private static Map<String, Integer> resolveHeader(List<String> headerRow) {
-        Map<String, Integer> idx = new HashMap<>();
-        for (int i = 0; i < headerRow.size(); i++) {
-            String raw = headerRow.get(i);
-            String canonical = canonicalize(raw);
-            if (canonical != null && !idx.containsKey(canonical)) {
-                idx.put(canonical, i);
-            }
-        }
-        return idx;
-    }
-
-    private static String canonicalize(String header) {
-        if (header == null) return null;
-        String key = header
-                .replace("﻿", "")          // UTF-8 BOM
-                .replace(" ", "")          // non-breaking space (NBSP)
-                .replace("​", "")          // zero-width space
-                .replace("　", "")          // CJK 전각 공백
-                .trim()
-                .toLowerCase(Locale.ROOT)
-                .replaceAll("[\\s\\p{Z}]+", ""); // 일반·Unicode 공백 일괄 제거
-        return HEADER_ALIASES.get(key);
-    }
-
-    private static String getCell(List<String> cells, Map<String, Integer> colIdx, String canonical) {
-        Integer i = colIdx.get(canonical);
-        if (i == null || i >= cells.size()) return null;
-        String v = cells.get(i);
-        return v == null || v.isBlank() ? null : v.trim();
-    }
-
-    private static String firstNonBlank(String... values) {
-        for (String v : values) {
-            if (v != null && !v.isBlank()) return v;
-        }
-        return null;
-    }
-
-    private static LocalDate parseFlexibleDate(String s) {
-        if (s == null || s.isBlank()) return null;
-        // 다중 공백 단일화, 양끝 공백 제거
-        String v = s.trim().replaceAll("\\s+", " ");
-        for (DateTimeFormatter fmt : DATE_FORMATS) {
-            try {
-                return LocalDate.parse(v, fmt);
-            } catch (DateTimeParseException ignored) { /* try next */ }
-        }
-        // Excel 시리얼 숫자 (예: "45828") 대응
-        try {
-            double serial = Double.parseDouble(v);
-            return org.apache.poi.ss.usermodel.DateUtil.getJavaDate(serial)
-                    .toInstant().atZone(java.time.ZoneId.systemDefault()).toLocalDate();
-        } catch (NumberFormatException ignored) { /* not a serial */ }
-        throw new IllegalArgumentException("날짜 형식 인식 불가: " + s);
-    }
-
-    private static boolean parseBool(String s, boolean defaultValue) {
-        if (s == null || s.isBlank()) return defaultValue;
-        String v = s.trim().toLowerCase(Locale.ROOT);
-        return v.equals("true") || v.equals("1") || v.equals("y") || v.equals("yes") || v.equals("동의");
-    }
-
     private static String normalizeEmail(String email) {
         return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
@@ -617,29 +349,4 @@ public class LeadContactService {
     private static String nullToEmpty(String s) {
         return s == null ? "" : s.trim();
     }
-
-    /** 간단한 CSV 라인 파서. 따옴표 안의 쉼표 처리. */
-    static List<String> parseCsvLine(String line) {
-        List<String> result = new ArrayList<>();
-        StringBuilder cur = new StringBuilder();
-        boolean inQuotes = false;
-        for (int i = 0; i < line.length(); i++) {
-            char ch = line.charAt(i);
-            if (ch == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    cur.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (ch == ',' && !inQuotes) {
-                result.add(cur.toString());
-                cur.setLength(0);
-            } else {
-                cur.append(ch);
-            }
-        }
-        result.add(cur.toString());
-        return result;
-    }
 }
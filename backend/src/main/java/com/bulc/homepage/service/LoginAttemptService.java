@@ -2,17 +2,40 @@ package com.bulc.homepage.service;
 
 import com.bulc.homepage.entity.LoginAttempt;
 import com.bulc.homepage.repository.LoginAttemptRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * 로그인 시도 횟수 제한 (브루트포스 방지).
+ *
+ * <p>시도 윈도우는 메모리에만 두고, login_attempts 테이블에는 잠금/해제 전이만
+ * 비동기(write-behind)로 반영한다. 잠금 확인과 실패 기록은 DB 를 타지 않으므로
+ * 크리덴셜 스터핑 중에도 커넥션 풀을 점유하지 않는다. 전이가 생긴 이메일만 표시해 두고,
+ * 반영 시점의 윈도우 상태를 그대로 쓰므로 전이 순서가 뒤섞여도 최종 상태가 저장된다.</p>
+ *
+ * <ul>
+ *   <li>테이블은 재기동 시 잠금 상태 복구용 ({@link #restoreLocks()})</li>
+ *   <li>추적 항목은 {@link #MAX_TRACKED} 로 제한하고, 만료된 윈도우는 주기적으로 정리.
+ *       상한에서 새 이메일이 들어오면 요청 스레드는 가장 오래된 항목을 최대 {@link #EVICT_BATCH} 개만 본다
+ *       (전체 순회는 스케줄 정리에서만)</li>
+ *   <li>인스턴스 로컬 상태이므로 다중 인스턴스에서는 인스턴스별로 카운트된다 (MDP-659)</li>
+ * </ul>
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class LoginAttemptService {
 
     private final LoginAttemptRepository loginAttemptRepository;
@@ -20,16 +43,40 @@ public class LoginAttemptService {
     private static final int MAX_ATTEMPTS = 5;           // 최대 시도 횟수
     private static final int WINDOW_MINUTES = 15;         // 시도 윈도우 (분)
     private static final int LOCKOUT_MINUTES = 30;        // 잠금 시간 (분)
+    static final int MAX_TRACKED = 100_000;               // 메모리 추적 상한
+    static final int EVICT_BATCH = 64;                    // 상한 도달 시 요청 스레드에서 보는 최대 항목 수
+
+    /** 추적 상한 */
+    private final int maxTracked;
+
+    /** 이메일별 시도 윈도우 (불변 값, compute 로 교체). */
+    private final Map<String, AttemptWindow> windows = new ConcurrentHashMap<>();
+
+    /** 새 윈도우가 생긴 순서 (오래된 것부터 제거). 지워진 이메일이 남아 있을 수 있으며 스케줄 정리에서 걸러낸다. */
+    private final Queue<String> arrivals = new ConcurrentLinkedQueue<>();
+
+    /** 잠금/해제 전이가 생겨 DB 반영을 기다리는 이메일. */
+    private final Set<String> pendingWrites = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public LoginAttemptService(LoginAttemptRepository loginAttemptRepository) {
+        this(loginAttemptRepository, MAX_TRACKED);
+    }
+
+    LoginAttemptService(LoginAttemptRepository loginAttemptRepository, int maxTracked) {
+        this.loginAttemptRepository = loginAttemptRepository;
+        this.maxTracked = maxTracked;
+    }
 
     /**
      * 로그인 시도 전 잠금 상태 확인.
      * 잠금 중이면 남은 시간과 함께 예외 발생.
      */
-    @Transactional(readOnly = true)
     public void checkLocked(String email) {
-        LoginAttempt attempt = loginAttemptRepository.findByEmail(email).orElse(null);
-        if (attempt != null && attempt.isLocked()) {
-            long minutesLeft = LocalDateTime.now().until(attempt.getLockedUntil(), ChronoUnit.MINUTES) + 1;
+        AttemptWindow window = windows.get(email);
+        LocalDateTime now = LocalDateTime.now();
+        if (window != null && window.isLocked(now)) {
+            long minutesLeft = now.until(window.lockedUntil(), ChronoUnit.MINUTES) + 1;
             log.warn("로그인 잠금 상태 - 이메일: {}, 남은 시간: {}분", email, minutesLeft);
             throw new RuntimeException("로그인 시도가 너무 많습니다. " + minutesLeft + "분 후에 다시 시도해주세요.");
         }
@@ -39,38 +86,195 @@ public class LoginAttemptService {
      * 로그인 실패 기록.
      * MAX_ATTEMPTS 초과 시 LOCKOUT_MINUTES 동안 잠금.
      */
-    @Transactional
     public void recordFailure(String email) {
-        LoginAttempt attempt = loginAttemptRepository.findByEmail(email).orElse(null);
-
-        if (attempt == null) {
-            attempt = LoginAttempt.builder()
-                    .email(email)
-                    .attemptCount(1)
-                    .firstAttemptAt(LocalDateTime.now())
-                    .build();
-        } else if (attempt.isWindowExpired(WINDOW_MINUTES)) {
-            // 윈도우 만료 → 카운트 리셋
-            attempt.setAttemptCount(1);
-            attempt.setFirstAttemptAt(LocalDateTime.now());
-            attempt.setLockedUntil(null);
-        } else {
-            attempt.setAttemptCount(attempt.getAttemptCount() + 1);
+        if (windows.size() >= maxTracked && !windows.containsKey(email)) {
+            evictOldest(EVICT_BATCH);
         }
 
-        if (attempt.getAttemptCount() >= MAX_ATTEMPTS) {
-            attempt.setLockedUntil(LocalDateTime.now().plusMinutes(LOCKOUT_MINUTES));
-            log.warn("로그인 잠금 설정 - 이메일: {}, {}회 실패, {}분간 잠금", email, attempt.getAttemptCount(), LOCKOUT_MINUTES);
+        LocalDateTime now = LocalDateTime.now();
+        AttemptWindow[] previous = new AttemptWindow[1];
+        AttemptWindow next = windows.compute(email, (key, current) -> {
+            previous[0] = current;
+            return nextWindow(current, now);
+        });
+
+        AttemptWindow current = previous[0];
+        if (current == null) {
+            arrivals.offer(email);
+        } else if (current.isWindowExpired(now) && current.persisted()) {
+            // 윈도우 만료로 카운트가 리셋됨 → 이전 잠금 행 해제 반영
+            pendingWrites.add(email);
         }
+        if (next.isLocked(now) && (current == null || !current.isLocked(now))) {
+            pendingWrites.add(email);
+            log.warn("로그인 잠금 설정 - 이메일: {}, {}회 실패, {}분간 잠금", email, next.count(), LOCKOUT_MINUTES);
+        }
+    }
 
-        loginAttemptRepository.save(attempt);
+    /** 실패 한 번을 반영한 다음 윈도우 (부수 효과 없음 — compute 안에서 호출). */
+    private static AttemptWindow nextWindow(AttemptWindow current, LocalDateTime now) {
+        AttemptWindow next;
+        if (current == null || current.isWindowExpired(now)) {
+            next = new AttemptWindow(1, now, null, false);
+        } else {
+            next = current.increment();
+        }
+        if (next.count() >= MAX_ATTEMPTS && !next.isLocked(now)) {
+            next = next.lock(now.plusMinutes(LOCKOUT_MINUTES));
+        }
+        return next;
     }
 
     /**
      * 로그인 성공 시 실패 기록 초기화.
+     * DB 에 잠금 행을 남긴 적이 있을 때만 삭제를 예약한다.
      */
-    @Transactional
     public void resetAttempts(String email) {
-        loginAttemptRepository.deleteByEmail(email);
+        AttemptWindow removed = windows.remove(email);
+        if (removed != null && removed.persisted()) {
+            pendingWrites.add(email);
+        }
+    }
+
+    /**
+     * 전이가 생긴 이메일의 현재 잠금 상태를 login_attempts 에 반영 (1초마다).
+     * 잠긴 윈도우면 저장하고, 윈도우가 없거나 잠기지 않았으면 행을 삭제한다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushPendingWrites() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        for (String email : pendingWrites) {
+            if (!pendingWrites.remove(email)) {
+                continue;
+            }
+            // 표시를 먼저 지우고 상태를 읽으므로, 그 뒤에 생긴 전이는 다시 표시되어 다음 주기에 반영된다
+            AttemptWindow window = windows.get(email);
+            try {
+                if (window == null || window.lockedUntil() == null) {
+                    loginAttemptRepository.deleteByEmail(email);
+                } else {
+                    persistLock(email, window);
+                }
+            } catch (Exception e) {
+                pendingWrites.add(email);
+                log.error("로그인 잠금 상태 저장 실패 - 이메일: {}, error: {}", email, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 만료된 윈도우 정리 (1분마다). 상한 초과 시 잠기지 않은 항목을 오래된 것부터 추가로 제거한다.
+     */
+    @Scheduled(fixedRate = 60_000)
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        windows.forEach((email, window) -> {
+            if (!window.isLocked(now) && window.isWindowExpired(now) && windows.remove(email, window)
+                    && window.persisted()) {
+                pendingWrites.add(email);
+            }
+        });
+        arrivals.removeIf(email -> !windows.containsKey(email));
+        if (windows.size() >= maxTracked) {
+            evictOldest(windows.size() - maxTracked + EVICT_BATCH);
+            log.warn("로그인 시도 추적 상한 도달 - 잠기지 않은 항목 정리 후 {}건", windows.size());
+        }
+    }
+
+    /**
+     * 상한 아래로 내려갈 때까지 가장 오래된 항목부터 최대 limit 개를 보고 잠기지 않은 것을 제거한다.
+     * 잠긴 항목은 뒤로 보낸다.
+     */
+    private void evictOldest(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < limit && windows.size() >= maxTracked; i++) {
+            String email = arrivals.poll();
+            if (email == null) {
+                return;
+            }
+            AttemptWindow window = windows.get(email);
+            if (window == null) {
+                continue;
+            }
+            if (window.isLocked(now)) {
+                arrivals.offer(email);
+            } else if (windows.remove(email, window) && window.persisted()) {
+                pendingWrites.add(email);
+            }
+        }
+    }
+
+    /**
+     * 기동 시 아직 유효한 잠금을 DB 에서 복구.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreLocks() {
+        try {
+            int restored = 0;
+            for (LoginAttempt attempt : loginAttemptRepository.findAllByLockedUntilAfter(LocalDateTime.now())) {
+                windows.put(attempt.getEmail(), new AttemptWindow(
+                        attempt.getAttemptCount(), attempt.getFirstAttemptAt(), attempt.getLockedUntil(), true));
+                restored++;
+            }
+            if (restored > 0) {
+                log.info("로그인 잠금 상태 복구: {}건", restored);
+            }
+        } catch (Exception e) {
+            log.warn("로그인 잠금 상태 복구 실패 (건너뜀): {}", e.getMessage());
+        }
+    }
+
+    /** 종료 시 남은 전이 반영. */
+    @PreDestroy
+    void flushOnShutdown() {
+        flushPendingWrites();
+    }
+
+    private void persistLock(String email, AttemptWindow window) {
+        LoginAttempt attempt = loginAttemptRepository.findByEmail(email)
+                .orElseGet(() -> LoginAttempt.builder().email(email).build());
+        attempt.setAttemptCount(window.count());
+        attempt.setFirstAttemptAt(window.firstAttemptAt());
+        attempt.setLockedUntil(window.lockedUntil());
+        loginAttemptRepository.save(attempt);
+    }
+
+    boolean isTracked(String email) {
+        return windows.containsKey(email);
+    }
+
+    int trackedCount() {
+        return windows.size();
+    }
+
+    int pendingCount() {
+        return pendingWrites.size();
+    }
+
+    /**
+     * 시도 윈도우 스냅샷.
+     *
+     * @param persisted login_attempts 에 잠금 행이 (반영 예정 포함) 존재하는지
+     */
+    record AttemptWindow(int count, LocalDateTime firstAttemptAt, LocalDateTime lockedUntil, boolean persisted) {
+
+        boolean isLocked(LocalDateTime now) {
+            return lockedUntil != null && now.isBefore(lockedUntil);
+        }
+
+        boolean isWindowExpired(LocalDateTime now) {
+            return now.isAfter(firstAttemptAt.plusMinutes(WINDOW_MINUTES))
+                    && (lockedUntil == null || !now.isBefore(lockedUntil));
+        }
+
+        AttemptWindow increment() {
+            return new AttemptWindow(count + 1, firstAttemptAt, lockedUntil, persisted);
+        }
+
+        AttemptWindow lock(LocalDateTime until) {
+            return new AttemptWindow(count, firstAttemptAt, until, true);
+        }
     }
 }
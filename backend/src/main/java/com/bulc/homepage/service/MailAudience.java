@@ -0,0 +1,120 @@
+package com.bulc.homepage.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 메일 수신자 집합을 (email, token, vars, dedup_key) 네 컬럼 SELECT 로 표현한다.
+ *
+ * <p>소스별 SELECT 를 UNION ALL 로 합친 뒤 DISTINCT ON (lower(email)) 으로 DB 에서 중복 제거하며,
+ * 이메일이 겹치면 앞선 소스(회원 → 컨택 → 직접 지정)를 우선한다.
+ * {@link MailJobService#enqueue} 가 이 SELECT 를 INSERT ... SELECT 로 큐 테이블에 바로 옮기므로
+ * 수신자 행은 애플리케이션 메모리를 거치지 않는다.</p>
+ *
+ * <p>vars 는 수신자별 템플릿 변수(jsonb), dedup_key 는 email_dedup_keys 예약 키다.
+ * deduplicated 이면 모든 행에 dedup_key 가 있어야 하고, 등록 시 키를 예약하지 못한(이미 있는) 행은 빠진다.</p>
+ *
+ * @param sql           email, token, vars, dedup_key 컬럼을 내는 SELECT (소스가 없으면 null)
+ * @param args          sql 바인딩 파라미터
+ * @param deduplicated  dedup_key 로 email_dedup_keys 에 예약 후 등록할지
+ */
+public record MailAudience(String sql, Object[] args, boolean deduplicated) {
+
+    /**
+     * 광고성 수신자: 활성 + 마케팅 동의 회원, 미해지 + 광고성 동의 컨택. token 은 수신거부 토큰.
+     * 회원 토큰은 호출 전에 {@code UserRepository#backfillMarketingUnsubscribeTokens} 로 채워 둬야 한다.
+     */
+    public static MailAudience promotional(boolean includeMembers, boolean includeContacts) {
+        List<String> sources = new ArrayList<>();
+        if (includeMembers) {
+            sources.add("""
+                    SELECT trim(u.email) AS email, u.unsubscribe_token AS token, 1 AS priority
+                      FROM users u
+                     WHERE u.is_active = true AND u.marketing_agreed = true""");
+        }
+        if (includeContacts) {
+            sources.add("""
+                    SELECT trim(lc.email), lc.unsubscribe_token::text, 2
+                      FROM lead_contacts lc
+                     WHERE lc.unsubscribed_at IS NULL AND lc.opt_in_marketing = true""");
+        }
+        return of(sources, new Object[0]);
+    }
+
+    /**
+     * 안내성 수신자: 활성 회원 전체, 미해지 + 안내성 동의 컨택, 직접 지정 이메일. token 은 없음.
+     */
+    public static MailAudience operational(boolean includeMembers, boolean includeContacts,
+                                           List<String> explicitRecipients) {
+        List<String> sources = new ArrayList<>();
+        Object[] args = new Object[0];
+        if (includeMembers) {
+            sources.add("""
+                    SELECT trim(u.email) AS email, NULL::varchar AS token, 1 AS priority
+                      FROM users u
+                     WHERE u.is_active = true""");
+        }
+        if (includeContacts) {
+            sources.add("""
+                    SELECT trim(lc.email), NULL::varchar, 2
+                      FROM lead_contacts lc
+                     WHERE lc.unsubscribed_at IS NULL AND lc.opt_in_transactional = true""");
+        }
+        if (explicitRecipients != null && !explicitRecipients.isEmpty()) {
+            sources.add("""
+                    SELECT trim(e.email), NULL::varchar, 3
+                      FROM unnest(?::varchar[]) AS e(email)""");
+            args = new Object[]{explicitRecipients.stream()
+                    .filter(email -> email != null)
+                    .toArray(String[]::new)};
+        }
+        return of(sources, args);
+    }
+
+    /**
+     * 라이선스 만료 알림 수신자: valid_until 이 [start, end) 인 ACTIVE USER 라이선스의 활성 회원.
+     *
+     * <p>라이선스·회원·플랜명을 한 SELECT 로 조인하고, 한 회원에 여러 건이면 가장 먼저 만료되는 라이선스 하나만 남긴다.
+     * dedup_key 는 {@code license_expiry:{userId}:{today}} — 같은 날 다시 돌거나 D-30/D-7 이 겹쳐도 회원당 하루 한 통.</p>
+     */
+    public static MailAudience licenseExpiry(Instant start, Instant end, LocalDate today,
+                                             LocalDate validUntil, long daysRemaining) {
+        String sql = """
+                SELECT DISTINCT ON (u.id)
+                       trim(u.email) AS email,
+                       NULL::varchar AS token,
+                       jsonb_build_object(
+                           'plan_name', COALESCE(NULLIF(trim(p.name), ''), 'BUL:C'),
+                           'valid_until', ?::text,
+                           'days_remaining', ?::text) AS vars,
+                       'license_expiry:' || u.id || ':' || ?::text AS dedup_key
+                  FROM licenses l
+                  JOIN users u ON u.id = l.owner_id
+                  LEFT JOIN license_plans p ON p.id = l.plan_id
+                 WHERE l.status = 'ACTIVE' AND l.owner_type = 'USER'
+                   AND l.valid_until >= ? AND l.valid_until < ?
+                   AND u.is_active = true AND trim(u.email) <> ''
+                 ORDER BY u.id, l.valid_until""";
+        return new MailAudience(sql, new Object[]{validUntil.toString(), String.valueOf(daysRemaining),
+                today.toString(), Timestamp.from(start), Timestamp.from(end)}, true);
+    }
+
+    private static MailAudience of(List<String> sources, Object[] args) {
+        if (sources.isEmpty()) {
+            return new MailAudience(null, args, false);
+        }
+        // 첫 SELECT 의 별칭이 컬럼명이 되므로 회원 소스가 없을 때를 위해 바깥에서 다시 이름을 붙인다
+        String sql = "SELECT DISTINCT ON (lower(s.email)) s.email, s.token, NULL::jsonb AS vars, NULL::varchar AS dedup_key "
+                + "FROM (" + String.join("\nUNION ALL\n", sources)
+                + ") AS s(email, token, priority) WHERE s.email IS NOT NULL AND s.email <> '' "
+                + "ORDER BY lower(s.email), s.priority";
+        return new MailAudience(sql, args, false);
+    }
+
+    public boolean isEmpty() {
+        return sql == null;
+    }
+}
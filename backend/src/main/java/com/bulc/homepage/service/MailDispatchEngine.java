@@ -0,0 +1,210 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.GraphMailProperties;
+import com.bulc.homepage.config.MailDispatchProperties;
+import com.bulc.homepage.email.MailDeliveryResult;
+import com.bulc.homepage.email.MailTransportRouter;
+import com.bulc.homepage.email.OutboundMail;
+import com.bulc.homepage.service.MailJobService.Claim;
+import com.bulc.homepage.service.MailJobService.Outcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 메일 발송 엔진.
+ *
+ * <p>기동 후 전용 스레드에서 다음을 반복한다 (@Scheduled 스레드를 몇 시간씩 붙잡지 않도록 별도 스레드).</p>
+ * <ol>
+ *   <li>점유: 발송 시각이 된 수신자 batchSize 명을 SKIP LOCKED 로 점유 ({@link MailJobService#claimDue}).</li>
+ *   <li>발송: Graph batch 크기로 나눠 {@code concurrency} 개 워커가 인스턴스당 분당 {@code ratePerMinute} 건 속도로
+ *       카테고리별 transport({@link MailTransportRouter}) 로 보낸다 (요청 제한·연결 재사용은 transport 가 한다).</li>
+ *   <li>반영: 결과를 모아 한 트랜잭션으로 batch 반영 ({@link MailJobService#recordResults}).</li>
+ * </ol>
+ * <p>대기 중인 수신자가 없으면 {@link #IDLE_DELAY_MS} 쉬었다가 다시 확인한다.
+ * 인스턴스가 여러 대여도 SKIP LOCKED 로 수신자를 나눠 가진다.</p>
+ *
+ * <p>메트릭: {@code bulc.mail.dispatch.deliveries} (result=sent|failed).</p>
+ */
+@Slf4j
+@Service
+public class MailDispatchEngine {
+
+    static final long IDLE_DELAY_MS = 2_000;
+
+    private final MailJobService mailJobService;
+    private final EmailService emailService;
+    private final MailTransportRouter transportRouter;
+    private final MailDispatchProperties properties;
+    private final GraphMailProperties graphProperties;
+    private final ExecutorService loop;
+    private final ExecutorService workers;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    private final Object paceLock = new Object();
+    private long nextSendAt = System.nanoTime();
+    private volatile boolean stopped = false;
+
+    public MailDispatchEngine(MailJobService mailJobService,
+                              EmailService emailService,
+                              MailTransportRouter transportRouter,
+                              MailDispatchProperties properties,
+                              GraphMailProperties graphProperties,
+                              MeterRegistry meterRegistry) {
+        this.mailJobService = mailJobService;
+        this.emailService = emailService;
+        this.transportRouter = transportRouter;
+        this.properties = properties;
+        this.graphProperties = graphProperties;
+
+        this.loop = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "mail-dispatch");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, properties.getConcurrency()), r -> {
+            Thread t = new Thread(r, "mail-dispatch-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.sentCounter = Counter.builder("bulc.mail.dispatch.deliveries").tag("result", "sent")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("bulc.mail.dispatch.deliveries").tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loop.submit(this::run);
+        log.info("[대량메일] 발송 엔진 시작: 워커={}, 분당={}건, 점유 단위={}명",
+                properties.getConcurrency(), properties.getRatePerMinute(), properties.getBatchSize());
+    }
+
+    private void run() {
+        while (!stopped) {
+            try {
+                List<Claim> claims = mailJobService.claimDue(LocalDateTime.now(), properties.getBatchSize());
+                if (claims.isEmpty()) {
+                    Thread.sleep(IDLE_DELAY_MS);
+                    continue;
+                }
+                mailJobService.recordResults(sendAll(claims));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 점유된 수신자는 lease 가 지나면 다시 발송 대상이 된다
+                log.error("[대량메일] 발송 루프 오류: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(IDLE_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Graph batch 크기로 나눠 워커에서 보내고 결과를 모은다. prepare·transport 가 예외를 던진 묶음은
+     * 그 수신자 모두를 실패 시도로 반영한다 (결과를 빠뜨리면 lease 가 지날 때까지 재시도 횟수 없이 맴돈다).
+     */
+    List<Outcome> sendAll(List<Claim> claims) throws InterruptedException {
+        int chunkSize = Math.max(1, graphProperties.getBatchSize());
+        List<List<Claim>> chunks = new ArrayList<>();
+        List<Future<List<Outcome>>> futures = new ArrayList<>();
+        for (int from = 0; from < claims.size(); from += chunkSize) {
+            List<Claim> chunk = claims.subList(from, Math.min(from + chunkSize, claims.size()));
+            chunks.add(chunk);
+            futures.add(workers.submit(() -> deliver(chunk)));
+        }
+        List<Outcome> outcomes = new ArrayList<>(claims.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                outcomes.addAll(futures.get(i).get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof InterruptedException) {
+                    // 종료 중 인터럽트 — 미반영 건은 lease 후 재발송
+                    log.warn("[대량메일] 발송 작업 중단: {}", cause.getMessage());
+                    continue;
+                }
+                log.error("[대량메일] 발송 묶음 오류 - {}건 실패 처리: {}", chunks.get(i).size(), cause.getMessage(), cause);
+                String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+                for (Claim claim : chunks.get(i)) {
+                    failedCounter.increment();
+                    outcomes.add(new Outcome(claim, error));
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    private List<Outcome> deliver(List<Claim> chunk) throws InterruptedException {
+        pace(chunk.size());
+        List<OutboundMail> mails = chunk.stream()
+                .map(c -> emailService.prepare(c.category(), c.email(), c.unsubscribeToken(), c.subject(), c.html()))
+                .toList();
+        List<MailDeliveryResult> results = transportRouter.send(mails);
+
+        List<Outcome> outcomes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Claim claim = chunk.get(i);
+            MailDeliveryResult result = results.get(i);
+            if (result.isSent()) {
+                sentCounter.increment();
+                outcomes.add(new Outcome(claim, null));
+                continue;
+            }
+            failedCounter.increment();
+            log.warn("[대량메일] 발송 실패 - jobId={}, {} ({}회차): {}",
+                    claim.jobId(), claim.email(), claim.attempts(), result.error());
+            outcomes.add(new Outcome(claim, truncate(result.error())));
+        }
+        return outcomes;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+
+    /**
+     * 분당 ratePerMinute 건이 되도록 messages 건 몫의 발송 시각을 배정하고 그때까지 기다린다.
+     */
+    private void pace(int messages) throws InterruptedException {
+        long interval = TimeUnit.MINUTES.toNanos(1) / Math.max(1, properties.getRatePerMinute());
+        long slot;
+        synchronized (paceLock) {
+            slot = Math.max(System.nanoTime(), nextSendAt);
+            nextSendAt = slot + interval * messages;
+        }
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopped = true;
+        loop.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,304 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.MailDispatchProperties;
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailTemplate;
+import com.bulc.homepage.entity.EmailLog;
+import com.bulc.homepage.entity.MailJob;
+import com.bulc.homepage.entity.MailJobRecipient;
+import com.bulc.homepage.repository.MailJobRecipientRepository;
+import com.bulc.homepage.repository.MailJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 메일 발송 큐 (mail_jobs / mail_job_recipients) 의 DB 작업.
+ *
+ * <ul>
+ *   <li>등록: 작업 1행 + 수신자 행을 INSERT ... SELECT — 관리자 요청은 등록만 하고 바로 응답한다.
+ *       중복 방지 수신자 집합은 같은 문장에서 email_dedup_keys 에 키를 예약하고, 예약된 행만 등록한다.</li>
+ *   <li>점유: 발송 시각이 된 수신자를 SKIP LOCKED 로 잠그고 lease 만큼 미뤄 둔 뒤 커밋.
+ *       수신자별 vars 가 있으면 작업 제목·본문을 컴파일해 그 값으로 채운다.</li>
+ *   <li>반영: 점유 단위로 수신자 상태 batch UPDATE + email_log batch INSERT(예약 행은 UPDATE) + 작업 건수 누적을 한 트랜잭션으로.</li>
+ * </ul>
+ *
+ * 실제 발송은 {@link MailDispatchEngine} 이 트랜잭션 밖에서 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailJobService {
+
+    private final MailJobRepository mailJobRepository;
+    private final MailJobRecipientRepository recipientRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MailDispatchProperties properties;
+
+    /** 점유된 발송 1건 (작업 본문 포함, vars 가 있으면 수신자별로 채운 제목·본문). */
+    public record Claim(Long recipientId, Long jobId, EmailCategory category, String templateKey,
+                        String subject, String html, String email, String unsubscribeToken, int attempts,
+                        String dedupKey) {}
+
+    /** 발송 결과 1건. error 가 null 이면 성공. */
+    public record Outcome(Claim claim, String error) {
+        public boolean sent() {
+            return error == null;
+        }
+    }
+
+    /** 작업 진행 상황. sentPerMinute 는 시작 이후 처리(성공+실패) 속도. */
+    public record MailJobProgress(Long id, EmailCategory category, String templateKey, String subject,
+                                  MailJob.Status status, int totalCount, int sentCount, int failedCount,
+                                  int pendingCount, LocalDateTime createdAt, LocalDateTime startedAt,
+                                  LocalDateTime finishedAt, double sentPerMinute) {
+
+        static MailJobProgress of(MailJob job) {
+            int done = job.getSentCount() + job.getFailedCount();
+            double perMinute = 0;
+            if (job.getStartedAt() != null) {
+                LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+                long seconds = Math.max(1, Duration.between(job.getStartedAt(), end).getSeconds());
+                perMinute = Math.round(done * 600.0 / seconds) / 10.0;
+            }
+            return new MailJobProgress(job.getId(), job.getCategory(), job.getTemplateKey(), job.getSubject(),
+                    job.getStatus(), job.getTotalCount(), job.getSentCount(), job.getFailedCount(),
+                    Math.max(0, job.getTotalCount() - done), job.getCreatedAt(), job.getStartedAt(),
+                    job.getFinishedAt(), perMinute);
+        }
+    }
+
+    /**
+     * 발송 작업 등록. 수신자는 {@link MailAudience} SELECT 를 INSERT ... SELECT 로 한 번에 큐에 옮긴다
+     * (수신자 수와 무관하게 애플리케이션 메모리는 일정). 수신자가 없으면 바로 COMPLETED 로 남긴다.
+     *
+     * <p>{@link MailAudience#deduplicated()} 이면 email_dedup_keys 에 키를 먼저 넣고 (ON CONFLICT DO NOTHING),
+     * 새로 예약된 키의 수신자만 email_log QUEUED 행과 함께 등록한다. 예약과 등록이 한 문장·한 트랜잭션이라
+     * 등록 도중 죽으면 둘 다 롤백되어 재실행 시 다시 등록되고, 커밋된 뒤 재실행하면 모두 이미 예약되어 빠진다.
+     * 여러 인스턴스가 동시에 돌아도 PK 가 한쪽만 통과시킨다.</p>
+     */
+    @Transactional
+    public MailJob enqueue(EmailCategory category, String templateKey, String subject, String html,
+                           MailAudience audience, UUID createdBy) {
+        LocalDateTime now = LocalDateTime.now();
+        MailJob job = mailJobRepository.save(MailJob.builder()
+                .category(category)
+                .templateKey(templateKey)
+                .subject(subject)
+                .html(html)
+                .createdBy(createdBy)
+                .build());
+
+        int total = 0;
+        if (!audience.isEmpty()) {
+            Object[] args = new Object[audience.args().length + 2];
+            args[0] = job.getId();
+            args[1] = Timestamp.valueOf(now);
+            System.arraycopy(audience.args(), 0, args, 2, audience.args().length);
+            total = audience.deduplicated()
+                    ? enqueueReserved(job, now, audience)
+                    : jdbcTemplate.update(
+                            "INSERT INTO mail_job_recipients (job_id, email, unsubscribe_token, vars, dedup_key, "
+                                    + "status, attempts, next_attempt_at) "
+                                    + "SELECT ?, a.email, a.token, a.vars, a.dedup_key, 'PENDING', 0, ? "
+                                    + "FROM (" + audience.sql() + ") a", args);
+        }
+        job.setTotalCount(total);
+        if (total == 0) {
+            job.setStatus(MailJob.Status.COMPLETED);
+            job.setFinishedAt(now);
+        }
+        log.info("[대량메일] 작업 등록: jobId={}, category={}, templateKey={}, 대상={}명",
+                job.getId(), category, templateKey, total);
+        return job;
+    }
+
+    private int enqueueReserved(MailJob job, LocalDateTime now, MailAudience audience) {
+        Object[] args = new Object[audience.args().length + 6];
+        System.arraycopy(audience.args(), 0, args, 0, audience.args().length);
+        int i = audience.args().length;
+        args[i++] = Timestamp.valueOf(now);
+        args[i++] = job.getCategory().name();
+        args[i++] = job.getTemplateKey();
+        args[i++] = Timestamp.valueOf(now);
+        args[i++] = job.getId();
+        args[i] = Timestamp.valueOf(now);
+        return jdbcTemplate.update("WITH a AS (" + audience.sql() + "), "
+                + "reserved AS ("
+                + "INSERT INTO email_dedup_keys (dedup_key, created_at) SELECT a.dedup_key, ? FROM a "
+                + "ON CONFLICT (dedup_key) DO NOTHING RETURNING dedup_key), "
+                + "queued AS ("
+                + "INSERT INTO email_log (recipient_email, category, template_key, status, sent_at, dedup_key) "
+                + "SELECT a.email, ?, ?, 'QUEUED', ?, a.dedup_key FROM a JOIN reserved r ON r.dedup_key = a.dedup_key) "
+                + "INSERT INTO mail_job_recipients (job_id, email, unsubscribe_token, vars, dedup_key, "
+                + "status, attempts, next_attempt_at) "
+                + "SELECT ?, a.email, a.token, a.vars, a.dedup_key, 'PENDING', 0, ? "
+                + "FROM a JOIN reserved r ON r.dedup_key = a.dedup_key", args);
+    }
+
+    /**
+     * 발송 시각이 된 수신자를 점유한다. 점유 즉시 커밋되므로 발송 중에는 잠금을 잡지 않는다.
+     */
+    @Transactional
+    public List<Claim> claimDue(LocalDateTime now, int limit) {
+        List<MailJobRecipient> due = recipientRepository.claimDue(now, PageRequest.of(0, limit));
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        for (MailJobRecipient r : due) {
+            r.setAttempts(r.getAttempts() + 1);
+            r.setNextAttemptAt(now.plus(properties.getLease()));
+        }
+        recipientRepository.saveAll(due);
+
+        Set<Long> jobIds = due.stream().map(MailJobRecipient::getJobId).collect(Collectors.toSet());
+        Map<Long, MailJob> jobs = mailJobRepository.findAllById(jobIds).stream()
+                .collect(Collectors.toMap(MailJob::getId, Function.identity()));
+        for (Long jobId : jobIds) {
+            jdbcTemplate.update("UPDATE mail_jobs SET status = 'RUNNING', started_at = ? WHERE id = ? AND status = 'QUEUED'",
+                    Timestamp.valueOf(now), jobId);
+        }
+
+        // vars 가 있는 수신자용 — 작업마다 제목·본문을 한 번만 컴파일
+        Map<Long, MailTemplate[]> templates = new HashMap<>();
+        List<Claim> claims = new ArrayList<>(due.size());
+        for (MailJobRecipient r : due) {
+            MailJob job = jobs.get(r.getJobId());
+            String subject = job.getSubject();
+            String html = job.getHtml();
+            if (r.getVars() != null && !r.getVars().isEmpty()) {
+                MailTemplate[] compiled = templates.computeIfAbsent(job.getId(), id -> new MailTemplate[]{
+                        MailTemplate.compile(job.getSubject()), MailTemplate.compile(job.getHtml())});
+                subject = compiled[0].render(r.getVars());
+                html = compiled[1].render(r.getVars());
+            }
+            claims.add(new Claim(r.getId(), job.getId(), job.getCategory(), job.getTemplateKey(), subject,
+                    html, r.getEmail(), r.getUnsubscribeToken(), r.getAttempts(), r.getDedupKey()));
+        }
+        return claims;
+    }
+
+    /**
+     * 점유 단위 발송 결과 반영.
+     *
+     * 성공은 SENT, 실패는 최대 시도 횟수 전이면 백오프 후 재시도, 넘으면 FAILED.
+     * 모든 시도를 email_log 에 batch INSERT 하고 (dedup_key 가 있는 최종 결과는 예약 행을 UPDATE), 작업 건수는 UPDATE 로 누적한다 (여러 인스턴스가 같은 작업을 나눠 보내도 안전).
+     * 남은 PENDING 수신자가 없는 작업은 COMPLETED 로 닫는다.
+     */
+    @Transactional
+    public void recordResults(List<Outcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+
+        List<Object[]> sent = new ArrayList<>();
+        List<Object[]> failed = new ArrayList<>();
+        List<Object[]> retry = new ArrayList<>();
+        List<Object[]> logs = new ArrayList<>(outcomes.size());
+        List<Object[]> reservations = new ArrayList<>();
+        Map<Long, int[]> counts = new LinkedHashMap<>();
+
+        for (Outcome o : outcomes) {
+            Claim c = o.claim();
+            int[] jobCounts = counts.computeIfAbsent(c.jobId(), id -> new int[2]);
+            if (o.sent()) {
+                sent.add(new Object[]{nowTs, c.recipientId()});
+                jobCounts[0]++;
+                if (c.dedupKey() != null) {
+                    reservations.add(new Object[]{EmailLog.Status.SUCCESS.name(), nowTs, null, c.dedupKey()});
+                } else {
+                    logs.add(new Object[]{c.email(), c.category().name(), c.templateKey(),
+                            EmailLog.Status.SUCCESS.name(), nowTs, null});
+                }
+                continue;
+            }
+            if (c.attempts() >= properties.getMaxAttempts()) {
+                failed.add(new Object[]{o.error(), c.recipientId()});
+                jobCounts[1]++;
+                if (c.dedupKey() != null) {
+                    reservations.add(new Object[]{EmailLog.Status.FAILED.name(), nowTs, o.error(), c.dedupKey()});
+                    continue;
+                }
+            } else {
+                retry.add(new Object[]{Timestamp.valueOf(now.plus(backoff(c.attempts()))), o.error(), c.recipientId()});
+            }
+            logs.add(new Object[]{c.email(), c.category().name(), c.templateKey(),
+                    EmailLog.Status.FAILED.name(), nowTs, o.error()});
+        }
+
+        if (!sent.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE mail_job_recipients SET status = 'SENT', sent_at = ?, last_error = NULL WHERE id = ?", sent);
+        }
+        if (!failed.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE mail_job_recipients SET status = 'FAILED', last_error = ? WHERE id = ?", failed);
+        }
+        if (!retry.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE mail_job_recipients SET next_attempt_at = ?, last_error = ? WHERE id = ?", retry);
+        }
+        if (!logs.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO email_log (recipient_email, category, template_key, status, sent_at, error_message) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)", logs);
+        }
+        if (!reservations.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE email_log SET status = ?, sent_at = ?, error_message = ? "
+                            + "WHERE dedup_key = ? AND status = 'QUEUED'", reservations);
+        }
+
+        for (Map.Entry<Long, int[]> e : counts.entrySet()) {
+            jdbcTemplate.update(
+                    "UPDATE mail_jobs SET sent_count = sent_count + ?, failed_count = failed_count + ? WHERE id = ?",
+                    e.getValue()[0], e.getValue()[1], e.getKey());
+            int completed = jdbcTemplate.update("""
+                    UPDATE mail_jobs j SET status = 'COMPLETED', finished_at = ?
+                     WHERE j.id = ? AND j.status <> 'COMPLETED'
+                       AND NOT EXISTS (SELECT 1 FROM mail_job_recipients r WHERE r.job_id = j.id AND r.status = 'PENDING')
+                    """, nowTs, e.getKey());
+            if (completed > 0) {
+                log.info("[대량메일] 작업 완료: jobId={}", e.getKey());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<MailJobProgress> getProgress(Long jobId) {
+        return mailJobRepository.findById(jobId).map(MailJobProgress::of);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MailJobProgress> recentJobs(int limit) {
+        return mailJobRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit)).stream()
+                .map(MailJobProgress::of)
+                .toList();
+    }
+
+    /**
+     * retryBackoff, 2배, 4배 ...
+     */
+    private Duration backoff(int attempts) {
+        return properties.getRetryBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 10));
+    }
+}
@@ -1,18 +1,19 @@
 package com.bulc.homepage.service;
 
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailLaneDispatcher;
 import com.bulc.homepage.entity.PasswordResetToken;
 import com.bulc.homepage.entity.User;
 import com.bulc.homepage.repository.PasswordResetTokenRepository;
 import com.bulc.homepage.repository.UserRepository;
+import com.bulc.homepage.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Random;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -22,7 +23,8 @@ public class PasswordResetService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
-    private final PasswordEncoder passwordEncoder;
+    private final MailLaneDispatcher mailLaneDispatcher;
+    private final PasswordHashingService passwordHashingService;
 
     private static final int CODE_LENGTH = 6;
     private static final int EXPIRATION_MINUTES = 5;
@@ -60,14 +62,9 @@ public class PasswordResetService {
 
         log.info("비밀번호 재설정 코드 발송 - 이메일: {}", email);
 
-        // 비동기 이메일 발송 (DB에 코드 저장 후 즉시 응답)
-        CompletableFuture.runAsync(() -> {
-            try {
-                emailService.sendPasswordResetEmail(email, code);
-            } catch (Exception e) {
-                log.error("비밀번호 재설정 이메일 발송 실패 (비동기) - 이메일: {}, 오류: {}", email, e.getMessage());
-            }
-        });
+        // 커밋 후 ACCOUNT lane 으로 비동기 발송 (요청은 즉시 응답)
+        mailLaneDispatcher.dispatchAfterCommit(EmailCategory.ACCOUNT, "비밀번호 재설정 코드 " + email,
+                () -> emailService.sendPasswordResetEmail(email, code));
     }
 
     /**
@@ -113,7 +110,7 @@ public class PasswordResetService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
+        user.setPasswordHash(passwordHashingService.encode(newPassword));
         userRepository.save(user);
 
         // 토큰 삭제
@@ -0,0 +1,149 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.entity.Payment;
+import com.bulc.homepage.entity.PricePlan;
+import com.bulc.homepage.entity.Subscription;
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.domain.UsageCategory;
+import com.bulc.homepage.licensing.dto.LicenseIssueResult;
+import com.bulc.homepage.licensing.repository.LicensePlanRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.LicenseService;
+import com.bulc.homepage.outbox.OutboxHandler;
+import com.bulc.homepage.repository.PaymentRepository;
+import com.bulc.homepage.repository.SubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 결제 완료 후속 처리 (아웃박스 {@value #EVENT_TYPE}).
+ *
+ * <p>결제 승인·웹훅 요청은 결제 행과 이 이벤트만 커밋하고 응답하며, 구독 생성과 라이선스 발급은
+ * 여기서 비동기로 수행한다. 재시도돼도 결제에 연결된 구독, 주문 ID 로 발급된 라이선스가 있으면
+ * 해당 단계를 건너뛴다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentFulfillmentHandler implements OutboxHandler {
+
+    public static final String EVENT_TYPE = "PAYMENT_COMPLETED";
+
+    private final PaymentRepository paymentRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final LicenseService licenseService;
+    private final LicenseRepository licenseRepository;
+    private final LicensePlanRepository licensePlanRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 결제 완료 이벤트 payload.
+     */
+    public static Map<String, Object> payload(Payment payment, String orderId) {
+        return Map.of("paymentId", payment.getId(), "orderId", orderId);
+    }
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        long paymentId = payload.path("paymentId").asLong();
+        String orderId = payload.path("orderId").asText();
+
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalStateException("결제 정보를 찾을 수 없습니다: paymentId=" + paymentId));
+        if (!"C".equals(payment.getStatus())) {
+            log.warn("[결제후속] 완료되지 않은 결제 - orderId={}, status={}", orderId, payment.getStatus());
+            return;
+        }
+
+        PricePlan pricePlan = payment.getPricePlan();
+        if (pricePlan == null) {
+            log.warn("[결제후속] 요금제 미연결 - orderId={}, paymentId={}", orderId, paymentId);
+            return;
+        }
+
+        // payment.userEmail 은 실제로는 UUID 문자열 (PaymentController 에서 인증 식별자 그대로 저장)
+        UUID userId = payment.getUserId() != null ? payment.getUserId() : UUID.fromString(payment.getUserEmail());
+
+        if (payment.getSubscription() == null) {
+            Subscription subscription = createSubscription(userId, pricePlan);
+            payment.setSubscription(subscription);
+            paymentRepository.save(payment);
+            log.info("[결제후속] 구독 생성 - orderId={}, subscriptionId={}, endDate={}",
+                    orderId, subscription.getId(), subscription.getEndDate());
+        }
+
+        if (pricePlan.getLicensePlanId() == null) {
+            log.warn("[결제후속] 라이선스 플랜 미연결 - orderId={}, pricePlanId={}", orderId, pricePlan.getId());
+            return;
+        }
+        issueLicense(payment, userId, pricePlan.getLicensePlanId(), orderId);
+    }
+
+    private void issueLicense(Payment payment, UUID userId, UUID licensePlanId, String orderId) {
+        UUID sourceOrderId = UUID.nameUUIDFromBytes(orderId.getBytes(StandardCharsets.UTF_8));
+        if (licenseRepository.findBySourceOrderId(sourceOrderId).isPresent()) {
+            log.info("[결제후속] 라이선스 이미 발급됨 - orderId={}", orderId);
+            return;
+        }
+
+        // LicenseService 가 예외를 던지면 이 트랜잭션 전체가 rollback-only 가 되므로,
+        // 재시도해도 바뀌지 않는 거절 사유는 미리 확인해 실패 사유만 남긴다.
+        Optional<LicensePlan> plan = licensePlanRepository.findAvailableById(licensePlanId);
+        if (plan.isEmpty()) {
+            recordLicenseFailure(payment, orderId, "사용할 수 없는 라이선스 플랜");
+            return;
+        }
+        if (licenseRepository.existsActiveOrPendingPaidLicense(OwnerType.USER, userId, plan.get().getProductId())) {
+            recordLicenseFailure(payment, orderId, "동일 제품 라이선스 보유 중");
+            return;
+        }
+
+        LicenseIssueResult licenseResult = licenseService.issueLicenseWithPlanForBilling(
+                OwnerType.USER,
+                userId,
+                licensePlanId,
+                sourceOrderId,
+                UsageCategory.COMMERCIAL
+        );
+        log.info("[결제후속] 라이선스 발급 성공 - orderId={}, licenseKey={}, validUntil={}",
+                orderId, licenseResult.licenseKey(), licenseResult.validUntil());
+    }
+
+    private void recordLicenseFailure(Payment payment, String orderId, String reason) {
+        log.error("[결제후속] 라이선스 발급 불가 (결제는 완료) - orderId={}, reason={}", orderId, reason);
+        payment.setFailReason("라이선스 발급 실패: " + reason);
+        paymentRepository.save(payment);
+    }
+
+    private Subscription createSubscription(UUID userId, PricePlan pricePlan) {
+        LocalDateTime now = LocalDateTime.now();
+        Subscription subscription = Subscription.builder()
+                .userId(userId)
+                .productCode(pricePlan.getProductCode())
+                .pricePlan(pricePlan)
+                .status("A")
+                .startDate(now)
+                .endDate(now.plusYears(1))
+                .autoRenew(false)
+                .billingCycle("YEARLY")
+                .build();
+        return subscriptionRepository.save(subscription);
+    }
+}
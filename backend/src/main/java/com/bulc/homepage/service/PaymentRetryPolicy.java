@@ -0,0 +1,98 @@
+package com.bulc.homepage.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구독 결제 실패 재시도 정책.
+ *
+ * <p>실패를 원인별로 분류해 재시도 간격과 횟수를 달리한다. 간격은 지수 증가 후
+ * [delay/2, delay] 구간에서 무작위로 뽑아(equal jitter) 같은 시각에 실패한 건들이
+ * 한꺼번에 다시 PG 로 몰리지 않게 한다.</p>
+ */
+public final class PaymentRetryPolicy {
+
+    /**
+     * 실패 분류.
+     */
+    public enum FailureClass {
+        /** PG 장애·타임아웃·네트워크 오류. 짧은 간격으로 여러 번. */
+        TRANSIENT(Duration.ofMinutes(10), Duration.ofHours(6), 5),
+        /** 카드사 거절·잔액 부족 등. 카드 상태가 바뀔 시간을 두고 드물게. */
+        DECLINED(Duration.ofHours(6), Duration.ofHours(24), 3),
+        /** 빌링키 무효·인증 오류 등 재시도해도 같은 결과. */
+        PERMANENT(Duration.ZERO, Duration.ZERO, 0);
+
+        private final Duration base;
+        private final Duration cap;
+        private final int maxFailures;
+
+        FailureClass(Duration base, Duration cap, int maxFailures) {
+            this.base = base;
+            this.cap = cap;
+            this.maxFailures = maxFailures;
+        }
+    }
+
+    /** 재시도해도 성공할 수 없는 토스 에러 코드. */
+    private static final Set<String> PERMANENT_CODES = Set.of(
+            "NOT_FOUND_BILLING", "INVALID_BILLING_KEY", "NOT_REGISTERED_CARD_COMPANY",
+            "INVALID_CARD_NUMBER", "UNAUTHORIZED_KEY", "FORBIDDEN_REQUEST", "INVALID_API_KEY");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private PaymentRetryPolicy() {
+    }
+
+    /**
+     * 예외(원인 체인 포함)로 실패 분류.
+     */
+    public static FailureClass classify(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ResourceAccessException || t instanceof HttpServerErrorException) {
+                return FailureClass.TRANSIENT;
+            }
+            if (t instanceof HttpClientErrorException clientError) {
+                if (clientError.getStatusCode().value() == 429) {
+                    return FailureClass.TRANSIENT;
+                }
+                return PERMANENT_CODES.contains(tossErrorCode(clientError))
+                        ? FailureClass.PERMANENT
+                        : FailureClass.DECLINED;
+            }
+        }
+        return FailureClass.TRANSIENT;
+    }
+
+    /**
+     * 다음 시도 시각. 더 이상 재시도하지 않으면 null.
+     *
+     * @param failures 지금까지의 실패 횟수 (이번 실패 포함)
+     */
+    public static LocalDateTime nextAttemptAt(FailureClass failureClass, int failures, LocalDateTime now) {
+        if (failures >= failureClass.maxFailures) {
+            return null;
+        }
+        long baseMillis = failureClass.base.toMillis();
+        long delay = Math.min(failureClass.cap.toMillis(), baseMillis << Math.min(Math.max(failures - 1, 0), 16));
+        long jittered = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        return now.plus(Duration.ofMillis(jittered));
+    }
+
+    private static String tossErrorCode(HttpClientErrorException e) {
+        try {
+            JsonNode body = OBJECT_MAPPER.readTree(e.getResponseBodyAsString());
+            return body.path("code").asText("");
+        } catch (Exception ignored) {
+            return "";
+        }
+    }
+}
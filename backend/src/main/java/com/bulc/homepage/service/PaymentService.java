@@ -4,6 +4,7 @@ import com.bulc.homepage.config.TossPaymentsConfig;
 import com.bulc.homepage.dto.BillingPaymentRequest;
 import com.bulc.homepage.dto.PaymentConfirmRequest;
 import com.bulc.homepage.dto.response.PaymentHistoryResponse;
+import com.bulc.homepage.entity.OutboxEvent;
 import com.bulc.homepage.entity.Payment;
 import com.bulc.homepage.entity.PaymentDetail;
 import com.bulc.homepage.entity.PricePlan;
@@ -14,7 +15,13 @@ import com.bulc.homepage.licensing.domain.UsageCategory;
 import com.bulc.homepage.licensing.dto.LicenseIssueResult;
 import com.bulc.homepage.licensing.exception.LicenseException;
 import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
 import com.bulc.homepage.licensing.service.LicenseService;
+import com.bulc.homepage.outbox.OutboxPublisher;
+import com.bulc.homepage.query.CursorPage;
+import com.bulc.homepage.query.PaymentQueryRepository;
+import com.bulc.homepage.query.PaymentSearchCond;
+import com.bulc.homepage.repository.OutboxEventRepository;
 import com.bulc.homepage.repository.PaymentRepository;
 import com.bulc.homepage.repository.PricePlanRepository;
 import com.bulc.homepage.repository.SubscriptionRepository;
@@ -26,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -49,42 +57,36 @@ public class PaymentService {
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
     private final LicenseService licenseService;
+    private final LicenseRepository licenseRepository;
+    private final OutboxEventRepository outboxEventRepository;
     private final TossPaymentsConfig tossPaymentsConfig;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
     private final BillingKeyService billingKeyService;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final PaymentQueryRepository paymentQueryRepository;
 
     /**
-     * 본인 결제 내역 조회 (MDP-576). 최신순. 민감 필드 제외 DTO로 변환.
+     * 본인 결제 내역 조회 (MDP-576). 최신순 keyset 페이징. 민감 필드 제외 DTO로 변환.
      */
     @Transactional(readOnly = true)
-    public List<PaymentHistoryResponse> getMyPaymentHistory(UUID userId) {
-        return paymentRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(p -> {
-                    PaymentDetail d = p.getPaymentDetail();
-                    String status = switch (p.getStatus() == null ? "" : p.getStatus()) {
-                        case "P" -> "PENDING";
-                        case "C" -> "COMPLETED";
-                        case "F" -> "FAILED";
-                        case "R" -> "REFUNDED";
-                        default -> p.getStatus();
-                    };
-                    return new PaymentHistoryResponse(
-                            d != null ? d.getOrderId() : null,
-                            p.getOrderName(),
-                            p.getAmount(),
-                            p.getCurrency(),
-                            status,
-                            d != null ? d.getPaymentMethod() : null,
-                            d != null ? d.getCardCompany() : null,
-                            d != null ? d.getCardNumber() : null,
-                            p.getPaidAt(),
-                            p.getCreatedAt(),
-                            p.getRefundedAt(),
-                            p.getRefundAmount()
-                    );
-                })
-                .toList();
+    public CursorPage<PaymentHistoryResponse> getMyPaymentHistory(UUID userId, String cursor, int size) {
+        return paymentQueryRepository.search(PaymentSearchCond.ofUser(userId, cursor, size))
+                .map(row -> new PaymentHistoryResponse(
+                        row.orderId(),
+                        row.orderName(),
+                        row.amount(),
+                        row.currency(),
+                        row.statusName(),
+                        row.paymentMethod(),
+                        row.cardCompany(),
+                        row.cardNumber(),
+                        row.paidAt(),
+                        row.createdAt(),
+                        row.refundedAt(),
+                        row.refundAmount()
+                ));
     }
 
     /**
@@ -92,8 +94,11 @@ public class PaymentService {
      *
      * 카드/계좌이체: 즉시 완료 → 라이선스 발급
      * 가상계좌: 입금 대기 상태 → 웹훅으로 입금 확인 후 라이선스 발급
+     *
+     * 토스 승인 호출 전에 orderId 를 payment_order_claims 에 선점(커밋)해 동시 요청 중 하나만 승인을 호출하게 한다.
+     * 토스 승인 호출은 트랜잭션 밖에서 하고, 결제 기록과 후속 처리 이벤트(아웃박스)만 한 트랜잭션으로 커밋한 뒤
+     * 바로 응답한다. 구독 생성·라이선스 발급은 {@link PaymentFulfillmentHandler} 가 비동기로 처리한다.
      */
-    @Transactional
     public Map<String, Object> confirmPayment(PaymentConfirmRequest request, String userEmail, String clientIp) {
         log.info("[결제] STEP 1/5 검증 시작 - orderId={}, amount={}, pricePlanId={}, userEmail={}, IP={}",
                 request.getOrderId(), request.getAmount(), request.getPricePlanId(), userEmail, clientIp);
@@ -151,6 +156,14 @@ public class PaymentService {
             }
         }
 
+        // 주문 선점 — 위 중복 확인과 여기 사이에 같은 orderId 요청이 겹쳐도 토스 승인은 한 요청만 호출한다
+        Integer claimed = transactionTemplate.execute(status ->
+                paymentRepository.claimOrder(request.getOrderId(), user.getId()));
+        if (claimed == null || claimed == 0) {
+            log.warn("[결제] 중복 주문 감지 (선점 실패) - orderId={}, userEmail={}", request.getOrderId(), userEmail);
+            throw new RuntimeException("이미 처리된 주문입니다: " + request.getOrderId());
+        }
+
         log.info("[결제] STEP 2/5 토스 API 호출 - orderId={}, paymentKey={}", request.getOrderId(), request.getPaymentKey());
 
         // 토스페이먼츠 API 호출
@@ -184,8 +197,15 @@ public class PaymentService {
                 // 토스 응답 요약 (민감정보 제외)
                 String responseSummary = buildTossResponseSummary(responseBody);
 
-                // 결제 정보 저장
-                Payment payment = savePaymentInfo(request, responseBody, userEmail, pricePlan, clientIp, paymentStatus, responseSummary);
+                // 결제 정보 + 후속 처리 이벤트 저장 (한 트랜잭션)
+                Payment payment = transactionTemplate.execute(status -> {
+                    Payment saved = savePaymentInfo(request, responseBody, userEmail, pricePlan, clientIp, paymentStatus, responseSummary);
+                    if ("DONE".equals(paymentStatus)) {
+                        outboxPublisher.publish(PaymentFulfillmentHandler.EVENT_TYPE, request.getOrderId(),
+                                PaymentFulfillmentHandler.payload(saved, request.getOrderId()));
+                    }
+                    return saved;
+                });
 
                 log.info("[결제] STEP 4/5 DB 저장 완료 - orderId={}, paymentId={}, dbStatus={}",
                         request.getOrderId(), payment.getId(), payment.getStatus());
@@ -212,47 +232,13 @@ public class PaymentService {
                     return result;
                 }
 
-                // 즉시 완료 상태 (카드, 계좌이체 등) - 구독 생성 및 라이선스 발급
+                // 즉시 완료 상태 (카드, 계좌이체 등) - 구독 생성·라이선스 발급은 아웃박스에서 비동기 처리
                 if ("DONE".equals(paymentStatus)) {
-                    Subscription subscription = createSubscriptionForPayment(userEmail, pricePlan);
-                    result.put("subscriptionId", subscription.getId());
-                    result.put("subscriptionEndDate", subscription.getEndDate().toString());
-
-                    log.info("[결제] 구독 생성 완료 - orderId={}, subscriptionId={}, endDate={}",
-                            request.getOrderId(), subscription.getId(), subscription.getEndDate());
-
-                    // 라이선스 발급
-                    if (pricePlan.getLicensePlanId() != null) {
-                        try {
-                            UUID orderId = UUID.nameUUIDFromBytes(request.getOrderId().getBytes(StandardCharsets.UTF_8));
-
-                            LicenseIssueResult licenseResult = licenseService.issueLicenseWithPlanForBilling(
-                                    OwnerType.USER,
-                                    user.getId(),
-                                    pricePlan.getLicensePlanId(),
-                                    orderId,
-                                    UsageCategory.COMMERCIAL
-                            );
-
-                            result.put("licenseKey", licenseResult.licenseKey());
-                            result.put("licenseId", licenseResult.id().toString());
-                            if (licenseResult.validUntil() != null) {
-                                result.put("licenseValidUntil", licenseResult.validUntil().toString());
-                            }
-
-                            log.info("[결제] STEP 5/5 라이선스 발급 성공 - orderId={}, licenseKey={}, validUntil={}",
-                                    request.getOrderId(), licenseResult.licenseKey(), licenseResult.validUntil());
-                        } catch (Exception e) {
-                            log.error("[결제] 라이선스 발급 실패 (결제는 완료) - orderId={}, error={}",
-                                    request.getOrderId(), e.getMessage(), e);
-                            // 실패 사유 DB 기록
-                            payment.setFailReason("라이선스 발급 실패: " + e.getMessage());
-                            paymentRepository.save(payment);
-                            result.put("licenseError", "라이선스 발급 중 오류가 발생했습니다. 고객센터에 문의해주세요.");
-                        }
-                    } else {
-                        log.warn("[결제] 라이선스 플랜 미연결 - orderId={}, pricePlanId={}", request.getOrderId(), pricePlan.getId());
-                    }
+                    result.put("fulfillmentStatus", "PROCESSING");
+                    result.put("fulfillmentUrl", "/api/payments/" + request.getOrderId() + "/fulfillment");
+                    result.put("message", "결제가 완료되었습니다. 라이선스는 잠시 후 내 라이선스 화면에서 확인할 수 있습니다.");
+                    log.info("[결제] STEP 5/5 후속 처리 등록 - orderId={}, paymentId={}",
+                            request.getOrderId(), payment.getId());
                 } else {
                     log.warn("[결제] 예상 외 토스 상태 - orderId={}, tossStatus={}", request.getOrderId(), paymentStatus);
                 }
@@ -399,41 +385,10 @@ public class PaymentService {
 
         log.info("[웹훅] 결제 상태 업데이트 - orderId={}, paymentId={}, P→C", orderId, payment.getId());
 
-        // 구독 생성 및 라이선스 발급
-        PricePlan pricePlan = payment.getPricePlan();
-        if (pricePlan != null) {
-            Subscription subscription = createSubscriptionForPayment(payment.getUserEmail(), pricePlan);
-            log.info("[웹훅] 구독 생성 성공 - orderId={}, subscriptionId={}", orderId, subscription.getId());
-
-            // 라이선스 발급
-            if (pricePlan.getLicensePlanId() != null) {
-                try {
-                    // payment.userEmail은 실제로는 UUID 문자열 (PaymentController에서 인증 식별자 그대로 저장)
-                    UUID userId = userRepository.findById(UUID.fromString(payment.getUserEmail()))
-                            .map(User::getId)
-                            .orElseThrow(() -> new RuntimeException("[웹훅] 사용자 정보를 찾을 수 없습니다: " + payment.getUserEmail()));
-                    UUID orderUuid = UUID.nameUUIDFromBytes(orderId.getBytes(StandardCharsets.UTF_8));
-
-                    LicenseIssueResult licenseResult = licenseService.issueLicenseWithPlanForBilling(
-                            OwnerType.USER,
-                            userId,
-                            pricePlan.getLicensePlanId(),
-                            orderUuid,
-                            UsageCategory.COMMERCIAL
-                    );
-
-                    log.info("[웹훅] 라이선스 발급 성공 - orderId={}, licenseKey={}", orderId, licenseResult.licenseKey());
-                } catch (Exception e) {
-                    log.error("[웹훅] 라이선스 발급 실패 - orderId={}, error={}", orderId, e.getMessage(), e);
-                    payment.setFailReason("웹훅 라이선스 발급 실패: " + e.getMessage());
-                    paymentRepository.save(payment);
-                }
-            } else {
-                log.warn("[웹훅] 라이선스 플랜 미연결 - orderId={}, pricePlanId={}", orderId, pricePlan.getId());
-            }
-        } else {
-            log.warn("[웹훅] 요금제 미연결 - orderId={}, paymentId={}", orderId, payment.getId());
-        }
+        // 구독 생성 및 라이선스 발급 (아웃박스에서 비동기 처리)
+        outboxPublisher.publish(PaymentFulfillmentHandler.EVENT_TYPE, orderId,
+                PaymentFulfillmentHandler.payload(payment, orderId));
+        log.info("[웹훅] 후속 처리 등록 - orderId={}, paymentId={}", orderId, payment.getId());
     }
 
     /**
@@ -570,32 +525,6 @@ public class PaymentService {
         return subscriptionRepository.save(subscription);
     }
 
-    private Subscription createSubscriptionForPayment(String userEmail, PricePlan pricePlan) {
-        UUID userId = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userEmail))
-                .getId();
-
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime endDate = now.plusYears(1);
-        String billingCycle = "YEARLY";
-
-        Subscription subscription = Subscription.builder()
-                .userId(userId)
-                .productCode(pricePlan.getProductCode())
-                .pricePlan(pricePlan)
-                .status("A")
-                .startDate(now)
-                .endDate(endDate)
-                .autoRenew(false)
-                .billingCycle(billingCycle)
-                .build();
-
-        subscriptionRepository.save(subscription);
-
-        log.info("[구독] 생성 완료 - userId={}, productCode={}, endDate={}", userId, pricePlan.getProductCode(), endDate);
-        return subscription;
-    }
-
     /**
      * 결제 정보 저장
      */
@@ -743,6 +672,48 @@ public class PaymentService {
         return headers;
     }
 
+    /**
+     * 결제 후속 처리(구독 생성·라이선스 발급) 진행 상태 조회. 결제 완료 화면이 폴링한다.
+     *
+     * <p>PROCESSING → 아웃박스 처리 대기/재시도 중, ISSUED → licenseKey·licenseValidUntil 포함,
+     * FAILED → 발급 불가 또는 재시도 소진 (결제는 완료, 관리자 확인 필요).</p>
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getFulfillmentStatus(String orderId, UUID userId) {
+        Payment payment = paymentRepository.findByOrderId(orderId)
+                .filter(p -> userId.equals(p.getUserId()) || userId.toString().equals(p.getUserEmail()))
+                .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + orderId));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("orderId", orderId);
+
+        UUID sourceOrderId = UUID.nameUUIDFromBytes(orderId.getBytes(StandardCharsets.UTF_8));
+        var license = licenseRepository.findBySourceOrderId(sourceOrderId);
+        if (license.isPresent()) {
+            result.put("fulfillmentStatus", "ISSUED");
+            result.put("licenseId", license.get().getId());
+            result.put("licenseKey", license.get().getLicenseKey());
+            result.put("licenseValidUntil", license.get().getValidUntil());
+            return result;
+        }
+
+        OutboxEvent.Status eventStatus = outboxEventRepository
+                .findByEventTypeAndAggregateId(PaymentFulfillmentHandler.EVENT_TYPE, orderId)
+                .map(OutboxEvent::getStatus)
+                .orElse(null);
+        boolean licenseFailed = payment.getFailReason() != null && payment.getFailReason().startsWith("라이선스 발급 실패");
+        if (eventStatus == OutboxEvent.Status.FAILED || licenseFailed) {
+            result.put("fulfillmentStatus", "FAILED");
+            result.put("message", "라이선스 발급이 지연되고 있습니다. 고객센터로 문의해 주세요.");
+        } else if (eventStatus == OutboxEvent.Status.DONE) {
+            // 라이선스 플랜이 연결되지 않은 요금제 — 구독만 생성됨
+            result.put("fulfillmentStatus", "COMPLETED");
+        } else {
+            result.put("fulfillmentStatus", "PROCESSING");
+        }
+        return result;
+    }
+
     /**
      * 주문 ID로 결제 정보 조회
      */
@@ -0,0 +1,269 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.PaymentWebhookEvent;
+import com.bulc.homepage.repository.PaymentWebhookEventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토스페이먼츠 웹훅 수신 큐.
+ *
+ * <p>{@link #ingest(String)} 는 원문을 dedup 키와 함께 저장만 하고 끝난다(토스 재전송은 여기서 걸러짐).
+ * 단, 재시도 한도를 넘겨 FAILED 로 끝난 이벤트가 재전송되면 다시 대기 상태로 되돌려 처리한다.
+ * 워커는 1초 간격으로 대기 이벤트를 SKIP LOCKED 로 점유하고, paymentKey 별로 묶어 토스 상태 조회를
+ * 한 번만 한 뒤 반영한다. 반영 전에 죽으면 lease 이후 다시 처리되며(at-least-once),
+ * {@link PaymentService#handlePaymentComplete} 와 아웃박스가 멱등이라 중복 반영은 무해하다.</p>
+ *
+ * <p>메트릭: {@code bulc.payment.webhook.received} (result=accepted|duplicate),
+ * {@code bulc.payment.webhook.lag} (수신→반영 지연), {@code bulc.payment.webhook.pending} (대기 건수).</p>
+ */
+@Slf4j
+@Service
+public class PaymentWebhookService {
+
+    static final int BATCH_SIZE = 100;
+    static final int WORKERS = 4;
+    static final int MAX_ATTEMPTS = 8;
+    static final Duration LEASE = Duration.ofMinutes(2);
+
+    private static final Set<String> PAYMENT_EVENT_TYPES = Set.of("PAYMENT_STATUS_CHANGED", "DEPOSIT_CALLBACK");
+
+    private final PaymentWebhookEventRepository webhookEventRepository;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+
+    private final Counter acceptedCounter;
+    private final Counter duplicateCounter;
+    private final Timer lagTimer;
+    private final AtomicLong pending = new AtomicLong();
+
+    public PaymentWebhookService(PaymentWebhookEventRepository webhookEventRepository,
+                                 PaymentService paymentService,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.webhookEventRepository = webhookEventRepository;
+        this.paymentService = paymentService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(WORKERS, r -> {
+            Thread t = new Thread(r, "pay-webhook-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.acceptedCounter = Counter.builder("bulc.payment.webhook.received").tag("result", "accepted")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("bulc.payment.webhook.received").tag("result", "duplicate")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("bulc.payment.webhook.lag")
+                .publishPercentileHistogram().register(meterRegistry);
+        meterRegistry.gauge("bulc.payment.webhook.pending", pending);
+    }
+
+    /**
+     * 웹훅 원문 저장. 이미 받은 이벤트면 false.
+     * 이미 받았지만 FAILED 로 끝난 이벤트면 attempts 를 초기화해 다시 대기시키고 true.
+     *
+     * @throws IllegalArgumentException JSON 이 아닌 경우
+     */
+    public boolean ingest(String payload) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(payload);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("웹훅 payload 파싱 실패", e);
+        }
+        String eventType = root.path("eventType").asText(null);
+        JsonNode data = root.path("data");
+        String paymentKey = data.path("paymentKey").asText(null);
+        String orderId = data.path("orderId").asText(null);
+        String dedupKey = dedupKey(eventType, paymentKey, data.path("status").asText(null), payload);
+
+        Integer rearmed = transactionTemplate.execute(
+                status -> webhookEventRepository.rearmFailed(dedupKey, LocalDateTime.now()));
+        if (rearmed != null && rearmed > 0) {
+            acceptedCounter.increment();
+            log.info("웹훅 재전송으로 실패 이벤트 재처리: dedupKey={}", dedupKey);
+            return true;
+        }
+        if (webhookEventRepository.existsByDedupKey(dedupKey)) {
+            duplicateCounter.increment();
+            log.info("웹훅 중복 수신 무시: dedupKey={}", dedupKey);
+            return false;
+        }
+        try {
+            webhookEventRepository.save(PaymentWebhookEvent.builder()
+                    .dedupKey(dedupKey)
+                    .eventType(eventType)
+                    .paymentKey(paymentKey)
+                    .orderId(orderId)
+                    .payload(payload)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 도착한 같은 이벤트
+            duplicateCounter.increment();
+            log.info("웹훅 중복 수신 무시 (동시 도착): dedupKey={}", dedupKey);
+            return false;
+        }
+        acceptedCounter.increment();
+        log.info("웹훅 수신 저장: eventType={}, paymentKey={}, orderId={}", eventType, paymentKey, orderId);
+        return true;
+    }
+
+    static String dedupKey(String eventType, String paymentKey, String status, String payload) {
+        if (eventType != null && paymentKey != null && status != null) {
+            return eventType + ":" + paymentKey + ":" + status;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(payload.getBytes(StandardCharsets.UTF_8));
+            return "sha256:" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 대기 중인 웹훅 처리 (1초 간격).
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void processPending() {
+        List<PaymentWebhookEvent> claimed;
+        do {
+            claimed = claim();
+            Map<String, List<PaymentWebhookEvent>> byPaymentKey = new LinkedHashMap<>();
+            for (PaymentWebhookEvent event : claimed) {
+                String key = event.getPaymentKey() != null ? event.getPaymentKey() : "";
+                byPaymentKey.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+            }
+
+            List<Future<?>> futures = new ArrayList<>(byPaymentKey.size());
+            for (Map.Entry<String, List<PaymentWebhookEvent>> entry : byPaymentKey.entrySet()) {
+                futures.add(executor.submit(() -> apply(entry.getKey(), entry.getValue())));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("웹훅 워커 오류: {}", e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        } while (claimed.size() == BATCH_SIZE);
+
+        pending.set(webhookEventRepository.countByStatus(PaymentWebhookEvent.Status.RECEIVED));
+    }
+
+    List<PaymentWebhookEvent> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentWebhookEvent> due = webhookEventRepository.claimDue(now, PageRequest.of(0, BATCH_SIZE));
+            for (PaymentWebhookEvent event : due) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setNextAttemptAt(now.plus(LEASE));
+            }
+            return webhookEventRepository.saveAll(due);
+        });
+    }
+
+    /**
+     * 같은 paymentKey 이벤트 묶음 처리: 토스 상태 조회 1회 → 반영 → 일괄 완료 표시.
+     */
+    void apply(String paymentKey, List<PaymentWebhookEvent> events) {
+        boolean paymentEvent = events.stream().anyMatch(e -> PAYMENT_EVENT_TYPES.contains(e.getEventType()));
+        if (paymentKey.isEmpty() || !paymentEvent) {
+            finish(events, PaymentWebhookEvent.Status.IGNORED);
+            return;
+        }
+
+        try {
+            // 토스 API 에 직접 결제 상태 재확인 (위변조 방지)
+            String verifiedStatus = paymentService.verifyPaymentStatus(paymentKey);
+            if (verifiedStatus == null) {
+                retry(events, "토스 API 결제 상태 확인 실패");
+                return;
+            }
+            log.info("웹훅 토스 확인 결과: paymentKey={}, status={}, 묶음={}건", paymentKey, verifiedStatus, events.size());
+
+            if ("DONE".equals(verifiedStatus)) {
+                String orderId = events.get(events.size() - 1).getOrderId();
+                paymentService.handlePaymentComplete(paymentKey, orderId);
+            }
+            finish(events, PaymentWebhookEvent.Status.APPLIED);
+        } catch (Exception e) {
+            log.error("웹훅 반영 실패: paymentKey={}, error={}", paymentKey, e.getMessage(), e);
+            retry(events, e.getMessage());
+        }
+    }
+
+    private void finish(List<PaymentWebhookEvent> events, PaymentWebhookEvent.Status status) {
+        LocalDateTime now = LocalDateTime.now();
+        for (PaymentWebhookEvent event : events) {
+            event.setStatus(status);
+            event.setProcessedAt(now);
+            event.setLastError(null);
+            lagTimer.record(Duration.between(event.getReceivedAt(), now));
+        }
+        webhookEventRepository.saveAll(events);
+    }
+
+    private void retry(List<PaymentWebhookEvent> events, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        for (PaymentWebhookEvent event : events) {
+            event.setLastError(error);
+            if (event.getAttempts() >= MAX_ATTEMPTS) {
+                event.setStatus(PaymentWebhookEvent.Status.FAILED);
+                log.error("웹훅 처리 포기: id={}, paymentKey={}, 시도={}회", event.getId(), event.getPaymentKey(), event.getAttempts());
+            } else {
+                // 10초, 20초, 40초 ... 최대 약 21분
+                event.setNextAttemptAt(now.plusSeconds(10L << (event.getAttempts() - 1)));
+            }
+        }
+        webhookEventRepository.saveAll(events);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.Promotion;
+import com.bulc.homepage.repository.PromotionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 쿠폰 코드 → 프로모션 스냅샷 인메모리 인덱스.
+ *
+ * <p>코드는 저장 시 대문자로 정규화되므로(promotions.code CHECK 제약) 조회도 정규화한 코드로
+ * UNIQUE 인덱스 정확 일치만 한다. 관리자 수정은 커밋 후 해당 코드를 무효화하고,
+ * 다른 인스턴스의 변경은 TTL 로 반영된다. 사용 횟수는 스냅샷 시점 값이며,
+ * 최종 한도 판정은 {@link PromotionRepository#incrementUsageIfAvailable} 가 한다.</p>
+ */
+@Component
+public class PromotionCodeIndex {
+
+    /** 없는 코드(부정 캐시)는 이 건수까지만 보관 — 무작위 코드 대입으로 맵이 커지지 않게 */
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final PromotionRepository promotionRepository;
+    private final TtlCache<String, Optional<Coupon>> cache;
+
+    /**
+     * 검증·할인 계산에 필요한 프로모션 필드의 불변 스냅샷.
+     */
+    public record Coupon(
+            Long id,
+            String code,
+            String name,
+            Integer discountType,
+            BigDecimal discountValue,
+            String productCode,
+            Integer usageLimit,
+            Integer usageCount,
+            LocalDateTime validFrom,
+            LocalDateTime validUntil,
+            boolean active
+    ) {
+        static Coupon of(Promotion p) {
+            return new Coupon(p.getId(), p.getCode(), p.getName(), p.getDiscountType(), p.getDiscountValue(),
+                    p.getProductCode(), p.getUsageLimit(), p.getUsageCount(), p.getValidFrom(), p.getValidUntil(),
+                    Boolean.TRUE.equals(p.getIsActive()));
+        }
+
+        public BigDecimal calculateDiscount(BigDecimal originalPrice) {
+            return Promotion.calculateDiscount(discountType, discountValue, originalPrice);
+        }
+    }
+
+    @Autowired
+    public PromotionCodeIndex(PromotionRepository promotionRepository,
+                              @Value("${bulc.promotion.code-cache-ttl:60s}") Duration ttl) {
+        this(promotionRepository, ttl, MAX_ENTRIES);
+    }
+
+    PromotionCodeIndex(PromotionRepository promotionRepository, Duration ttl, int maxEntries) {
+        this.promotionRepository = promotionRepository;
+        this.cache = new TtlCache<>(ttl, maxEntries);
+    }
+
+    /**
+     * 쿠폰 코드 정규화 (앞뒤 공백 제거 + 대문자).
+     */
+    public static String normalize(String code) {
+        return code == null ? null : code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public Optional<Coupon> find(String code) {
+        String key = normalize(code);
+        if (key == null || key.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Coupon> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<Coupon> loaded = promotionRepository.findByCode(key).map(Coupon::of);
+        if (loaded.isPresent()) {
+            cache.putUnbounded(key, loaded);
+        } else {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(String code) {
+        if (code != null) {
+            cache.evict(normalize(code));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 무효화. 트랜잭션 밖이면 즉시 무효화한다.
+     */
+    public void evictAfterCommit(String... codes) {
+        cache.evictAfterCommit(Arrays.stream(codes)
+                .filter(Objects::nonNull)
+                .map(PromotionCodeIndex::normalize)
+                .toList());
+    }
+}
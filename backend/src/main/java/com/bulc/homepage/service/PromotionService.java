@@ -17,6 +17,7 @@ import java.util.Optional;
 public class PromotionService {
 
     private final PromotionRepository promotionRepository;
+    private final PromotionCodeIndex codeIndex;
 
     /**
      * 전체 프로모션 목록 조회
@@ -43,42 +44,45 @@ public class PromotionService {
      * 쿠폰 코드로 프로모션 조회
      */
     public Optional<Promotion> getPromotionByCode(String code) {
-        return promotionRepository.findByCodeIgnoreCase(code);
+        return promotionRepository.findByCode(PromotionCodeIndex.normalize(code));
     }
 
     /**
      * 쿠폰 유효성 검증 및 할인 금액 계산
+     *
+     * 결제 화면마다 호출되므로 DB 대신 {@link PromotionCodeIndex} 스냅샷으로 검증한다.
+     * 사용 횟수는 스냅샷 시점 기준이며 실제 차감은 {@link #useCoupon} 의 조건부 UPDATE 가 판정한다.
      */
     public PromotionValidationResult validateCoupon(String code, String productCode, BigDecimal orderAmount) {
-        Optional<Promotion> promotionOpt = promotionRepository.findByCodeIgnoreCase(code);
+        Optional<PromotionCodeIndex.Coupon> couponOpt = codeIndex.find(code);
 
-        if (promotionOpt.isEmpty()) {
+        if (couponOpt.isEmpty()) {
             return PromotionValidationResult.invalid("존재하지 않는 쿠폰 코드입니다.");
         }
 
-        Promotion promotion = promotionOpt.get();
+        PromotionCodeIndex.Coupon promotion = couponOpt.get();
 
         // 활성화 상태 체크
-        if (!promotion.getIsActive()) {
+        if (!promotion.active()) {
             return PromotionValidationResult.invalid("비활성화된 쿠폰입니다.");
         }
 
         // 유효 기간 체크
         LocalDateTime now = LocalDateTime.now();
-        if (promotion.getValidFrom() != null && now.isBefore(promotion.getValidFrom())) {
+        if (promotion.validFrom() != null && now.isBefore(promotion.validFrom())) {
             return PromotionValidationResult.invalid("아직 사용 기간이 아닌 쿠폰입니다.");
         }
-        if (promotion.getValidUntil() != null && now.isAfter(promotion.getValidUntil())) {
+        if (promotion.validUntil() != null && now.isAfter(promotion.validUntil())) {
             return PromotionValidationResult.invalid("사용 기간이 만료된 쿠폰입니다.");
         }
 
         // 사용 횟수 체크
-        if (promotion.getUsageLimit() != null && promotion.getUsageCount() >= promotion.getUsageLimit()) {
+        if (promotion.usageLimit() != null && promotion.usageCount() >= promotion.usageLimit()) {
             return PromotionValidationResult.invalid("사용 가능 횟수가 초과된 쿠폰입니다.");
         }
 
         // 상품 코드 체크 (null이면 전체 상품 적용)
-        if (promotion.getProductCode() != null && !promotion.getProductCode().equals(productCode)) {
+        if (promotion.productCode() != null && !promotion.productCode().equals(productCode)) {
             return PromotionValidationResult.invalid("해당 상품에는 적용할 수 없는 쿠폰입니다.");
         }
 
@@ -94,13 +98,15 @@ public class PromotionService {
     @Transactional
     public Promotion createPromotion(Promotion promotion) {
         // 쿠폰 코드 대문자 변환
-        promotion.setCode(promotion.getCode().toUpperCase());
+        promotion.setCode(PromotionCodeIndex.normalize(promotion.getCode()));
 
         // 중복 체크
-        if (promotionRepository.existsByCodeIgnoreCase(promotion.getCode())) {
+        if (promotionRepository.existsByCode(promotion.getCode())) {
             throw new IllegalArgumentException("이미 존재하는 쿠폰 코드입니다.");
         }
 
+        // 생성 전에 조회된 "없는 코드" 캐시 제거
+        codeIndex.evictAfterCommit(promotion.getCode());
         return promotionRepository.save(promotion);
     }
 
@@ -113,11 +119,12 @@ public class PromotionService {
                 .orElseThrow(() -> new IllegalArgumentException("프로모션을 찾을 수 없습니다."));
 
         // 코드 변경 시 중복 체크
-        String newCode = updatedPromotion.getCode().toUpperCase();
-        if (!promotion.getCode().equalsIgnoreCase(newCode) &&
-                promotionRepository.existsByCodeIgnoreCase(newCode)) {
+        String newCode = PromotionCodeIndex.normalize(updatedPromotion.getCode());
+        if (!promotion.getCode().equals(newCode) &&
+                promotionRepository.existsByCode(newCode)) {
             throw new IllegalArgumentException("이미 존재하는 쿠폰 코드입니다.");
         }
+        codeIndex.evictAfterCommit(promotion.getCode(), newCode);
 
         promotion.setCode(newCode);
         promotion.setName(updatedPromotion.getName());
@@ -137,10 +144,10 @@ public class PromotionService {
      */
     @Transactional
     public void deletePromotion(Long id) {
-        if (!promotionRepository.existsById(id)) {
-            throw new IllegalArgumentException("프로모션을 찾을 수 없습니다.");
-        }
-        promotionRepository.deleteById(id);
+        Promotion promotion = promotionRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("프로모션을 찾을 수 없습니다."));
+        codeIndex.evictAfterCommit(promotion.getCode());
+        promotionRepository.delete(promotion);
     }
 
     /**
@@ -152,19 +159,27 @@ public class PromotionService {
                 .orElseThrow(() -> new IllegalArgumentException("프로모션을 찾을 수 없습니다."));
 
         promotion.setIsActive(!promotion.getIsActive());
+        codeIndex.evictAfterCommit(promotion.getCode());
         return promotionRepository.save(promotion);
     }
 
     /**
      * 쿠폰 사용 (사용 횟수 증가)
+     *
+     * 조회 후 증가하지 않고 조건부 UPDATE 한 번으로 처리해 동시 결제에서도 사용 한도를 넘지 않는다.
+     * 예외 대신 결과를 반환하므로 호출 측 트랜잭션이 rollback-only 로 바뀌지 않는다.
+     *
+     * @return 사용 처리되었으면 true, 없는 코드·비활성·기간 외·한도 초과면 false
      */
     @Transactional
-    public void useCoupon(String code) {
-        Promotion promotion = promotionRepository.findByCodeIgnoreCase(code)
-                .orElseThrow(() -> new IllegalArgumentException("프로모션을 찾을 수 없습니다."));
-
-        promotion.incrementUsageCount();
-        promotionRepository.save(promotion);
+    public boolean useCoupon(String code) {
+        String normalized = PromotionCodeIndex.normalize(code);
+        boolean used = promotionRepository.incrementUsageIfAvailable(normalized, LocalDateTime.now()) == 1;
+        if (!used) {
+            // 한도 소진 등으로 상태가 바뀌었을 수 있으므로 다음 검증은 DB에서 다시 읽는다
+            codeIndex.evict(normalized);
+        }
+        return used;
     }
 
     /**
@@ -173,17 +188,18 @@ public class PromotionService {
     public static class PromotionValidationResult {
         private final boolean valid;
         private final String message;
-        private final Promotion promotion;
+        private final PromotionCodeIndex.Coupon promotion;
         private final BigDecimal discountAmount;
 
-        private PromotionValidationResult(boolean valid, String message, Promotion promotion, BigDecimal discountAmount) {
+        private PromotionValidationResult(boolean valid, String message, PromotionCodeIndex.Coupon promotion,
+                                          BigDecimal discountAmount) {
             this.valid = valid;
             this.message = message;
             this.promotion = promotion;
             this.discountAmount = discountAmount;
         }
 
-        public static PromotionValidationResult valid(Promotion promotion, BigDecimal discountAmount) {
+        public static PromotionValidationResult valid(PromotionCodeIndex.Coupon promotion, BigDecimal discountAmount) {
             return new PromotionValidationResult(true, null, promotion, discountAmount);
         }
 
@@ -193,7 +209,7 @@ public class PromotionService {
 
         public boolean isValid() { return valid; }
         public String getMessage() { return message; }
-        public Promotion getPromotion() { return promotion; }
+        public PromotionCodeIndex.Coupon getPromotion() { return promotion; }
         public BigDecimal getDiscountAmount() { return discountAmount; }
     }
 }
@@ -1,25 +1,31 @@
 package com.bulc.homepage.service;
 
-import com.bulc.homepage.entity.BillingKey;
+import com.bulc.homepage.config.SubscriptionRenewalProperties;
 import com.bulc.homepage.entity.Subscription;
 import com.bulc.homepage.entity.SubscriptionPayment;
+import com.bulc.homepage.query.view.BillingKeyView;
 import com.bulc.homepage.licensing.domain.OwnerType;
 import com.bulc.homepage.licensing.domain.UsageCategory;
 import com.bulc.homepage.licensing.service.LicenseService;
+import com.bulc.homepage.outbox.OutboxPublisher;
 import com.bulc.homepage.repository.BillingKeyRepository;
 import com.bulc.homepage.repository.SubscriptionPaymentRepository;
 import com.bulc.homepage.repository.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -34,8 +40,8 @@ public class SubscriptionBillingService {
     private final BillingKeyRepository billingKeyRepository;
     private final BillingKeyService billingKeyService;
     private final LicenseService licenseService;
-
-    private static final int MAX_RETRY_COUNT = 3;
+    private final SubscriptionRenewalProperties renewalProperties;
+    private final OutboxPublisher outboxPublisher;
 
     /**
      * 자동 갱신 활성화
@@ -49,10 +55,10 @@ public class SubscriptionBillingService {
             throw new RuntimeException("구독 접근 권한이 없습니다.");
         }
 
-        BillingKey billingKey = billingKeyRepository.findByIdAndIsActiveTrue(billingKeyId)
+        BillingKeyView billingKey = billingKeyRepository.findActiveViewById(billingKeyId)
                 .orElseThrow(() -> new RuntimeException("유효하지 않은 빌링키입니다."));
 
-        if (!billingKey.getUserId().equals(userId)) {
+        if (!billingKey.userId().equals(userId)) {
             throw new RuntimeException("빌링키 접근 권한이 없습니다.");
         }
 
@@ -84,203 +90,285 @@ public class SubscriptionBillingService {
     }
 
     /**
-     * 갱신 대상 구독 결제 처리 (스케줄러에서 호출)
+     * 갱신 대상 구독 한 청크 점유 ({@link SubscriptionRenewalEngine} 에서 호출).
+     *
+     * 구독 행은 SKIP LOCKED 로 잠그고, 결제 주기마다 고정된 orderId 로 PENDING 결제 이력을 남긴 뒤 커밋한다.
+     * 같은 주기의 이력이 이미 있으면 다른 워커가 처리 중이거나 끝난 건(실패 건은 재시도 엔진 담당)이므로 건너뛰고,
+     * 첫 시도가 PENDING 상태로 claimLease 를 넘긴 건(워커 중단)만 다시 점유한다.
+     *
+     * @return 점유한 결제 건과 keyset 커서. 더 스캔할 구독이 없으면 lastSubscriptionId 가 null.
      */
     @Transactional
-    public void processDueSubscriptions() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Subscription> dueSubscriptions = subscriptionRepository.findDueForRenewal(now);
-
-        log.info("갱신 대상 구독 수: {}", dueSubscriptions.size());
+    public RenewalChunk claimDueRenewals(LocalDateTime now, long afterId, int limit, Duration lease) {
+        List<Subscription> dueSubscriptions = subscriptionRepository.claimDueForRenewal(
+                now, afterId, PageRequest.of(0, limit));
+        if (dueSubscriptions.isEmpty()) {
+            return new RenewalChunk(List.of(), null);
+        }
 
+        List<RenewalClaim> claims = new ArrayList<>();
         for (Subscription subscription : dueSubscriptions) {
-            try {
-                processSubscriptionRenewal(subscription);
-            } catch (Exception e) {
-                log.error("구독 갱신 처리 실패: subscriptionId={}, error={}",
-                        subscription.getId(), e.getMessage());
+            RenewalClaim claim = claimRenewal(subscription, now, lease);
+            if (claim != null) {
+                claims.add(claim);
             }
         }
+        Long lastId = dueSubscriptions.get(dueSubscriptions.size() - 1).getId();
+        return new RenewalChunk(claims, lastId);
     }
 
-    /**
-     * 단일 구독 갱신 처리
-     */
-    @Transactional
-    public void processSubscriptionRenewal(Subscription subscription) {
-        log.info("구독 갱신 처리 시작: subscriptionId={}", subscription.getId());
-
+    private RenewalClaim claimRenewal(Subscription subscription, LocalDateTime now, Duration lease) {
         if (subscription.getBillingKeyId() == null) {
             log.warn("빌링키가 설정되지 않은 구독: subscriptionId={}", subscription.getId());
             subscription.disableAutoRenew();
             subscriptionRepository.save(subscription);
-            return;
+            return null;
         }
 
-        BillingKey billingKey = billingKeyRepository.findByIdAndIsActiveTrue(subscription.getBillingKeyId())
-                .orElse(null);
-
-        if (billingKey == null) {
+        // 유효성만 확인 — 원문 복호화는 실제 결제 요청 때 한 번만
+        if (!billingKeyRepository.existsByIdAndIsActiveTrue(subscription.getBillingKeyId())) {
             log.warn("유효하지 않은 빌링키: subscriptionId={}, billingKeyId={}",
                     subscription.getId(), subscription.getBillingKeyId());
             subscription.disableAutoRenew();
             subscriptionRepository.save(subscription);
+            return null;
+        }
+
+        String orderId = renewalOrderId(subscription);
+        SubscriptionPayment payment = subscriptionPaymentRepository
+                .findFirstBySubscriptionIdAndOrderIdStartingWithOrderByIdDesc(subscription.getId(), orderId)
+                .orElse(null);
+
+        if (payment == null) {
+            payment = subscriptionPaymentRepository.save(SubscriptionPayment.builder()
+                    .subscriptionId(subscription.getId())
+                    .billingKeyId(subscription.getBillingKeyId())
+                    .orderId(orderId)
+                    .amount(subscription.getPricePlan().getPrice())
+                    .billingDate(LocalDate.now())
+                    .status(SubscriptionPayment.PaymentStatus.PENDING)
+                    .build());
+        } else if (payment.getStatus() == SubscriptionPayment.PaymentStatus.PENDING
+                && payment.getRetryCount() == 0
+                && payment.getUpdatedAt().isBefore(now.minus(lease))) {
+            log.warn("중단된 갱신 결제 재점유: subscriptionId={}, orderId={}", subscription.getId(), orderId);
+            payment.setUpdatedAt(now);
+            subscriptionPaymentRepository.save(payment);
+        } else if (payment.getStatus() == SubscriptionPayment.PaymentStatus.FAILED
+                && payment.getNextAttemptAt() == null) {
+            // 재시도까지 소진된 주기 — 자동 갱신을 끄지 않으면 매번 여기서 건너뛰게 된다
+            giveUpRenewal(subscription, payment);
+            return null;
+        } else {
+            // 이번 주기 결제가 진행 중이거나 이미 끝남 (실패 건은 claimDueRetries 가 담당)
+            return null;
+        }
+
+        return new RenewalClaim(
+                subscription.getId(),
+                payment.getId(),
+                subscription.getBillingKeyId(),
+                orderId,
+                subscription.getProduct().getName() + " 구독 갱신",
+                payment.getAmount().intValue(),
+                subscription.getUserId());
+    }
+
+    /**
+     * 결제 주기별로 고정된 주문 ID. 재실행·중복 실행 시에도 같은 값이 나와 토스 Idempotency-Key 로 쓰인다.
+     */
+    static String renewalOrderId(Subscription subscription) {
+        return "SUB-" + subscription.getId() + "-"
+                + subscription.getNextBillingDate().format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    /**
+     * 갱신 결제 성공 반영 (건별 트랜잭션)
+     */
+    @Transactional
+    public void completeRenewal(Long paymentId, String paymentKey) {
+        SubscriptionPayment payment = subscriptionPaymentRepository.findByIdForUpdate(paymentId)
+                .orElseThrow(() -> new RuntimeException("결제 이력을 찾을 수 없습니다: " + paymentId));
+        if (payment.getStatus() == SubscriptionPayment.PaymentStatus.SUCCESS) {
             return;
         }
+        Subscription subscription = subscriptionRepository.findById(payment.getSubscriptionId())
+                .orElseThrow(() -> new RuntimeException("구독을 찾을 수 없습니다."));
 
-        // 결제 금액 계산
-        BigDecimal amount = subscription.getPricePlan().getPrice();
-
-        // 주문 ID 생성
-        String orderId = "SUB-" + subscription.getId() + "-" + System.currentTimeMillis();
-
-        // 결제 이력 생성
-        SubscriptionPayment payment = SubscriptionPayment.builder()
-                .subscriptionId(subscription.getId())
-                .billingKeyId(billingKey.getId())
-                .orderId(orderId)
-                .amount(amount)
-                .billingDate(LocalDate.now())
-                .status(SubscriptionPayment.PaymentStatus.PENDING)
-                .build();
+        payment.markAsSuccess(paymentKey);
         subscriptionPaymentRepository.save(payment);
 
-        // 결제 요청
-        try {
-            String orderName = subscription.getProduct().getName() + " 구독 갱신";
-            Map<String, Object> result = billingKeyService.requestBillingPayment(
-                    billingKey.getId(),
-                    orderId,
-                    orderName,
-                    amount.intValue(),
-                    subscription.getUserId()
-            );
-
-            if (Boolean.TRUE.equals(result.get("success"))) {
-                // 결제 성공
-                payment.markAsSuccess((String) result.get("paymentKey"));
-                subscriptionPaymentRepository.save(payment);
+        // 구독 갱신
+        subscription.renew();
+        subscriptionRepository.save(subscription);
 
-                // 구독 갱신
-                subscription.renew();
-                subscriptionRepository.save(subscription);
+        // 라이선스 갱신
+        renewLicense(subscription);
 
-                // 라이선스 갱신
-                renewLicense(subscription);
+        log.info("구독 갱신 성공: subscriptionId={}, orderId={}", subscription.getId(), payment.getOrderId());
+    }
 
-                log.info("구독 갱신 성공: subscriptionId={}, orderId={}", subscription.getId(), orderId);
-            } else {
-                payment.markAsFailed("결제 API 응답 실패");
-                subscriptionPaymentRepository.save(payment);
-                log.error("구독 갱신 결제 실패: subscriptionId={}", subscription.getId());
+    /**
+     * 갱신 결제 실패 반영 (건별 트랜잭션). 실패 분류에 따라 다음 재시도 시각을 정한다.
+     * 더 재시도하지 않는 실패(영구 실패·재시도 소진)면 자동 갱신을 끄고 실패 이벤트를 등록한다.
+     */
+    @Transactional
+    public void failRenewal(Long paymentId, String reason, PaymentRetryPolicy.FailureClass failureClass) {
+        subscriptionPaymentRepository.findByIdForUpdate(paymentId).ifPresent(payment -> {
+            if (payment.getStatus() != SubscriptionPayment.PaymentStatus.PENDING) {
+                return;
             }
-        } catch (Exception e) {
-            payment.markAsFailed(e.getMessage());
+            payment.markAsFailed(reason);
+            payment.setNextAttemptAt(PaymentRetryPolicy.nextAttemptAt(
+                    failureClass, payment.getRetryCount(), LocalDateTime.now()));
             subscriptionPaymentRepository.save(payment);
-            log.error("구독 갱신 결제 오류: subscriptionId={}, error={}", subscription.getId(), e.getMessage());
-        }
+            log.error("구독 결제 실패: subscriptionId={}, orderId={}, class={}, 실패={}회, 다음 시도={}, reason={}",
+                    payment.getSubscriptionId(), payment.getOrderId(), failureClass,
+                    payment.getRetryCount(), payment.getNextAttemptAt(), reason);
+            if (payment.getNextAttemptAt() == null) {
+                subscriptionRepository.findById(payment.getSubscriptionId())
+                        .ifPresent(subscription -> giveUpRenewal(subscription, payment));
+            }
+        });
     }
 
     /**
-     * 실패한 결제 재시도 (스케줄러에서 호출)
+     * 이번 주기 갱신 포기: 자동 갱신을 꺼서 종료일이 지나면 만료 처리({@link #processExpiredSubscriptions})가
+     * 가져가게 하고, 안내 메일은 아웃박스 {@link SubscriptionRenewalFailedHandler#EVENT_TYPE} 로 보낸다.
+     * 이벤트 키는 주기 orderId 라 같은 주기에 두 번 불려도 한 번만 등록된다.
      */
-    @Transactional
-    public void retryFailedPayments() {
-        List<SubscriptionPayment> failedPayments = subscriptionPaymentRepository.findRetryablePayments();
+    private void giveUpRenewal(Subscription subscription, SubscriptionPayment payment) {
+        if (!Boolean.TRUE.equals(subscription.getAutoRenew())) {
+            return;
+        }
+        subscription.disableAutoRenew();
+        subscriptionRepository.save(subscription);
 
-        log.info("재시도 대상 결제 수: {}", failedPayments.size());
+        String cycleOrderId = cycleOrderId(payment.getOrderId());
+        outboxPublisher.publish(SubscriptionRenewalFailedHandler.EVENT_TYPE, cycleOrderId, Map.of(
+                "subscriptionId", subscription.getId(),
+                "paymentId", payment.getId(),
+                "reason", payment.getFailureReason() != null ? payment.getFailureReason() : ""));
+        log.warn("구독 자동 갱신 중단 (재시도 소진): subscriptionId={}, orderId={}, 실패={}회",
+                subscription.getId(), cycleOrderId, payment.getRetryCount());
+    }
 
-        for (SubscriptionPayment payment : failedPayments) {
-            try {
-                retryPayment(payment);
-            } catch (Exception e) {
-                log.error("결제 재시도 실패: paymentId={}, error={}", payment.getId(), e.getMessage());
-            }
-        }
+    /**
+     * 점유한 갱신 결제 1건. 워커 스레드로 넘기므로 엔티티 대신 값만 담는다.
+     */
+    public record RenewalClaim(Long subscriptionId, Long paymentId, Long billingKeyId, String orderId,
+                               String orderName, int amount, UUID userId) {
+    }
+
+    public record RenewalChunk(List<RenewalClaim> claims, Long lastSubscriptionId) {
     }
 
     /**
-     * 단일 결제 재시도
+     * 재시도 시각이 된 실패 결제 점유 ({@link SubscriptionRenewalEngine} 에서 호출).
+     *
+     * 결제 행을 SKIP LOCKED 로 잠그고 새 orderId(주기 orderId + -R{실패 횟수})로 PENDING 전환 후 커밋한다.
+     * 토스는 같은 Idempotency-Key 의 실패 응답을 그대로 돌려주므로 재시도마다 orderId 를 바꾼다.
+     * 중단된 PENDING 재시도는 orderId 를 유지한 채 다시 점유한다.
      */
     @Transactional
-    public void retryPayment(SubscriptionPayment payment) {
-        if (payment.getRetryCount() >= MAX_RETRY_COUNT) {
-            log.warn("최대 재시도 횟수 초과: paymentId={}", payment.getId());
-            return;
+    public List<RenewalClaim> claimDueRetries(LocalDateTime now, int limit, Duration lease) {
+        List<SubscriptionPayment> duePayments = subscriptionPaymentRepository.claimDueRetries(
+                now, now.minus(lease), PageRequest.of(0, limit));
+
+        List<RenewalClaim> claims = new ArrayList<>();
+        for (SubscriptionPayment payment : duePayments) {
+            RenewalClaim claim = claimRetry(payment, now);
+            if (claim != null) {
+                claims.add(claim);
+            }
         }
+        return claims;
+    }
 
+    private RenewalClaim claimRetry(SubscriptionPayment payment, LocalDateTime now) {
         Subscription subscription = subscriptionRepository.findById(payment.getSubscriptionId())
                 .orElse(null);
 
         if (subscription == null || !subscription.getAutoRenew()) {
             log.warn("재시도 대상 구독이 없거나 자동갱신 비활성화: paymentId={}", payment.getId());
             payment.markAsCanceled();
+            payment.setNextAttemptAt(null);
             subscriptionPaymentRepository.save(payment);
-            return;
+            return null;
         }
 
-        BillingKey billingKey = billingKeyRepository.findByIdAndIsActiveTrue(payment.getBillingKeyId())
-                .orElse(null);
-
-        if (billingKey == null) {
+        // 실패 이후 사용자가 결제 수단을 바꿨을 수 있으므로 구독의 현재 빌링키로 시도
+        Long billingKeyId = subscription.getBillingKeyId();
+        if (billingKeyId == null || !billingKeyRepository.existsByIdAndIsActiveTrue(billingKeyId)) {
             log.warn("유효하지 않은 빌링키로 재시도 불가: paymentId={}", payment.getId());
             payment.markAsCanceled();
+            payment.setNextAttemptAt(null);
             subscriptionPaymentRepository.save(payment);
-            return;
+            return null;
         }
 
-        // 새로운 주문 ID 생성
-        String newOrderId = "SUB-" + subscription.getId() + "-RETRY-" + payment.getRetryCount() + "-" + System.currentTimeMillis();
-        payment.setOrderId(newOrderId);
+        if (payment.getStatus() == SubscriptionPayment.PaymentStatus.FAILED) {
+            payment.setOrderId(retryOrderId(payment.getOrderId(), payment.getRetryCount()));
+        } else {
+            log.warn("중단된 재시도 결제 재점유: paymentId={}, orderId={}", payment.getId(), payment.getOrderId());
+        }
+        payment.setBillingKeyId(billingKeyId);
         payment.setStatus(SubscriptionPayment.PaymentStatus.PENDING);
+        payment.setNextAttemptAt(null);
+        payment.setUpdatedAt(now);
         subscriptionPaymentRepository.save(payment);
 
-        try {
-            String orderName = subscription.getProduct().getName() + " 구독 갱신 (재시도)";
-            Map<String, Object> result = billingKeyService.requestBillingPayment(
-                    billingKey.getId(),
-                    newOrderId,
-                    orderName,
-                    payment.getAmount().intValue(),
-                    subscription.getUserId()
-            );
-
-            if (Boolean.TRUE.equals(result.get("success"))) {
-                payment.markAsSuccess((String) result.get("paymentKey"));
-                subscriptionPaymentRepository.save(payment);
-
-                subscription.renew();
-                subscriptionRepository.save(subscription);
+        return new RenewalClaim(
+                subscription.getId(),
+                payment.getId(),
+                billingKeyId,
+                payment.getOrderId(),
+                subscription.getProduct().getName() + " 구독 갱신 (재시도)",
+                payment.getAmount().intValue(),
+                subscription.getUserId());
+    }
 
-                renewLicense(subscription);
+    /**
+     * 재시도 주문 ID: 주기 orderId 에 -R{실패 횟수}. 이전 재시도 접미사는 떼고 붙인다.
+     */
+    static String retryOrderId(String orderId, int failures) {
+        return cycleOrderId(orderId) + "-R" + failures;
+    }
 
-                log.info("결제 재시도 성공: paymentId={}, orderId={}", payment.getId(), newOrderId);
-            } else {
-                payment.markAsFailed("재시도 결제 API 응답 실패");
-                subscriptionPaymentRepository.save(payment);
-            }
-        } catch (Exception e) {
-            payment.markAsFailed("재시도 오류: " + e.getMessage());
-            subscriptionPaymentRepository.save(payment);
-            log.error("결제 재시도 오류: paymentId={}, error={}", payment.getId(), e.getMessage());
-        }
+    /**
+     * 재시도 접미사를 뗀 주기 orderId.
+     */
+    static String cycleOrderId(String orderId) {
+        return orderId.replaceFirst("-R\\d+$", "");
     }
 
     /**
      * 만료된 구독 처리 (스케줄러에서 호출)
+     *
+     * 청크마다 UPDATE ... RETURNING 한 문장으로 만료시키고 id keyset 커서로 다음 청크로 넘어간다.
+     * 라이선스 정리·만료 안내 메일은 같은 문장에서 등록된 아웃박스 이벤트로
+     * {@link SubscriptionExpiryHandler} 가 처리한다. 만료된 행은 조건에서 빠지므로
+     * 중간에 중단돼도 다시 실행하면 남은 건부터 이어서 처리된다.
      */
-    @Transactional
-    public void processExpiredSubscriptions() {
+    public int processExpiredSubscriptions() {
         LocalDateTime now = LocalDateTime.now();
-        List<Subscription> expiredSubscriptions = subscriptionRepository.findExpiredWithoutAutoRenew(now);
-
-        log.info("만료 대상 구독 수: {}", expiredSubscriptions.size());
-
-        for (Subscription subscription : expiredSubscriptions) {
-            subscription.expire();
-            subscriptionRepository.save(subscription);
-            log.info("구독 만료 처리: subscriptionId={}", subscription.getId());
+        int chunkSize = renewalProperties.getExpiryChunkSize();
+        long afterId = 0L;
+        int expired = 0;
+        while (true) {
+            List<Long> ids = subscriptionRepository.expireChunkWithoutAutoRenew(now, afterId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            expired += ids.size();
+            afterId = ids.get(ids.size() - 1);
+            log.info("구독 만료 청크 처리: {}건, lastSubscriptionId={}", ids.size(), afterId);
+            if (ids.size() < chunkSize) {
+                break;
+            }
         }
+        log.info("만료 처리된 구독 수: {}", expired);
+        return expired;
     }
 
     /**
@@ -0,0 +1,114 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.entity.Subscription;
+import com.bulc.homepage.entity.User;
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.domain.LicenseStatus;
+import com.bulc.homepage.licensing.domain.LicenseType;
+import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.repository.LicensePlanRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.outbox.OutboxHandler;
+import com.bulc.homepage.repository.SubscriptionRepository;
+import com.bulc.homepage.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 구독 만료 후속 처리 (아웃박스 {@value #EVENT_TYPE}).
+ *
+ * <p>이벤트는 {@link SubscriptionRepository#expireChunkWithoutAutoRenew} 가 만료 UPDATE 와 같은 문장에서 등록한다.
+ * 구독형 라이선스의 유효기간을 구독 종료 시각으로 맞추고 만료 안내 메일을 보낸다.
+ * 같은 제품의 다른 활성 구독이 있으면 라이선스는 건드리지 않는다.</p>
+ *
+ * <p>안내 메일은 아웃박스 워커에서 바로 보낸다. 발송이 실패하면 예외로 라이선스 정리까지 롤백되고
+ * 아웃박스가 백오프 후 다시 처리한다 (lane 에 넘기면 대기열 초과·마감·발송 실패에도 이벤트가 완료 처리되어 안내가 사라진다).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionExpiryHandler implements OutboxHandler {
+
+    /** 만료 쿼리의 event_type 리터럴과 같아야 한다. */
+    public static final String EVENT_TYPE = "SUBSCRIPTION_EXPIRED";
+
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final UserRepository userRepository;
+    private final LicenseRepository licenseRepository;
+    private final LicensePlanRepository licensePlanRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        long subscriptionId = objectMapper.readTree(event.getPayload()).path("subscriptionId").asLong();
+        Subscription subscription = subscriptionRepository.findById(subscriptionId).orElse(null);
+        if (subscription == null || !"E".equals(subscription.getStatus())) {
+            log.info("[구독만료] 만료 상태가 아니어서 건너뜀 - subscriptionId={}", subscriptionId);
+            return;
+        }
+
+        endSubscriptionLicenses(subscription);
+        sendExpiryNotice(subscription);
+    }
+
+    private void endSubscriptionLicenses(Subscription subscription) {
+        if (subscription.getPricePlan() == null || subscription.getPricePlan().getLicensePlanId() == null) {
+            return;
+        }
+        boolean hasOtherActive = subscriptionRepository.findByUserIdAndStatus(subscription.getUserId(), "A").stream()
+                .anyMatch(s -> Objects.equals(s.getProductCode(), subscription.getProductCode()));
+        if (hasOtherActive) {
+            log.info("[구독만료] 같은 제품의 활성 구독이 있어 라이선스 유지 - subscriptionId={}", subscription.getId());
+            return;
+        }
+        LicensePlan plan = licensePlanRepository.findById(subscription.getPricePlan().getLicensePlanId())
+                .orElse(null);
+        if (plan == null) {
+            return;
+        }
+
+        Instant subscriptionEnd = subscription.getEndDate().atZone(ZoneId.systemDefault()).toInstant();
+        List<License> licenses = licenseRepository.findByOwnerAndProductAndStatusIn(
+                OwnerType.USER, subscription.getUserId(), plan.getProductId(),
+                List.of(LicenseStatus.ACTIVE, LicenseStatus.PENDING));
+        for (License license : licenses) {
+            if (license.getLicenseType() != LicenseType.SUBSCRIPTION) {
+                continue;
+            }
+            license.endSubscription(subscriptionEnd);
+            licenseRepository.save(license);
+            log.info("[구독만료] 라이선스 유효기간 정리 - licenseId={}, validUntil={}",
+                    license.getId(), license.getValidUntil());
+        }
+    }
+
+    private void sendExpiryNotice(Subscription subscription) {
+        User user = userRepository.findById(subscription.getUserId()).orElse(null);
+        if (user == null || !Boolean.TRUE.equals(user.getIsActive())) {
+            return;
+        }
+        String productName = subscription.getProduct() != null ? subscription.getProduct().getName() : "BUL:C";
+        String content = String.format(
+                "<p>%s 구독이 %s 에 만료되었습니다.</p><p>계속 이용하시려면 구독을 다시 신청해 주세요.</p>",
+                productName, subscription.getEndDate().format(DATE_FMT));
+        emailService.sendBillingEmail(user.getEmail(), "[BulC] 구독 만료 안내", content);
+    }
+}
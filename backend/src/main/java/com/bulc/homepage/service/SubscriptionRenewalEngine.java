@@ -0,0 +1,250 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.SubscriptionRenewalProperties;
+import com.bulc.homepage.entity.SubscriptionRenewalRun;
+import com.bulc.homepage.exception.OutboundBulkheadRejectedException;
+import com.bulc.homepage.repository.SubscriptionRenewalRunRepository;
+import com.bulc.homepage.service.SubscriptionBillingService.RenewalChunk;
+import com.bulc.homepage.service.SubscriptionBillingService.RenewalClaim;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구독 자동 갱신 엔진.
+ *
+ * <p>한 번의 실행은 다음을 청크 단위로 반복한다.</p>
+ * <ol>
+ *   <li>점유: 결제일이 도래한 구독을 SKIP LOCKED 로 잠그고 PENDING 결제 이력을 남긴 뒤 바로 커밋
+ *       ({@link SubscriptionBillingService#claimDueRenewals}).</li>
+ *   <li>청구: 트랜잭션 밖에서 {@code concurrency} 개 워커가 토스 빌링 결제를 병렬 호출.
+ *       DB 커넥션을 원격 호출 동안 붙잡지 않는다.</li>
+ *   <li>반영: 건별 트랜잭션으로 결제·구독·라이선스 갱신 ({@link SubscriptionBillingService#completeRenewal}).</li>
+ * </ol>
+ *
+ * <p>orderId 는 구독·결제 주기별로 고정되고 토스 Idempotency-Key 로도 전달되므로,
+ * 중간에 인스턴스가 죽어 같은 건을 다시 처리해도 이중 청구되지 않는다.
+ * 진행 상황은 subscription_renewal_runs 에 청크마다 기록한다.</p>
+ *
+ * <p>실패 건은 {@link PaymentRetryPolicy} 가 분류(일시 장애/카드 거절/영구 실패)에 따라 정한
+ * next_attempt_at 에 {@link #runDueRetries()} 가 같은 워커 풀로 다시 청구한다.</p>
+ *
+ * <p>메트릭: {@code bulc.billing.renewal.charge} (result=success|failed, 건별 청구 시간).</p>
+ */
+@Slf4j
+@Service
+public class SubscriptionRenewalEngine {
+
+    private final SubscriptionBillingService subscriptionBillingService;
+    private final BillingKeyService billingKeyService;
+    private final SubscriptionRenewalRunRepository runRepository;
+    private final SubscriptionRenewalProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicBoolean retrying = new AtomicBoolean(false);
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public SubscriptionRenewalEngine(SubscriptionBillingService subscriptionBillingService,
+                                     BillingKeyService billingKeyService,
+                                     SubscriptionRenewalRunRepository runRepository,
+                                     SubscriptionRenewalProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.subscriptionBillingService = subscriptionBillingService;
+        this.billingKeyService = billingKeyService;
+        this.runRepository = runRepository;
+        this.properties = properties;
+
+        int concurrency = Math.max(1, properties.getConcurrency());
+        AtomicInteger seq = new AtomicInteger();
+        // 청크 단위로만 제출하므로 대기열은 chunkSize 를 넘지 않는다
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "sub-renew-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+
+        this.successTimer = Timer.builder("bulc.billing.renewal.charge").tag("result", "success")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.failureTimer = Timer.builder("bulc.billing.renewal.charge").tag("result", "failed")
+                .publishPercentileHistogram().register(meterRegistry);
+    }
+
+    /**
+     * 결제일이 도래한 구독 전체 갱신. 같은 인스턴스에서 이미 실행 중이면 건너뛴다.
+     */
+    public void runDueRenewals() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("구독 갱신 엔진이 이미 실행 중이어서 건너뜀");
+            return;
+        }
+        SubscriptionRenewalRun run = runRepository.save(SubscriptionRenewalRun.builder().build());
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long afterId = 0L;
+            while (true) {
+                RenewalChunk chunk = subscriptionBillingService.claimDueRenewals(
+                        now, afterId, properties.getChunkSize(), properties.getClaimLease());
+                if (chunk.lastSubscriptionId() == null) {
+                    break;
+                }
+                afterId = chunk.lastSubscriptionId();
+
+                int succeeded = chargeAll(chunk.claims());
+                run.setClaimedCount(run.getClaimedCount() + chunk.claims().size());
+                run.setSucceededCount(run.getSucceededCount() + succeeded);
+                run.setFailedCount(run.getFailedCount() + chunk.claims().size() - succeeded);
+                run.setLastSubscriptionId(afterId);
+                run = runRepository.save(run);
+            }
+            run.setStatus(SubscriptionRenewalRun.Status.COMPLETED);
+            log.info("구독 갱신 완료: runId={}, 점유={}, 성공={}, 실패={}",
+                    run.getId(), run.getClaimedCount(), run.getSucceededCount(), run.getFailedCount());
+        } catch (Exception e) {
+            run.setStatus(SubscriptionRenewalRun.Status.FAILED);
+            run.setLastError(e.getMessage());
+            log.error("구독 갱신 엔진 오류: runId={}, lastSubscriptionId={}, error={}",
+                    run.getId(), run.getLastSubscriptionId(), e.getMessage(), e);
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            runRepository.save(run);
+            running.set(false);
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 실패 결제 청구. 대상이 배치 크기보다 적게 남을 때까지 반복한다.
+     */
+    public void runDueRetries() {
+        if (!retrying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int claimed = 0;
+            int succeeded = 0;
+            while (true) {
+                List<RenewalClaim> claims = subscriptionBillingService.claimDueRetries(
+                        LocalDateTime.now(), properties.getRetryBatchSize(), properties.getClaimLease());
+                claimed += claims.size();
+                succeeded += chargeAll(claims);
+                if (claims.size() < properties.getRetryBatchSize()) {
+                    break;
+                }
+            }
+            if (claimed > 0) {
+                log.info("구독 결제 재시도 완료: 점유={}, 성공={}, 실패={}", claimed, succeeded, claimed - succeeded);
+            }
+        } catch (Exception e) {
+            log.error("구독 결제 재시도 오류: {}", e.getMessage(), e);
+        } finally {
+            retrying.set(false);
+        }
+    }
+
+    /**
+     * 한 청크를 워커 풀에서 병렬 청구하고 모두 끝날 때까지 기다린다.
+     *
+     * @return 성공 건수
+     */
+    private int chargeAll(List<RenewalClaim> claims) throws InterruptedException {
+        List<Future<Boolean>> futures = new ArrayList<>(claims.size());
+        for (RenewalClaim claim : claims) {
+            futures.add(executor.submit(() -> charge(claim)));
+        }
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            try {
+                if (future.get()) {
+                    succeeded++;
+                }
+            } catch (ExecutionException e) {
+                log.error("구독 갱신 워커 오류: {}", e.getCause().getMessage());
+            }
+        }
+        return succeeded;
+    }
+
+    boolean charge(RenewalClaim claim) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Map<String, Object> result;
+            try {
+                result = billingKeyService.requestBillingPayment(
+                        claim.billingKeyId(),
+                        claim.orderId(),
+                        claim.orderName(),
+                        claim.amount(),
+                        claim.userId()
+                );
+            } catch (Exception e) {
+                if (isRejectedLocally(e)) {
+                    // bulkhead 거부 — 요청이 나가지 않았으므로 청구되지 않은 것이 확실 → 일시 실패로 바로 재시도 예약
+                    log.warn("구독 갱신 결제 미발송 (동시 요청 한도): subscriptionId={}, orderId={}",
+                            claim.subscriptionId(), claim.orderId());
+                    subscriptionBillingService.failRenewal(
+                            claim.paymentId(), e.getMessage(), PaymentRetryPolicy.FailureClass.TRANSIENT);
+                } else if (e.getCause() instanceof ResourceAccessException) {
+                    // 타임아웃 등으로 승인 여부를 알 수 없음 → PENDING 유지, claimLease 이후 같은 orderId 로 재확인
+                    log.warn("구독 갱신 결제 응답 불명 (재점유 대기): subscriptionId={}, orderId={}, error={}",
+                            claim.subscriptionId(), claim.orderId(), e.getMessage());
+                } else {
+                    subscriptionBillingService.failRenewal(
+                            claim.paymentId(), e.getMessage(), PaymentRetryPolicy.classify(e));
+                }
+                return false;
+            }
+
+            if (!Boolean.TRUE.equals(result.get("success"))) {
+                subscriptionBillingService.failRenewal(
+                        claim.paymentId(), "결제 API 응답 실패", PaymentRetryPolicy.FailureClass.TRANSIENT);
+                return false;
+            }
+
+            try {
+                subscriptionBillingService.completeRenewal(claim.paymentId(), (String) result.get("paymentKey"));
+                success = true;
+            } catch (Exception e) {
+                // 청구는 됐으므로 실패 처리하지 않는다. PENDING 으로 남아 claimLease 이후 같은 orderId 로
+                // 다시 점유되고, 토스가 Idempotency-Key 로 기존 승인 결과를 돌려줘 반영만 재시도된다.
+                log.error("구독 갱신 반영 실패 (청구 완료): subscriptionId={}, orderId={}, error={}",
+                        claim.subscriptionId(), claim.orderId(), e.getMessage(), e);
+            }
+            return success;
+        } finally {
+            (success ? successTimer : failureTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static boolean isRejectedLocally(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof OutboundBulkheadRejectedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
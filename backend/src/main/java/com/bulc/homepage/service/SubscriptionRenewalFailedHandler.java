@@ -0,0 +1,64 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.entity.Subscription;
+import com.bulc.homepage.entity.User;
+import com.bulc.homepage.outbox.OutboxHandler;
+import com.bulc.homepage.repository.SubscriptionRepository;
+import com.bulc.homepage.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 구독 자동 갱신 실패 후속 처리 (아웃박스 {@value #EVENT_TYPE}).
+ *
+ * <p>이벤트는 {@link SubscriptionBillingService} 가 재시도까지 소진한 주기에 자동 갱신을 끄면서 등록한다.
+ * 구독은 종료일까지 유지되고 이후 만료 처리로 넘어가므로, 여기서는 결제 수단 확인 안내 메일만 보낸다.
+ * 메일은 바로 보내며, 실패하면 예외로 아웃박스가 재시도한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionRenewalFailedHandler implements OutboxHandler {
+
+    public static final String EVENT_TYPE = "SUBSCRIPTION_RENEWAL_FAILED";
+
+    private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String eventType() {
+        return EVENT_TYPE;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        long subscriptionId = objectMapper.readTree(event.getPayload()).path("subscriptionId").asLong();
+        Subscription subscription = subscriptionRepository.findById(subscriptionId).orElse(null);
+        if (subscription == null || Boolean.TRUE.equals(subscription.getAutoRenew())) {
+            // 그 사이 사용자가 결제 수단을 바꿔 자동 갱신을 다시 켠 경우
+            log.info("[갱신실패] 자동 갱신이 다시 켜져 있어 안내 생략 - subscriptionId={}", subscriptionId);
+            return;
+        }
+
+        User user = userRepository.findById(subscription.getUserId()).orElse(null);
+        if (user == null || !Boolean.TRUE.equals(user.getIsActive())) {
+            return;
+        }
+        String productName = subscription.getProduct() != null ? subscription.getProduct().getName() : "BUL:C";
+        String content = String.format(
+                "<p>%s 구독의 자동 갱신 결제가 여러 차례 실패하여 자동 갱신이 해지되었습니다.</p>"
+                        + "<p>구독은 %s 까지 이용할 수 있습니다. 계속 이용하시려면 결제 수단을 확인한 뒤 자동 갱신을 다시 설정해 주세요.</p>",
+                productName, subscription.getEndDate().format(DATE_FMT));
+        emailService.sendBillingEmail(user.getEmail(), "[BulC] 구독 자동 갱신 실패 안내", content);
+        log.info("[갱신실패] 안내 메일 발송 - subscriptionId={}", subscriptionId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.bulc.homepage.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 결과 인메모리 TTL 캐시 (건수 상한 + 커밋 후 무효화).
+ *
+ * <p>만료 항목은 같은 키를 다시 조회할 때만 덮어써지므로, 상한에 닿으면 만료 항목을 정리한다.
+ * 정리는 {@link #SWEEP_INTERVAL} 에 한 번만 해서 캐시가 가득 찬 동안 미스마다 전체를 순회하지 않고,
+ * 정리 후에도 가득 차 있으면 새 항목은 캐시하지 않는다.</p>
+ */
+final class TtlCache<K, V> {
+
+    static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt = new AtomicLong(System.nanoTime());
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    TtlCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 만료되지 않은 값. 없거나 만료됐으면 null.
+     */
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && System.nanoTime() - entry.expiresAt() < 0 ? entry.value() : null;
+    }
+
+    /**
+     * 상한 안에서만 캐시한다 (가득 차면 만료 항목 정리 후 자리가 없으면 건너뜀).
+     */
+    void put(K key, V value) {
+        long now = System.nanoTime();
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            sweepExpired(now);
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new Entry<>(value, now + ttlNanos));
+    }
+
+    /**
+     * 상한과 무관하게 캐시한다. DB 에 실제로 있는 키처럼 개수가 이미 제한된 값에만 쓴다.
+     */
+    void putUnbounded(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    void evict(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 무효화 (커밋 전 무효화하면 다른 스레드가 이전 값을 다시 올릴 수 있음).
+     * 트랜잭션 밖이면 즉시 무효화한다.
+     */
+    void evictAfterCommit(List<K> keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            keys.forEach(this::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                keys.forEach(TtlCache.this::evict);
+            }
+        });
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void sweepExpired(long now) {
+        long due = nextSweepAt.get();
+        if (now - due < 0 || !nextSweepAt.compareAndSet(due, now + SWEEP_INTERVAL.toNanos())) {
+            return;
+        }
+        entries.values().removeIf(e -> now - e.expiresAt() >= 0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.bulc.homepage.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 호스트별 읽기 타임아웃 라우팅 — 같은 서버를 두 호스트명(localhost / 127.0.0.1)으로 불러
+ * 호스트 설정만으로 타임아웃이 갈리는지 검증.
+ */
+@DisplayName("HostRoutingRequestFactory 호스트별 타임아웃")
+class HostRoutingRequestFactoryTest {
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newFixedThreadPool(4);
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("호스트 설정에 짧은 읽기 타임아웃이 있으면 그 호스트만 시간 초과된다")
+    void readTimeout_appliedPerHost() throws Exception {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setReadTimeout(Duration.ofSeconds(5));
+        HttpClientProperties.Host strict = new HttpClientProperties.Host();
+        strict.setReadTimeout(Duration.ofMillis(100));
+        properties.getHosts().put("127.0.0.1", strict);
+        HostRoutingRequestFactory factory = new HostRoutingRequestFactory(
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build(), properties);
+        int port = server.getAddress().getPort();
+
+        try (ClientHttpResponse response = factory
+                .createRequest(URI.create("http://localhost:" + port + "/slow"), HttpMethod.GET).execute()) {
+            assertThat(response.getStatusCode().value()).isEqualTo(200);
+        }
+        assertThatThrownBy(() -> factory
+                .createRequest(URI.create("http://127.0.0.1:" + port + "/slow"), HttpMethod.GET).execute())
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.bulc.homepage.config;
+
+import com.bulc.homepage.exception.OutboundBulkheadRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 외부 호출 인터셉터 — 엔드포인트 태그 정규화(카디널리티)와 호스트별 bulkhead 검증.
+ */
+@DisplayName("OutboundHttpInterceptor 외부 호출 계측·동시 요청 상한")
+class OutboundHttpInterceptorTest {
+
+    @Test
+    @DisplayName("식별자 세그먼트는 {id} 로 묶고 버전·고정 경로는 유지한다")
+    void endpointOf_collapsesIdentifiers() {
+        assertThat(OutboundHttpInterceptor.endpointOf("/v1/payments/confirm")).isEqualTo("/v1/payments/confirm");
+        assertThat(OutboundHttpInterceptor.endpointOf("/v1/payments/tgen_20240101123456abcdef"))
+                .isEqualTo("/v1/payments/{id}");
+        assertThat(OutboundHttpInterceptor.endpointOf("/v1/payments/orders/BULC_1_1700000000000"))
+                .isEqualTo("/v1/payments/orders/{id}");
+        assertThat(OutboundHttpInterceptor.endpointOf("/v1/billing/12345")).isEqualTo("/v1/billing/{id}");
+        assertThat(OutboundHttpInterceptor.endpointOf("/v2/user/me")).isEqualTo("/v2/user/me");
+        assertThat(OutboundHttpInterceptor.endpointOf("/oauth2/v4/token")).isEqualTo("/oauth2/v4/token");
+        assertThat(OutboundHttpInterceptor.endpointOf("//v1//payments/")).isEqualTo("/v1/payments");
+        assertThat(OutboundHttpInterceptor.endpointOf("")).isEqualTo("/");
+        assertThat(OutboundHttpInterceptor.endpointOf(null)).isEqualTo("/");
+    }
+
+    @Test
+    @DisplayName("서로 다른 결제 키·주문 번호 호출은 하나의 타이머로 집계된다")
+    void record_differentIdsShareOneTimer() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboundHttpInterceptor interceptor = new OutboundHttpInterceptor(new HttpClientProperties(), registry);
+
+        for (String key : new String[]{"tgen_20240101000000aaaaaa", "tgen_20240101000000bbbbbb", "tgen_20240101000000cccccc"}) {
+            interceptor.intercept(request("https://api.tosspayments.com/v1/payments/" + key), new byte[0],
+                    (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        }
+
+        assertThat(registry.find(OutboundHttpInterceptor.METRIC).timers()).hasSize(1);
+        assertThat(registry.get(OutboundHttpInterceptor.METRIC)
+                .tag("host", "api.tosspayments.com")
+                .tag("endpoint", "/v1/payments/{id}")
+                .tag("method", "GET")
+                .tag("status", "200")
+                .timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("호스트별 동시 요청 한도가 차면 보내지 않고 거부하며, 다른 호스트는 영향받지 않는다")
+    void bulkhead_rejectsPerHost() throws Exception {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        HttpClientProperties.Host slow = new HttpClientProperties.Host();
+        slow.setMaxConcurrent(1);
+        properties.getHosts().put("slow.example.com", slow);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OutboundHttpInterceptor interceptor = new OutboundHttpInterceptor(properties, registry);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try {
+            caller.submit(() -> interceptor.intercept(request("https://slow.example.com/v1/a"), new byte[0],
+                    (req, body) -> {
+                        started.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+                    }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> interceptor.intercept(request("https://slow.example.com/v1/a"), new byte[0],
+                    (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK)))
+                    .isInstanceOf(OutboundBulkheadRejectedException.class);
+            assertThat(interceptor.intercept(request("https://fast.example.com/v1/a"), new byte[0],
+                    (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK)).getStatusCode().value())
+                    .isEqualTo(200);
+        } finally {
+            release.countDown();
+            caller.shutdown();
+            caller.awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(registry.get(OutboundHttpInterceptor.METRIC)
+                .tag("host", "slow.example.com")
+                .tag("status", "REJECTED")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static MockClientHttpRequest request(String uri) {
+        return new MockClientHttpRequest(HttpMethod.GET, URI.create(uri));
+    }
+}
@@ -57,6 +57,27 @@ class BillingKeyCipherTest {
         assertThat(cipher.decrypt(b)).isEqualTo(plain);
     }
 
+    @Test
+    @DisplayName("키 로테이션: 이전 버전 암호문도 복호화하고, 새 암호화는 활성 버전으로")
+    void rotation_decryptsOldVersionAndEncryptsWithActive() {
+        String plain = "billing_rotation_key";
+        String v1 = cipher.encrypt(plain);
+
+        BillingKeyCipher rotated = new BillingKeyCipher();
+        ReflectionTestUtils.setField(rotated, "configuredKey", "unit-test-billing-encryption-key");
+        ReflectionTestUtils.setField(rotated, "additionalKeys", "v2=unit-test-rotated-key");
+        ReflectionTestUtils.setField(rotated, "activeVersion", "v2");
+        ReflectionTestUtils.invokeMethod(rotated, "init");
+
+        String v2 = rotated.encrypt(plain);
+
+        assertThat(v2).startsWith("v2:");
+        assertThat(rotated.decrypt(v1)).isEqualTo(plain);
+        assertThat(rotated.decrypt(v2)).isEqualTo(plain);
+        assertThat(rotated.needsReencryption(v1)).isTrue();
+        assertThat(rotated.needsReencryption(v2)).isFalse();
+    }
+
     @Test
     @DisplayName("null 안전")
     void nullSafe() {
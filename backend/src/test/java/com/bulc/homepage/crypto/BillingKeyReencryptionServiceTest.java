@@ -0,0 +1,218 @@
+package com.bulc.homepage.crypto;
+
+import com.bulc.homepage.config.BillingKeyReencryptionProperties;
+import com.bulc.homepage.entity.BillingKeyReencryptionJob;
+import com.bulc.homepage.repository.BillingKeyReencryptionJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 빌링키 백그라운드 재암호화 — 평문·이전 버전 행 재암호화, 커서 이어서 진행,
+ * 읽은 값과 다를 때 UPDATE 생략, 작업 행 완료 처리를 H2 메모리 DB 로 검증.
+ */
+@DisplayName("BillingKeyReencryptionService 백그라운드 재암호화")
+class BillingKeyReencryptionServiceTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private final BillingKeyReencryptionJobRepository jobRepository = mock(BillingKeyReencryptionJobRepository.class);
+    private final List<BillingKeyReencryptionJob.Status> savedStatuses = new ArrayList<>();
+    private BillingKeyCipher legacyCipher;
+    private BillingKeyReencryptionService service;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE billing_keys (id BIGINT PRIMARY KEY, billing_key VARCHAR(500))");
+
+        given(jobRepository.save(any(BillingKeyReencryptionJob.class))).willAnswer(inv -> {
+            BillingKeyReencryptionJob job = inv.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(1L);
+            }
+            savedStatuses.add(job.getStatus());
+            return job;
+        });
+
+        // v1 로 암호화된 기존 행을 만들기 위한 cipher — 이후 init 하는 활성 cipher 가 인스턴스를 대체한다
+        legacyCipher = cipher(new BillingKeyCipher(), "v1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+        database.shutdown();
+    }
+
+    private static BillingKeyCipher cipher(BillingKeyCipher cipher, String activeVersion) {
+        ReflectionTestUtils.setField(cipher, "configuredKey", "unit-test-billing-encryption-key");
+        ReflectionTestUtils.setField(cipher, "additionalKeys", "v2=unit-test-rotated-key");
+        ReflectionTestUtils.setField(cipher, "activeVersion", activeVersion);
+        ReflectionTestUtils.invokeMethod(cipher, "init");
+        return cipher;
+    }
+
+    private BillingKeyReencryptionService service(BillingKeyCipher active) {
+        cipher(active, "v2");
+        BillingKeyReencryptionProperties properties = new BillingKeyReencryptionProperties();
+        properties.setChunkSize(2);
+        properties.setParallelism(2);
+        properties.setPause(Duration.ZERO);
+        service = new BillingKeyReencryptionService(jdbcTemplate, jobRepository, properties, new SimpleMeterRegistry());
+        return service;
+    }
+
+    private void insert(long id, String billingKey) {
+        jdbcTemplate.update("INSERT INTO billing_keys (id, billing_key) VALUES (?, ?)", id, billingKey);
+    }
+
+    private String stored(long id) {
+        return jdbcTemplate.queryForObject("SELECT billing_key FROM billing_keys WHERE id = ?", String.class, id);
+    }
+
+    @Test
+    @DisplayName("평문과 이전 버전 행을 활성 버전으로 다시 암호화하고 작업을 COMPLETED 로 남긴다")
+    void run_reencryptsPlainAndOldVersionRows() {
+        insert(1, "plain-1");
+        insert(2, legacyCipher.encrypt("old-2"));
+        service(new BillingKeyCipher());
+        BillingKeyCipher active = BillingKeyCipher.getInstance();
+        String alreadyActive = active.encrypt("active-3");
+        insert(3, alreadyActive);
+        insert(4, "plain-4");
+        insert(5, legacyCipher.encrypt("old-5"));
+        insert(6, null);
+        given(jobRepository.findFirstByTargetVersionAndStatusNotOrderByIdDesc(eq("v2"), any()))
+                .willReturn(Optional.empty());
+
+        service.run();
+
+        assertThat(stored(1)).startsWith("v2:");
+        assertThat(active.decrypt(stored(1))).isEqualTo("plain-1");
+        assertThat(active.decrypt(stored(2))).isEqualTo("old-2");
+        assertThat(stored(3)).isEqualTo(alreadyActive);
+        assertThat(active.decrypt(stored(4))).isEqualTo("plain-4");
+        assertThat(active.decrypt(stored(5))).isEqualTo("old-5");
+        assertThat(stored(6)).isNull();
+
+        assertThat(savedStatuses).last().isEqualTo(BillingKeyReencryptionJob.Status.COMPLETED);
+        BillingKeyReencryptionJob job = jobCaptured();
+        assertThat(job.getTargetVersion()).isEqualTo("v2");
+        assertThat(job.getTotalCount()).isEqualTo(4);
+        assertThat(job.getProcessedCount()).isEqualTo(4);
+        assertThat(job.getLastId()).isEqualTo(5L);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("미완료 작업이 있으면 그 커서 다음 행부터 이어서 진행한다")
+    void run_resumesFromCursor() {
+        insert(1, "plain-1");
+        insert(2, "plain-2");
+        insert(3, "plain-3");
+        insert(4, "plain-4");
+        BillingKeyReencryptionJob previous = BillingKeyReencryptionJob.builder()
+                .id(7L)
+                .targetVersion("v2")
+                .status(BillingKeyReencryptionJob.Status.FAILED)
+                .totalCount(4)
+                .processedCount(2)
+                .lastId(2L)
+                .lastError("connection reset")
+                .build();
+        given(jobRepository.findFirstByTargetVersionAndStatusNotOrderByIdDesc(eq("v2"), any()))
+                .willReturn(Optional.of(previous));
+        service(new BillingKeyCipher());
+
+        service.run();
+
+        // 커서 앞의 행은 이번 실행의 대상이 아니다
+        assertThat(stored(1)).isEqualTo("plain-1");
+        assertThat(stored(2)).isEqualTo("plain-2");
+        assertThat(stored(3)).startsWith("v2:");
+        assertThat(stored(4)).startsWith("v2:");
+        assertThat(previous.getStatus()).isEqualTo(BillingKeyReencryptionJob.Status.COMPLETED);
+        assertThat(previous.getLastError()).isNull();
+        assertThat(previous.getProcessedCount()).isEqualTo(4);
+        assertThat(previous.getLastId()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 앱이 바꾼 행은 덮어쓰지 않고 처리 건수에서도 뺀다")
+    void run_skipsRowsChangedConcurrently() {
+        insert(1, "plain-1");
+        insert(2, "plain-2");
+        given(jobRepository.findFirstByTargetVersionAndStatusNotOrderByIdDesc(eq("v2"), any()))
+                .willReturn(Optional.empty());
+        // 재암호화 도중 앱이 2번 행을 새 빌링키로 교체한 상황
+        service(new BillingKeyCipher() {
+            @Override
+            public String decrypt(String stored) {
+                if ("plain-2".equals(stored)) {
+                    jdbcTemplate.update("UPDATE billing_keys SET billing_key = ? WHERE id = 2", "replaced-by-app");
+                }
+                return super.decrypt(stored);
+            }
+        });
+
+        service.run();
+
+        assertThat(stored(1)).startsWith("v2:");
+        assertThat(stored(2)).isEqualTo("replaced-by-app");
+        assertThat(jobCaptured().getProcessedCount()).isEqualTo(1);
+        assertThat(jobCaptured().getStatus()).isEqualTo(BillingKeyReencryptionJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("남은 대상이 없으면 미완료 작업을 COMPLETED 로 닫는다")
+    void run_nothingPending_completesOpenJob() {
+        service(new BillingKeyCipher());
+        insert(1, BillingKeyCipher.getInstance().encrypt("active-1"));
+        BillingKeyReencryptionJob open = BillingKeyReencryptionJob.builder()
+                .id(7L)
+                .targetVersion("v2")
+                .lastId(1L)
+                .build();
+        given(jobRepository.findFirstByTargetVersionAndStatusNotOrderByIdDesc(eq("v2"), any()))
+                .willReturn(Optional.of(open));
+
+        service.run();
+
+        assertThat(open.getStatus()).isEqualTo(BillingKeyReencryptionJob.Status.COMPLETED);
+        assertThat(open.getFinishedAt()).isNotNull();
+    }
+
+    private BillingKeyReencryptionJob jobCaptured() {
+        ArgumentCaptor<BillingKeyReencryptionJob> captor = ArgumentCaptor.forClass(BillingKeyReencryptionJob.class);
+        verify(jobRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.bulc.homepage.email;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Graph {@code POST /v1.0/$batch} 를 흉내 내는 로컬 HTTP 서버 (테스트·벤치마크용).
+ *
+ * <ul>
+ *   <li>sendMail 항목은 202 로 응답한다.</li>
+ *   <li>throttleFirst 만큼의 처음 항목은 429 + Retry-After: 0 으로 응답한다.</li>
+ *   <li>수신자 주소에 "reject" 가 들어 있으면 400 ErrorInvalidRecipients 로 응답한다.</li>
+ *   <li>latencyMillis 만큼 $batch 호출마다 지연한다 (네트워크 왕복 흉내).</li>
+ * </ul>
+ */
+public class FakeGraphBatchServer implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final long latencyMillis;
+    private final AtomicInteger throttleRemaining;
+    private final AtomicInteger batchCalls = new AtomicInteger();
+    private final AtomicInteger acceptedMails = new AtomicInteger();
+
+    public FakeGraphBatchServer(long latencyMillis, int throttleFirst) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.throttleRemaining = new AtomicInteger(throttleFirst);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1.0/$batch", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1.0";
+    }
+
+    public int batchCalls() {
+        return batchCalls.get();
+    }
+
+    public int acceptedMails() {
+        return acceptedMails.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        batchCalls.incrementAndGet();
+        JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode responses = root.putArray("responses");
+        for (JsonNode item : request.path("requests")) {
+            ObjectNode response = responses.addObject();
+            response.put("id", item.path("id").asText());
+            String to = item.path("body").path("message").path("toRecipients").path(0)
+                    .path("emailAddress").path("address").asText();
+            if (throttleRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                response.put("status", 429);
+                response.putObject("headers").put("Retry-After", "0");
+                response.putObject("body").putObject("error")
+                        .put("code", "ApplicationThrottled").put("message", "too many requests");
+            } else if (to.contains("reject")) {
+                response.put("status", 400);
+                response.putObject("body").putObject("error")
+                        .put("code", "ErrorInvalidRecipients").put("message", "invalid recipient");
+            } else {
+                response.put("status", 202);
+                acceptedMails.incrementAndGet();
+            }
+        }
+
+        byte[] body = objectMapper.writeValueAsBytes(root);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,152 @@
+package com.bulc.homepage.email;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 최소한의 SMTP 대화(EHLO/MAIL/RCPT/DATA/RSET/NOOP/QUIT)만 흉내 내는 로컬 서버 (테스트용).
+ *
+ * <ul>
+ *   <li>수신자 주소에 "reject" 가 들어 있으면 RCPT 를 550 으로 거부한다.</li>
+ *   <li>수신자 주소에 "hold" 가 들어 있으면 {@link #release()} 까지 DATA 응답을 미룬다 (연결 점유 흉내).</li>
+ *   <li>dropAfterEachMessage 이면 메시지를 받을 때마다 연결을 끊는다 (유휴 연결 종료 흉내).</li>
+ * </ul>
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final CountDownLatch held = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    private volatile boolean dropAfterEachMessage;
+
+    public FakeSmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    /** 지금까지 받은 연결 수. */
+    public int connections() {
+        return connections.get();
+    }
+
+    /** 받은 메시지의 수신자 (받은 순). */
+    public List<String> delivered() {
+        return new ArrayList<>(delivered);
+    }
+
+    public void dropAfterEachMessage(boolean drop) {
+        this.dropAfterEachMessage = drop;
+    }
+
+    /** "hold" 수신자 메시지가 DATA 응답 대기에 들어갈 때까지 기다린다. */
+    public boolean awaitHeld() throws InterruptedException {
+        return held.await(5, TimeUnit.SECONDS);
+    }
+
+    public void release() {
+        released.countDown();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                executor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1))) {
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 fake ESMTP");
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("EHLO")) {
+                    reply(out, "250-fake\r\n250 8BITMIME");
+                } else if (command.startsWith("HELO") || command.startsWith("MAIL FROM")
+                        || command.startsWith("NOOP")) {
+                    reply(out, "250 OK");
+                } else if (command.startsWith("RSET")) {
+                    recipients.clear();
+                    reply(out, "250 OK");
+                } else if (command.startsWith("RCPT TO")) {
+                    if (line.contains("reject")) {
+                        reply(out, "550 5.1.1 no such user");
+                    } else {
+                        recipients.add(line.substring(line.indexOf('<') + 1, line.lastIndexOf('>')));
+                        reply(out, "250 OK");
+                    }
+                } else if (command.startsWith("DATA")) {
+                    reply(out, "354 end with .");
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        // 본문은 보관하지 않는다
+                    }
+                    if (recipients.stream().anyMatch(r -> r.contains("hold"))) {
+                        held.countDown();
+                        released.await(10, TimeUnit.SECONDS);
+                    }
+                    delivered.addAll(recipients);
+                    recipients.clear();
+                    reply(out, "250 OK queued");
+                    if (dropAfterEachMessage) {
+                        return;
+                    }
+                } else if (command.startsWith("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else {
+                    reply(out, "502 unsupported");
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 닫은 경우
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void reply(OutputStream out, String response) throws IOException {
+        out.write((response + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        released.countDown();
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.GraphMailProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 가짜 Graph 서버를 상대로 $batch 묶음·요청 제한 재시도·항목별 결과 매핑을 검증한다.
+ */
+@DisplayName("GraphBatchMailTransport Graph JSON batching 발송")
+class GraphBatchMailTransportTest {
+
+    private FakeGraphBatchServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private GraphBatchMailTransport transport(FakeGraphBatchServer server) {
+        GraphMailProperties properties = new GraphMailProperties();
+        properties.setBaseUrl(server.baseUrl());
+        GraphBatchEndpoint endpoint = new HttpGraphBatchEndpoint(new ObjectMapper(), properties, () -> "test-token",
+                HttpClient.newHttpClient());
+        return new GraphBatchMailTransport(endpoint, properties, new SimpleMeterRegistry());
+    }
+
+    private static List<OutboundMail> mails(String from, int count) {
+        List<OutboundMail> mails = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            mails.add(new OutboundMail(EmailCategory.OPERATIONAL, from, "user" + i + "@example.com",
+                    "support@bulc.co.kr", "공지", "<p>본문</p>"));
+        }
+        return mails;
+    }
+
+    @Test
+    @DisplayName("발신 메일박스별로 20건씩 묶어 $batch 로 보낸다")
+    void send_groupsPerSenderInBatchesOf20() throws Exception {
+        server = new FakeGraphBatchServer(0, 0);
+        List<OutboundMail> mails = new ArrayList<>(mails("noreply@bulc.co.kr", 45));
+        mails.addAll(mails("billing@bulc.co.kr", 5));
+
+        List<MailDeliveryResult> results = transport(server).send(mails);
+
+        assertThat(results).hasSize(50).allMatch(MailDeliveryResult::isSent);
+        assertThat(server.batchCalls()).isEqualTo(4);   // 20 + 20 + 5, 5
+        assertThat(server.acceptedMails()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("429 받은 항목만 다시 보내 모두 성공한다")
+    void send_retriesThrottledItems() throws Exception {
+        server = new FakeGraphBatchServer(0, 3);
+
+        List<MailDeliveryResult> results = transport(server).send(mails("noreply@bulc.co.kr", 10));
+
+        assertThat(results).allMatch(MailDeliveryResult::isSent);
+        assertThat(server.batchCalls()).isEqualTo(2);
+        assertThat(server.acceptedMails()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("항목별 오류는 해당 메시지만 실패로 돌려준다")
+    void send_mapsPerItemErrors() throws Exception {
+        server = new FakeGraphBatchServer(0, 0);
+        List<OutboundMail> mails = new ArrayList<>(mails("noreply@bulc.co.kr", 2));
+        mails.add(1, new OutboundMail(EmailCategory.OPERATIONAL, "noreply@bulc.co.kr", "reject@example.com",
+                null, "공지", "<p>본문</p>"));
+
+        List<MailDeliveryResult> results = transport(server).send(mails);
+
+        assertThat(results.get(0).isSent()).isTrue();
+        assertThat(results.get(1).isSent()).isFalse();
+        assertThat(results.get(1).error()).contains("ErrorInvalidRecipients");
+        assertThat(results.get(2).isSent()).isTrue();
+    }
+}
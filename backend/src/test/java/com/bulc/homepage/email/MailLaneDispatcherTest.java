@@ -0,0 +1,125 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.MailLaneProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * lane 격리·대기열 상한·마감 시간·커밋 후 등록 검증.
+ */
+@DisplayName("MailLaneDispatcher 카테고리별 메일 lane")
+class MailLaneDispatcherTest {
+
+    private SimpleMeterRegistry registry;
+    private MailLaneDispatcher dispatcher;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        MailLaneProperties properties = new MailLaneProperties();
+        properties.setAccount(new MailLaneProperties.Lane(1, 1, Duration.ofMillis(50)));
+        properties.setOperational(new MailLaneProperties.Lane(1, 1, Duration.ofMinutes(1)));
+        registry = new SimpleMeterRegistry();
+        dispatcher = new MailLaneDispatcher(properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    private Runnable blockUntilReleased() {
+        return () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("운영 lane 이 가득 차도 계정 메일은 바로 발송된다")
+    void accountLane_isIsolatedFromOtherLanes() throws Exception {
+        EmailCategory busy = EmailCategory.OPERATIONAL;
+        assertThat(dispatcher.dispatch(busy, busy + " 1", blockUntilReleased())).isTrue();
+        assertThat(dispatcher.dispatch(busy, busy + " 2", blockUntilReleased())).isTrue();
+        assertThat(dispatcher.dispatch(busy, busy + " 3", blockUntilReleased())).isFalse();
+
+        CountDownLatch sent = new CountDownLatch(1);
+        assertThat(dispatcher.dispatch(EmailCategory.ACCOUNT, "인증 코드", sent::countDown)).isTrue();
+
+        assertThat(sent.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.counter("bulc.mail.lane.tasks", "lane", "OPERATIONAL", "result", "rejected").count())
+                .isEqualTo(1);
+        assertThat(registry.counter("bulc.mail.lane.tasks", "lane", "ACCOUNT", "result", "sent").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계정 lane 대기열에서 마감 시간을 넘긴 인증 코드는 보내지 않는다")
+    void accountLane_expiredTaskIsDropped() throws Exception {
+        AtomicBoolean sent = new AtomicBoolean();
+        dispatcher.dispatch(EmailCategory.ACCOUNT, "앞선 인증 코드", blockUntilReleased());
+        dispatcher.dispatch(EmailCategory.ACCOUNT, "늦은 인증 코드", () -> sent.set(true));
+
+        Thread.sleep(100);
+        release.countDown();
+        Thread.sleep(100);
+
+        assertThat(sent).isFalse();
+        assertThat(registry.counter("bulc.mail.lane.tasks", "lane", "ACCOUNT", "result", "expired").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 등록하고, 롤백되면 보내지 않는다")
+    void dispatchAfterCommit_onlyOnCommit() throws Exception {
+        CountDownLatch committed = new CountDownLatch(1);
+        AtomicBoolean rolledBack = new AtomicBoolean();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dispatcher.dispatchAfterCommit(EmailCategory.ACCOUNT, "커밋 건", committed::countDown);
+            assertThat(committed.getCount()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(committed.await(1, TimeUnit.SECONDS)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dispatcher.dispatchAfterCommit(EmailCategory.ACCOUNT, "롤백 건", () -> rolledBack.set(true));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Thread.sleep(100);
+        assertThat(rolledBack).isFalse();
+    }
+
+    @Test
+    @DisplayName("광고성·결제 메일은 lane 이 없다 (대량 발송 큐·아웃박스 동기 발송)")
+    void promotionalAndTransaction_haveNoLane() {
+        assertThatThrownBy(() -> dispatcher.dispatch(EmailCategory.PROMOTIONAL, "캠페인", () -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dispatcher.dispatch(EmailCategory.TRANSACTION, "구독 만료 안내", () -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bulc.homepage.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MailTemplate 컴파일 템플릿")
+class MailTemplateTest {
+
+    @Test
+    @DisplayName("플레이스홀더를 치환하고 vars 에 없는 자리는 그대로 남긴다")
+    void render_keepsUnknownPlaceholders() {
+        MailTemplate tpl = MailTemplate.compile("<h1>{{title}}</h1>{{content}}{{footer}}");
+
+        String html = tpl.render(Map.of("title", "공지", "content", "<p>본문</p>"));
+
+        assertThat(html).isEqualTo("<h1>공지</h1><p>본문</p>{{footer}}");
+    }
+
+    @Test
+    @DisplayName("null 값은 빈 문자열, 치환값 안의 플레이스홀더는 다시 치환하지 않는다")
+    void render_nullAndNestedValues() {
+        MailTemplate tpl = MailTemplate.compile("[{{a}}|{{b}}]");
+        Map<String, String> vars = new HashMap<>();
+        vars.put("a", null);
+        vars.put("b", "{{a}}");
+
+        assertThat(tpl.render(vars)).isEqualTo("[|{{a}}]");
+    }
+
+    @Test
+    @DisplayName("bind 로 고정값을 미리 채우면 남은 자리만 렌더링한다")
+    void bind_prefillsFixedValues() {
+        MailTemplate footer = MailTemplate.compile("{{company.name}} - <a href=\"{{unsubscribe_url}}\">거부</a>")
+                .bind(Map.of("company.name", "메테오"));
+
+        assertThat(footer.render(Map.of("unsubscribe_url", "https://x/u?token=1")))
+                .isEqualTo("메테오 - <a href=\"https://x/u?token=1\">거부</a>");
+        assertThat(MailTemplate.compile("닫히지 않은 {{ 괄호").render(Map.of())).isEqualTo("닫히지 않은 {{ 괄호");
+    }
+}
@@ -0,0 +1,133 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.MailTransportProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 카테고리별 transport 라우팅 — 기동 시 검증, 섞인 목록 분할 발송과 결과 순서 복원, 단건 발송 인터럽트 처리.
+ */
+@DisplayName("MailTransportRouter 카테고리별 transport 라우팅")
+class MailTransportRouterTest {
+
+    /** 받은 목록을 기록하고, 수신자에 "fail" 이 있으면 실패로 돌려주는 transport. */
+    private static final class RecordingTransport implements MailTransport {
+
+        private final String name;
+        private final boolean configured;
+        private final List<List<OutboundMail>> calls = new ArrayList<>();
+        private boolean interrupt;
+
+        RecordingTransport(String name, boolean configured) {
+            this.name = name;
+            this.configured = configured;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public boolean isConfigured() {
+            return configured;
+        }
+
+        @Override
+        public List<MailDeliveryResult> send(List<OutboundMail> mails) throws InterruptedException {
+            if (interrupt) {
+                throw new InterruptedException();
+            }
+            calls.add(mails);
+            return mails.stream()
+                    .map(m -> m.to().contains("fail") ? MailDeliveryResult.failed(name + ":" + m.to())
+                            : MailDeliveryResult.sent())
+                    .toList();
+        }
+    }
+
+    private final RecordingTransport graph = new RecordingTransport("graph", true);
+    private final RecordingTransport smtp = new RecordingTransport("smtp", false);
+
+    private MailTransportRouter router(EmailCategory category, String route) {
+        MailTransportProperties properties = new MailTransportProperties();
+        properties.getRoutes().put(category, route);
+        return new MailTransportRouter(List.of(graph, smtp), properties);
+    }
+
+    private static OutboundMail mail(EmailCategory category, String to) {
+        return new OutboundMail(category, "noreply@bulc.co.kr", to, null, "안내", "<p>본문</p>");
+    }
+
+    @Test
+    @DisplayName("없는 transport 를 가리키는 라우팅은 기동 시 실패한다")
+    void unknownRoute_failsAtStartup() {
+        assertThatThrownBy(() -> router(EmailCategory.ACCOUNT, "ses"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ACCOUNT -> ses");
+    }
+
+    @Test
+    @DisplayName("지정하지 않은 카테고리는 graph, 지정한 카테고리는 그 transport 로 간다")
+    void routes_defaultToGraph() {
+        MailTransportRouter router = router(EmailCategory.ACCOUNT, " smtp ");
+
+        assertThat(router.transportFor(EmailCategory.ACCOUNT)).isSameAs(smtp);
+        assertThat(router.transportFor(EmailCategory.PROMOTIONAL)).isSameAs(graph);
+        assertThat(router.describeRoutes())
+                .containsEntry("ACCOUNT", "smtp (미설정)")
+                .containsEntry("TRANSACTION", "graph");
+    }
+
+    @Test
+    @DisplayName("섞인 목록은 transport 별로 나눠 보내고 결과를 원래 순서로 합친다")
+    void send_mixed_splitsAndRestoresOrder() throws Exception {
+        MailTransportRouter router = router(EmailCategory.ACCOUNT, "smtp");
+        List<OutboundMail> mails = List.of(
+                mail(EmailCategory.PROMOTIONAL, "p1@example.com"),
+                mail(EmailCategory.ACCOUNT, "fail-a@example.com"),
+                mail(EmailCategory.OPERATIONAL, "fail-o@example.com"),
+                mail(EmailCategory.ACCOUNT, "a2@example.com"));
+
+        List<MailDeliveryResult> results = router.send(mails);
+
+        assertThat(results).extracting(MailDeliveryResult::error)
+                .containsExactly(null, "smtp:fail-a@example.com", "graph:fail-o@example.com", null);
+        assertThat(graph.calls).singleElement().satisfies(call -> assertThat(call).extracting(OutboundMail::to)
+                .containsExactly("p1@example.com", "fail-o@example.com"));
+        assertThat(smtp.calls).singleElement().satisfies(call -> assertThat(call).extracting(OutboundMail::to)
+                .containsExactly("fail-a@example.com", "a2@example.com"));
+    }
+
+    @Test
+    @DisplayName("한 transport 로만 가는 목록은 나누지 않고 그대로 넘긴다")
+    void send_singleTransport_passesListThrough() throws Exception {
+        MailTransportRouter router = router(EmailCategory.ACCOUNT, "smtp");
+        List<OutboundMail> mails = List.of(
+                mail(EmailCategory.PROMOTIONAL, "p1@example.com"),
+                mail(EmailCategory.OPERATIONAL, "o1@example.com"));
+
+        router.send(mails);
+
+        assertThat(graph.calls).singleElement().isSameAs(mails);
+        assertThat(smtp.calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단건 발송이 인터럽트되면 실패 결과를 돌려주고 인터럽트 상태를 되살린다")
+    void sendOne_interrupted_returnsFailure() {
+        MailTransportRouter router = router(EmailCategory.ACCOUNT, "smtp");
+        smtp.interrupt = true;
+
+        MailDeliveryResult result = router.send(mail(EmailCategory.ACCOUNT, "a@example.com"));
+
+        assertThat(result.isSent()).isFalse();
+        assertThat(Thread.interrupted()).isTrue();
+    }
+}
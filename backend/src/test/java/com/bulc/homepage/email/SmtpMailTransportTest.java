@@ -0,0 +1,145 @@
+package com.bulc.homepage.email;
+
+import com.bulc.homepage.config.MailTransportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 가짜 SMTP 서버를 상대로 lane 별 연결 풀(재사용·격리), 수신자 거부, 끊긴 연결 재발송을 검증한다.
+ */
+@DisplayName("SmtpMailTransport lane 별 연결 풀 SMTP 발송")
+class SmtpMailTransportTest {
+
+    private FakeSmtpServer server;
+    private SmtpMailTransport transport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new FakeSmtpServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.shutdown();
+        }
+        server.close();
+    }
+
+    private SmtpMailTransport transport(String host) {
+        MailTransportProperties properties = new MailTransportProperties();
+        MailTransportProperties.Smtp smtp = properties.getSmtp();
+        smtp.setHost(host);
+        smtp.setPort(server.port());
+        smtp.setStarttls(false);
+        smtp.setInteractivePoolSize(1);
+        smtp.setBulkPoolSize(1);
+        smtp.setAcquireTimeout(Duration.ofMillis(200));
+        smtp.setConnectTimeout(Duration.ofSeconds(2));
+        smtp.setTimeout(Duration.ofSeconds(15));
+        transport = new SmtpMailTransport(properties);
+        return transport;
+    }
+
+    private static OutboundMail mail(EmailCategory category, String to) {
+        return new OutboundMail(category, "noreply@bulc.co.kr", to, null, "안내", "<p>본문</p>");
+    }
+
+    @Test
+    @DisplayName("lane 마다 연결을 하나씩 열고 다음 발송에서 그 연결을 다시 쓴다")
+    void send_onePooledConnectionPerLane() throws Exception {
+        SmtpMailTransport smtp = transport("127.0.0.1");
+
+        List<MailDeliveryResult> first = smtp.send(List.of(
+                mail(EmailCategory.ACCOUNT, "a@example.com"),
+                mail(EmailCategory.PROMOTIONAL, "b@example.com"),
+                mail(EmailCategory.TRANSACTION, "c@example.com"),
+                mail(EmailCategory.OPERATIONAL, "d@example.com")));
+        List<MailDeliveryResult> second = smtp.send(List.of(
+                mail(EmailCategory.OPERATIONAL, "e@example.com"),
+                mail(EmailCategory.ACCOUNT, "f@example.com")));
+
+        assertThat(first).hasSize(4).allMatch(MailDeliveryResult::isSent);
+        assertThat(second).hasSize(2).allMatch(MailDeliveryResult::isSent);
+        // lane 순서대로 보내므로 interactive(a, c) 다음 bulk(b, d)
+        assertThat(server.delivered()).containsExactly(
+                "a@example.com", "c@example.com", "b@example.com", "d@example.com",
+                "e@example.com", "f@example.com");
+        assertThat(server.connections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대량 lane 연결이 모두 사용 중이어도 계정·결제 메일은 자기 풀로 나간다")
+    void send_bulkLaneBusy_interactiveLaneUnaffected() throws Exception {
+        SmtpMailTransport smtp = transport("127.0.0.1");
+        CompletableFuture<List<MailDeliveryResult>> bulk = CompletableFuture.supplyAsync(() -> {
+            try {
+                return smtp.send(List.of(mail(EmailCategory.PROMOTIONAL, "hold@example.com")));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(server.awaitHeld()).isTrue();
+
+        List<MailDeliveryResult> account = smtp.send(List.of(mail(EmailCategory.ACCOUNT, "code@example.com")));
+        List<MailDeliveryResult> moreBulk = smtp.send(List.of(mail(EmailCategory.OPERATIONAL, "late@example.com")));
+        server.release();
+
+        assertThat(account).singleElement().matches(MailDeliveryResult::isSent);
+        assertThat(moreBulk).singleElement().satisfies(r ->
+                assertThat(r.error()).isEqualTo("SMTP 연결 실패: 사용 가능한 SMTP 연결이 없습니다."));
+        assertThat(bulk.get(10, TimeUnit.SECONDS)).singleElement().matches(MailDeliveryResult::isSent);
+    }
+
+    @Test
+    @DisplayName("수신자 거부는 그 메일만 실패로 돌려주고 같은 연결로 계속 보낸다")
+    void send_rejectedRecipient_keepsConnection() throws Exception {
+        List<MailDeliveryResult> results = transport("127.0.0.1").send(List.of(
+                mail(EmailCategory.PROMOTIONAL, "ok1@example.com"),
+                mail(EmailCategory.PROMOTIONAL, "reject@example.com"),
+                mail(EmailCategory.PROMOTIONAL, "ok2@example.com")));
+
+        assertThat(results.get(0).isSent()).isTrue();
+        assertThat(results.get(1).error()).startsWith("SMTP 수신자 거부");
+        assertThat(results.get(2).isSent()).isTrue();
+        assertThat(server.delivered()).containsExactly("ok1@example.com", "ok2@example.com");
+        assertThat(server.connections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버가 연결을 끊으면 그 메일을 새 연결로 한 번 더 보낸다")
+    void send_droppedConnection_resendsOnNewConnection() throws Exception {
+        server.dropAfterEachMessage(true);
+
+        List<MailDeliveryResult> results = transport("127.0.0.1").send(List.of(
+                mail(EmailCategory.OPERATIONAL, "a@example.com"),
+                mail(EmailCategory.OPERATIONAL, "b@example.com")));
+
+        assertThat(results).allMatch(MailDeliveryResult::isSent);
+        assertThat(server.delivered()).containsExactly("a@example.com", "b@example.com");
+        assertThat(server.connections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("호스트 설정이 없으면 연결하지 않고 모두 실패로 돌려준다")
+    void send_notConfigured_failsAll() throws Exception {
+        SmtpMailTransport smtp = transport(" ");
+
+        List<MailDeliveryResult> results = smtp.send(List.of(
+                mail(EmailCategory.ACCOUNT, "a@example.com"),
+                mail(EmailCategory.PROMOTIONAL, "b@example.com")));
+
+        assertThat(smtp.isConfigured()).isFalse();
+        assertThat(results).hasSize(2).allSatisfy(r -> assertThat(r.error()).contains("SMTP 설정이 없습니다"));
+        assertThat(server.connections()).isZero();
+    }
+}
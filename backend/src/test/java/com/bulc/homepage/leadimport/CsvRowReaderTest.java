@@ -0,0 +1,110 @@
+package com.bulc.homepage.leadimport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSV 토크나이저 — 따옴표·줄바꿈·BOM 처리, 조기 중단, CP949 감지와 깨진 바이트 대체 검증.
+ */
+@DisplayName("CsvRowReader CSV 스트리밍 토크나이저")
+class CsvRowReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<List<String>> readAll(String csv) throws Exception {
+        List<List<String>> rows = new ArrayList<>();
+        new CsvRowReader().read(new StringReader(csv), (rowNumber, cells) -> rows.add(cells));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표·줄바꿈과 \"\" 이스케이프를 한 셀로 읽는다")
+    void read_quotedCells() throws Exception {
+        List<List<String>> rows = readAll("email,notes\r\na@example.com,\"서울, 강남\n2층 \"\"본사\"\"\"\r\n");
+
+        assertThat(rows).containsExactly(
+                List.of("email", "notes"),
+                List.of("a@example.com", "서울, 강남\n2층 \"본사\""));
+    }
+
+    @Test
+    @DisplayName("선두 BOM 을 제거하고 마지막 줄바꿈이 없어도 마지막 행을 읽는다")
+    void read_bomAndTrailingRow() throws Exception {
+        List<List<String>> rows = readAll("\uFEFF이메일,이름\nb@example.com,홍길동");
+
+        assertThat(rows).containsExactly(
+                List.of("이메일", "이름"),
+                List.of("b@example.com", "홍길동"));
+    }
+
+    @Test
+    @DisplayName("handler 가 false 를 돌려주면 더 읽지 않는다")
+    void read_stopsWhenHandlerDeclines() throws Exception {
+        List<Integer> seen = new ArrayList<>();
+        new CsvRowReader().read(new StringReader("a\nb\nc\n"), (rowNumber, cells) -> {
+            seen.add(rowNumber);
+            return rowNumber < 2;
+        });
+
+        assertThat(seen).containsExactly(1, 2);
+    }
+
+    private List<List<String>> readFile(byte[] content) throws Exception {
+        Path file = Files.write(dir.resolve("contacts.csv"), content);
+        List<List<String>> rows = new ArrayList<>();
+        new CsvRowReader().read(file, (rowNumber, cells) -> rows.add(cells));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("엑셀이 저장한 CP949 CSV 는 CP949 로 읽는다")
+    void readFile_cp949() throws Exception {
+        List<List<String>> rows = readFile("이메일,이름\r\nc@example.com,김영희\r\n".getBytes(CsvRowReader.CP949));
+
+        assertThat(rows).containsExactly(
+                List.of("이메일", "이름"),
+                List.of("c@example.com", "김영희"));
+    }
+
+    @Test
+    @DisplayName("UTF-8 파일은 BOM 과 함께 UTF-8 로 읽는다")
+    void readFile_utf8WithBom() throws Exception {
+        List<List<String>> rows = readFile("\uFEFF이메일,이름\nd@example.com,박민수\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(rows).containsExactly(
+                List.of("이메일", "이름"),
+                List.of("d@example.com", "박민수"));
+    }
+
+    @Test
+    @DisplayName("감지 구간 뒤의 깨진 바이트는 예외 없이 대체 문자로 바꾸고 나머지 행을 읽는다")
+    void readFile_malformedBytesReplaced() throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.write("이메일,이름\n".getBytes(StandardCharsets.UTF_8));
+        // 감지는 앞 64KB 만 보므로 그 뒤에 둔 잘못된 바이트는 UTF-8 디코딩 중에 만난다
+        String filler = "x@example.com,채움\n";
+        while (content.size() < 70 * 1024) {
+            content.write(filler.getBytes(StandardCharsets.UTF_8));
+        }
+        content.write(new byte[]{'e', '@', 'x', ',', (byte) 0xC0, (byte) 0xAF, '\n'});
+        content.write("f@example.com,끝\n".getBytes(StandardCharsets.UTF_8));
+
+        List<List<String>> rows = readFile(content.toByteArray());
+
+        assertThat(rows.get(0)).containsExactly("이메일", "이름");
+        assertThat(rows.get(rows.size() - 2).get(1)).contains("\uFFFD");
+        assertThat(rows.get(rows.size() - 1)).containsExactly("f@example.com", "끝");
+    }
+}
@@ -0,0 +1,196 @@
+package com.bulc.homepage.leadimport;
+
+import com.bulc.homepage.config.LeadImportProperties;
+import com.bulc.homepage.dto.response.LeadContactImportResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임포트 엔진 — 청크 INSERT 와 체크포인트를 한 트랜잭션으로 커밋, batch 실패 시 행 단위 재시도,
+ * 체크포인트 다음 행부터 재개 검증.
+ */
+@DisplayName("LeadContactImporter 청크 임포트")
+class LeadContactImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final List<String> insertedEmails = new ArrayList<>();
+    private final List<SimpleTransactionStatus> transactions = new ArrayList<>();
+    private boolean inTransaction;
+
+    @SuppressWarnings("unchecked")
+    private LeadContactImporter importer(int chunkSize) {
+        doAnswer(inv -> {
+            SimpleTransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            inTransaction = true;
+            try {
+                ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(status);
+            } catch (RuntimeException e) {
+                status.setRollbackOnly();
+                throw e;
+            } finally {
+                inTransaction = false;
+            }
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            List<Object[]> rows = inv.getArgument(1);
+            rows.forEach(r -> insertedEmails.add((String) r[0]));
+            int[] counts = new int[rows.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+        LeadImportProperties properties = new LeadImportProperties();
+        properties.setChunkSize(chunkSize);
+        return new LeadContactImporter(jdbcTemplate, transactionTemplate, properties);
+    }
+
+    private Path csv(String content) throws Exception {
+        Path file = dir.resolve("contacts.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private class Recorder implements LeadContactImporter.Listener {
+        final List<LeadContactImportResult.RowError> errors = new ArrayList<>();
+        final List<Boolean> beforeCommitInTransaction = new ArrayList<>();
+        final List<LeadContactImporter.Progress> checkpoints = new ArrayList<>();
+
+        @Override
+        public void onError(LeadContactImportResult.RowError error) {
+            errors.add(error);
+        }
+
+        @Override
+        public void beforeChunkCommit(LeadContactImporter.Progress progress) {
+            beforeCommitInTransaction.add(inTransaction);
+        }
+
+        @Override
+        public void onChunkCommitted(LeadContactImporter.Progress progress) {
+            checkpoints.add(progress);
+        }
+    }
+
+    @Test
+    @DisplayName("오류 행을 포함해 chunkSize 행마다 체크포인트를 통지한다")
+    void run_checkpointsEveryChunk() throws Exception {
+        Path file = csv("email,name\na@example.com,A\n,누락\nb@example.com,B\nc@example.com,C\n");
+        Recorder recorder = new Recorder();
+
+        LeadContactImporter.Progress progress = importer(2).run(file, UUID.randomUUID(), recorder);
+
+        assertThat(progress).isEqualTo(new LeadContactImporter.Progress(4, 3, 1, 5));
+        assertThat(recorder.checkpoints).extracting(LeadContactImporter.Progress::lastRowNumber)
+                .containsExactly(3, 5, 5);
+        assertThat(recorder.errors).singleElement()
+                .satisfies(e -> assertThat(e.getRowNumber()).isEqualTo(3));
+        assertThat(insertedEmails).containsExactly("a@example.com", "b@example.com", "c@example.com");
+    }
+
+    @Test
+    @DisplayName("재개 시 체크포인트 이하 행은 건너뛰고 건수를 이어서 누적한다")
+    void run_resumesAfterCheckpoint() throws Exception {
+        Path file = csv("email,name\na@example.com,A\n,누락\nb@example.com,B\nc@example.com,C\n");
+        Recorder recorder = new Recorder();
+
+        LeadContactImporter.Progress progress = importer(2).run(file, UUID.randomUUID(),
+                new LeadContactImporter.Progress(2, 1, 1, 3), recorder);
+
+        assertThat(progress).isEqualTo(new LeadContactImporter.Progress(4, 3, 1, 5));
+        assertThat(recorder.errors).isEmpty();
+        assertThat(insertedEmails).containsExactly("b@example.com", "c@example.com");
+    }
+
+    @Test
+    @DisplayName("청크 INSERT 와 체크포인트 콜백은 같은 트랜잭션에서 실행된다")
+    void run_checkpointInsideChunkTransaction() throws Exception {
+        Path file = csv("email,name\na@example.com,A\nb@example.com,B\nc@example.com,C\n");
+        Recorder recorder = new Recorder();
+
+        importer(2).run(file, UUID.randomUUID(), recorder);
+
+        assertThat(transactions).hasSize(2).noneMatch(SimpleTransactionStatus::isRollbackOnly);
+        assertThat(recorder.beforeCommitInTransaction).containsExactly(true, true);
+        assertThat(recorder.checkpoints).extracting(LeadContactImporter.Progress::lastRowNumber)
+                .containsExactly(3, 4);
+    }
+
+    @Test
+    @DisplayName("체크포인트 콜백이 실패하면 그 청크 트랜잭션을 롤백하고 커밋 통지 없이 중단한다")
+    void run_checkpointFails_rollsBackChunk() throws Exception {
+        Path file = csv("email,name\na@example.com,A\nb@example.com,B\n");
+        Recorder recorder = new Recorder() {
+            @Override
+            public void beforeChunkCommit(LeadContactImporter.Progress progress) {
+                throw new IllegalStateException("점유 상실");
+            }
+        };
+
+        assertThatThrownBy(() -> importer(2).run(file, UUID.randomUUID(), recorder))
+                .hasMessage("점유 상실");
+
+        assertThat(insertedEmails).containsExactly("a@example.com", "b@example.com");
+        assertThat(transactions).singleElement().matches(SimpleTransactionStatus::isRollbackOnly);
+        assertThat(recorder.checkpoints).isEmpty();
+    }
+
+    @Test
+    @DisplayName("batch INSERT 가 실패하면 같은 트랜잭션에서 savepoint 로 행 단위 재시도해 잘못된 행만 오류로 남긴다")
+    void run_batchFails_retriesRowByRowInSameTransaction() throws Exception {
+        Path file = csv("email,name\na@example.com,A\nbad@example.com,B\n");
+        Recorder recorder = new Recorder();
+        LeadContactImporter importer = importer(10);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(inv -> {
+            // 가변 인자는 펼쳐져 넘어온다 — 1번이 이메일
+            if ("bad@example.com".equals(inv.getArgument(1))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return 1;
+        });
+
+        LeadContactImporter.Progress progress = importer.run(file, UUID.randomUUID(), recorder);
+
+        assertThat(progress).isEqualTo(new LeadContactImporter.Progress(2, 1, 1, 3));
+        assertThat(recorder.errors).singleElement()
+                .satisfies(e -> assertThat(e.getEmail()).isEqualTo("bad@example.com"));
+        assertThat(transactions).singleElement().matches(s -> !s.isRollbackOnly());
+        // savepoint: batch(설정·되돌리기) + 정상 행(설정·해제) + 실패 행(설정·되돌리기)
+        verify(jdbcTemplate, times(6)).execute(any(ConnectionCallback.class));
+    }
+}
@@ -0,0 +1,188 @@
+package com.bulc.homepage.leadimport;
+
+import com.bulc.homepage.config.LeadImportProperties;
+import com.bulc.homepage.dto.response.LeadContactImportResult;
+import com.bulc.homepage.entity.LeadImportJob;
+import com.bulc.homepage.repository.LeadImportErrorRepository;
+import com.bulc.homepage.repository.LeadImportJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.invocation.Invocation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 백그라운드 임포트 워커 — 점유 lease, 점유 상실 시 청크 롤백, 정상 종료 시 lease 반납,
+ * 다른 인스턴스의 업로드 파일 양보 검증.
+ *
+ * <p>CLAIM·체크포인트 SQL 은 PostgreSQL 전용(SKIP LOCKED · RETURNING)이라 실행하지 않고 넘기는 인자를 확인한다.
+ * 청크 트랜잭션은 {@link LeadContactImporter} 몫이므로 임포터를 목으로 두고 listener 를 직접 부른다.</p>
+ */
+@DisplayName("LeadImportJobService 백그라운드 임포트 워커")
+class LeadImportJobServiceTest {
+
+    private static final long JOB_ID = 7L;
+    private static final String RELEASE_SQL = "UPDATE lead_import_jobs SET lease_until = ? WHERE id = ? AND lease_until = ?";
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LeadImportJobRepository jobRepository = mock(LeadImportJobRepository.class);
+    private final LeadContactImporter importer = mock(LeadContactImporter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LeadImportProperties properties = new LeadImportProperties();
+    private LeadImportJobService service;
+    private Path upload;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        upload = Files.writeString(dir.resolve("lead-import-1.upload"), "email\na@example.com\n");
+        service = new LeadImportJobService(jdbcTemplate, jobRepository, mock(LeadImportErrorRepository.class),
+                importer, properties, meterRegistry);
+    }
+
+    private LeadImportJobService.Claim claim(Path file) {
+        given(jobRepository.findById(JOB_ID)).willReturn(Optional.of(LeadImportJob.builder()
+                .id(JOB_ID)
+                .fileName("contacts.csv")
+                .filePath(file.toString())
+                .status(LeadImportJob.Status.RUNNING)
+                .createdBy(UUID.randomUUID())
+                .build()));
+        return new LeadImportJobService.Claim(JOB_ID, LocalDateTime.now().withNano(0).plusMinutes(2));
+    }
+
+    /** 임포터가 청크 하나를 처리하며 listener 를 부르는 순서 그대로 흉내 낸다 (오류 → 커밋 직전 → 커밋 직후). */
+    private void importerRunsOneChunk() throws Exception {
+        given(importer.run(any(), any(), any(), any())).willAnswer(inv -> {
+            LeadContactImporter.Listener listener = inv.getArgument(3);
+            LeadContactImporter.Progress progress = new LeadContactImporter.Progress(2, 1, 1, 3);
+            listener.onError(LeadContactImportResult.RowError.builder()
+                    .rowNumber(3).email("dup@example.com").message("이미 등록된 이메일").build());
+            listener.beforeChunkCommit(progress);
+            listener.onChunkCommitted(progress);
+            return progress;
+        });
+    }
+
+    private void checkpointUpdates(int rows) {
+        given(jdbcTemplate.update(contains("SET total_rows"), any(), any(), any(), any(), any(), any(), any(), any()))
+                .willReturn(rows);
+    }
+
+    /** 체크포인트 UPDATE 로 넘긴 인자 (가변 인자는 펼쳐져 있다 — 0번이 SQL). */
+    private Object[] checkpointArgs() {
+        return mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(i -> i.getMethod().getName().equals("update"))
+                .map(Invocation::getArguments)
+                .filter(args -> args[0] instanceof String sql && sql.contains("SET total_rows"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("bulc.lead.import.jobs").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("점유하면 작업 id 와 lease 만료 시각을 돌려주고, 대기 작업이 없으면 null")
+    void claimNext_setsLease() {
+        given(jdbcTemplate.queryForList(startsWith("UPDATE lead_import_jobs"), eq(Long.class), any(), any(), any(), any()))
+                .willReturn(List.of(JOB_ID), List.of());
+
+        LeadImportJobService.Claim claim = service.claimNext();
+
+        assertThat(claim.jobId()).isEqualTo(JOB_ID);
+        assertThat(claim.leaseUntil()).isAfter(LocalDateTime.now().plus(properties.getLease()).minusSeconds(5));
+        verify(jdbcTemplate).queryForList(contains("FOR UPDATE SKIP LOCKED"), eq(Long.class),
+                eq(Timestamp.valueOf(claim.leaseUntil())), any(), any(), any());
+        assertThat(service.claimNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("끝까지 읽으면 체크포인트를 내 lease 조건으로 반영하고 COMPLETED 로 마치며 업로드를 지운다")
+    void process_completes() throws Exception {
+        LeadImportJobService.Claim claim = claim(upload);
+        importerRunsOneChunk();
+        checkpointUpdates(1);
+
+        service.process(claim);
+
+        Object[] args = checkpointArgs();
+        assertThat(args).endsWith(JOB_ID, Timestamp.valueOf(claim.leaseUntil()));
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO lead_import_errors"), anyList());
+        verify(jdbcTemplate).update(contains("SET status = ?"), eq("COMPLETED"), any(), any(), any(), eq(JOB_ID));
+        assertThat(upload).doesNotExist();
+        assertThat(count("completed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("체크포인트에서 점유를 잃으면 청크 트랜잭션 안에서 예외로 롤백시키고 완료·실패 처리 없이 손을 뗀다")
+    void process_leaseLost_abandonsWithoutFinishing() throws Exception {
+        LeadImportJobService.Claim claim = claim(upload);
+        importerRunsOneChunk();
+        checkpointUpdates(0);
+
+        service.process(claim);
+
+        verify(jdbcTemplate, never()).update(contains("SET status = ?"), any(), any(), any(), any(), any());
+        verify(jdbcTemplate, never()).update(eq(RELEASE_SQL), any(), any(), any());
+        assertThat(upload).exists();
+        assertThat(count("completed")).isZero();
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 요청을 받으면 체크포인트 커밋 직후 멈추고 새로 건 lease 를 바로 풀어 준다")
+    void process_stopped_releasesLeaseAfterCheckpoint() throws Exception {
+        LeadImportJobService.Claim claim = claim(upload);
+        importerRunsOneChunk();
+        checkpointUpdates(1);
+        service.shutdown();
+
+        service.process(claim);
+
+        // 체크포인트가 연장한 lease(5번 인자)를 조건으로 풀어야 다른 워커가 가져간 작업을 건드리지 않는다
+        Timestamp extendedLease = (Timestamp) checkpointArgs()[5];
+        verify(jdbcTemplate).update(eq(RELEASE_SQL), any(), eq(JOB_ID), eq(extendedLease));
+        verify(jdbcTemplate, never()).update(contains("SET status = ?"), any(), any(), any(), any(), any());
+        assertThat(upload).exists();
+    }
+
+    @Test
+    @DisplayName("업로드 파일이 이 인스턴스에 없으면 실패로 끝내지 않고 lease 를 풀어 파일을 가진 인스턴스에 넘긴다")
+    void process_missingFile_releasesLeaseToOwner() throws Exception {
+        LeadImportJobService.Claim claim = claim(dir.resolve("other-instance.upload"));
+
+        service.process(claim);
+
+        verify(jdbcTemplate).update(contains("SET lease_until = ?, last_error = ?"), any(), any(), any(),
+                eq(JOB_ID), eq(Timestamp.valueOf(claim.leaseUntil())));
+        verify(importer, never()).run(any(), any(), any(), any());
+        verify(jdbcTemplate, never()).update(contains("SET status = ?"), any(), any(), any(), any(), any());
+        assertThat(count("failed")).isZero();
+    }
+}
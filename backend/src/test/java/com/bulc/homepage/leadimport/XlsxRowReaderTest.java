@@ -0,0 +1,96 @@
+package com.bulc.homepage.leadimport;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * XLSX SAX 리더 — 빈 셀 채우기, 공유 문자열, 숫자 표시 형식, 빈 행 건너뜀, 조기 중단 검증.
+ * 픽스처는 테스트마다 POI 로 만든다.
+ */
+@DisplayName("XlsxRowReader XLSX 스트리밍 리더")
+class XlsxRowReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = dir.resolve("contacts.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet("명함");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("이메일");
+            header.createCell(1).setCellValue("이름");
+            header.createCell(2).setCellValue("회사");
+            header.createCell(3).setCellValue("전화");
+
+            // 2행은 비워 둔다. 3행은 회사(C) 칸이 비어 있고, "홍길동" 은 4행과 공유 문자열 하나를 같이 쓴다
+            Row gap = sheet.createRow(2);
+            gap.createCell(0).setCellValue("  a@example.com ");
+            gap.createCell(1).setCellValue("홍길동");
+            gap.createCell(3).setCellValue(1012345678);
+
+            Row shared = sheet.createRow(3);
+            shared.createCell(0).setCellValue("b@example.com");
+            shared.createCell(1).setCellValue("홍길동");
+            shared.createCell(2).setCellValue("불크");
+
+            // 두 번째 시트는 읽지 않는다
+            workbook.createSheet("기타").createRow(0).createCell(0).setCellValue("ignored@example.com");
+            workbook.write(out);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 셀은 빈 문자열로 채워 열 위치를 맞추고, 빈 행은 건너뛰며 행 번호는 시트 기준이다")
+    void read_fillsGapsAndKeepsRowNumbers() throws Exception {
+        List<Integer> rowNumbers = new ArrayList<>();
+        List<List<String>> rows = new ArrayList<>();
+
+        new XlsxRowReader().read(file, (rowNumber, cells) -> {
+            rowNumbers.add(rowNumber);
+            rows.add(cells);
+            return true;
+        });
+
+        assertThat(rowNumbers).containsExactly(1, 3, 4);
+        assertThat(rows).containsExactly(
+                List.of("이메일", "이름", "회사", "전화"),
+                List.of("a@example.com", "홍길동", "", "1012345678"),
+                List.of("b@example.com", "홍길동", "불크"));
+    }
+
+    @Test
+    @DisplayName("handler 가 false 를 돌려주면 나머지 행을 읽지 않고 정상 종료한다")
+    void read_stopsWhenHandlerDeclines() throws Exception {
+        List<Integer> seen = new ArrayList<>();
+
+        new XlsxRowReader().read(file, (rowNumber, cells) -> {
+            seen.add(rowNumber);
+            return false;
+        });
+
+        assertThat(seen).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("형식 감지는 ZIP 헤더로 XLSX 리더를 고른다")
+    void detect_xlsx() throws Exception {
+        assertThat(LeadRowReader.detect(file)).isInstanceOf(XlsxRowReader.class);
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * License 도메인 유닛 테스트.
@@ -336,4 +337,68 @@ class LicenseTest {
             assertThat(license.getStatus()).isEqualTo(LicenseStatus.ACTIVE);
         }
     }
+
+    @Nested
+    @DisplayName("endSubscription - 구독 만료 시 유효기간 정리")
+    class EndSubscription {
+
+        private License subscriptionLicense(Instant validUntil) {
+            return License.builder()
+                    .ownerType(OwnerType.USER)
+                    .ownerId(OWNER_ID)
+                    .productId(PRODUCT_ID)
+                    .licenseType(LicenseType.SUBSCRIPTION)
+                    .validFrom(Instant.now().minus(365, ChronoUnit.DAYS))
+                    .validUntil(validUntil)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("구독 종료 시각보다 늦은 유효기간은 종료 시각으로 자른다")
+        void shouldTruncateValidUntilToSubscriptionEnd() {
+            Instant end = Instant.now().minus(1, ChronoUnit.HOURS);
+            License license = subscriptionLicense(end.plus(30, ChronoUnit.DAYS));
+
+            license.endSubscription(end);
+
+            assertThat(license.getValidUntil()).isEqualTo(end);
+        }
+
+        @Test
+        @DisplayName("이미 종료 시각 이전에 끝나는 유효기간은 그대로 둔다")
+        void shouldKeepEarlierValidUntil() {
+            Instant end = Instant.now();
+            Instant earlier = end.minus(3, ChronoUnit.DAYS);
+            License license = subscriptionLicense(earlier);
+
+            license.endSubscription(end);
+
+            assertThat(license.getValidUntil()).isEqualTo(earlier);
+        }
+
+        @Test
+        @DisplayName("유효기간이 없는(무기한) 구독 라이선스는 종료 시각으로 맞춘다")
+        void shouldSetValidUntilWhenUnbounded() {
+            Instant end = Instant.now();
+            License license = subscriptionLicense(null);
+
+            license.endSubscription(end);
+
+            assertThat(license.getValidUntil()).isEqualTo(end);
+        }
+
+        @Test
+        @DisplayName("구독형이 아닌 라이선스는 거부한다")
+        void shouldRejectNonSubscriptionLicense() {
+            License license = License.builder()
+                    .ownerType(OwnerType.USER)
+                    .ownerId(OWNER_ID)
+                    .productId(PRODUCT_ID)
+                    .licenseType(LicenseType.PERPETUAL)
+                    .build();
+
+            assertThatThrownBy(() -> license.endSubscription(Instant.now()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
 }
@@ -7,6 +7,7 @@ import com.bulc.homepage.licensing.dto.RedeemClaimResponse;
 import com.bulc.homepage.licensing.exception.LicenseException;
 import com.bulc.homepage.licensing.exception.LicenseException.ErrorCode;
 import com.bulc.homepage.licensing.repository.*;
+import com.bulc.homepage.ratelimit.RateLimiter;
 import com.bulc.homepage.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -41,7 +42,7 @@ class RedeemServiceTest {
     @Mock private ProductRepository productRepository;
     @Mock private UserRepository userRepository;
     @Mock private RedeemCodeHashService hashService;
-    @Mock private RedeemRateLimiter rateLimiter;
+    @Mock private RateLimiter rateLimiter;
 
     private RedeemService redeemService;
 
@@ -61,7 +62,7 @@ class RedeemServiceTest {
         );
 
         // 기본 mock 설정
-        given(rateLimiter.isAllowed(any())).willReturn(true);
+        given(rateLimiter.tryAcquire(any(), any())).willReturn(true);
         given(hashService.normalize(any())).willReturn("ABCDEFGH12345678");
         given(hashService.hash(any())).willReturn("somehash");
     }
@@ -187,7 +188,7 @@ class RedeemServiceTest {
     @Test
     @DisplayName("Rate limit 초과 → REDEEM_RATE_LIMITED")
     void claim_rateLimited() {
-        given(rateLimiter.isAllowed(USER_ID)).willReturn(false);
+        given(rateLimiter.tryAcquire(RateLimiter.REDEEM_CLAIM, USER_ID.toString())).willReturn(false);
 
         assertThatThrownBy(() -> redeemService.claim(USER_ID, "CODE", "127.0.0.1", null))
                 .isInstanceOf(LicenseException.class)
@@ -0,0 +1,135 @@
+package com.bulc.homepage.outbox;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 아웃박스 처리기 — 점유 시 시도 횟수·lease, 성공 시 DONE, 실패 시 지수 백오프, 한도 초과·핸들러 없음은 FAILED 검증.
+ */
+@DisplayName("OutboxDispatcher 아웃박스 처리")
+class OutboxDispatcherTest {
+
+    private static final String EVENT_TYPE = "TEST_EVENT";
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final OutboxHandler handler = mock(OutboxHandler.class);
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0))
+                        .doInTransaction(new SimpleTransactionStatus()));
+        willAnswer(inv -> {
+            ((Consumer<TransactionStatus>) inv.getArgument(0)).accept(new SimpleTransactionStatus());
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(repository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+        given(handler.eventType()).willReturn(EVENT_TYPE);
+        dispatcher = new OutboxDispatcher(repository, transactionTemplate, List.of(handler));
+    }
+
+    private OutboxEvent claimable(String eventType, int attempts) {
+        OutboxEvent event = OutboxEvent.builder()
+                .id(1L)
+                .eventType(eventType)
+                .aggregateId("order-1")
+                .payload("{}")
+                .attempts(attempts)
+                .build();
+        given(repository.claimDue(any(), any())).willReturn(List.of(event), List.of());
+        given(repository.findById(1L)).willReturn(Optional.of(event));
+        return event;
+    }
+
+    @Test
+    @DisplayName("핸들러가 성공하면 같은 트랜잭션에서 DONE 으로 표시한다")
+    void dispatch_success_marksDone() throws Exception {
+        OutboxEvent event = claimable(EVENT_TYPE, 0);
+
+        dispatcher.dispatch();
+
+        verify(handler).handle(event);
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.DONE);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getProcessedAt()).isNotNull();
+        assertThat(event.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("핸들러가 실패하면 PENDING 으로 두고 시도 횟수에 맞춘 백오프 뒤로 미룬다")
+    void dispatch_failure_schedulesBackoff() throws Exception {
+        OutboxEvent event = claimable(EVENT_TYPE, 2);
+        willThrow(new IllegalStateException("smtp down")).given(handler).handle(any());
+
+        dispatcher.dispatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        assertThat(event.getAttempts()).isEqualTo(3);
+        assertThat(event.getLastError()).isEqualTo("smtp down");
+        assertThat(event.getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plusSeconds(40), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("시도 한도에 닿은 실패는 FAILED 로 남긴다")
+    void dispatch_failureAtMaxAttempts_marksFailed() throws Exception {
+        OutboxEvent event = claimable(EVENT_TYPE, OutboxDispatcher.MAX_ATTEMPTS - 1);
+        willThrow(new IllegalStateException("still failing")).given(handler).handle(any());
+
+        dispatcher.dispatch();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(OutboxDispatcher.MAX_ATTEMPTS);
+        assertThat(event.getLastError()).isEqualTo("still failing");
+    }
+
+    @Test
+    @DisplayName("등록된 핸들러가 없는 이벤트는 재시도 없이 FAILED")
+    void dispatch_unknownType_marksFailed() throws Exception {
+        OutboxEvent event = claimable("UNKNOWN", 0);
+
+        dispatcher.dispatch();
+
+        verify(handler, never()).handle(any());
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.FAILED);
+        assertThat(event.getLastError()).contains("UNKNOWN");
+    }
+
+    @Test
+    @DisplayName("백오프는 10초부터 두 배씩 늘고 1시간에서 멈춘다")
+    void backoff_doublesUpToOneHour() {
+        assertThat(OutboxDispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(OutboxDispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(OutboxDispatcher.backoff(4)).isEqualTo(Duration.ofSeconds(80));
+        assertThat(OutboxDispatcher.backoff(9)).isEqualTo(Duration.ofSeconds(2560));
+        assertThat(OutboxDispatcher.backoff(OutboxDispatcher.MAX_ATTEMPTS)).isEqualTo(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,226 @@
+package com.bulc.homepage.query;
+
+import com.bulc.homepage.entity.Payment;
+import com.bulc.homepage.entity.PaymentDetail;
+import com.bulc.homepage.entity.User;
+import com.bulc.homepage.query.view.PaymentRowView;
+import com.bulc.homepage.repository.PaymentRepository;
+import com.bulc.homepage.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("PaymentQueryRepository 결제 목록 keyset 조회")
+class PaymentQueryRepositoryImplTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @Autowired
+    private PaymentQueryRepository queryRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private Long first;
+    private Long tieA;
+    private Long tieB;
+    private Long last;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("MERGE INTO user_roles (code, role) KEY(code) VALUES (?, ?)", "002", "USER");
+        userId = userRepository.save(User.builder()
+                .email("payer-" + UUID.randomUUID() + "@example.com")
+                .rolesCode("002")
+                .build()).getId();
+
+        // tieA·tieB 는 생성 시각과 금액이 같다 — id 보조 키로만 순서가 정해진다
+        first = payment("ORDER-1", "Kim@Example.com", "김철수", "C", "CARD", 30000, T0.minusDays(2));
+        tieA = payment("ORDER-2", "lee@example.com", "이영희", "C", "CARD", 10000, T0);
+        tieB = payment("ORDER-3", "park@example.com", "박민수", "F", "TRANSFER", 10000, T0);
+        last = payment("ORDER-4", "a%b@example.com", "최%", "C", "EASY_PAY_TOSS", 50000, T0.plusDays(1));
+    }
+
+    private Long payment(String orderId, String email, String name, String status, String method,
+                         int amount, LocalDateTime createdAt) {
+        Payment payment = Payment.builder()
+                .userId(userId)
+                .userEmail(email)
+                .userName(name)
+                .amount(BigDecimal.valueOf(amount))
+                .status(status)
+                .build();
+        payment.setPaymentDetail(PaymentDetail.builder()
+                .payment(payment)
+                .orderId(orderId)
+                .paymentMethod(method)
+                .paymentProvider("TOSS")
+                .build());
+        Long id = paymentRepository.saveAndFlush(payment).getId();
+        // created_at 은 @PrePersist 가 현재 시각으로 덮으므로 저장 후 직접 맞춘다
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE id = ?", createdAt, id);
+        return id;
+    }
+
+    private PaymentSearchCond cond(PaymentSort sort, String cursor, int size) {
+        return new PaymentSearchCond(userId, null, null, null, null, null, sort, cursor, size);
+    }
+
+    private List<Long> pageThrough(PaymentSort sort, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<PaymentRowView> page = queryRepository.search(cond(sort, cursor, size));
+            page.items().forEach(row -> ids.add(row.id()));
+            assertThat(page.hasMore()).isEqualTo(page.nextCursor() != null);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static List<Long> byId(boolean ascending, Long a, Long b) {
+        return ascending == (a < b) ? List.of(a, b) : List.of(b, a);
+    }
+
+    @Nested
+    @DisplayName("keyset 페이징")
+    class Paging {
+
+        @Test
+        @DisplayName("최신순: 같은 생성 시각은 id 내림차순으로, 페이지 경계에서 빠지거나 겹치지 않는다")
+        void createdAtDesc_breaksTiesById() {
+            List<Long> expected = new ArrayList<>();
+            expected.add(last);
+            expected.addAll(byId(false, tieA, tieB));
+            expected.add(first);
+
+            assertThat(pageThrough(PaymentSort.CREATED_AT_DESC, 1)).containsExactlyElementsOf(expected);
+            assertThat(pageThrough(PaymentSort.CREATED_AT_DESC, 2)).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("금액 오름차순: 같은 금액은 id 오름차순")
+        void amountAsc_breaksTiesById() {
+            List<Long> expected = new ArrayList<>(byId(true, tieA, tieB));
+            expected.add(first);
+            expected.add(last);
+
+            assertThat(pageThrough(PaymentSort.AMOUNT_ASC, 1)).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 nextCursor 가 없다")
+        void lastPage_hasNoCursor() {
+            CursorPage<PaymentRowView> page = queryRepository.search(cond(PaymentSort.CREATED_AT_DESC, null, 10));
+
+            assertThat(page.items()).hasSize(4);
+            assertThat(page.hasMore()).isFalse();
+            assertThat(page.nextCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 검증")
+    class CursorValidation {
+
+        @Test
+        @DisplayName("다른 정렬 기준으로 만든 커서는 거부한다")
+        void cursorFromOtherSort_rejected() {
+            String cursor = queryRepository.search(cond(PaymentSort.CREATED_AT_DESC, null, 1)).nextCursor();
+
+            assertThatThrownBy(() -> queryRepository.search(cond(PaymentSort.AMOUNT_DESC, cursor, 1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("base64 가 아니거나 값 형식이 틀린 커서는 거부한다")
+        void malformedCursor_rejected() {
+            String badDate = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("CREATED_AT_DESC|not-a-date|1".getBytes(StandardCharsets.UTF_8));
+            String badId = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString("AMOUNT_DESC|100|x".getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> queryRepository.search(cond(PaymentSort.CREATED_AT_DESC, "!!!", 1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> queryRepository.search(cond(PaymentSort.CREATED_AT_DESC, badDate, 1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> queryRepository.search(cond(PaymentSort.AMOUNT_DESC, badId, 1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 조건")
+    class Filters {
+
+        private List<Long> search(String status, String method, LocalDateTime from, LocalDateTime to, String keyword) {
+            return queryRepository.search(new PaymentSearchCond(userId, status, method, from, to, keyword,
+                            PaymentSort.CREATED_AT_DESC, null, 10))
+                    .items().stream().map(PaymentRowView::id).toList();
+        }
+
+        @Test
+        @DisplayName("상태와 결제수단을 함께 건다")
+        void statusAndMethod() {
+            assertThat(search("C", "CARD", null, null, null)).containsExactlyInAnyOrder(first, tieA);
+            assertThat(search("F", "CARD", null, null, null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("기간은 from 포함, to 미포함")
+        void dateRange() {
+            assertThat(search(null, null, T0, T0.plusDays(1), null)).containsExactlyInAnyOrder(tieA, tieB);
+        }
+
+        @Test
+        @DisplayName("키워드: 주문번호는 정확히, 이메일·이름은 대소문자 무시 앞부분 일치")
+        void keyword() {
+            assertThat(search(null, null, null, null, "ORDER-3")).containsExactly(tieB);
+            assertThat(search(null, null, null, null, "ORDER")).isEmpty();
+            assertThat(search(null, null, null, null, "kim@")).containsExactly(first);
+            assertThat(search(null, null, null, null, "이영")).containsExactly(tieA);
+        }
+
+        @Test
+        @DisplayName("키워드의 % 와 _ 는 와일드카드가 아니라 문자로 찾는다")
+        void keyword_escapesLikeWildcards() {
+            assertThat(search(null, null, null, null, "a%")).containsExactly(last);
+            assertThat(search(null, null, null, null, "%")).isEmpty();
+            assertThat(search(null, null, null, null, "_")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("키워드와 상태를 함께 걸면 둘 다 만족해야 한다")
+        void keywordAndStatus() {
+            assertThat(search("F", null, null, null, "lee")).isEmpty();
+            assertThat(search("C", null, null, null, "lee")).containsExactly(tieA);
+        }
+    }
+}
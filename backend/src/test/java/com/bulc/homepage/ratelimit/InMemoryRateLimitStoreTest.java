@@ -0,0 +1,73 @@
+package com.bulc.homepage.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 GCRA 레이트리밋 단위 테스트 (가짜 시계 사용).
+ */
+class InMemoryRateLimitStoreTest {
+
+    private static final RateLimitPolicy POLICY =
+            new RateLimitPolicy("test", 5, TimeUnit.SECONDS.toNanos(60));
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRateLimitStore(clock::get);
+    }
+
+    @Test
+    @DisplayName("limit 회까지 버스트 허용, 초과 시 거부")
+    void burstUpToLimit_thenDenied() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryAcquire(POLICY, "user")).isTrue();
+        }
+        assertThat(store.tryAcquire(POLICY, "user")).isFalse();
+    }
+
+    @Test
+    @DisplayName("window / limit 경과마다 1회 회복")
+    void refillsOnePermitPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            store.tryAcquire(POLICY, "user");
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        assertThat(store.tryAcquire(POLICY, "user")).isTrue();
+        assertThat(store.tryAcquire(POLICY, "user")).isFalse();
+    }
+
+    @Test
+    @DisplayName("키별로 독립 적용")
+    void keysAreIndependent() {
+        for (int i = 0; i < 5; i++) {
+            store.tryAcquire(POLICY, "a");
+        }
+        assertThat(store.tryAcquire(POLICY, "a")).isFalse();
+        assertThat(store.tryAcquire(POLICY, "b")).isTrue();
+    }
+
+    @Test
+    @DisplayName("버킷이 가득 찬 항목만 정리")
+    void evictExpired_removesOnlyIdleKeys() {
+        store.tryAcquire(POLICY, "idle");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        for (int i = 0; i < 5; i++) {
+            store.tryAcquire(POLICY, "busy");
+        }
+
+        store.evictExpired();
+
+        assertThat(store.size("test")).isEqualTo(1);
+        assertThat(store.tryAcquire(POLICY, "busy")).isFalse();
+    }
+}
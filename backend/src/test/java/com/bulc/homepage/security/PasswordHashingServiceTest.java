@@ -0,0 +1,114 @@
+package com.bulc.homepage.security;
+
+import com.bulc.homepage.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 전용 풀 해싱 — 해시/검증 왕복, 틀린 비밀번호 거부, 낮은 cost 해시 재해싱 판단, 포화 시 거부 검증.
+ */
+@DisplayName("PasswordHashingService 비밀번호 해싱")
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    private PasswordHashingService service(PasswordEncoder encoder, int poolSize, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(6);
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(Duration.ofSeconds(5));
+        service = new PasswordHashingService(encoder, properties, new SimpleMeterRegistry());
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱한 비밀번호는 같은 평문으로 검증되고 틀린 평문은 거부된다")
+    void encodeAndMatches_roundTrip() {
+        PasswordHashingService hashing = service(new BCryptPasswordEncoder(6), 2, 8);
+
+        String hash = hashing.encode("correct-horse");
+
+        assertThat(hash).isNotEqualTo("correct-horse");
+        assertThat(hashing.matches("correct-horse", hash)).isTrue();
+        assertThat(hashing.matches("wrong-horse", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 해시가 없으면 해싱 없이 false")
+    void matches_blankHash_false() {
+        PasswordHashingService hashing = service(new BCryptPasswordEncoder(6), 1, 1);
+
+        assertThat(hashing.matches("pw", null)).isFalse();
+        assertThat(hashing.matches("pw", " ")).isFalse();
+        assertThat(hashing.matches(null, "$2a$06$abc")).isFalse();
+    }
+
+    @Test
+    @DisplayName("현재 cost 보다 낮은 해시만 재해싱 대상이다")
+    void needsRehash_onlyForWeakerCost() {
+        PasswordHashingService hashing = service(new BCryptPasswordEncoder(6), 1, 4);
+        String legacy = new BCryptPasswordEncoder(4).encode("pw");
+        String current = hashing.encode("pw");
+
+        assertThat(hashing.needsRehash(legacy)).isTrue();
+        assertThat(hashing.needsRehash(current)).isFalse();
+        assertThat(hashing.needsRehash(null)).isFalse();
+        // 낮은 cost 해시도 검증은 그대로 된다 (로그인 성공 후 재해싱)
+        assertThat(hashing.matches("pw", legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("워커와 대기열이 모두 차면 PasswordHashingBusyException 으로 즉시 거부한다")
+    void saturated_rejects() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHashingService hashing = service(blocking, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            callers.submit(() -> hashing.encode("a"));          // 워커 점유
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> hashing.encode("b"));          // 대기열 1칸
+            Thread.sleep(100);
+
+            assertThatThrownBy(() -> hashing.encode("c"))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.AccountPurgeJob;
+import com.bulc.homepage.repository.AccountPurgeJobRepository;
+import com.bulc.homepage.repository.ActivityLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 재가입 이력 정리 — 점유 lease, 청크별 진행 반영, 점유 상실 시 중단, 실패 재시도 검증.
+ */
+@DisplayName("AccountPurgeService 재가입 이력 정리")
+class AccountPurgeServiceTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final AccountPurgeJobRepository purgeJobRepository = mock(AccountPurgeJobRepository.class);
+    private final ActivityLogRepository activityLogRepository = mock(ActivityLogRepository.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final List<SimpleTransactionStatus> transactions = new ArrayList<>();
+    private AccountPurgeService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        given(transactionTemplate.execute(any())).willAnswer(inv -> {
+            SimpleTransactionStatus status = new SimpleTransactionStatus();
+            transactions.add(status);
+            return ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(status);
+        });
+        given(purgeJobRepository.save(any(AccountPurgeJob.class))).willAnswer(inv -> inv.getArgument(0));
+        service = new AccountPurgeService(purgeJobRepository, activityLogRepository, transactionTemplate);
+    }
+
+    private AccountPurgeJob job(int attempts) {
+        return AccountPurgeJob.builder()
+                .id(1L)
+                .userId(USER_ID)
+                .activityLogCutoffId(100L)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    @DisplayName("점유하면 RUNNING·시도 횟수 증가·lease 설정, 대기 작업이 없으면 null")
+    void claimNext_setsLease() {
+        AccountPurgeJob pending = job(0);
+        given(purgeJobRepository.claimDue(any(), any())).willReturn(List.of(pending), List.of());
+
+        AccountPurgeJob claimed = service.claimNext();
+
+        assertThat(claimed.getStatus()).isEqualTo(AccountPurgeJob.Status.RUNNING);
+        assertThat(claimed.getAttempts()).isEqualTo(1);
+        assertThat(claimed.getLeaseUntil()).isAfter(LocalDateTime.now().plus(AccountPurgeService.LEASE).minusSeconds(5));
+        assertThat(service.claimNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("청크마다 삭제 건수와 lease 를 함께 반영하고, 짧은 청크에서 COMPLETED 로 놓아 준다")
+    void run_recordsEachChunkThenCompletes() {
+        AccountPurgeJob job = job(1);
+        job.setLeaseUntil(LocalDateTime.now().plusMinutes(2));
+        given(activityLogRepository.deleteChunkByUserId(USER_ID, 100L, AccountPurgeService.CHUNK_SIZE))
+                .willReturn(AccountPurgeService.CHUNK_SIZE, 7);
+        given(purgeJobRepository.recordProgress(eq(1L), anyLong(), any(), any(), any())).willReturn(1);
+        given(purgeJobRepository.release(eq(1L), any(), any(), any(), any(), any(), any())).willReturn(1);
+
+        service.run(job);
+
+        verify(purgeJobRepository).recordProgress(eq(1L), eq((long) AccountPurgeService.CHUNK_SIZE),
+                eq(job.getLeaseUntil()), any(), any());
+        verify(purgeJobRepository).recordProgress(eq(1L), eq(7L), any(), any(), any());
+        verify(purgeJobRepository).release(eq(1L), any(), eq(AccountPurgeJob.Status.COMPLETED), isNull(),
+                any(LocalDateTime.class), isNull(), any());
+        assertThat(transactions).noneMatch(SimpleTransactionStatus::isRollbackOnly);
+    }
+
+    @Test
+    @DisplayName("점유를 잃으면 그 청크를 롤백하고 완료 처리 없이 손을 뗀다")
+    void run_leaseLost_rollsBackAndStops() {
+        AccountPurgeJob job = job(1);
+        job.setLeaseUntil(LocalDateTime.now().plusMinutes(2));
+        given(activityLogRepository.deleteChunkByUserId(USER_ID, 100L, AccountPurgeService.CHUNK_SIZE))
+                .willReturn(AccountPurgeService.CHUNK_SIZE);
+        given(purgeJobRepository.recordProgress(eq(1L), anyLong(), any(), any(), any())).willReturn(0);
+
+        service.run(job);
+
+        verify(activityLogRepository, times(1)).deleteChunkByUserId(any(), anyLong(), anyInt());
+        verify(purgeJobRepository, never()).release(any(), any(), any(), any(), any(), any(), any());
+        assertThat(transactions).singleElement().matches(SimpleTransactionStatus::isRollbackOnly);
+    }
+
+    @Test
+    @DisplayName("삭제 실패는 재시도 대기로 놓아 주고, 시도 한도에 닿으면 FAILED")
+    void run_failure_retriesThenFails() {
+        given(activityLogRepository.deleteChunkByUserId(any(), anyLong(), anyInt()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+        AccountPurgeJob retry = job(1);
+        retry.setLeaseUntil(LocalDateTime.now().plusMinutes(2));
+        AccountPurgeJob last = job(AccountPurgeService.MAX_ATTEMPTS);
+        last.setLeaseUntil(LocalDateTime.now().plusMinutes(2));
+
+        service.run(retry);
+        service.run(last);
+
+        verify(purgeJobRepository).release(eq(1L), eq(retry.getLeaseUntil()), eq(AccountPurgeJob.Status.RUNNING),
+                eq("connection refused"), isNull(), any(LocalDateTime.class), any());
+        verify(purgeJobRepository).release(eq(1L), eq(last.getLeaseUntil()), eq(AccountPurgeJob.Status.FAILED),
+                eq("connection refused"), isNull(), isNull(), any());
+    }
+}
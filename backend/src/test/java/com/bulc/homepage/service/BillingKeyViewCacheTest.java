@@ -0,0 +1,64 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.query.view.BillingKeyView;
+import com.bulc.homepage.repository.BillingKeyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 빌링키 목록 캐시: 사용자별 한 번만 조회, 무효화 후 재조회, 사용자 수 상한 검증.
+ */
+@DisplayName("BillingKeyViewCache 빌링키 목록 캐시")
+class BillingKeyViewCacheTest {
+
+    private final BillingKeyRepository billingKeyRepository = mock(BillingKeyRepository.class);
+
+    private static BillingKeyView view(UUID userId) {
+        return new BillingKeyView(1L, userId, "customer", "신한", "1234-****-****-5678", "신용",
+                "개인", true, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 TTL 안에서 한 번만 조회하고, 무효화하면 다시 읽는다")
+    void get_cachesUntilEvicted() {
+        BillingKeyViewCache cache = new BillingKeyViewCache(billingKeyRepository, Duration.ofMinutes(1));
+        UUID userId = UUID.randomUUID();
+        given(billingKeyRepository.findActiveViewsByUserId(userId)).willReturn(List.of(view(userId)));
+
+        assertThat(cache.get(userId)).hasSize(1);
+        assertThat(cache.get(userId)).hasSize(1);
+        cache.evict(userId);
+        cache.get(userId);
+
+        verify(billingKeyRepository, times(2)).findActiveViewsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("상한을 넘는 사용자는 캐시하지 않고 매번 조회한다")
+    void get_capsCachedUsers() {
+        BillingKeyViewCache cache = new BillingKeyViewCache(billingKeyRepository, Duration.ofMinutes(1), 1);
+        UUID cached = UUID.randomUUID();
+        UUID overflow = UUID.randomUUID();
+        given(billingKeyRepository.findActiveViewsByUserId(cached)).willReturn(List.of(view(cached)));
+        given(billingKeyRepository.findActiveViewsByUserId(overflow)).willReturn(List.of());
+
+        cache.get(cached);
+        cache.get(overflow);
+        cache.get(overflow);
+        cache.get(cached);
+
+        verify(billingKeyRepository, times(1)).findActiveViewsByUserId(cached);
+        verify(billingKeyRepository, times(2)).findActiveViewsByUserId(overflow);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.EmailLogProperties;
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.entity.EmailLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 버퍼 기록 — batch 묶음·종료 시 flush·가득 찼을 때 직접 기록 검증.
+ */
+@DisplayName("EmailLogAppender email_log 버퍼 기록")
+class EmailLogAppenderTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private EmailLogAppender appender(int capacity, int batchSize) {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            List<?> rows = inv.getArgument(1);
+            batchSizes.add(rows.size());
+            return new int[rows.size()];
+        });
+        EmailLogProperties properties = new EmailLogProperties();
+        properties.setBufferCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        properties.setFlushInterval(Duration.ofMillis(20));
+        return new EmailLogAppender(jdbcTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    private static EmailLogAppender.Entry entry(int i) {
+        return new EmailLogAppender.Entry("user" + i + "@example.com", EmailCategory.ACCOUNT, "verification_code",
+                EmailLog.Status.SUCCESS, LocalDateTime.now(), null, null);
+    }
+
+    @Test
+    @DisplayName("쌓인 기록은 batchSize 이하 묶음으로 모두 INSERT 되고 종료 시 남은 것도 기록된다")
+    void append_writesAllInBatches() throws Exception {
+        EmailLogAppender appender = appender(1_000, 50);
+
+        for (int i = 0; i < 230; i++) {
+            appender.append(entry(i));
+        }
+        appender.shutdown();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(230);
+        assertThat(batchSizes).allMatch(size -> size <= 50);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버리지 않고 호출 스레드에서 바로 기록한다")
+    void append_overflowWritesInline() throws Exception {
+        EmailLogAppender appender = appender(1, 10);
+
+        for (int i = 0; i < 20; i++) {
+            appender.append(entry(i));
+        }
+        appender.shutdown();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+    }
+}
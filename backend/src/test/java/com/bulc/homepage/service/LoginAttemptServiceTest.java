@@ -0,0 +1,130 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.LoginAttempt;
+import com.bulc.homepage.repository.LoginAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 로그인 잠금: 메모리 판정 + 잠금/해제 전이만 write-behind 로 DB 반영.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginAttemptService")
+class LoginAttemptServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    @Mock
+    private LoginAttemptRepository loginAttemptRepository;
+
+    private LoginAttemptService loginAttemptService;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptService = new LoginAttemptService(loginAttemptRepository);
+    }
+
+    @Test
+    @DisplayName("잠금 전 실패·성공은 DB 를 전혀 건드리지 않는다")
+    void failuresBelowThreshold_noDatabaseAccess() {
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.checkLocked(EMAIL);
+            loginAttemptService.recordFailure(EMAIL);
+        }
+        loginAttemptService.resetAttempts(EMAIL);
+        loginAttemptService.flushPendingWrites();
+
+        verifyNoInteractions(loginAttemptRepository);
+        assertThat(loginAttemptService.trackedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("5회 실패 시 즉시 잠기고, 잠금 행은 flush 때 한 번만 저장된다")
+    void fifthFailure_locksAndPersistsOnce() {
+        given(loginAttemptRepository.findByEmail(EMAIL)).willReturn(Optional.empty());
+
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.recordFailure(EMAIL);
+        }
+
+        assertThatThrownBy(() -> loginAttemptService.checkLocked(EMAIL))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("로그인 시도가 너무 많습니다");
+        verify(loginAttemptRepository, never()).save(any());
+
+        loginAttemptService.flushPendingWrites();
+
+        ArgumentCaptor<LoginAttempt> captor = ArgumentCaptor.forClass(LoginAttempt.class);
+        verify(loginAttemptRepository).save(captor.capture());
+        assertThat(captor.getValue().getEmail()).isEqualTo(EMAIL);
+        assertThat(captor.getValue().getAttemptCount()).isEqualTo(5);
+        assertThat(captor.getValue().getLockedUntil()).isNotNull();
+        assertThat(loginAttemptService.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("잠금 행이 있던 이메일만 성공 시 삭제가 예약된다")
+    void reset_afterPersistedLock_schedulesDelete() {
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.recordFailure(EMAIL);
+        }
+
+        loginAttemptService.resetAttempts(EMAIL);
+        loginAttemptService.flushPendingWrites();
+
+        // 잠금 → 해제가 flush 전에 합쳐져 최종 상태(삭제)만 반영된다
+        verify(loginAttemptRepository).deleteByEmail(EMAIL);
+        verify(loginAttemptRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("추적 상한에서 새 이메일은 가장 오래된 잠기지 않은 항목을 밀어내고, 잠긴 항목은 남긴다")
+    void atCapacity_evictsOldestUnlockedOnly() {
+        LoginAttemptService small = new LoginAttemptService(loginAttemptRepository, 3);
+        for (int i = 0; i < 5; i++) {
+            small.recordFailure("locked@example.com");
+        }
+        small.recordFailure("old@example.com");
+        small.recordFailure("mid@example.com");
+
+        small.recordFailure("new@example.com");
+
+        assertThat(small.trackedCount()).isEqualTo(3);
+        assertThat(small.isTracked("old@example.com")).isFalse();
+        assertThat(small.isTracked("mid@example.com")).isTrue();
+        assertThat(small.isTracked("new@example.com")).isTrue();
+        assertThatThrownBy(() -> small.checkLocked("locked@example.com"))
+                .hasMessageContaining("로그인 시도가 너무 많습니다");
+    }
+
+    @Test
+    @DisplayName("잠금과 성공이 flush 전에 겹쳐도 반영 시점의 최종 상태(삭제)만 저장된다")
+    void lockThenReset_flushWritesFinalState() {
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.recordFailure(EMAIL);
+        }
+        loginAttemptService.resetAttempts(EMAIL);
+        loginAttemptService.recordFailure(EMAIL);
+
+        loginAttemptService.flushPendingWrites();
+
+        verify(loginAttemptRepository).deleteByEmail(EMAIL);
+        verify(loginAttemptRepository, never()).save(any());
+        assertThat(loginAttemptService.pendingCount()).isZero();
+    }
+}
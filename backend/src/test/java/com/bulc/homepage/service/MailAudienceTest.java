@@ -0,0 +1,173 @@
+package com.bulc.homepage.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 메일 수신자 SELECT — 소스별 UNION ALL, DISTINCT ON (lower(email)) 중복 제거와 소스 우선순위,
+ * 소스별 동의·해지 조건, 직접 지정 이메일 바인딩, 라이선스 만료 알림의 회원당 하루 한 통 예약 키 검증.
+ *
+ * <p>DISTINCT ON · ::캐스트 · unnest 는 PostgreSQL 전용이라 H2 로 실행하지 않고 만들어진 SQL 과 인자를 확인한다.</p>
+ */
+@DisplayName("MailAudience 대량 메일 수신자")
+class MailAudienceTest {
+
+    private static final String MEMBERS = "FROM users u";
+    private static final String CONTACTS = "FROM lead_contacts lc";
+    private static final String EXPLICIT = "FROM unnest(?::varchar[]) AS e(email)";
+
+    @Nested
+    @DisplayName("광고성")
+    class Promotional {
+
+        @Test
+        @DisplayName("회원·컨택을 UNION ALL 로 합치고 소문자 이메일 기준으로 한 번만, 회원을 우선해 남긴다")
+        void membersAndContacts_unionDistinctByLowerEmail() {
+            MailAudience audience = MailAudience.promotional(true, true);
+            String sql = audience.sql();
+
+            assertThat(sql).startsWith("SELECT DISTINCT ON (lower(s.email)) s.email, s.token,");
+            assertThat(sql).contains("UNION ALL");
+            assertThat(sql).contains(") AS s(email, token, priority)");
+            assertThat(sql).endsWith("ORDER BY lower(s.email), s.priority");
+            // 회원(1) → 컨택(2) 순으로 우선순위가 매겨진다
+            assertThat(sql.indexOf(MEMBERS)).isLessThan(sql.indexOf(CONTACTS));
+            assertThat(sql).contains("u.unsubscribe_token AS token, 1 AS priority");
+            assertThat(sql).contains("lc.unsubscribe_token::text, 2");
+            assertThat(audience.args()).isEmpty();
+            assertThat(audience.deduplicated()).isFalse();
+        }
+
+        @Test
+        @DisplayName("동의 회원과 미해지·광고성 동의 컨택만, 빈 이메일은 빼고 고른다")
+        void consentAndUnsubscribeFilters() {
+            String sql = MailAudience.promotional(true, true).sql();
+
+            assertThat(sql).contains("WHERE u.is_active = true AND u.marketing_agreed = true");
+            assertThat(sql).contains("WHERE lc.unsubscribed_at IS NULL AND lc.opt_in_marketing = true");
+            assertThat(sql).contains("WHERE s.email IS NOT NULL AND s.email <> ''");
+            assertThat(sql).doesNotContain("opt_in_transactional");
+        }
+
+        @Test
+        @DisplayName("한 소스만 고르면 UNION ALL 없이 그 소스만 담는다")
+        void singleSource() {
+            String members = MailAudience.promotional(true, false).sql();
+            String contacts = MailAudience.promotional(false, true).sql();
+
+            assertThat(members).contains(MEMBERS).doesNotContain(CONTACTS).doesNotContain("UNION ALL");
+            // 첫 SELECT 별칭이 없어도 바깥 s(email, token, priority) 로 컬럼명이 정해진다
+            assertThat(contacts).contains(CONTACTS).doesNotContain(MEMBERS)
+                    .contains(") AS s(email, token, priority)");
+        }
+
+        @Test
+        @DisplayName("소스를 하나도 고르지 않으면 비어 있다")
+        void noSource_isEmpty() {
+            MailAudience audience = MailAudience.promotional(false, false);
+
+            assertThat(audience.isEmpty()).isTrue();
+            assertThat(audience.sql()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("안내성")
+    class Operational {
+
+        @Test
+        @DisplayName("회원은 마케팅 동의와 무관하고, 컨택은 미해지·안내성 동의만 고른다")
+        void filters() {
+            String sql = MailAudience.operational(true, true, null).sql();
+
+            assertThat(sql).contains("WHERE u.is_active = true").doesNotContain("marketing_agreed");
+            assertThat(sql).contains("WHERE lc.unsubscribed_at IS NULL AND lc.opt_in_transactional = true");
+            assertThat(sql).doesNotContain("unnest");
+        }
+
+        @Test
+        @DisplayName("직접 지정 이메일은 배열 하나로 바인딩하고 null 은 뺀다, 우선순위는 마지막")
+        void explicitRecipients_boundAsArray() {
+            MailAudience audience = MailAudience.operational(true, true,
+                    Arrays.asList("a@example.com", null, "B@example.com"));
+            String sql = audience.sql();
+
+            assertThat(sql).contains(EXPLICIT);
+            assertThat(sql.indexOf(CONTACTS)).isLessThan(sql.indexOf(EXPLICIT));
+            assertThat(sql).contains("SELECT trim(e.email), NULL::varchar, 3");
+            assertThat(audience.args()).hasSize(1);
+            assertThat((String[]) audience.args()[0]).containsExactly("a@example.com", "B@example.com");
+        }
+
+        @Test
+        @DisplayName("직접 지정만 있으면 그 배열만으로 수신자를 만든다")
+        void explicitOnly() {
+            MailAudience audience = MailAudience.operational(false, false, List.of("a@example.com"));
+
+            assertThat(audience.isEmpty()).isFalse();
+            assertThat(audience.sql()).contains(EXPLICIT).doesNotContain(MEMBERS).doesNotContain("UNION ALL");
+        }
+
+        @Test
+        @DisplayName("빈 직접 지정 목록은 소스로 치지 않는다")
+        void emptyExplicit_ignored() {
+            MailAudience audience = MailAudience.operational(false, false, List.of());
+
+            assertThat(audience.isEmpty()).isTrue();
+            assertThat(audience.args()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("라이선스 만료 알림")
+    class LicenseExpiry {
+
+        private static final Instant START = Instant.parse("2026-11-16T15:00:00Z");
+        private static final Instant END = Instant.parse("2026-11-17T15:00:00Z");
+        private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+        private static final LocalDate VALID_UNTIL = LocalDate.of(2026, 11, 17);
+
+        @Test
+        @DisplayName("예약 키는 license_expiry:{userId}:{today} 이고 dedup 대상으로 표시된다")
+        void dedupKey_perUserPerDay() {
+            MailAudience audience = MailAudience.licenseExpiry(START, END, TODAY, VALID_UNTIL, 30);
+
+            assertThat(audience.deduplicated()).isTrue();
+            assertThat(audience.sql()).contains("'license_expiry:' || u.id || ':' || ?::text AS dedup_key");
+            // 키의 날짜는 만료일이 아니라 기준일 — D-30·D-7 이 같은 날 겹쳐도 한 통
+            assertThat(audience.args()[2]).isEqualTo("2026-10-18");
+        }
+
+        @Test
+        @DisplayName("인자는 SQL 의 ? 순서 그대로: 만료일, 남은 일수, 기준일, 구간 시작, 구간 끝")
+        void args_matchPlaceholderOrder() {
+            MailAudience audience = MailAudience.licenseExpiry(START, END, TODAY, VALID_UNTIL, 30);
+
+            assertThat(audience.args()).containsExactly("2026-11-17", "30", "2026-10-18",
+                    Timestamp.from(START), Timestamp.from(END));
+            assertThat(audience.sql().chars().filter(c -> c == '?').count()).isEqualTo(audience.args().length);
+        }
+
+        @Test
+        @DisplayName("한 회원의 여러 라이선스 중 가장 먼저 만료되는 하나만, 활성 회원의 ACTIVE USER 라이선스만 고른다")
+        void onePerUser_activeOnly() {
+            String sql = MailAudience.licenseExpiry(START, END, TODAY, VALID_UNTIL, 7).sql();
+
+            assertThat(sql).startsWith("SELECT DISTINCT ON (u.id)");
+            assertThat(sql).endsWith("ORDER BY u.id, l.valid_until");
+            assertThat(sql).contains("WHERE l.status = 'ACTIVE' AND l.owner_type = 'USER'");
+            assertThat(sql).contains("AND l.valid_until >= ? AND l.valid_until < ?");
+            assertThat(sql).contains("AND u.is_active = true AND trim(u.email) <> ''");
+            assertThat(sql).contains("'plan_name', COALESCE(NULLIF(trim(p.name), ''), 'BUL:C')");
+        }
+    }
+}
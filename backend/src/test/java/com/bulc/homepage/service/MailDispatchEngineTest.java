@@ -0,0 +1,102 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.GraphMailProperties;
+import com.bulc.homepage.config.MailDispatchProperties;
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.email.MailDeliveryResult;
+import com.bulc.homepage.email.MailTransportRouter;
+import com.bulc.homepage.service.MailJobService.Claim;
+import com.bulc.homepage.service.MailJobService.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대량 메일 발송 엔진: 묶음 단위 발송 결과 수집, prepare·transport 예외 묶음의 실패 반영 검증.
+ */
+@DisplayName("MailDispatchEngine 묶음 발송")
+class MailDispatchEngineTest {
+
+    private final MailJobService mailJobService = mock(MailJobService.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private final MailTransportRouter transportRouter = mock(MailTransportRouter.class);
+    private MailDispatchEngine engine;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        MailDispatchProperties properties = new MailDispatchProperties();
+        properties.setRatePerMinute(600_000);
+        GraphMailProperties graphProperties = new GraphMailProperties();
+        graphProperties.setBatchSize(2);
+        given(transportRouter.send(anyList())).willAnswer(inv ->
+                Collections.nCopies(inv.<List<?>>getArgument(0).size(), MailDeliveryResult.sent()));
+        engine = new MailDispatchEngine(mailJobService, emailService, transportRouter, properties,
+                graphProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private static Claim claim(long recipientId, String email) {
+        return new Claim(recipientId, 1L, EmailCategory.PROMOTIONAL, "notice", "제목", "<p>본문</p>", email,
+                "token-" + recipientId, 1, null);
+    }
+
+    private static Map<Long, Outcome> byRecipient(List<Outcome> outcomes) {
+        return outcomes.stream().collect(Collectors.toMap(o -> o.claim().recipientId(), Function.identity()));
+    }
+
+    @Test
+    @DisplayName("모든 수신자의 결과를 돌려준다")
+    void sendAll_collectsEveryOutcome() throws InterruptedException {
+        List<Outcome> outcomes = engine.sendAll(List.of(claim(1, "a@example.com"), claim(2, "b@example.com"),
+                claim(3, "c@example.com")));
+
+        assertThat(outcomes).hasSize(3).allMatch(Outcome::sent);
+    }
+
+    @Test
+    @DisplayName("prepare 가 예외를 던진 묶음은 그 수신자 모두 실패 시도로 반영하고 다른 묶음은 그대로 보낸다")
+    void sendAll_prepareFailure_recordsChunkAsFailed() throws InterruptedException {
+        given(emailService.prepare(any(), eq("c@example.com"), any(), any(), any()))
+                .willThrow(new IllegalStateException("템플릿 오류"));
+
+        List<Outcome> outcomes = engine.sendAll(List.of(claim(1, "a@example.com"), claim(2, "b@example.com"),
+                claim(3, "c@example.com")));
+
+        Map<Long, Outcome> byId = byRecipient(outcomes);
+        assertThat(byId).hasSize(3);
+        assertThat(byId.get(1L).sent()).isTrue();
+        assertThat(byId.get(2L).sent()).isTrue();
+        assertThat(byId.get(3L).error()).isEqualTo("IllegalStateException: 템플릿 오류");
+    }
+
+    @Test
+    @DisplayName("transport 가 예외를 던져도 결과가 빠지지 않는다")
+    void sendAll_transportFailure_recordsChunkAsFailed() throws InterruptedException {
+        given(transportRouter.send(anyList())).willThrow(new IllegalArgumentException("전송 설정 없음"));
+
+        List<Outcome> outcomes = engine.sendAll(List.of(claim(1, "a@example.com"), claim(2, "b@example.com"),
+                claim(3, "c@example.com")));
+
+        assertThat(outcomes).hasSize(3).noneMatch(Outcome::sent);
+        assertThat(outcomes).allSatisfy(o -> assertThat(o.error()).contains("전송 설정 없음"));
+    }
+}
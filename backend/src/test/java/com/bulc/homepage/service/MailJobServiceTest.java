@@ -0,0 +1,262 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.MailDispatchProperties;
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.entity.MailJob;
+import com.bulc.homepage.entity.MailJobRecipient;
+import com.bulc.homepage.repository.MailJobRecipientRepository;
+import com.bulc.homepage.repository.MailJobRepository;
+import com.bulc.homepage.service.MailJobService.Claim;
+import com.bulc.homepage.service.MailJobService.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.Invocation;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 대량 메일 큐: 등록 시 수신자 SELECT 를 감싼 INSERT ... SELECT 와 dedup 키 예약 CTE, 점유 시 lease·시도 횟수·수신자별 템플릿, 결과 반영 시 상태별 batch UPDATE 와
+ * email_log INSERT / 예약 행 UPDATE, 작업 건수 누적 검증.
+ */
+@DisplayName("MailJobService 대량 메일 큐")
+class MailJobServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+    private final MailJobRepository mailJobRepository = mock(MailJobRepository.class);
+    private final MailJobRecipientRepository recipientRepository = mock(MailJobRecipientRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final MailDispatchProperties properties = new MailDispatchProperties();
+    private MailJobService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MailJobService(mailJobRepository, recipientRepository, jdbcTemplate, properties);
+    }
+
+    private static MailJob job() {
+        return MailJob.builder()
+                .id(1L)
+                .category(EmailCategory.PROMOTIONAL)
+                .templateKey("notice")
+                .subject("{{name}}님께 드리는 안내")
+                .html("<p>{{name}}님 안녕하세요</p>")
+                .build();
+    }
+
+    private static Claim claim(long recipientId, int attempts, String dedupKey) {
+        return new Claim(recipientId, 1L, EmailCategory.PROMOTIONAL, "notice", "제목", "<p>본문</p>",
+                "user" + recipientId + "@example.com", null, attempts, dedupKey);
+    }
+
+    /**
+     * jdbcTemplate.update(sql, args...) 호출 하나 — [0] 은 SQL, 나머지는 바인딩 인자 (varargs 는 펼쳐져 있다).
+     */
+    private Object[] updateCall(String sqlPrefix) {
+        Invocation invocation = mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(i -> i.getMethod().getName().equals("update"))
+                .filter(i -> i.getArguments()[0] instanceof String sql && sql.startsWith(sqlPrefix))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("update 호출 없음: " + sqlPrefix));
+        return invocation.getArguments();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object[]> batchArgs(String sqlPrefix) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(sqlPrefix), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("등록은 수신자 SELECT 를 INSERT ... SELECT 한 문장으로 감싸고, 작업 id·시각 뒤에 수신자 인자를 붙인다")
+    void enqueue_insertSelectsAudience() {
+        given(mailJobRepository.save(any(MailJob.class))).willAnswer(inv -> {
+            MailJob saved = inv.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+        MailAudience audience = MailAudience.operational(true, false, List.of("a@example.com"));
+        given(jdbcTemplate.update(startsWith("INSERT INTO mail_job_recipients"), any(), any(), any())).willReturn(2);
+
+        MailJob job = service.enqueue(EmailCategory.OPERATIONAL, "terms_change", "약관 변경 안내", "<p>본문</p>",
+                audience, null);
+
+        Object[] call = updateCall("INSERT INTO mail_job_recipients");
+        assertThat((String) call[0])
+                .contains("SELECT ?, a.email, a.token, a.vars, a.dedup_key, 'PENDING', 0, ? ")
+                .endsWith("FROM (" + audience.sql() + ") a")
+                .doesNotContain("email_dedup_keys");
+        assertThat(call[1]).isEqualTo(1L);
+        assertThat(call[2]).isInstanceOf(Timestamp.class);
+        assertThat(Arrays.copyOfRange(call, 3, call.length)).containsExactly(audience.args());
+        assertThat(job.getTotalCount()).isEqualTo(2);
+        assertThat(job.getStatus()).isNotEqualTo(MailJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("dedup 수신자는 한 CTE 문장에서 키 예약 → email_log QUEUED → 큐 등록, 새로 예약된 키만 등록한다")
+    void enqueue_deduplicated_reservesKeysInOneStatement() {
+        given(mailJobRepository.save(any(MailJob.class))).willAnswer(inv -> {
+            MailJob saved = inv.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+        MailAudience audience = MailAudience.licenseExpiry(Instant.parse("2026-11-16T15:00:00Z"),
+                Instant.parse("2026-11-17T15:00:00Z"), LocalDate.of(2026, 10, 18), LocalDate.of(2026, 11, 17), 30);
+
+        MailJob job = service.enqueue(EmailCategory.OPERATIONAL, "license_expiry", "제목", "<p>본문</p>",
+                audience, null);
+
+        Object[] call = updateCall("WITH a AS (");
+        String sql = (String) call[0];
+        assertThat(sql).startsWith("WITH a AS (" + audience.sql() + "), ");
+        assertThat(sql).contains("reserved AS (INSERT INTO email_dedup_keys (dedup_key, created_at) "
+                + "SELECT a.dedup_key, ? FROM a ON CONFLICT (dedup_key) DO NOTHING RETURNING dedup_key)");
+        // email_log 와 큐 등록 모두 방금 예약된 키에만 조인 — 이미 예약된(오늘 보낸) 회원은 빠진다
+        assertThat(sql).contains("queued AS (INSERT INTO email_log");
+        assertThat(sql).contains("'QUEUED', ?, a.dedup_key FROM a JOIN reserved r ON r.dedup_key = a.dedup_key)");
+        assertThat(sql).endsWith("FROM a JOIN reserved r ON r.dedup_key = a.dedup_key");
+        assertThat(sql.chars().filter(c -> c == '?').count()).isEqualTo(call.length - 1);
+
+        int n = audience.args().length;
+        assertThat(Arrays.copyOfRange(call, 1, 1 + n)).containsExactly(audience.args());
+        assertThat(call[1 + n]).isInstanceOf(Timestamp.class);
+        assertThat(call[2 + n]).isEqualTo("OPERATIONAL");
+        assertThat(call[3 + n]).isEqualTo("license_expiry");
+        assertThat(call[4 + n]).isInstanceOf(Timestamp.class);
+        assertThat(call[5 + n]).isEqualTo(7L);
+        assertThat(call[6 + n]).isInstanceOf(Timestamp.class);
+        assertThat(call).hasSize(7 + n);
+
+        // 새로 예약된 수신자가 없으면(재실행) 빈 작업으로 닫는다
+        assertThat(job.getTotalCount()).isZero();
+        assertThat(job.getStatus()).isEqualTo(MailJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 INSERT 없이 바로 COMPLETED")
+    void enqueue_emptyAudience_completes() {
+        given(mailJobRepository.save(any(MailJob.class))).willAnswer(inv -> inv.getArgument(0));
+
+        MailJob job = service.enqueue(EmailCategory.PROMOTIONAL, "promo", "제목", "<p>본문</p>",
+                MailAudience.promotional(false, false), null);
+
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(job.getTotalCount()).isZero();
+        assertThat(job.getStatus()).isEqualTo(MailJob.Status.COMPLETED);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("점유하면 시도 횟수를 올리고 lease 만큼 미루며, vars 가 있는 수신자만 제목·본문을 채운다")
+    void claimDue_leasesAndRendersVars() {
+        MailJobRecipient withVars = MailJobRecipient.builder()
+                .id(10L).jobId(1L).email("a@example.com").attempts(0).vars(Map.of("name", "홍길동")).build();
+        MailJobRecipient plain = MailJobRecipient.builder()
+                .id(11L).jobId(1L).email("b@example.com").attempts(1).dedupKey("k:11").build();
+        given(recipientRepository.claimDue(eq(NOW), any())).willReturn(List.of(withVars, plain));
+        given(mailJobRepository.findAllById(any())).willReturn(List.of(job()));
+
+        List<Claim> claims = service.claimDue(NOW, 50);
+
+        assertThat(withVars.getAttempts()).isEqualTo(1);
+        assertThat(plain.getAttempts()).isEqualTo(2);
+        assertThat(withVars.getNextAttemptAt()).isEqualTo(NOW.plus(properties.getLease()));
+        verify(recipientRepository).saveAll(List.of(withVars, plain));
+        verify(jdbcTemplate).update(startsWith("UPDATE mail_jobs SET status = 'RUNNING'"),
+                eq(Timestamp.valueOf(NOW)), eq(1L));
+
+        assertThat(claims).hasSize(2);
+        assertThat(claims.get(0).subject()).isEqualTo("홍길동님께 드리는 안내");
+        assertThat(claims.get(0).html()).isEqualTo("<p>홍길동님 안녕하세요</p>");
+        assertThat(claims.get(0).attempts()).isEqualTo(1);
+        assertThat(claims.get(1).subject()).isEqualTo("{{name}}님께 드리는 안내");
+        assertThat(claims.get(1).dedupKey()).isEqualTo("k:11");
+    }
+
+    @Test
+    @DisplayName("대기 수신자가 없으면 아무 것도 쓰지 않는다")
+    void claimDue_nothingDue() {
+        given(recipientRepository.claimDue(eq(NOW), any())).willReturn(List.of());
+
+        assertThat(service.claimDue(NOW, 50)).isEmpty();
+        verify(recipientRepository, never()).saveAll(anyList());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("성공·재시도·최종 실패를 상태별로 반영하고, 예약 행이 있는 최종 결과는 email_log 를 UPDATE 한다")
+    void recordResults_appliesEachOutcome() {
+        Outcome sent = new Outcome(claim(1, 1, null), null);
+        Outcome retry = new Outcome(claim(2, 1, null), "timeout");
+        Outcome gaveUp = new Outcome(claim(3, properties.getMaxAttempts(), "license_expiry:u3:2026-10-18"), "bounced");
+        Outcome sentReserved = new Outcome(claim(4, 1, "license_expiry:u4:2026-10-18"), null);
+        LocalDateTime before = LocalDateTime.now();
+
+        service.recordResults(List.of(sent, retry, gaveUp, sentReserved));
+
+        List<Object[]> sentRows = batchArgs("UPDATE mail_job_recipients SET status = 'SENT'");
+        assertThat(sentRows).extracting(r -> r[1]).containsExactly(1L, 4L);
+
+        List<Object[]> retryRows = batchArgs("UPDATE mail_job_recipients SET next_attempt_at");
+        assertThat(retryRows).singleElement().satisfies(r -> {
+            assertThat(((Timestamp) r[0]).toLocalDateTime())
+                    .isCloseTo(before.plus(properties.getRetryBackoff()), within(5, ChronoUnit.SECONDS));
+            assertThat(r[1]).isEqualTo("timeout");
+            assertThat(r[2]).isEqualTo(2L);
+        });
+
+        List<Object[]> failedRows = batchArgs("UPDATE mail_job_recipients SET status = 'FAILED'");
+        assertThat(failedRows).singleElement().satisfies(r -> assertThat(r).containsExactly("bounced", 3L));
+
+        // 예약 행이 없는 시도만 INSERT (최종 실패·성공 중 dedup 키가 있는 건은 빠진다)
+        List<Object[]> logRows = batchArgs("INSERT INTO email_log");
+        assertThat(logRows).extracting(r -> r[0] + "/" + r[3])
+                .containsExactly("user1@example.com/SUCCESS", "user2@example.com/FAILED");
+
+        List<Object[]> reservationRows = batchArgs("UPDATE email_log SET status = ?");
+        assertThat(reservationRows).extracting(r -> r[0] + "/" + r[3])
+                .containsExactly("FAILED/license_expiry:u3:2026-10-18", "SUCCESS/license_expiry:u4:2026-10-18");
+
+        verify(jdbcTemplate).update(startsWith("UPDATE mail_jobs SET sent_count"), eq(2), eq(1), eq(1L));
+        verify(jdbcTemplate).update(startsWith("UPDATE mail_jobs j SET status = 'COMPLETED'"),
+                any(Timestamp.class), eq(1L));
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 시도 횟수마다 두 배로 늘어난다")
+    void recordResults_backoffDoubles() {
+        LocalDateTime before = LocalDateTime.now();
+
+        service.recordResults(List.of(new Outcome(claim(2, 2, null), "timeout")));
+
+        List<Object[]> retryRows = batchArgs("UPDATE mail_job_recipients SET next_attempt_at");
+        assertThat(((Timestamp) retryRows.get(0)[0]).toLocalDateTime())
+                .isCloseTo(before.plus(properties.getRetryBackoff().multipliedBy(2)), within(5, ChronoUnit.SECONDS));
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE email_log"), anyList());
+    }
+}
@@ -0,0 +1,77 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.email.EmailCategory;
+import com.bulc.homepage.entity.MailJob;
+import com.bulc.homepage.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 광고성 메일 등록 — 회원 포함 시 수신거부 토큰 일괄 발급 후 등록, 발급 쿼리의 대상 조건 검증.
+ */
+@DisplayName("OperationalMailService 광고성 메일 등록")
+class OperationalMailServiceTest {
+
+    private final EmailService emailService = mock(EmailService.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MailJobService mailJobService = mock(MailJobService.class);
+    private OperationalMailService service;
+
+    @BeforeEach
+    void setUp() {
+        given(emailService.renderTemplate(anyString(), anyMap())).willReturn("<p>본문</p>");
+        given(mailJobService.enqueue(any(), any(), any(), any(), any(), any())).willReturn(new MailJob());
+        service = new OperationalMailService(emailService, userRepository, mailJobService);
+    }
+
+    @Test
+    @DisplayName("회원을 포함하면 토큰을 먼저 발급한 뒤 광고성 수신자로 등록한다")
+    void withMembers_backfillsTokensBeforeEnqueue() {
+        given(userRepository.backfillMarketingUnsubscribeTokens()).willReturn(3);
+
+        service.enqueuePromotionalNotice("제목", "<p>내용</p>", "(광고) 제목", "promo", true, true, UUID.randomUUID());
+
+        InOrder order = inOrder(userRepository, mailJobService);
+        order.verify(userRepository).backfillMarketingUnsubscribeTokens();
+        ArgumentCaptor<MailAudience> audience = ArgumentCaptor.forClass(MailAudience.class);
+        order.verify(mailJobService).enqueue(eq(EmailCategory.PROMOTIONAL), eq("promo"), eq("(광고) 제목"),
+                eq("<p>본문</p>"), audience.capture(), any());
+        assertThat(audience.getValue().sql()).isEqualTo(MailAudience.promotional(true, true).sql());
+    }
+
+    @Test
+    @DisplayName("컨택만 보내면 회원 토큰은 건드리지 않는다")
+    void contactsOnly_skipsBackfill() {
+        service.enqueuePromotionalNotice("제목", "<p>내용</p>", "(광고) 제목", "promo", false, true, null);
+
+        verify(userRepository, never()).backfillMarketingUnsubscribeTokens();
+    }
+
+    @Test
+    @DisplayName("토큰 발급은 활성·마케팅 동의 회원 중 토큰이 없거나 빈 행만 대상으로 해 기존 토큰을 바꾸지 않는다")
+    void backfillQuery_targetsOnlyMissingTokens() throws NoSuchMethodException {
+        String sql = UserRepository.class.getMethod("backfillMarketingUnsubscribeTokens")
+                .getAnnotation(Query.class).value();
+
+        assertThat(sql).contains("SET unsubscribe_token = gen_random_uuid()::text");
+        assertThat(sql).contains("WHERE is_active = true AND marketing_agreed = true");
+        assertThat(sql).contains("AND (unsubscribe_token IS NULL OR unsubscribe_token = '')");
+    }
+}
@@ -0,0 +1,151 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.entity.Payment;
+import com.bulc.homepage.entity.PricePlan;
+import com.bulc.homepage.entity.Subscription;
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.domain.UsageCategory;
+import com.bulc.homepage.licensing.dto.LicenseIssueResult;
+import com.bulc.homepage.licensing.repository.LicensePlanRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.licensing.service.LicenseService;
+import com.bulc.homepage.repository.PaymentRepository;
+import com.bulc.homepage.repository.SubscriptionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 결제 완료 후속 처리 — 구독 생성·라이선스 발급, 재시도 시 이미 끝난 단계 건너뛰기, 영구 거절 사유 기록 검증.
+ */
+@DisplayName("PaymentFulfillmentHandler 결제 완료 후속 처리")
+class PaymentFulfillmentHandlerTest {
+
+    private static final String ORDER_ID = "BULC_1_1";
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID LICENSE_PLAN_ID = UUID.randomUUID();
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+    private static final UUID SOURCE_ORDER_ID = UUID.nameUUIDFromBytes(ORDER_ID.getBytes(StandardCharsets.UTF_8));
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+    private final LicenseService licenseService = mock(LicenseService.class);
+    private final LicenseRepository licenseRepository = mock(LicenseRepository.class);
+    private final LicensePlanRepository licensePlanRepository = mock(LicensePlanRepository.class);
+    private PaymentFulfillmentHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        given(subscriptionRepository.save(any(Subscription.class))).willAnswer(inv -> inv.getArgument(0));
+        LicensePlan plan = mock(LicensePlan.class);
+        given(plan.getProductId()).willReturn(PRODUCT_ID);
+        given(licensePlanRepository.findAvailableById(LICENSE_PLAN_ID)).willReturn(Optional.of(plan));
+        given(licenseService.issueLicenseWithPlanForBilling(any(), any(), any(), any(), any()))
+                .willReturn(new LicenseIssueResult(UUID.randomUUID(), "KEY-1", Instant.now()));
+        handler = new PaymentFulfillmentHandler(paymentRepository, subscriptionRepository, licenseService,
+                licenseRepository, licensePlanRepository, new ObjectMapper());
+    }
+
+    private Payment payment(String status) {
+        PricePlan pricePlan = PricePlan.builder()
+                .id(1L)
+                .productCode("BULC")
+                .price(BigDecimal.valueOf(10000))
+                .licensePlanId(LICENSE_PLAN_ID)
+                .build();
+        Payment payment = Payment.builder()
+                .id(10L)
+                .userId(USER_ID)
+                .userEmail(USER_ID.toString())
+                .pricePlan(pricePlan)
+                .amount(BigDecimal.valueOf(10000))
+                .status(status)
+                .build();
+        given(paymentRepository.findById(10L)).willReturn(Optional.of(payment));
+        return payment;
+    }
+
+    private static OutboxEvent event() {
+        return OutboxEvent.builder()
+                .id(1L)
+                .eventType(PaymentFulfillmentHandler.EVENT_TYPE)
+                .aggregateId(ORDER_ID)
+                .payload("{\"paymentId\":10,\"orderId\":\"" + ORDER_ID + "\"}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("처음 처리하면 구독을 만들어 결제에 연결하고 주문 ID 로 라이선스를 발급한다")
+    void handle_first_createsSubscriptionAndIssuesLicense() throws Exception {
+        Payment payment = payment("C");
+        given(licenseRepository.findBySourceOrderId(SOURCE_ORDER_ID)).willReturn(Optional.empty());
+
+        handler.handle(event());
+
+        assertThat(payment.getSubscription()).isNotNull();
+        assertThat(payment.getSubscription().getUserId()).isEqualTo(USER_ID);
+        assertThat(payment.getSubscription().getStatus()).isEqualTo("A");
+        verify(licenseService).issueLicenseWithPlanForBilling(OwnerType.USER, USER_ID, LICENSE_PLAN_ID,
+                SOURCE_ORDER_ID, UsageCategory.COMMERCIAL);
+    }
+
+    @Test
+    @DisplayName("재시도 때 구독과 라이선스가 이미 있으면 둘 다 건너뛴다")
+    void handle_retry_skipsCompletedSteps() throws Exception {
+        Payment payment = payment("C");
+        Subscription existing = Subscription.builder().userId(USER_ID).status("A").build();
+        payment.setSubscription(existing);
+        given(licenseRepository.findBySourceOrderId(SOURCE_ORDER_ID)).willReturn(Optional.of(mock(License.class)));
+
+        handler.handle(event());
+        handler.handle(event());
+
+        assertThat(payment.getSubscription()).isSameAs(existing);
+        verify(subscriptionRepository, never()).save(any());
+        verify(licenseService, never()).issueLicenseWithPlanForBilling(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동일 제품 라이선스를 이미 보유하면 발급하지 않고 실패 사유만 남긴다")
+    void handle_existingPaidLicense_recordsFailure() throws Exception {
+        Payment payment = payment("C");
+        given(licenseRepository.findBySourceOrderId(SOURCE_ORDER_ID)).willReturn(Optional.empty());
+        given(licenseRepository.existsActiveOrPendingPaidLicense(OwnerType.USER, USER_ID, PRODUCT_ID)).willReturn(true);
+
+        handler.handle(event());
+
+        verify(licenseService, never()).issueLicenseWithPlanForBilling(any(), any(), any(), any(), any());
+        assertThat(payment.getFailReason()).contains("동일 제품 라이선스 보유 중");
+        verify(paymentRepository, atLeastOnce()).save(eq(payment));
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 결제는 아무 것도 하지 않는다")
+    void handle_notCompleted_noop() throws Exception {
+        payment("F");
+
+        handler.handle(event());
+
+        verifyNoInteractions(subscriptionRepository, licenseService, licensePlanRepository);
+    }
+}
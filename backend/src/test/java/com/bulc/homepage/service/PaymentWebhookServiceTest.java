@@ -0,0 +1,167 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.TossPaymentsConfig;
+import com.bulc.homepage.controller.PaymentWebhookController;
+import com.bulc.homepage.entity.PaymentWebhookEvent;
+import com.bulc.homepage.repository.PaymentWebhookEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 웹훅 수신 큐 — 중복/형식 오류/저장 실패 처리, FAILED 이벤트 재전송 시 재처리, 점유 lease 와 재시도 backoff 검증.
+ */
+@DisplayName("PaymentWebhookService 웹훅 수신 큐")
+class PaymentWebhookServiceTest {
+
+    private static final String PAYLOAD = """
+            {"eventType":"PAYMENT_STATUS_CHANGED","data":{"paymentKey":"pk_1","orderId":"BULC_1_1","status":"DONE"}}""";
+    private static final String DEDUP_KEY = "PAYMENT_STATUS_CHANGED:pk_1:DONE";
+
+    private final PaymentWebhookEventRepository repository = mock(PaymentWebhookEventRepository.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private PaymentWebhookService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null));
+        given(repository.saveAll(anyList())).willAnswer(inv -> inv.getArgument(0));
+        service = new PaymentWebhookService(repository, paymentService, transactionTemplate,
+                new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static PaymentWebhookEvent event(int attempts) {
+        return PaymentWebhookEvent.builder()
+                .id(1L)
+                .dedupKey(DEDUP_KEY)
+                .eventType("PAYMENT_STATUS_CHANGED")
+                .paymentKey("pk_1")
+                .orderId("BULC_1_1")
+                .payload(PAYLOAD)
+                .attempts(attempts)
+                .build();
+    }
+
+    @Test
+    @DisplayName("처음 받은 이벤트는 dedup 키와 함께 저장한다")
+    void ingest_new_saved() {
+        given(repository.existsByDedupKey(DEDUP_KEY)).willReturn(false);
+
+        assertThat(service.ingest(PAYLOAD)).isTrue();
+
+        verify(repository).save(any(PaymentWebhookEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미 받은 이벤트(재전송·동시 도착)는 저장하지 않고 false")
+    void ingest_duplicate_ignored() {
+        given(repository.existsByDedupKey(DEDUP_KEY)).willReturn(true);
+        assertThat(service.ingest(PAYLOAD)).isFalse();
+        verify(repository, never()).save(any());
+
+        given(repository.existsByDedupKey(DEDUP_KEY)).willReturn(false);
+        given(repository.save(any())).willThrow(new DataIntegrityViolationException("uk_payment_webhook_dedup"));
+        assertThat(service.ingest(PAYLOAD)).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 이 아닌 payload 는 IllegalArgumentException")
+    void ingest_badJson_rejected() {
+        assertThatThrownBy(() -> service.ingest("not-json{"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("저장 실패는 그대로 전파되어 컨트롤러가 500 으로 응답한다 (토스 재전송 유도)")
+    void ingest_storeFailure_returns500() {
+        given(repository.existsByDedupKey(DEDUP_KEY)).willReturn(false);
+        given(repository.save(any())).willThrow(new DataAccessResourceFailureException("connection refused"));
+        TossPaymentsConfig config = new TossPaymentsConfig();
+        config.setSecretKey("test_sk");
+        PaymentWebhookController controller = new PaymentWebhookController(service, config);
+        String authorization = "Basic " + Base64.getEncoder()
+                .encodeToString("test_sk:".getBytes(StandardCharsets.UTF_8));
+
+        ResponseEntity<?> stored = controller.handleWebhook(authorization, PAYLOAD);
+        ResponseEntity<?> malformed = controller.handleWebhook(authorization, "not-json{");
+
+        assertThat(stored.getStatusCode().value()).isEqualTo(500);
+        assertThat(malformed.getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("FAILED 로 끝난 이벤트가 재전송되면 다시 대기 상태로 되돌리고 true")
+    void ingest_redeliveryAfterFailed_rearmed() {
+        given(repository.rearmFailed(eq(DEDUP_KEY), any(LocalDateTime.class))).willReturn(1);
+
+        assertThat(service.ingest(PAYLOAD)).isTrue();
+
+        verify(repository, never()).existsByDedupKey(anyString());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("점유하면 시도 횟수를 올리고 lease 만큼 다음 처리 시각을 미룬다")
+    void claim_setsLease() {
+        PaymentWebhookEvent event = event(0);
+        given(repository.claimDue(any(), any())).willReturn(List.of(event));
+
+        service.claim();
+
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plus(PaymentWebhookService.LEASE), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("토스 확인 실패는 시도 횟수에 따라 지수 backoff, 한도에 닿으면 FAILED")
+    void apply_verifyFailure_backsOffThenFails() {
+        given(paymentService.verifyPaymentStatus("pk_1")).willReturn(null);
+        PaymentWebhookEvent third = event(3);
+        PaymentWebhookEvent last = event(PaymentWebhookService.MAX_ATTEMPTS);
+
+        service.apply("pk_1", List.of(third));
+        service.apply("pk_1", List.of(last));
+
+        assertThat(third.getStatus()).isEqualTo(PaymentWebhookEvent.Status.RECEIVED);
+        assertThat(third.getNextAttemptAt())
+                .isCloseTo(LocalDateTime.now().plusSeconds(40), within(5, ChronoUnit.SECONDS));
+        assertThat(last.getStatus()).isEqualTo(PaymentWebhookEvent.Status.FAILED);
+        assertThat(last.getLastError()).isEqualTo("토스 API 결제 상태 확인 실패");
+    }
+}
@@ -0,0 +1,104 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.Promotion;
+import com.bulc.homepage.repository.PromotionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 쿠폰 코드 인덱스: 정규화된 코드로 한 번만 조회하고, 무효화 후 다시 읽는지 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromotionCodeIndex 쿠폰 코드 캐시")
+class PromotionCodeIndexTest {
+
+    @Mock
+    private PromotionRepository promotionRepository;
+
+    private PromotionCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PromotionCodeIndex(promotionRepository, Duration.ofMinutes(1));
+    }
+
+    private Promotion promotion(int usageCount) {
+        return Promotion.builder()
+                .id(1L)
+                .code("WELCOME10")
+                .name("웰컴 쿠폰")
+                .discountType(10)
+                .discountValue(BigDecimal.TEN)
+                .usageLimit(100)
+                .usageCount(usageCount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("대소문자·공백이 달라도 정규화된 코드로 한 번만 DB 조회")
+    void find_normalizesAndCaches() {
+        given(promotionRepository.findByCode("WELCOME10")).willReturn(Optional.of(promotion(3)));
+
+        Optional<PromotionCodeIndex.Coupon> first = index.find(" welcome10 ");
+        Optional<PromotionCodeIndex.Coupon> second = index.find("WELCOME10");
+
+        assertThat(first).isPresent();
+        assertThat(second).contains(first.get());
+        assertThat(first.get().calculateDiscount(new BigDecimal("50000"))).isEqualByComparingTo("5000");
+        verify(promotionRepository, times(1)).findByCode("WELCOME10");
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회는 DB에서 다시 읽는다")
+    void evict_reloads() {
+        given(promotionRepository.findByCode("WELCOME10"))
+                .willReturn(Optional.of(promotion(3)), Optional.of(promotion(100)));
+
+        index.find("WELCOME10");
+        index.evict("welcome10");
+        Optional<PromotionCodeIndex.Coupon> reloaded = index.find("WELCOME10");
+
+        assertThat(reloaded).map(PromotionCodeIndex.Coupon::usageCount).contains(100);
+        verify(promotionRepository, times(2)).findByCode("WELCOME10");
+    }
+
+    @Test
+    @DisplayName("없는 코드도 캐시해 반복 조회를 막는다")
+    void find_cachesMissingCode() {
+        given(promotionRepository.findByCode("NOPE")).willReturn(Optional.empty());
+
+        assertThat(index.find("nope")).isEmpty();
+        assertThat(index.find("NOPE")).isEmpty();
+        verify(promotionRepository, times(1)).findByCode("NOPE");
+    }
+
+    @Test
+    @DisplayName("한도에 닿으면 만료된 부정 캐시를 정리하고 새 코드를 다시 캐시한다")
+    void find_sweepsExpiredAtCapacity() throws InterruptedException {
+        index = new PromotionCodeIndex(promotionRepository, Duration.ofMillis(200), 2);
+        given(promotionRepository.findByCode(anyString())).willReturn(Optional.empty());
+
+        index.find("MISS1");
+        index.find("MISS2");
+        Thread.sleep(300);  // 두 항목 모두 만료 — 한도는 찬 상태
+
+        index.find("MISS3");
+        index.find("MISS3");
+
+        verify(promotionRepository, times(1)).findByCode("MISS3");
+    }
+}
@@ -0,0 +1,300 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.SubscriptionRenewalProperties;
+import com.bulc.homepage.entity.PricePlan;
+import com.bulc.homepage.entity.Product;
+import com.bulc.homepage.entity.Subscription;
+import com.bulc.homepage.entity.SubscriptionPayment;
+import com.bulc.homepage.outbox.OutboxPublisher;
+import com.bulc.homepage.repository.BillingKeyRepository;
+import com.bulc.homepage.repository.SubscriptionPaymentRepository;
+import com.bulc.homepage.repository.SubscriptionRepository;
+import com.bulc.homepage.service.SubscriptionBillingService.RenewalChunk;
+import com.bulc.homepage.service.SubscriptionBillingService.RenewalClaim;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.jpa.repository.Query;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 구독 갱신·재시도 점유: 결제 주기별 고정 orderId 로 중복 청구를 막는지 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscriptionBillingService 갱신 점유")
+class SubscriptionBillingServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private SubscriptionPaymentRepository subscriptionPaymentRepository;
+
+    @Mock
+    private BillingKeyRepository billingKeyRepository;
+
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @Spy
+    private SubscriptionRenewalProperties renewalProperties = new SubscriptionRenewalProperties();
+
+    @InjectMocks
+    private SubscriptionBillingService service;
+
+    private Subscription dueSubscription() {
+        Subscription subscription = Subscription.builder()
+                .id(42L)
+                .userId(UUID.randomUUID())
+                .productCode("001")
+                .product(Product.builder().code("001").name("BulC").build())
+                .pricePlan(PricePlan.builder().id(1L).price(new BigDecimal("99000")).build())
+                .autoRenew(true)
+                .billingKeyId(7L)
+                .nextBillingDate(LocalDateTime.of(2026, 10, 18, 0, 0))
+                .build();
+        given(subscriptionRepository.claimDueForRenewal(eq(NOW), anyLong(), any()))
+                .willReturn(List.of(subscription));
+        given(billingKeyRepository.existsByIdAndIsActiveTrue(7L)).willReturn(true);
+        return subscription;
+    }
+
+    @Test
+    @DisplayName("처음 점유하면 주기별 orderId 로 PENDING 결제를 만든다")
+    void firstClaim_createsPendingPayment() {
+        dueSubscription();
+        given(subscriptionPaymentRepository
+                .findFirstBySubscriptionIdAndOrderIdStartingWithOrderByIdDesc(42L, "SUB-42-20261018")).willReturn(Optional.empty());
+        given(subscriptionPaymentRepository.save(any(SubscriptionPayment.class)))
+                .willAnswer(inv -> {
+                    SubscriptionPayment p = inv.getArgument(0);
+                    p.setId(100L);
+                    return p;
+                });
+
+        RenewalChunk chunk = service.claimDueRenewals(NOW, 0L, 100, LEASE);
+
+        assertThat(chunk.lastSubscriptionId()).isEqualTo(42L);
+        assertThat(chunk.claims()).singleElement().satisfies(claim -> {
+            assertThat(claim.orderId()).isEqualTo("SUB-42-20261018");
+            assertThat(claim.paymentId()).isEqualTo(100L);
+            assertThat(claim.amount()).isEqualTo(99000);
+        });
+    }
+
+    @Test
+    @DisplayName("같은 주기 결제가 진행 중이면 다시 점유하지 않는다")
+    void inFlightPayment_isSkipped() {
+        dueSubscription();
+        SubscriptionPayment inFlight = SubscriptionPayment.builder()
+                .id(100L).orderId("SUB-42-20261018").amount(new BigDecimal("99000"))
+                .status(SubscriptionPayment.PaymentStatus.PENDING)
+                .updatedAt(NOW.minusMinutes(1))
+                .build();
+        given(subscriptionPaymentRepository
+                .findFirstBySubscriptionIdAndOrderIdStartingWithOrderByIdDesc(42L, "SUB-42-20261018")).willReturn(Optional.of(inFlight));
+
+        RenewalChunk chunk = service.claimDueRenewals(NOW, 0L, 100, LEASE);
+
+        assertThat(chunk.claims()).isEmpty();
+        assertThat(chunk.lastSubscriptionId()).isEqualTo(42L);
+        verify(subscriptionPaymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("lease 를 넘긴 PENDING 결제는 같은 orderId 로 재점유한다")
+    void stalePendingPayment_isReclaimedWithSameOrderId() {
+        dueSubscription();
+        SubscriptionPayment stale = SubscriptionPayment.builder()
+                .id(100L).orderId("SUB-42-20261018").amount(new BigDecimal("99000"))
+                .status(SubscriptionPayment.PaymentStatus.PENDING)
+                .updatedAt(NOW.minusMinutes(30))
+                .build();
+        given(subscriptionPaymentRepository
+                .findFirstBySubscriptionIdAndOrderIdStartingWithOrderByIdDesc(42L, "SUB-42-20261018")).willReturn(Optional.of(stale));
+
+        RenewalChunk chunk = service.claimDueRenewals(NOW, 0L, 100, LEASE);
+
+        assertThat(chunk.claims()).singleElement()
+                .satisfies(claim -> assertThat(claim.orderId()).isEqualTo("SUB-42-20261018"));
+        assertThat(stale.getUpdatedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("더 스캔할 구독이 없으면 커서가 null 이다")
+    void noDueSubscriptions_endsScan() {
+        given(subscriptionRepository.claimDueForRenewal(eq(NOW), anyLong(), any())).willReturn(List.of());
+
+        RenewalChunk chunk = service.claimDueRenewals(NOW, 42L, 100, LEASE);
+
+        assertThat(chunk.claims()).isEmpty();
+        assertThat(chunk.lastSubscriptionId()).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도 시각이 된 실패 결제는 새 orderId 로 PENDING 전환해 점유한다")
+    void dueFailedPayment_isClaimedWithRetryOrderId() {
+        Subscription subscription = Subscription.builder()
+                .id(42L)
+                .userId(UUID.randomUUID())
+                .product(Product.builder().code("001").name("BulC").build())
+                .autoRenew(true)
+                .billingKeyId(8L)
+                .build();
+        SubscriptionPayment failed = SubscriptionPayment.builder()
+                .id(100L).subscriptionId(42L).billingKeyId(7L)
+                .orderId("SUB-42-20261018").amount(new BigDecimal("99000"))
+                .status(SubscriptionPayment.PaymentStatus.FAILED)
+                .retryCount(1)
+                .nextAttemptAt(NOW.minusMinutes(1))
+                .build();
+        given(subscriptionPaymentRepository.claimDueRetries(eq(NOW), eq(NOW.minus(LEASE)), any()))
+                .willReturn(List.of(failed));
+        given(subscriptionRepository.findById(42L)).willReturn(Optional.of(subscription));
+        given(billingKeyRepository.existsByIdAndIsActiveTrue(8L)).willReturn(true);
+
+        List<RenewalClaim> claims = service.claimDueRetries(NOW, 20, LEASE);
+
+        assertThat(claims).singleElement().satisfies(claim -> {
+            assertThat(claim.orderId()).isEqualTo("SUB-42-20261018-R1");
+            assertThat(claim.billingKeyId()).isEqualTo(8L);
+        });
+        assertThat(failed.getStatus()).isEqualTo(SubscriptionPayment.PaymentStatus.PENDING);
+        assertThat(failed.getNextAttemptAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("재시도를 소진한 실패는 자동 갱신을 끄고 주기 orderId 로 갱신 실패 이벤트를 등록한다")
+    void exhaustedRetries_disableAutoRenewAndPublishFailure() {
+        Subscription subscription = Subscription.builder()
+                .id(42L)
+                .userId(UUID.randomUUID())
+                .autoRenew(true)
+                .billingKeyId(7L)
+                .nextBillingDate(LocalDateTime.of(2026, 10, 18, 0, 0))
+                .build();
+        SubscriptionPayment lastRetry = SubscriptionPayment.builder()
+                .id(100L).subscriptionId(42L)
+                .orderId("SUB-42-20261018-R2").amount(new BigDecimal("99000"))
+                .status(SubscriptionPayment.PaymentStatus.PENDING)
+                .retryCount(2)
+                .build();
+        given(subscriptionPaymentRepository.findByIdForUpdate(100L)).willReturn(Optional.of(lastRetry));
+        given(subscriptionRepository.findById(42L)).willReturn(Optional.of(subscription));
+
+        service.failRenewal(100L, "한도 초과", PaymentRetryPolicy.FailureClass.DECLINED);
+
+        assertThat(lastRetry.getStatus()).isEqualTo(SubscriptionPayment.PaymentStatus.FAILED);
+        assertThat(lastRetry.getNextAttemptAt()).isNull();
+        assertThat(subscription.getAutoRenew()).isFalse();
+        assertThat(subscription.getNextBillingDate()).isNull();
+        verify(outboxPublisher).publish(eq(SubscriptionRenewalFailedHandler.EVENT_TYPE), eq("SUB-42-20261018"), anyMap());
+    }
+
+    @Test
+    @DisplayName("재시도 여지가 남은 실패는 자동 갱신을 유지한다")
+    void retryableFailure_keepsAutoRenew() {
+        SubscriptionPayment first = SubscriptionPayment.builder()
+                .id(100L).subscriptionId(42L)
+                .orderId("SUB-42-20261018").amount(new BigDecimal("99000"))
+                .status(SubscriptionPayment.PaymentStatus.PENDING)
+                .retryCount(0)
+                .build();
+        given(subscriptionPaymentRepository.findByIdForUpdate(100L)).willReturn(Optional.of(first));
+
+        service.failRenewal(100L, "한도 초과", PaymentRetryPolicy.FailureClass.DECLINED);
+
+        assertThat(first.getNextAttemptAt()).isNotNull();
+        verify(subscriptionRepository, never()).findById(anyLong());
+        verify(outboxPublisher, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이번 주기가 재시도 소진 상태로 남아 있으면 건너뛰지 않고 자동 갱신을 끈다")
+    void exhaustedCycle_onClaim_disablesAutoRenew() {
+        Subscription subscription = dueSubscription();
+        SubscriptionPayment exhausted = SubscriptionPayment.builder()
+                .id(100L).subscriptionId(42L)
+                .orderId("SUB-42-20261018-R3").amount(new BigDecimal("99000"))
+                .status(SubscriptionPayment.PaymentStatus.FAILED)
+                .retryCount(3)
+                .build();
+        given(subscriptionPaymentRepository
+                .findFirstBySubscriptionIdAndOrderIdStartingWithOrderByIdDesc(42L, "SUB-42-20261018")).willReturn(Optional.of(exhausted));
+
+        RenewalChunk chunk = service.claimDueRenewals(NOW, 0L, 100, LEASE);
+
+        assertThat(chunk.claims()).isEmpty();
+        assertThat(subscription.getAutoRenew()).isFalse();
+        verify(outboxPublisher).publish(eq(SubscriptionRenewalFailedHandler.EVENT_TYPE), eq("SUB-42-20261018"), anyMap());
+    }
+
+    @Test
+    @DisplayName("재시도 orderId 는 이전 재시도 접미사를 교체한다")
+    void retryOrderId_replacesPreviousSuffix() {
+        assertThat(SubscriptionBillingService.retryOrderId("SUB-42-20261018-R1", 2))
+                .isEqualTo("SUB-42-20261018-R2");
+    }
+
+    @Test
+    @DisplayName("영구 실패와 재시도 소진 건은 다음 시도 시각이 없다")
+    void retryPolicy_stopsAfterPermanentOrExhausted() {
+        assertThat(PaymentRetryPolicy.nextAttemptAt(PaymentRetryPolicy.FailureClass.PERMANENT, 1, NOW)).isNull();
+        assertThat(PaymentRetryPolicy.nextAttemptAt(PaymentRetryPolicy.FailureClass.DECLINED, 3, NOW)).isNull();
+        assertThat(PaymentRetryPolicy.nextAttemptAt(PaymentRetryPolicy.FailureClass.TRANSIENT, 1, NOW))
+                .isBetween(NOW.plusMinutes(5), NOW.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("만료 처리는 마지막 id 를 커서로 청크를 넘기고 짧은 청크에서 멈춘다")
+    void processExpired_advancesKeysetCursor() {
+        renewalProperties.setExpiryChunkSize(2);
+        given(subscriptionRepository.expireChunkWithoutAutoRenew(any(), eq(0L), eq(2))).willReturn(List.of(3L, 8L));
+        given(subscriptionRepository.expireChunkWithoutAutoRenew(any(), eq(8L), eq(2))).willReturn(List.of(11L));
+
+        int expired = service.processExpiredSubscriptions();
+
+        assertThat(expired).isEqualTo(3);
+        verify(subscriptionRepository, times(2)).expireChunkWithoutAutoRenew(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("만료 쿼리는 SKIP LOCKED 로 점유하고 핸들러 이벤트 타입·구독+종료일 키로 중복 없이 이벤트를 등록한다")
+    void expireChunkQuery_registersHandlerEventOncePerSubscriptionEnd() throws Exception {
+        String sql = SubscriptionRepository.class
+                .getMethod("expireChunkWithoutAutoRenew", LocalDateTime.class, long.class, int.class)
+                .getAnnotation(Query.class).value();
+
+        assertThat(sql)
+                .contains("auto_renew = false AND end_date < :now AND id > :afterId")
+                .contains("FOR UPDATE SKIP LOCKED")
+                .contains("'" + SubscriptionExpiryHandler.EVENT_TYPE + "'")
+                .contains("CAST(id AS VARCHAR) || '-' || CAST(CAST(end_date AS DATE) AS VARCHAR)")
+                .contains("ON CONFLICT (event_type, aggregate_id) DO NOTHING")
+                .contains("SELECT id FROM expired ORDER BY id");
+    }
+}
@@ -0,0 +1,159 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.entity.OutboxEvent;
+import com.bulc.homepage.entity.PricePlan;
+import com.bulc.homepage.entity.Subscription;
+import com.bulc.homepage.entity.User;
+import com.bulc.homepage.licensing.domain.License;
+import com.bulc.homepage.licensing.domain.LicensePlan;
+import com.bulc.homepage.licensing.domain.LicenseType;
+import com.bulc.homepage.licensing.domain.OwnerType;
+import com.bulc.homepage.licensing.repository.LicensePlanRepository;
+import com.bulc.homepage.licensing.repository.LicenseRepository;
+import com.bulc.homepage.repository.SubscriptionRepository;
+import com.bulc.homepage.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 구독 만료 후속 처리 — 구독형 라이선스 유효기간 정리, 같은 제품 활성 구독 시 유지, 만료 안내 발송 검증.
+ */
+@DisplayName("SubscriptionExpiryHandler 구독 만료 후속 처리")
+class SubscriptionExpiryHandlerTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID LICENSE_PLAN_ID = UUID.randomUUID();
+    private static final UUID PRODUCT_ID = UUID.randomUUID();
+    private static final LocalDateTime END_DATE = LocalDateTime.of(2026, 10, 17, 23, 59);
+
+    private final SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final LicenseRepository licenseRepository = mock(LicenseRepository.class);
+    private final LicensePlanRepository licensePlanRepository = mock(LicensePlanRepository.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private SubscriptionExpiryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        LicensePlan plan = mock(LicensePlan.class);
+        given(plan.getProductId()).willReturn(PRODUCT_ID);
+        given(licensePlanRepository.findById(LICENSE_PLAN_ID)).willReturn(Optional.of(plan));
+        given(userRepository.findById(USER_ID))
+                .willReturn(Optional.of(User.builder().id(USER_ID).email("user@example.com").build()));
+        handler = new SubscriptionExpiryHandler(subscriptionRepository, userRepository, licenseRepository,
+                licensePlanRepository, emailService, new ObjectMapper());
+    }
+
+    private Subscription subscription(String status) {
+        Subscription subscription = Subscription.builder()
+                .id(42L)
+                .userId(USER_ID)
+                .productCode("001")
+                .pricePlan(PricePlan.builder().id(1L).licensePlanId(LICENSE_PLAN_ID).build())
+                .status(status)
+                .endDate(END_DATE)
+                .build();
+        given(subscriptionRepository.findById(42L)).willReturn(Optional.of(subscription));
+        return subscription;
+    }
+
+    private static License license(LicenseType type, Instant validUntil) {
+        return License.builder()
+                .ownerType(OwnerType.USER)
+                .ownerId(USER_ID)
+                .productId(PRODUCT_ID)
+                .licenseType(type)
+                .validUntil(validUntil)
+                .build();
+    }
+
+    private static OutboxEvent event() {
+        return OutboxEvent.builder()
+                .id(1L)
+                .eventType(SubscriptionExpiryHandler.EVENT_TYPE)
+                .aggregateId("42-2026-10-17")
+                .payload("{\"subscriptionId\":42,\"endDate\":\"2026-10-17T23:59:00\"}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("구독형 라이선스만 구독 종료 시각으로 자르고 만료 안내를 보낸다")
+    void handle_expired_endsSubscriptionLicensesAndNotifies() throws Exception {
+        subscription("E");
+        // productCode 가 없는 다른 활성 구독이 있어도 NPE 없이 다른 제품으로 본다
+        given(subscriptionRepository.findByUserIdAndStatus(USER_ID, "A"))
+                .willReturn(List.of(Subscription.builder().id(7L).userId(USER_ID).build()));
+        Instant subscriptionEnd = END_DATE.atZone(ZoneId.systemDefault()).toInstant();
+        License subscriptionLicense = license(LicenseType.SUBSCRIPTION, subscriptionEnd.plus(30, ChronoUnit.DAYS));
+        Instant perpetualUntil = subscriptionEnd.plus(365, ChronoUnit.DAYS);
+        License perpetual = license(LicenseType.PERPETUAL, perpetualUntil);
+        given(licenseRepository.findByOwnerAndProductAndStatusIn(eq(OwnerType.USER), eq(USER_ID), eq(PRODUCT_ID), anyList()))
+                .willReturn(List.of(subscriptionLicense, perpetual));
+
+        handler.handle(event());
+
+        assertThat(subscriptionLicense.getValidUntil()).isEqualTo(subscriptionEnd);
+        assertThat(perpetual.getValidUntil()).isEqualTo(perpetualUntil);
+        verify(licenseRepository).save(subscriptionLicense);
+        verify(licenseRepository, never()).save(perpetual);
+        verify(emailService).sendBillingEmail(eq("user@example.com"), eq("[BulC] 구독 만료 안내"), anyString());
+    }
+
+    @Test
+    @DisplayName("안내 메일 발송이 실패하면 예외를 던져 아웃박스가 재시도하게 한다")
+    void handle_sendFails_throwsForRetry() {
+        subscription("E");
+        willThrow(new RuntimeException("SMTP 발송 실패")).given(emailService)
+                .sendBillingEmail(anyString(), anyString(), anyString());
+
+        assertThatThrownBy(() -> handler.handle(event()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("SMTP 발송 실패");
+    }
+
+    @Test
+    @DisplayName("같은 제품의 다른 활성 구독이 있으면 라이선스는 건드리지 않는다")
+    void handle_otherActiveSameProduct_keepsLicenses() throws Exception {
+        subscription("E");
+        given(subscriptionRepository.findByUserIdAndStatus(USER_ID, "A"))
+                .willReturn(List.of(Subscription.builder().id(7L).userId(USER_ID).productCode("001").build()));
+
+        handler.handle(event());
+
+        verify(licenseRepository, never()).findByOwnerAndProductAndStatusIn(any(), any(), any(), anyList());
+        verify(licenseRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("이미 다시 활성화된 구독이면 아무 것도 하지 않는다")
+    void handle_notExpired_skips() throws Exception {
+        subscription("A");
+
+        handler.handle(event());
+
+        verifyNoInteractions(licenseRepository, emailService);
+    }
+}
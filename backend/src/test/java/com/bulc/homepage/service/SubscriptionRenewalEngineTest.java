@@ -0,0 +1,69 @@
+package com.bulc.homepage.service;
+
+import com.bulc.homepage.config.SubscriptionRenewalProperties;
+import com.bulc.homepage.exception.OutboundBulkheadRejectedException;
+import com.bulc.homepage.repository.SubscriptionRenewalRunRepository;
+import com.bulc.homepage.service.SubscriptionBillingService.RenewalClaim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 청구 실패 분기 — bulkhead 거부는 미발송(재시도 예약), 실제 I/O 오류는 결과 불명(PENDING 유지).
+ */
+@DisplayName("SubscriptionRenewalEngine 청구 실패 처리")
+class SubscriptionRenewalEngineTest {
+
+    private static final RenewalClaim CLAIM = new RenewalClaim(
+            42L, 7L, 3L, "SUB-42-20261018", "BulC 월간", 9900, UUID.randomUUID());
+
+    private final SubscriptionBillingService billingService = mock(SubscriptionBillingService.class);
+    private final BillingKeyService billingKeyService = mock(BillingKeyService.class);
+    private final SubscriptionRenewalEngine engine = new SubscriptionRenewalEngine(billingService, billingKeyService,
+            mock(SubscriptionRenewalRunRepository.class), new SubscriptionRenewalProperties(), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    private void billingFails(Exception cause) {
+        given(billingKeyService.requestBillingPayment(anyLong(), anyString(), anyString(), anyInt(), any()))
+                .willThrow(new RuntimeException("빌링 결제 중 오류가 발생했습니다: " + cause.getMessage(), cause));
+    }
+
+    @Test
+    @DisplayName("동시 요청 한도로 보내지 못한 청구는 일시 실패로 바로 재시도 예약한다")
+    void bulkheadRejection_failsAsTransient() {
+        billingFails(new OutboundBulkheadRejectedException("외부 서비스 응답 지연으로 요청을 처리할 수 없습니다: api.tosspayments.com"));
+
+        assertThat(engine.charge(CLAIM)).isFalse();
+
+        verify(billingService).failRenewal(eq(7L), anyString(), eq(PaymentRetryPolicy.FailureClass.TRANSIENT));
+    }
+
+    @Test
+    @DisplayName("타임아웃 등 실제 I/O 오류는 승인 여부를 모르므로 PENDING 으로 남긴다")
+    void ioTimeout_leftPending() {
+        billingFails(new ResourceAccessException("Read timed out"));
+
+        assertThat(engine.charge(CLAIM)).isFalse();
+
+        verify(billingService, never()).failRenewal(anyLong(), any(), any());
+    }
+}
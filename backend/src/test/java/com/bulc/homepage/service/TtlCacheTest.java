@@ -0,0 +1,98 @@
+package com.bulc.homepage.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TTL 캐시: 만료, 건수 상한, 상한에서의 정리 간격 제한, 커밋 후 무효화 검증.
+ */
+@DisplayName("TtlCache 조회 결과 캐시")
+class TtlCacheTest {
+
+    @Test
+    @DisplayName("TTL 이 지나면 값을 돌려주지 않는다")
+    void get_expires() throws InterruptedException {
+        TtlCache<String, String> cache = new TtlCache<>(Duration.ofMillis(100), 10);
+        cache.put("a", "A");
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        Thread.sleep(150);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("상한이 만료되지 않은 항목으로 차 있으면 새 키는 캐시하지 않는다 (기존 키 갱신은 허용)")
+    void put_skipsNewKeysWhenFull() {
+        TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.put("c", "C");
+        cache.put("a", "A2");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("c")).isNull();
+        assertThat(cache.get("a")).isEqualTo("A2");
+    }
+
+    @Test
+    @DisplayName("상한에서 만료 항목을 정리하되, 정리는 간격당 한 번만 한다")
+    void put_sweepsExpiredAtMostOncePerInterval() throws InterruptedException {
+        TtlCache<String, String> cache = new TtlCache<>(Duration.ofMillis(100), 2);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        Thread.sleep(150);
+
+        cache.put("c", "C");  // 정리 → a, b 제거 후 캐시
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("c")).isEqualTo("C");
+
+        cache.put("d", "D");
+        Thread.sleep(150);
+        cache.put("e", "E");  // c, d 는 만료됐지만 정리 간격 전이라 순회하지 않고 건너뜀
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("e")).isNull();
+    }
+
+    @Test
+    @DisplayName("putUnbounded 는 상한과 무관하게 캐시한다")
+    void putUnbounded_ignoresCap() {
+        TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 1);
+        cache.put("a", "A");
+
+        cache.putUnbounded("b", "B");
+
+        assertThat(cache.get("b")).isEqualTo("B");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에, 밖에서는 즉시 무효화한다")
+    void evictAfterCommit_waitsForCommit() {
+        TtlCache<String, String> cache = new TtlCache<>(Duration.ofMinutes(1), 10);
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evictAfterCommit(List.of("a"));
+            assertThat(cache.get("a")).isEqualTo("A");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(cache.get("a")).isNull();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.evictAfterCommit(List.of("b"));
+        assertThat(cache.get("b")).isNull();
+    }
+}
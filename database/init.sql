@@ -10,6 +10,18 @@ CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 -- =========================================================
 -- Drop existing tables (reverse dependency order)
 -- =========================================================
+DROP TABLE IF EXISTS payment_order_claims CASCADE;
+DROP TABLE IF EXISTS lead_import_errors CASCADE;
+DROP TABLE IF EXISTS lead_import_jobs CASCADE;
+DROP TABLE IF EXISTS email_dedup_keys CASCADE;
+DROP TABLE IF EXISTS mail_job_recipients CASCADE;
+DROP TABLE IF EXISTS mail_jobs CASCADE;
+DROP TABLE IF EXISTS billing_key_reencryption_jobs CASCADE;
+DROP TABLE IF EXISTS payment_webhook_events CASCADE;
+DROP TABLE IF EXISTS outbox_events CASCADE;
+DROP TABLE IF EXISTS subscription_renewal_runs CASCADE;
+DROP TABLE IF EXISTS account_purge_jobs CASCADE;
+DROP TABLE IF EXISTS rate_limit_buckets CASCADE;
 DROP TABLE IF EXISTS lead_contacts CASCADE;
 DROP TABLE IF EXISTS popups CASCADE;
 DROP TABLE IF EXISTS email_log CASCADE;
@@ -329,7 +341,9 @@ CREATE TABLE promotions (
     created_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at      TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
-    CONSTRAINT fk_promotions_product FOREIGN KEY (product_code) REFERENCES products(code) ON UPDATE CASCADE
+    CONSTRAINT fk_promotions_product FOREIGN KEY (product_code) REFERENCES products(code) ON UPDATE CASCADE,
+    -- 코드는 대문자로 정규화해 저장 → 조회는 UNIQUE 인덱스 정확 일치 (동기화: V20261018_10__normalize_promotion_codes.sql)
+    CONSTRAINT chk_promotions_code_upper CHECK (code = UPPER(code))
 );
 
 COMMENT ON TABLE promotions IS '프로모션/쿠폰 테이블 - 할인 쿠폰 및 프로모션 관리';
@@ -401,6 +415,8 @@ COMMENT ON COLUMN billing_keys.is_default IS '기본 결제 수단 여부';
 
 CREATE INDEX idx_billing_keys_user_id ON billing_keys(user_id);
 CREATE INDEX idx_billing_keys_is_active ON billing_keys(is_active);
+-- 기본 결제 수단 조회 (동기화: V20261018_11__add_billing_keys_default_index.sql)
+CREATE INDEX idx_billing_keys_user_default ON billing_keys(user_id) WHERE is_default = true AND is_active = true;
 
 -- subscriptions 테이블에 billing_keys 외래키 추가
 ALTER TABLE subscriptions ADD CONSTRAINT fk_subscriptions_billing_key
@@ -421,6 +437,7 @@ CREATE TABLE subscription_payments (
     paid_at             TIMESTAMP NULL,
     failure_reason      TEXT NULL,
     retry_count         INT NOT NULL DEFAULT 0,
+    next_attempt_at     TIMESTAMP NULL,
     created_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
@@ -431,10 +448,13 @@ CREATE TABLE subscription_payments (
 COMMENT ON TABLE subscription_payments IS '구독 결제 이력 테이블';
 COMMENT ON COLUMN subscription_payments.status IS 'PENDING, SUCCESS, FAILED, CANCELED';
 COMMENT ON COLUMN subscription_payments.retry_count IS '결제 재시도 횟수';
+COMMENT ON COLUMN subscription_payments.next_attempt_at IS '다음 재시도 시각 (NULL 이면 재시도 없음)';
 
 CREATE INDEX idx_subscription_payments_subscription_id ON subscription_payments(subscription_id);
 CREATE INDEX idx_subscription_payments_billing_date ON subscription_payments(billing_date);
 CREATE INDEX idx_subscription_payments_status ON subscription_payments(status);
+CREATE UNIQUE INDEX uk_subscription_payments_order_id ON subscription_payments(order_id);
+CREATE INDEX idx_subscription_payments_retry_due ON subscription_payments(next_attempt_at) WHERE status = 'FAILED';
 
 -- =========================================================
 -- 7. payments (결제 테이블)
@@ -877,7 +897,6 @@ CREATE INDEX idx_price_plans_product_code ON price_plans(product_code);
 CREATE INDEX idx_price_plans_is_active ON price_plans(is_active);
 
 -- promotions
-CREATE INDEX idx_promotions_code ON promotions(code);
 CREATE INDEX idx_promotions_product_code ON promotions(product_code);
 CREATE INDEX idx_promotions_is_active ON promotions(is_active);
 CREATE INDEX idx_promotions_valid_from ON promotions(valid_from);
@@ -888,12 +907,20 @@ CREATE INDEX idx_subscriptions_user_id ON subscriptions(user_id);
 CREATE INDEX idx_subscriptions_product_code ON subscriptions(product_code);
 CREATE INDEX idx_subscriptions_status ON subscriptions(status);
 CREATE INDEX idx_subscriptions_end_date ON subscriptions(end_date);
+CREATE INDEX idx_subscriptions_renewal_due ON subscriptions(next_billing_date, id)
+    WHERE auto_renew = true AND status = 'A';
+CREATE INDEX idx_subscriptions_expiry_due ON subscriptions(end_date, id)
+    WHERE auto_renew = false AND status = 'A';
 
 -- payments
-CREATE INDEX idx_payments_user_id ON payments(user_id);
 CREATE INDEX idx_payments_subscription_id ON payments(subscription_id);
-CREATE INDEX idx_payments_status ON payments(status);
-CREATE INDEX idx_payments_created_at ON payments(created_at);
+-- 결제 목록 keyset 페이징 (동기화: V20261018_9__add_payments_listing_indexes.sql)
+CREATE INDEX idx_payments_created_at_id ON payments(created_at, id);
+CREATE INDEX idx_payments_status_created_at_id ON payments(status, created_at, id);
+CREATE INDEX idx_payments_user_created_at_id ON payments(user_id, created_at, id);
+CREATE INDEX idx_payments_amount_id ON payments(amount, id);
+CREATE INDEX idx_payments_user_email_lower ON payments(lower(user_email) text_pattern_ops);
+CREATE INDEX idx_payments_user_name_lower ON payments(lower(user_name) text_pattern_ops);
 
 -- payment_details (payment_id가 PK이므로 별도 인덱스 불필요)
 CREATE INDEX idx_payment_details_order_id ON payment_details(order_id);
@@ -1088,26 +1115,62 @@ COMMENT ON COLUMN popups.end_at        IS '노출 종료 (NULL이면 무기한)'
 -- =========================================================
 -- email_log (메일 발송 이력)
 -- =========================================================
+-- 동기화: V20261018_14 — sent_at 월 단위 RANGE 파티셔닝.
+-- 월 파티션은 EmailLogPartitionMaintainer 가 기동 시·매일 미리 만들고 보존 기간이 지나면 DROP 한다.
+-- PostgreSQL 16 은 파티션 테이블에 identity 컬럼을 둘 수 없어 시퀀스 기본값 사용
 CREATE TABLE email_log (
-    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    id              BIGSERIAL,
     recipient_email VARCHAR(255) NOT NULL,
     category        VARCHAR(20)  NOT NULL,
     template_key    VARCHAR(100) NOT NULL,
     status          VARCHAR(20)  NOT NULL,
     sent_at         TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
     skip_reason     VARCHAR(255),
-    error_message   TEXT
-);
-
-CREATE INDEX idx_email_log_recipient ON email_log(recipient_email);
-CREATE INDEX idx_email_log_sent_at   ON email_log(sent_at);
+    error_message   TEXT,
+    dedup_key       VARCHAR(200),
+    PRIMARY KEY (id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+-- 범위 밖 행을 받는 기본 파티션 — 평소에는 비어 있어야 한다
+CREATE TABLE email_log_default PARTITION OF email_log DEFAULT;
+
+-- 이번 달 ~ 다음 2개월 파티션 (이후는 애플리케이션이 생성)
+DO $$
+DECLARE
+    m DATE := date_trunc('month', CURRENT_TIMESTAMP)::date;
+BEGIN
+    FOR i IN 0..2 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF email_log FOR VALUES FROM (%L) TO (%L)',
+                       'email_log_p' || to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- "오늘 X 에게 보냈는가" — 수신자 + 기간 조회가 해당 월 파티션의 인덱스 범위만 읽는다
+CREATE INDEX idx_email_log_recipient_sent ON email_log(recipient_email, sent_at);
+-- 기간 집계용 — sent_at 이 거의 append 순서라 BRIN 으로 충분
+CREATE INDEX idx_email_log_sent_at_brin ON email_log USING BRIN (sent_at);
+-- 발송 대기 예약 행의 결과 반영 (QUEUED 행만)
+CREATE INDEX idx_email_log_queued_dedup ON email_log(dedup_key) WHERE status = 'QUEUED';
 
 COMMENT ON TABLE email_log IS '메일 발송 이력 (모든 시도: SUCCESS / SKIPPED / FAILED)';
 COMMENT ON COLUMN email_log.category IS 'ACCOUNT / TRANSACTION / OPERATIONAL / PROMOTIONAL';
 COMMENT ON COLUMN email_log.template_key IS '템플릿 식별자 (verification_code, password_reset, billing, program_update 등)';
-COMMENT ON COLUMN email_log.status IS 'SUCCESS / SKIPPED / FAILED';
+COMMENT ON COLUMN email_log.status IS 'SUCCESS / SKIPPED / FAILED / QUEUED (dedup_key 예약 후 발송 대기)';
 COMMENT ON COLUMN email_log.skip_reason IS 'SKIPPED 시 사유 (marketing_agreed=false, user_not_found 등)';
 COMMENT ON COLUMN email_log.error_message IS 'FAILED 시 에러 메시지 (최대 1000자 trunc)';
+COMMENT ON COLUMN email_log.dedup_key IS '예약 발송 키 (예: license_expiry:{userId}:{yyyy-MM-dd}) — 유일성은 email_dedup_keys 가 보장, 일반 발송은 NULL';
+
+-- =========================================================
+-- email_dedup_keys (예약 발송 중복 방지 키)
+-- 동기화: V20261018_14 — 파티션 테이블의 UNIQUE 는 sent_at 을 포함해야 하므로 email_log 에서 분리
+-- =========================================================
+CREATE TABLE email_dedup_keys (
+    dedup_key   VARCHAR(200) PRIMARY KEY,
+    created_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE email_dedup_keys IS '예약 발송 중복 방지 키 — 큐 등록과 같은 문장에서 ON CONFLICT DO NOTHING 으로 예약, 보존 기간 후 삭제';
 
 -- =========================================================
 -- lead_contacts (회원가입 없이 외부에서 수집한 메일링 컨택)
@@ -1157,6 +1220,237 @@ COMMENT ON COLUMN lead_contacts.unsubscribe_token IS '1-Click 해지 토큰 (메
 COMMENT ON COLUMN lead_contacts.unsubscribed_at IS 'NULL=구독 중, NOT NULL=해지된 시각';
 COMMENT ON COLUMN lead_contacts.created_by IS '등록한 관리자 user.id';
 
+-- =========================================================
+-- rate_limit_buckets (공유 레이트리밋 버킷, bulc.rate-limit.store=jdbc)
+-- 동기화: V20261018__create_rate_limit_buckets.sql
+-- =========================================================
+CREATE TABLE rate_limit_buckets (
+    policy      VARCHAR(50)  NOT NULL,
+    bucket_key  VARCHAR(255) NOT NULL,
+    tat         BIGINT       NOT NULL,
+    PRIMARY KEY (policy, bucket_key)
+);
+
+CREATE INDEX idx_rate_limit_buckets_tat ON rate_limit_buckets(tat);
+
+COMMENT ON TABLE rate_limit_buckets IS '공유 레이트리밋 버킷 (GCRA)';
+COMMENT ON COLUMN rate_limit_buckets.tat IS 'theoretical arrival time (epoch millis). 현재 이전이면 버킷 가득 참 → 정리 대상';
+
+-- =========================================================
+-- account_purge_jobs (재가입 계정 이력 정리 작업)
+-- 동기화: V20261018_2__create_account_purge_jobs.sql, V20261018_16__add_account_purge_jobs_lease.sql
+-- =========================================================
+CREATE TABLE account_purge_jobs (
+    id                      BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    user_id                 UUID        NOT NULL,
+    activity_log_cutoff_id  BIGINT      NOT NULL,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    deleted_count           BIGINT      NOT NULL DEFAULT 0,
+    attempts                INT         NOT NULL DEFAULT 0,
+    last_error              TEXT,
+    created_at              TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at            TIMESTAMP,
+    lease_until             TIMESTAMP
+);
+
+CREATE INDEX idx_account_purge_jobs_status ON account_purge_jobs(status);
+
+COMMENT ON TABLE account_purge_jobs IS '재가입 계정 이력 정리 작업 (요청 경로 밖 청크 삭제)';
+COMMENT ON COLUMN account_purge_jobs.activity_log_cutoff_id IS '이 id 이하 activity_logs 만 삭제 (재가입 시점 스냅샷)';
+COMMENT ON COLUMN account_purge_jobs.deleted_count IS '지금까지 삭제한 행 수 (진행률)';
+COMMENT ON COLUMN account_purge_jobs.lease_until IS '처리 중인 워커의 점유 만료 시각 (NULL 또는 지난 시각이면 점유 가능)';
+
+-- =========================================================
+-- subscription_renewal_runs (구독 자동 갱신 실행 기록)
+-- 동기화: V20261018_3__create_subscription_renewal_runs.sql
+-- =========================================================
+CREATE TABLE subscription_renewal_runs (
+    id                      BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    claimed_count           INT         NOT NULL DEFAULT 0,
+    succeeded_count         INT         NOT NULL DEFAULT 0,
+    failed_count            INT         NOT NULL DEFAULT 0,
+    last_subscription_id    BIGINT,
+    last_error              TEXT,
+    started_at              TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at             TIMESTAMP
+);
+
+COMMENT ON TABLE subscription_renewal_runs IS '구독 자동 갱신 실행 기록 (청크마다 진행 건수 갱신)';
+COMMENT ON COLUMN subscription_renewal_runs.last_subscription_id IS '마지막으로 스캔한 구독 id (keyset 커서)';
+
+-- =========================================================
+-- outbox_events (트랜잭셔널 아웃박스)
+-- 동기화: V20261018_4__create_outbox_events.sql
+-- =========================================================
+CREATE TABLE outbox_events (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    event_type      VARCHAR(50)  NOT NULL,
+    aggregate_id    VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      TEXT,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at    TIMESTAMP,
+
+    CONSTRAINT uk_outbox_events_type_aggregate UNIQUE (event_type, aggregate_id)
+);
+
+CREATE INDEX idx_outbox_events_due ON outbox_events(status, next_attempt_at);
+
+COMMENT ON TABLE outbox_events IS '트랜잭셔널 아웃박스 이벤트 (결제 후속 처리 등)';
+COMMENT ON COLUMN outbox_events.aggregate_id IS '이벤트 대상 식별자 (예: 주문 ID). event_type 과 함께 유일';
+
+-- =========================================================
+-- payment_webhook_events (토스페이먼츠 웹훅 수신 큐)
+-- 동기화: V20261018_5__create_payment_webhook_events.sql
+-- =========================================================
+CREATE TABLE payment_webhook_events (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    dedup_key       VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(50),
+    payment_key     VARCHAR(255),
+    order_id        VARCHAR(255),
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'RECEIVED',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      TEXT,
+    received_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at    TIMESTAMP,
+
+    CONSTRAINT uk_payment_webhook_events_dedup UNIQUE (dedup_key)
+);
+
+CREATE INDEX idx_payment_webhook_events_due ON payment_webhook_events(status, next_attempt_at);
+
+COMMENT ON TABLE payment_webhook_events IS '토스페이먼츠 웹훅 수신 큐 (원문 + 처리 상태)';
+COMMENT ON COLUMN payment_webhook_events.dedup_key IS 'eventType:paymentKey:status (식별 필드가 없으면 원문 SHA-256)';
+
+-- =========================================================
+-- billing_key_reencryption_jobs (빌링키 재암호화 작업)
+-- 동기화: V20261018_8__create_billing_key_reencryption_jobs.sql
+-- =========================================================
+CREATE TABLE billing_key_reencryption_jobs (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    target_version  VARCHAR(10) NOT NULL,
+    status          VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    total_count     INT         NOT NULL DEFAULT 0,
+    processed_count INT         NOT NULL DEFAULT 0,
+    last_id         BIGINT      NOT NULL DEFAULT 0,
+    last_error      TEXT,
+    started_at      TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at      TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at     TIMESTAMP
+);
+
+CREATE INDEX idx_billing_key_reencryption_jobs_version ON billing_key_reencryption_jobs(target_version, status);
+
+COMMENT ON TABLE billing_key_reencryption_jobs IS '빌링키 재암호화 작업 (활성 키 버전별, 진행률·재개 커서)';
+COMMENT ON COLUMN billing_key_reencryption_jobs.last_id IS '마지막으로 처리한 billing_keys.id (keyset 커서)';
+
+-- =========================================================
+-- mail_jobs / mail_job_recipients (대량 메일 발송 큐)
+-- 동기화: V20261018_12__create_mail_jobs.sql
+-- =========================================================
+CREATE TABLE mail_jobs (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    category        VARCHAR(20)  NOT NULL,
+    template_key    VARCHAR(100) NOT NULL,
+    subject         VARCHAR(500) NOT NULL,
+    html            TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'QUEUED',
+    total_count     INT          NOT NULL DEFAULT 0,
+    sent_count      INT          NOT NULL DEFAULT 0,
+    failed_count    INT          NOT NULL DEFAULT 0,
+    created_by      UUID,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at      TIMESTAMP,
+    finished_at     TIMESTAMP
+);
+
+CREATE TABLE mail_job_recipients (
+    id                BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    job_id            BIGINT       NOT NULL REFERENCES mail_jobs(id) ON DELETE CASCADE,
+    email             VARCHAR(255) NOT NULL,
+    unsubscribe_token VARCHAR(64),
+    status            VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts          INT          NOT NULL DEFAULT 0,
+    next_attempt_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error        TEXT,
+    sent_at           TIMESTAMP,
+    vars              JSONB,
+    dedup_key         VARCHAR(200)
+);
+
+-- 발송 대기 점유 (SKIP LOCKED) — PENDING 행만 담는 부분 인덱스
+CREATE INDEX idx_mail_job_recipients_due ON mail_job_recipients(next_attempt_at, id) WHERE status = 'PENDING';
+-- 작업 완료 판정 (남은 PENDING 존재 여부)
+CREATE INDEX idx_mail_job_recipients_job_status ON mail_job_recipients(job_id, status);
+
+COMMENT ON TABLE mail_jobs IS '대량 메일 발송 작업 (관리자 발송 1회 = 1행, 진행 건수 누적)';
+COMMENT ON COLUMN mail_jobs.html IS 'footer 치환 전 본문 — 수신자별 footer 는 발송 시 부착';
+COMMENT ON TABLE mail_job_recipients IS '대량 메일 작업 수신자 (PENDING → SENT / FAILED, 점유 lease 는 next_attempt_at)';
+COMMENT ON COLUMN mail_job_recipients.vars IS '수신자별 템플릿 변수 — 있으면 작업 제목·본문의 {{key}} 를 발송 시 치환';
+COMMENT ON COLUMN mail_job_recipients.dedup_key IS 'email_log 예약 행 키 (결과를 그 행에 반영)';
+
+-- =========================================================
+-- lead_import_jobs / lead_import_errors (메일링 컨택 백그라운드 임포트)
+-- 동기화: V20261018_15__create_lead_import_jobs.sql
+-- =========================================================
+CREATE TABLE lead_import_jobs (
+    id               BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    file_name        VARCHAR(255) NOT NULL,
+    file_path        VARCHAR(500) NOT NULL,
+    status           VARCHAR(20)  NOT NULL DEFAULT 'QUEUED',
+    total_rows       INT          NOT NULL DEFAULT 0,
+    registered_count INT          NOT NULL DEFAULT 0,
+    skipped_count    INT          NOT NULL DEFAULT 0,
+    last_row_number  INT          NOT NULL DEFAULT 0,
+    lease_until      TIMESTAMP,
+    last_error       TEXT,
+    created_by       UUID         NOT NULL,
+    created_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at       TIMESTAMP,
+    updated_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at      TIMESTAMP
+);
+
+-- 대기/중단 작업 점유 (SKIP LOCKED) — 끝나지 않은 행만 담는 부분 인덱스
+CREATE INDEX idx_lead_import_jobs_pending ON lead_import_jobs(id) WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE TABLE lead_import_errors (
+    id          BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    job_id      BIGINT       NOT NULL REFERENCES lead_import_jobs(id) ON DELETE CASCADE,
+    row_number  INT          NOT NULL,
+    email       VARCHAR(255),
+    message     TEXT         NOT NULL
+);
+
+-- 오류 페이지 조회 (작업별 행 번호 순)
+CREATE INDEX idx_lead_import_errors_job_row ON lead_import_errors(job_id, row_number);
+
+COMMENT ON TABLE lead_import_jobs IS '메일링 컨택 CSV/Excel 임포트 작업 (업로드 1회 = 1행, 청크마다 체크포인트)';
+COMMENT ON COLUMN lead_import_jobs.file_path IS '작업 디렉터리에 저장한 업로드 파일 (완료·실패 시 삭제)';
+COMMENT ON COLUMN lead_import_jobs.last_row_number IS '체크포인트 — 이 행까지 반영 완료, 재개 시 다음 행부터';
+COMMENT ON COLUMN lead_import_jobs.lease_until IS '워커 점유 만료 시각 — 지나면 다른 워커가 이어서 진행';
+COMMENT ON TABLE lead_import_errors IS '임포트 행 오류 (체크포인트와 같은 트랜잭션으로 기록)';
+
+-- =========================================================
+-- payment_order_claims (결제 승인 주문 선점)
+-- 동기화: V20261018_17__create_payment_order_claims.sql
+-- =========================================================
+CREATE TABLE payment_order_claims (
+    order_id    VARCHAR(100) PRIMARY KEY,
+    user_id     UUID,
+    claimed_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE payment_order_claims IS '결제 승인 주문 선점 (토스 승인 호출 전 orderId 1회 점유)';
+
 -- =========================================================
 -- 마지막 단계: price_plans ↔ license_plans 연결
 -- (테이블 생성 순서 때문에 맨 마지막에 실행)
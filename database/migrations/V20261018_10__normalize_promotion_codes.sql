@@ -0,0 +1,11 @@
+-- 쿠폰 코드 대문자 정규화
+-- 조회를 대소문자 무시(lower() 비교) 대신 정규화된 코드 정확 일치로 바꾸기 위해 저장 값을 대문자로 고정한다.
+-- 생성/수정 API 는 이미 대문자로 저장하고 대소문자 무시 중복 검사를 해 왔으므로 충돌하는 행은 없다.
+
+UPDATE promotions SET code = UPPER(code) WHERE code <> UPPER(code);
+
+ALTER TABLE promotions
+    ADD CONSTRAINT chk_promotions_code_upper CHECK (code = UPPER(code));
+
+-- code 는 UNIQUE 제약의 인덱스로 충분
+DROP INDEX IF EXISTS idx_promotions_code;
@@ -0,0 +1,6 @@
+-- 사용자별 기본 결제 수단 조회 (구독 결제·체크아웃 경로)
+-- 기본 키 교체는 단일 UPDATE 로 처리하므로 행 단위로 검사되는 UNIQUE 대신 일반 부분 인덱스로 둔다.
+
+CREATE INDEX IF NOT EXISTS idx_billing_keys_user_default
+    ON billing_keys(user_id)
+    WHERE is_default = true AND is_active = true;
@@ -0,0 +1,35 @@
+-- 대량 메일 발송 큐 (관리자 운영성/광고성 메일)
+-- 요청은 작업 + 수신자 행 등록만 하고, MailDispatchEngine 이 SKIP LOCKED 로 점유해 속도 제한·재시도와 함께 발송
+
+CREATE TABLE IF NOT EXISTS mail_jobs (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    category        VARCHAR(20)  NOT NULL,
+    template_key    VARCHAR(100) NOT NULL,
+    subject         VARCHAR(500) NOT NULL,
+    html            TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'QUEUED',
+    total_count     INT          NOT NULL DEFAULT 0,
+    sent_count      INT          NOT NULL DEFAULT 0,
+    failed_count    INT          NOT NULL DEFAULT 0,
+    created_by      UUID,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at      TIMESTAMP,
+    finished_at     TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS mail_job_recipients (
+    id                BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    job_id            BIGINT       NOT NULL REFERENCES mail_jobs(id) ON DELETE CASCADE,
+    email             VARCHAR(255) NOT NULL,
+    unsubscribe_token VARCHAR(64),
+    status            VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts          INT          NOT NULL DEFAULT 0,
+    next_attempt_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error        TEXT,
+    sent_at           TIMESTAMP
+);
+
+-- 발송 대기 점유 (SKIP LOCKED) — PENDING 행만 담는 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_mail_job_recipients_due ON mail_job_recipients(next_attempt_at, id) WHERE status = 'PENDING';
+-- 작업 완료 판정 (남은 PENDING 존재 여부)
+CREATE INDEX IF NOT EXISTS idx_mail_job_recipients_job_status ON mail_job_recipients(job_id, status);
@@ -0,0 +1,9 @@
+-- 예약 발송 중복 방지 키 (라이선스 만료 알림 등)
+-- 큐 등록과 같은 트랜잭션에서 email_log 에 QUEUED 행을 dedup_key 로 예약하고, 키가 이미 있으면 등록하지 않는다.
+-- 수신자별 템플릿 변수는 mail_job_recipients.vars 로 넘겨 발송 시 작업 본문에 채운다.
+
+ALTER TABLE email_log ADD COLUMN IF NOT EXISTS dedup_key VARCHAR(200);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_email_log_dedup_key ON email_log(dedup_key) WHERE dedup_key IS NOT NULL;
+
+ALTER TABLE mail_job_recipients ADD COLUMN IF NOT EXISTS vars JSONB;
+ALTER TABLE mail_job_recipients ADD COLUMN IF NOT EXISTS dedup_key VARCHAR(200);
@@ -0,0 +1,66 @@
+-- email_log 월 단위 RANGE 파티셔닝 (sent_at)
+-- 보존 기간이 지난 달은 파티션 DETACH + DROP 으로 지우고, 다음 달 파티션은 EmailLogPartitionMaintainer 가 미리 만든다.
+-- 파티션 테이블의 UNIQUE 는 파티션 키(sent_at)를 포함해야 하므로 예약 발송 중복 방지 키는 email_dedup_keys 로 분리.
+
+-- 1. 중복 방지 키 (파티셔닝 대상 아님, 오래된 키는 애플리케이션이 정리)
+CREATE TABLE IF NOT EXISTS email_dedup_keys (
+    dedup_key   VARCHAR(200) PRIMARY KEY,
+    created_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO email_dedup_keys (dedup_key, created_at)
+SELECT dedup_key, min(sent_at) FROM email_log WHERE dedup_key IS NOT NULL GROUP BY dedup_key
+ON CONFLICT (dedup_key) DO NOTHING;
+
+-- 2. 기존 테이블을 옮겨 두고 파티션 테이블 생성 (identity 시퀀스 이름이 겹치지 않도록 identity 해제)
+ALTER TABLE email_log RENAME TO email_log_unpartitioned;
+ALTER TABLE email_log_unpartitioned ALTER COLUMN id DROP IDENTITY IF EXISTS;
+DROP INDEX IF EXISTS idx_email_log_recipient;
+DROP INDEX IF EXISTS idx_email_log_sent_at;
+DROP INDEX IF EXISTS uq_email_log_dedup_key;
+
+-- PostgreSQL 16 은 파티션 테이블에 identity 컬럼을 둘 수 없어 시퀀스 기본값 사용
+CREATE TABLE email_log (
+    id              BIGSERIAL,
+    recipient_email VARCHAR(255) NOT NULL,
+    category        VARCHAR(20)  NOT NULL,
+    template_key    VARCHAR(100) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    sent_at         TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    skip_reason     VARCHAR(255),
+    error_message   TEXT,
+    dedup_key       VARCHAR(200),
+    PRIMARY KEY (id, sent_at)
+) PARTITION BY RANGE (sent_at);
+
+-- 범위 밖 행(파티션 생성 전 등)을 받는 기본 파티션 — 평소에는 비어 있어야 한다
+CREATE TABLE email_log_default PARTITION OF email_log DEFAULT;
+
+-- 3. 기존 데이터가 있는 달 ~ 다음 2개월 파티션 생성
+DO $$
+DECLARE
+    m DATE := date_trunc('month', COALESCE((SELECT min(sent_at) FROM email_log_unpartitioned), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '2 months')::date;
+BEGIN
+    WHILE m <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF email_log FOR VALUES FROM (%L) TO (%L)',
+                       'email_log_p' || to_char(m, 'YYYYMM'), m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO email_log (id, recipient_email, category, template_key, status, sent_at, skip_reason, error_message, dedup_key)
+SELECT id, recipient_email, category, template_key, status, sent_at, skip_reason, error_message, dedup_key
+  FROM email_log_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('email_log', 'id'), COALESCE((SELECT max(id) FROM email_log), 0) + 1, false);
+
+DROP TABLE email_log_unpartitioned;
+
+-- 4. 인덱스 (파티션마다 생성됨)
+-- "오늘 X 에게 보냈는가" — 수신자 + 기간 조회가 해당 월 파티션의 인덱스 범위만 읽는다
+CREATE INDEX idx_email_log_recipient_sent ON email_log(recipient_email, sent_at);
+-- 기간 집계용 — sent_at 이 거의 append 순서라 BRIN 으로 충분 (B-tree 대비 쓰기 비용·크기 최소)
+CREATE INDEX idx_email_log_sent_at_brin ON email_log USING BRIN (sent_at);
+-- 발송 대기 예약 행의 결과 반영 (QUEUED 행만)
+CREATE INDEX idx_email_log_queued_dedup ON email_log(dedup_key) WHERE status = 'QUEUED';
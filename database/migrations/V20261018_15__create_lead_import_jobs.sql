@@ -0,0 +1,35 @@
+-- 메일링 컨택 백그라운드 임포트 작업
+-- 요청은 업로드를 작업 디렉터리에 저장하고 작업 행만 등록한다. 워커가 SKIP LOCKED 로 점유해 청크마다
+-- 진행 건수·마지막 행 번호(체크포인트)와 행 오류를 같은 트랜잭션으로 커밋하므로, 재기동 시 체크포인트 다음 행부터 이어서 진행한다.
+
+CREATE TABLE IF NOT EXISTS lead_import_jobs (
+    id               BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    file_name        VARCHAR(255) NOT NULL,
+    file_path        VARCHAR(500) NOT NULL,
+    status           VARCHAR(20)  NOT NULL DEFAULT 'QUEUED',
+    total_rows       INT          NOT NULL DEFAULT 0,
+    registered_count INT          NOT NULL DEFAULT 0,
+    skipped_count    INT          NOT NULL DEFAULT 0,
+    last_row_number  INT          NOT NULL DEFAULT 0,
+    lease_until      TIMESTAMP,
+    last_error       TEXT,
+    created_by       UUID         NOT NULL,
+    created_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at       TIMESTAMP,
+    updated_at       TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at      TIMESTAMP
+);
+
+-- 대기/중단 작업 점유 (SKIP LOCKED) — 끝나지 않은 행만 담는 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_lead_import_jobs_pending ON lead_import_jobs(id) WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE TABLE IF NOT EXISTS lead_import_errors (
+    id          BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    job_id      BIGINT       NOT NULL REFERENCES lead_import_jobs(id) ON DELETE CASCADE,
+    row_number  INT          NOT NULL,
+    email       VARCHAR(255),
+    message     TEXT         NOT NULL
+);
+
+-- 오류 페이지 조회 (작업별 행 번호 순)
+CREATE INDEX IF NOT EXISTS idx_lead_import_errors_job_row ON lead_import_errors(job_id, row_number);
@@ -0,0 +1,7 @@
+-- 재가입 이력 정리 작업 점유 lease
+-- 여러 인스턴스가 같은 작업을 동시에 처리하지 않도록 SKIP LOCKED 로 점유하고 lease 를 건다.
+-- 청크 삭제와 진행 건수 반영은 lease 가 그대로일 때만 함께 커밋된다.
+
+ALTER TABLE account_purge_jobs ADD COLUMN IF NOT EXISTS lease_until TIMESTAMP NULL;
+
+COMMENT ON COLUMN account_purge_jobs.lease_until IS '처리 중인 워커의 점유 만료 시각 (NULL 또는 지난 시각이면 점유 가능)';
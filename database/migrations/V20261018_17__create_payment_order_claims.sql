@@ -0,0 +1,11 @@
+-- 결제 승인 주문 선점
+-- 같은 orderId 로 승인 요청이 동시에 두 번 들어와도 토스 승인 호출은 한 요청만 하도록,
+-- 호출 전에 order_id 를 INSERT ... ON CONFLICT DO NOTHING 으로 선점한다 (1행 = 선점 성공).
+
+CREATE TABLE IF NOT EXISTS payment_order_claims (
+    order_id    VARCHAR(100) PRIMARY KEY,
+    user_id     UUID,
+    claimed_at  TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE payment_order_claims IS '결제 승인 주문 선점 (토스 승인 호출 전 orderId 1회 점유)';
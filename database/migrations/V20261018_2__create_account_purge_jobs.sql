@@ -0,0 +1,22 @@
+-- 비활성 계정 재가입 시 이전 이력(activity_logs) 정리 작업
+-- 재가입 트랜잭션에서는 작업 행만 남기고, AccountPurgeService 가 청크 단위로 삭제한다.
+
+CREATE TABLE IF NOT EXISTS account_purge_jobs (
+    id                      BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    user_id                 UUID        NOT NULL,
+    activity_log_cutoff_id  BIGINT      NOT NULL,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    deleted_count           BIGINT      NOT NULL DEFAULT 0,
+    attempts                INT         NOT NULL DEFAULT 0,
+    last_error              TEXT,
+    created_at              TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at            TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_purge_jobs_status ON account_purge_jobs(status);
+
+COMMENT ON TABLE account_purge_jobs IS '재가입 계정 이력 정리 작업 (요청 경로 밖 청크 삭제)';
+COMMENT ON COLUMN account_purge_jobs.activity_log_cutoff_id IS '이 id 이하 activity_logs 만 삭제 (재가입 시점 스냅샷)';
+COMMENT ON COLUMN account_purge_jobs.status IS 'PENDING / RUNNING / COMPLETED / FAILED';
+COMMENT ON COLUMN account_purge_jobs.deleted_count IS '지금까지 삭제한 행 수 (진행률)';
@@ -0,0 +1,26 @@
+-- 구독 자동 갱신 엔진 (청크 점유 + 병렬 청구)
+-- 1) 실행 기록 테이블
+-- 2) 갱신 orderId 는 구독·결제 주기별로 고정(SUB-{id}-{yyyyMMdd}) → 중복 점유 방지용 UNIQUE
+-- 3) 결제일 도래 구독 점유 쿼리용 부분 인덱스
+
+CREATE TABLE IF NOT EXISTS subscription_renewal_runs (
+    id                      BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    status                  VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    claimed_count           INT         NOT NULL DEFAULT 0,
+    succeeded_count         INT         NOT NULL DEFAULT 0,
+    failed_count            INT         NOT NULL DEFAULT 0,
+    last_subscription_id    BIGINT,
+    last_error              TEXT,
+    started_at              TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at             TIMESTAMP
+);
+
+COMMENT ON TABLE subscription_renewal_runs IS '구독 자동 갱신 실행 기록 (청크마다 진행 건수 갱신)';
+COMMENT ON COLUMN subscription_renewal_runs.status IS 'RUNNING / COMPLETED / FAILED';
+COMMENT ON COLUMN subscription_renewal_runs.last_subscription_id IS '마지막으로 스캔한 구독 id (keyset 커서)';
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_subscription_payments_order_id ON subscription_payments(order_id);
+
+CREATE INDEX IF NOT EXISTS idx_subscriptions_renewal_due
+    ON subscriptions(next_billing_date, id)
+    WHERE auto_renew = true AND status = 'A';
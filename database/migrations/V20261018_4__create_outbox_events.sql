@@ -0,0 +1,24 @@
+-- 트랜잭셔널 아웃박스 (결제 후속 처리: 구독 생성, 라이선스 발급)
+-- 업무 트랜잭션과 함께 커밋되고 OutboxDispatcher 가 SKIP LOCKED 로 꺼내 처리한다.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    event_type      VARCHAR(50)  NOT NULL,
+    aggregate_id    VARCHAR(255) NOT NULL,
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'PENDING',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      TEXT,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at    TIMESTAMP,
+
+    CONSTRAINT uk_outbox_events_type_aggregate UNIQUE (event_type, aggregate_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_due ON outbox_events(status, next_attempt_at);
+
+COMMENT ON TABLE outbox_events IS '트랜잭셔널 아웃박스 이벤트 (결제 후속 처리 등)';
+COMMENT ON COLUMN outbox_events.aggregate_id IS '이벤트 대상 식별자 (예: 주문 ID). event_type 과 함께 유일';
+COMMENT ON COLUMN outbox_events.status IS 'PENDING / DONE / FAILED';
+COMMENT ON COLUMN outbox_events.next_attempt_at IS '처리 대상 시각 (점유 시 lease, 실패 시 백오프만큼 미룸)';
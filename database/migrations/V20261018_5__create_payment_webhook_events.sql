@@ -0,0 +1,25 @@
+-- 토스페이먼츠 웹훅 수신 큐
+-- 컨트롤러는 원문만 저장(dedup_key 로 재전송 차단)하고, PaymentWebhookService 워커가 검증·반영한다.
+
+CREATE TABLE IF NOT EXISTS payment_webhook_events (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    dedup_key       VARCHAR(255) NOT NULL,
+    event_type      VARCHAR(50),
+    payment_key     VARCHAR(255),
+    order_id        VARCHAR(255),
+    payload         TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL DEFAULT 'RECEIVED',
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error      TEXT,
+    received_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at    TIMESTAMP,
+
+    CONSTRAINT uk_payment_webhook_events_dedup UNIQUE (dedup_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_payment_webhook_events_due ON payment_webhook_events(status, next_attempt_at);
+
+COMMENT ON TABLE payment_webhook_events IS '토스페이먼츠 웹훅 수신 큐 (원문 + 처리 상태)';
+COMMENT ON COLUMN payment_webhook_events.dedup_key IS 'eventType:paymentKey:status (식별 필드가 없으면 원문 SHA-256)';
+COMMENT ON COLUMN payment_webhook_events.status IS 'RECEIVED / APPLIED / IGNORED / FAILED';
@@ -0,0 +1,16 @@
+-- 구독 결제 재시도 스케줄 (실패 분류별 지수 백오프 + 지터)
+-- 1) 다음 재시도 시각 컬럼. NULL 이면 재시도하지 않음(성공·취소·재시도 소진·영구 실패)
+-- 2) 기존 실패 건 중 재시도 여지가 있는 건은 바로 다음 폴링에서 시도
+-- 3) 1분 폴링 점유 쿼리용 부분 인덱스
+
+ALTER TABLE subscription_payments ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP NULL;
+
+COMMENT ON COLUMN subscription_payments.next_attempt_at IS '다음 재시도 시각 (NULL 이면 재시도 없음)';
+
+UPDATE subscription_payments
+SET next_attempt_at = CURRENT_TIMESTAMP
+WHERE status = 'FAILED' AND retry_count < 3 AND next_attempt_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_subscription_payments_retry_due
+    ON subscription_payments(next_attempt_at)
+    WHERE status = 'FAILED';
@@ -0,0 +1,6 @@
+-- 자정 구독 만료 처리 (UPDATE ... RETURNING 청크 + id keyset 커서)
+-- 종료일이 지난 자동갱신 OFF 활성 구독만 담는 부분 인덱스
+
+CREATE INDEX IF NOT EXISTS idx_subscriptions_expiry_due
+    ON subscriptions(end_date, id)
+    WHERE auto_renew = false AND status = 'A';
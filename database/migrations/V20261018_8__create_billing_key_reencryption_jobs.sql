@@ -0,0 +1,23 @@
+-- 빌링키 백그라운드 재암호화 작업 (기동 시 일괄 암호화 대체)
+-- 청크 묶음마다 keyset 커서(last_id)와 처리 건수를 커밋 → 재기동 시 이어서 진행
+
+CREATE TABLE IF NOT EXISTS billing_key_reencryption_jobs (
+    id              BIGINT PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    target_version  VARCHAR(10) NOT NULL,
+    status          VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    total_count     INT         NOT NULL DEFAULT 0,
+    processed_count INT         NOT NULL DEFAULT 0,
+    last_id         BIGINT      NOT NULL DEFAULT 0,
+    last_error      TEXT,
+    started_at      TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at      TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at     TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_billing_key_reencryption_jobs_version
+    ON billing_key_reencryption_jobs(target_version, status);
+
+COMMENT ON TABLE billing_key_reencryption_jobs IS '빌링키 재암호화 작업 (활성 키 버전별, 진행률·재개 커서)';
+COMMENT ON COLUMN billing_key_reencryption_jobs.target_version IS '재암호화 대상 키 버전 (예: v2)';
+COMMENT ON COLUMN billing_key_reencryption_jobs.status IS 'RUNNING / COMPLETED / FAILED';
+COMMENT ON COLUMN billing_key_reencryption_jobs.last_id IS '마지막으로 처리한 billing_keys.id (keyset 커서)';
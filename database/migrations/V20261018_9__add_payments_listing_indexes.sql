@@ -0,0 +1,26 @@
+-- 결제 목록 keyset 페이징 (관리자 /api/admin/payments, 본인 /api/payments/me)
+-- 정렬 키 + id 복합 인덱스로 ORDER BY ... , id 와 커서 범위 조건을 인덱스로만 처리한다.
+
+CREATE INDEX IF NOT EXISTS idx_payments_created_at_id
+    ON payments(created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_payments_status_created_at_id
+    ON payments(status, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_payments_user_created_at_id
+    ON payments(user_id, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_payments_amount_id
+    ON payments(amount, id);
+
+-- 이메일·이름 앞부분 검색 (LOWER(...) LIKE 'q%')
+CREATE INDEX IF NOT EXISTS idx_payments_user_email_lower
+    ON payments(lower(user_email) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_payments_user_name_lower
+    ON payments(lower(user_name) text_pattern_ops);
+
+-- 위 복합 인덱스의 선두 컬럼과 겹치는 단일 컬럼 인덱스 정리
+DROP INDEX IF EXISTS idx_payments_user_id;
+DROP INDEX IF EXISTS idx_payments_status;
+DROP INDEX IF EXISTS idx_payments_created_at;
@@ -0,0 +1,16 @@
+-- 공유 레이트리밋 버킷 (bulc.rate-limit.store=jdbc 일 때 사용)
+-- 다중 인스턴스에서 정책·키별 한도를 일관되게 적용하기 위한 GCRA 상태 테이블 (MDP-659)
+
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    policy      VARCHAR(50)  NOT NULL,
+    bucket_key  VARCHAR(255) NOT NULL,
+    tat         BIGINT       NOT NULL,
+    PRIMARY KEY (policy, bucket_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_rate_limit_buckets_tat ON rate_limit_buckets(tat);
+
+COMMENT ON TABLE rate_limit_buckets IS '공유 레이트리밋 버킷 (GCRA)';
+COMMENT ON COLUMN rate_limit_buckets.policy IS '정책 이름 (bulc.rate-limit.policies 키)';
+COMMENT ON COLUMN rate_limit_buckets.bucket_key IS '제한 대상 키 (사용자 ID, 클라이언트 IP 등)';
+COMMENT ON COLUMN rate_limit_buckets.tat IS 'theoretical arrival time (epoch millis). 현재 이전이면 버킷 가득 참 → 정리 대상';
@@ -14,10 +14,10 @@ import { loadTossPayments } from '@tosspayments/payment-sdk';
 import {
   MenuSection,
   UserInfo, License, Activation, Subscription, BillingKey,
-  AdminUser, AdminLicense, AdminPayment, Product, PricePlan,
+  AdminUser, AdminLicense, Product, PricePlan,
   Promotion, LicensePlan, RedeemCampaign, RedeemCodeItem,
 } from './types';
-import { VALID_MENU_SECTIONS } from './constants';
+import { VALID_MENU_SECTIONS, PAYMENT_HISTORY_PAGE_SIZE } from './constants';
 import {
   ProfilePanel, AccountPanel, SubscriptionPanel, PaymentPanel, PaymentHistoryPanel, RedeemPanel,
   AdminUsersPanel, AdminPaymentsPanel, AdminProductsPanel,
@@ -59,6 +59,9 @@ const MyPage: React.FC = () => {
   const [isLoadingBillingKeys, setIsLoadingBillingKeys] = useState(false);
   const [paymentHistory, setPaymentHistory] = useState<PaymentHistoryItem[]>([]);
   const [isLoadingPaymentHistory, setIsLoadingPaymentHistory] = useState(false);
+  const [paymentHistoryCursor, setPaymentHistoryCursor] = useState<string | null>(null);
+  const [paymentHistoryHasMore, setPaymentHistoryHasMore] = useState(false);
+  const [isLoadingMorePayments, setIsLoadingMorePayments] = useState(false);
 
   // 프로필 수정 모드
   const [isEditingProfile, setIsEditingProfile] = useState(false);
@@ -111,7 +114,6 @@ const MyPage: React.FC = () => {
   // 관리자 데이터 상태
   const [adminUsers, setAdminUsers] = useState<AdminUser[]>([]);
   const [adminLicenses, setAdminLicenses] = useState<AdminLicense[]>([]);
-  const [adminPayments, setAdminPayments] = useState<AdminPayment[]>([]);
   const [products, setProducts] = useState<Product[]>([]);
   const [pricePlans, setPricePlans] = useState<PricePlan[]>([]);
   const [promotions, setPromotions] = useState<Promotion[]>([]);
@@ -275,25 +277,33 @@ const MyPage: React.FC = () => {
     if (isLoggedIn) fetchBillingKeys();
   }, [isLoggedIn]);
 
-  // 결제 내역 로드
-  useEffect(() => {
-    const fetchPaymentHistory = async () => {
-      setIsLoadingPaymentHistory(true);
-      try {
-        const response = await fetch(`${API_URL}/api/payments/me`, {
-          credentials: 'include' as RequestCredentials,
-        });
-        if (response.ok) {
-          const data = await response.json();
-          setPaymentHistory(Array.isArray(data) ? data : []);
-        }
-      } catch (error) {
-        // 결제 내역 로드 실패
-      } finally {
-        setIsLoadingPaymentHistory(false);
+  // 결제 내역 로드 (커서 페이지 — 더 보기 시 nextCursor 로 이어 붙임)
+  const fetchPaymentHistory = async (cursor: string | null) => {
+    const setLoading = cursor ? setIsLoadingMorePayments : setIsLoadingPaymentHistory;
+    setLoading(true);
+    try {
+      const params = new URLSearchParams({ size: String(PAYMENT_HISTORY_PAGE_SIZE) });
+      if (cursor) params.set('cursor', cursor);
+      const response = await fetch(`${API_URL}/api/payments/me?${params.toString()}`, {
+        credentials: 'include' as RequestCredentials,
+      });
+      if (response.ok) {
+        const data = await response.json();
+        const items: PaymentHistoryItem[] = Array.isArray(data?.items) ? data.items : [];
+        setPaymentHistory((prev) => (cursor ? [...prev, ...items] : items));
+        setPaymentHistoryCursor(data?.nextCursor ?? null);
+        setPaymentHistoryHasMore(Boolean(data?.hasMore));
       }
-    };
-    if (isLoggedIn) fetchPaymentHistory();
+    } catch (error) {
+      // 결제 내역 로드 실패
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  useEffect(() => {
+    if (isLoggedIn) fetchPaymentHistory(null);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [isLoggedIn]);
 
   // 관리자 메뉴 변경 시 데이터 로드
@@ -313,7 +323,6 @@ const MyPage: React.FC = () => {
             await fetchLicensePlans();
             await fetchProducts();
             break;
-          case 'admin-payments': await fetchAdminPayments(); break;
           case 'admin-products':
             await fetchProducts();
             await fetchPricePlans();
@@ -379,11 +388,6 @@ const MyPage: React.FC = () => {
     if (response.ok) setAdminLicenses(await response.json());
   };
 
-  const fetchAdminPayments = async () => {
-    const response = await fetch(`${API_URL}/api/admin/payments`, { credentials: 'include' as RequestCredentials });
-    if (response.ok) setAdminPayments(await response.json());
-  };
-
   const fetchProducts = async () => {
     const response = await fetch(`${API_URL}/api/admin/products`, { credentials: 'include' as RequestCredentials });
     if (response.ok) setProducts(await response.json());
@@ -1103,6 +1107,9 @@ const MyPage: React.FC = () => {
                   <PaymentHistoryPanel
                     isLoading={isLoadingPaymentHistory}
                     payments={paymentHistory}
+                    hasMore={paymentHistoryHasMore}
+                    isLoadingMore={isLoadingMorePayments}
+                    onLoadMore={() => fetchPaymentHistory(paymentHistoryCursor)}
                   />
                   <PaymentPanel
                     isLoadingBillingKeys={isLoadingBillingKeys}
@@ -1129,7 +1136,7 @@ const MyPage: React.FC = () => {
               )}
 
               {isAdmin && activeMenu === 'admin-payments' && (
-                <AdminPaymentsPanel {...adminSearchProps} adminPayments={adminPayments} />
+                <AdminPaymentsPanel />
               )}
 
               {isAdmin && activeMenu === 'admin-products' && (
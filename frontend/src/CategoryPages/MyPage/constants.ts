@@ -20,3 +20,6 @@ export const VALID_MENU_SECTIONS: MenuSection[] = [
 ];
 
 export const ADMIN_ITEMS_PER_PAGE = 10;
+
+// 내 결제 내역 커서 페이지 크기
+export const PAYMENT_HISTORY_PAGE_SIZE = 20;
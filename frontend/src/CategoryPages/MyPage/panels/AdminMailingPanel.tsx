@@ -121,6 +121,41 @@ const emptySendForm = (): SendForm => ({
   includeContacts: true,
 });
 
+type ImportJobStatus = 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+
+interface ImportJob {
+  id: number;
+  fileName: string;
+  status: ImportJobStatus;
+  totalRows: number;
+  registered: number;
+  skipped: number;
+  lastRowNumber: number;
+  lastError: string | null;
+  createdAt: string;
+  finishedAt: string | null;
+}
+
+interface ImportRowError {
+  rowNumber: number;
+  email: string;
+  message: string;
+}
+
+const IMPORT_JOB_STATUS_LABEL: Record<ImportJobStatus, string> = {
+  QUEUED: '대기 중',
+  RUNNING: '진행 중',
+  COMPLETED: '완료',
+  FAILED: '실패',
+};
+
+const isImportJobActive = (job: ImportJob | null) =>
+  !!job && (job.status === 'QUEUED' || job.status === 'RUNNING');
+
+const IMPORT_JOB_POLL_MS = 2000;
+const IMPORT_RECENT_JOBS = 5;
+const IMPORT_ERROR_PAGE_SIZE = 50;
+
 const ACTIVE_PAGE_SIZE = 10;
 const INACTIVE_PAGE_SIZE = 20;
 
@@ -161,7 +196,10 @@ const AdminMailingPanel: React.FC = () => {
   const [csvFile, setCsvFile] = useState<File | null>(null);
   const [csvImporting, setCsvImporting] = useState(false);
   const [csvDragOver, setCsvDragOver] = useState(false);
-  const [csvResult, setCsvResult] = useState<{ totalRows: number; registered: number; skipped: number; errors: { rowNumber: number; email: string; message: string }[] } | null>(null);
+  const [csvJob, setCsvJob] = useState<ImportJob | null>(null);
+  const [csvRecentJobs, setCsvRecentJobs] = useState<ImportJob[]>([]);
+  const [csvErrors, setCsvErrors] = useState<ImportRowError[]>([]);
+  const [csvErrorTotal, setCsvErrorTotal] = useState(0);
 
   // 수신 비활성 입력
   const [unsubReasonModal, setUnsubReasonModal] = useState<{ id: number; email: string } | null>(null);
@@ -171,7 +209,7 @@ const AdminMailingPanel: React.FC = () => {
   const [isSendModalOpen, setIsSendModalOpen] = useState(false);
   const [sendForm, setSendForm] = useState<SendForm>(emptySendForm());
   const [isSending, setIsSending] = useState(false);
-  const [sendResult, setSendResult] = useState<{ targetCount: number; sentCount: number; failedCount: number } | null>(null);
+  const [sendResult, setSendResult] = useState<{ targetCount: number; sentCount: number; failedCount: number; status?: string } | null>(null);
 
   const fetchSection = useCallback(async (isActiveSection: boolean, pageNum: number) => {
     const setLoading = isActiveSection ? setIsLoadingActive : setIsLoadingInactive;
@@ -441,12 +479,14 @@ const AdminMailingPanel: React.FC = () => {
         showAlert({ message: err.error || err.message || '발송 실패', type: 'error' });
         return;
       }
+      // 발송은 서버 큐에서 진행 — 작업 등록 후 진행 상황을 폴링
       const data = await res.json();
-      setSendResult({ targetCount: data.targetCount, sentCount: data.sentCount, failedCount: data.failedCount });
+      setSendResult({ targetCount: data.targetCount, sentCount: data.sentCount, failedCount: data.failedCount, status: data.status });
       showAlert({
-        message: `발송 완료 — 대상 ${data.targetCount} · 성공 ${data.sentCount} · 실패 ${data.failedCount}`,
+        message: `발송 작업 등록 — 대상 ${data.targetCount}명. 진행 상황은 아래에 표시됩니다.`,
         type: 'success',
       });
+      if (data.status !== 'COMPLETED') void pollMailJob(data.jobId);
     } catch {
       showAlert({ message: '발송 중 오류가 발생했습니다', type: 'error' });
     } finally {
@@ -454,48 +494,150 @@ const AdminMailingPanel: React.FC = () => {
     }
   };
 
+  const pollMailJob = async (jobId: number) => {
+    // 최대 1시간 (5초 간격)
+    for (let i = 0; i < 720; i++) {
+      await new Promise(resolve => setTimeout(resolve, 5000));
+      try {
+        const res = await fetch(`${API}/api/admin/mails/jobs/${jobId}`, { credentials: 'include' });
+        if (!res.ok) return;
+        const job = await res.json();
+        setSendResult({ targetCount: job.totalCount, sentCount: job.sentCount, failedCount: job.failedCount, status: job.status });
+        if (job.status === 'COMPLETED') return;
+      } catch {
+        return;
+      }
+    }
+  };
+
   // ---- CSV ----
 
-  const openCsvModal = () => {
+  const fetchRecentImportJobs = useCallback(async (): Promise<ImportJob[]> => {
+    try {
+      const res = await fetch(`${API}/api/v1/admin/lead-contacts/import/jobs?limit=${IMPORT_RECENT_JOBS}`, {
+        credentials: 'include',
+      });
+      if (!res.ok) return [];
+      const jobs: ImportJob[] = await res.json();
+      setCsvRecentJobs(jobs);
+      return jobs;
+    } catch {
+      return [];
+    }
+  }, []);
+
+  const fetchImportJobErrors = useCallback(async (jobId: number) => {
+    try {
+      const res = await fetch(
+        `${API}/api/v1/admin/lead-contacts/import/jobs/${jobId}/errors?page=0&size=${IMPORT_ERROR_PAGE_SIZE}`,
+        { credentials: 'include' },
+      );
+      if (!res.ok) return;
+      const data = await res.json();
+      setCsvErrors(data.content || []);
+      setCsvErrorTotal(data.totalElements || 0);
+    } catch {
+      // 오류 행 목록은 보조 정보 — 조회 실패 시 건수만 표시
+    }
+  }, []);
+
+  const selectImportJob = (job: ImportJob) => {
+    setCsvJob(job);
+    setCsvErrors([]);
+    setCsvErrorTotal(0);
+    if (!isImportJobActive(job)) fetchImportJobErrors(job.id);
+  };
+
+  const openCsvModal = async () => {
     setCsvFile(null);
-    setCsvResult(null);
+    setCsvJob(null);
+    setCsvErrors([]);
+    setCsvErrorTotal(0);
     setIsCsvModalOpen(true);
+    // 진행 중인 작업이 있으면 이어서 진행 상황을 보여준다 (모달을 닫았다 열거나 새로고침한 경우)
+    const jobs = await fetchRecentImportJobs();
+    const active = jobs.find(j => isImportJobActive(j));
+    if (active) setCsvJob(active);
   };
 
   const closeCsvModal = () => {
     if (csvImporting) return;
+    // 작업은 서버에서 계속 진행되며, 다시 열면 진행 상황을 이어서 조회한다
     setIsCsvModalOpen(false);
     setCsvFile(null);
-    setCsvResult(null);
+    setCsvJob(null);
+    setCsvErrors([]);
+    setCsvErrorTotal(0);
   };
 
   const handleCsvImport = async () => {
     if (!csvFile) return;
     setCsvImporting(true);
-    setCsvResult(null);
+    setCsvErrors([]);
+    setCsvErrorTotal(0);
     try {
       const fd = new FormData();
       fd.append('file', csvFile);
-      const res = await fetch(`${API}/api/v1/admin/lead-contacts/import`, {
+      const res = await fetch(`${API}/api/v1/admin/lead-contacts/import/jobs`, {
         method: 'POST',
         credentials: 'include',
         body: fd,
       });
       if (!res.ok) {
-        const err = await res.json().catch(() => ({ message: '임포트 실패' }));
-        showAlert({ message: err.message || '임포트 실패', type: 'error' });
+        const err = await res.json().catch(() => ({ message: '임포트 등록 실패' }));
+        showAlert({ message: err.message || '임포트 등록 실패', type: 'error' });
         return;
       }
-      const data = await res.json();
-      setCsvResult(data);
-      await refreshBoth();
+      const job: ImportJob = await res.json();
+      setCsvJob(job);
+      setCsvFile(null);
+      fetchRecentImportJobs();
     } catch {
-      showAlert({ message: '임포트 중 오류', type: 'error' });
+      showAlert({ message: '임포트 등록 중 오류', type: 'error' });
     } finally {
       setCsvImporting(false);
     }
   };
 
+  // 진행 중인 작업은 끝날 때까지 주기적으로 진행 상황을 조회한다 (조회 실패는 다음 주기에 재시도)
+  useEffect(() => {
+    if (!isCsvModalOpen || !csvJob || !isImportJobActive(csvJob)) return;
+    const jobId = csvJob.id;
+    let cancelled = false;
+    const retry = () => setCsvJob(prev => (prev && prev.id === jobId ? { ...prev } : prev));
+    const timer = setTimeout(async () => {
+      try {
+        const res = await fetch(`${API}/api/v1/admin/lead-contacts/import/jobs/${jobId}`, {
+          credentials: 'include',
+        });
+        if (cancelled) return;
+        if (res.status === 404) {
+          setCsvJob(null);
+          return;
+        }
+        if (!res.ok) {
+          retry();
+          return;
+        }
+        const job: ImportJob = await res.json();
+        if (cancelled) return;
+        setCsvJob(job);
+        if (!isImportJobActive(job)) {
+          fetchImportJobErrors(job.id);
+          fetchRecentImportJobs();
+          await refreshBoth();
+        }
+      } catch {
+        if (!cancelled) retry();
+      }
+    }, IMPORT_JOB_POLL_MS);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [isCsvModalOpen, csvJob, fetchImportJobErrors, fetchRecentImportJobs]);
+
   const downloadCsvTemplate = () => {
     // 사용자 명함 양식 12개 컬럼 순서대로
     const header = '회사,이름,부서,직함,전자 메일 주소,근무지 주소 번지,근무처 전화,근무처 팩스,휴대폰,명함 등록일,명함첩 이름,메모';
@@ -677,7 +819,7 @@ const AdminMailingPanel: React.FC = () => {
               </div>
               {sendResult && (
                 <div className="amp-send-result">
-                  발송 결과 — 대상 <strong>{sendResult.targetCount}</strong> · 성공 <strong>{sendResult.sentCount}</strong> · 실패 <strong>{sendResult.failedCount}</strong>
+                  {sendResult.status === 'COMPLETED' ? '발송 결과' : '발송 진행 중'} — 대상 <strong>{sendResult.targetCount}</strong> · 성공 <strong>{sendResult.sentCount}</strong> · 실패 <strong>{sendResult.failedCount}</strong>
                 </div>
               )}
             </div>
@@ -859,26 +1001,52 @@ const AdminMailingPanel: React.FC = () => {
                     : <>CSV / Excel 파일을 여기에 드래그하거나, <span className="amp-csv-drop-link">클릭하여 선택</span>하세요.</>}
                 </div>
               </label>
-              {csvResult && (
+              {csvJob && (
                 <div className="amp-csv-result">
-                  <p>총 {csvResult.totalRows}행 · 등록 {csvResult.registered} · 건너뜀 {csvResult.skipped}</p>
-                  {csvResult.errors.length > 0 && (
+                  <p>
+                    <strong>{csvJob.fileName}</strong> · {IMPORT_JOB_STATUS_LABEL[csvJob.status]}
+                    {isImportJobActive(csvJob) && ' (닫아도 서버에서 계속 진행됩니다)'}
+                  </p>
+                  <p>총 {csvJob.totalRows}행 · 등록 {csvJob.registered} · 건너뜀 {csvJob.skipped}</p>
+                  {csvJob.lastError && <p className="amp-csv-error">{csvJob.lastError}</p>}
+                  {csvErrorTotal > 0 && (
                     <details>
-                      <summary>에러 행 ({csvResult.errors.length})</summary>
+                      <summary>
+                        에러 행 ({csvErrorTotal}{csvErrorTotal > csvErrors.length ? `, 앞 ${csvErrors.length}건 표시` : ''})
+                      </summary>
                       <ul>
-                        {csvResult.errors.map((e, i) => (
-                          <li key={i}>행 {e.rowNumber} {e.email}: {e.message}</li>
+                        {csvErrors.map(e => (
+                          <li key={e.rowNumber}>행 {e.rowNumber} {e.email}: {e.message}</li>
                         ))}
                       </ul>
                     </details>
                   )}
                 </div>
               )}
+              {csvRecentJobs.length > 0 && (
+                <div className="amp-csv-jobs">
+                  <div className="amp-csv-jobs-title">최근 임포트</div>
+                  <ul>
+                    {csvRecentJobs.map(job => (
+                      <li key={job.id}>
+                        <button
+                          type="button"
+                          className={`amp-csv-job${csvJob?.id === job.id ? ' amp-csv-job--selected' : ''}`}
+                          onClick={() => selectImportJob(job)}
+                        >
+                          <span>{job.fileName}</span>
+                          <span>{IMPORT_JOB_STATUS_LABEL[job.status]} · 등록 {job.registered} / {job.totalRows}행</span>
+                        </button>
+                      </li>
+                    ))}
+                  </ul>
+                </div>
+              )}
             </div>
             <div className="admin-modal-footer">
               <button className="cancel-btn" onClick={closeCsvModal} disabled={csvImporting}>닫기</button>
               <button className="save-btn" onClick={handleCsvImport} disabled={!csvFile || csvImporting}>
-                {csvImporting ? '임포트 중...' : '임포트 실행'}
+                {csvImporting ? '업로드 중...' : '임포트 실행'}
               </button>
             </div>
           </div>
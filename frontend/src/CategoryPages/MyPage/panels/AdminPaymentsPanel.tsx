@@ -1,10 +1,26 @@
-import React from 'react';
+import React, { useCallback, useEffect, useState } from 'react';
 import { useTranslation } from 'react-i18next';
-import { AdminPayment, AdminSearchProps } from '../types';
-import { ADMIN_ITEMS_PER_PAGE } from '../constants';
+import { API_URL } from '../../../utils/api';
+import { AdminPayment } from '../types';
 
-interface AdminPaymentsPanelProps extends AdminSearchProps {
-  adminPayments: AdminPayment[];
+// 서버 커서 페이지 크기 (백엔드 최대 200)
+const PAGE_SIZE = 50;
+
+interface PaymentFilter {
+  q: string;
+  status: string;
+  method: string;
+  from: string;
+  to: string;
+  sort: string;
+}
+
+const emptyFilter = (): PaymentFilter => ({ q: '', status: '', method: '', from: '', to: '', sort: 'createdAt,desc' });
+
+interface CursorPageResponse<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasMore: boolean;
 }
 
 const formatAdminDate = (dateStr: string) => {
@@ -29,48 +45,103 @@ const formatPaymentMethod = (method: string | null) => {
   return methodMap[method] || method;
 };
 
-const AdminPaymentsPanel: React.FC<AdminPaymentsPanelProps> = ({
-  adminPayments,
-  searchQuery,
-  appliedSearch,
-  currentPage,
-  onSearchQueryChange,
-  onSearch,
-  onSearchKeyPress,
-  onClearSearch,
-  onPageChange,
-  isLoading,
-}) => {
+const AdminPaymentsPanel: React.FC = () => {
   const { t } = useTranslation();
 
-  const filtered = !appliedSearch ? adminPayments : adminPayments.filter(p => {
-    const query = appliedSearch.toLowerCase();
-    return p.userEmail.toLowerCase().includes(query) ||
-      (p.userName && p.userName.toLowerCase().includes(query)) ||
-      p.orderId.toLowerCase().includes(query);
-  });
+  const [payments, setPayments] = useState<AdminPayment[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [hasMore, setHasMore] = useState(false);
+  const [isLoading, setIsLoading] = useState(false);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
+  const [errorMessage, setErrorMessage] = useState('');
+  const [draft, setDraft] = useState<PaymentFilter>(emptyFilter());
+  const [applied, setApplied] = useState<PaymentFilter>(emptyFilter());
 
-  const totalPages = Math.ceil(filtered.length / ADMIN_ITEMS_PER_PAGE);
-  const startIndex = (currentPage - 1) * ADMIN_ITEMS_PER_PAGE;
-  const paginated = filtered.slice(startIndex, startIndex + ADMIN_ITEMS_PER_PAGE);
+  // 필터는 서버에서 적용 — 첫 페이지는 교체, 이후 페이지는 nextCursor 로 이어 붙인다
+  const fetchPage = useCallback(async (cursor: string | null) => {
+    const setLoading = cursor ? setIsLoadingMore : setIsLoading;
+    setLoading(true);
+    setErrorMessage('');
+    try {
+      const params = new URLSearchParams();
+      (Object.keys(applied) as (keyof PaymentFilter)[]).forEach((key) => {
+        const value = applied[key].trim();
+        if (value) params.set(key, value);
+      });
+      if (cursor) params.set('cursor', cursor);
+      params.set('size', String(PAGE_SIZE));
+
+      const response = await fetch(`${API_URL}/api/admin/payments?${params.toString()}`, { credentials: 'include' as RequestCredentials });
+      if (!response.ok) {
+        const error = await response.json().catch(() => null);
+        setErrorMessage(error?.message || '결제 내역 조회에 실패했습니다.');
+        return;
+      }
+      const data: CursorPageResponse<AdminPayment> = await response.json();
+      const items = Array.isArray(data?.items) ? data.items : [];
+      setPayments((prev) => (cursor ? [...prev, ...items] : items));
+      setNextCursor(data.nextCursor);
+      setHasMore(data.hasMore);
+    } catch {
+      setErrorMessage('결제 내역 조회 중 오류가 발생했습니다.');
+    } finally {
+      setLoading(false);
+    }
+  }, [applied]);
+
+  useEffect(() => {
+    fetchPage(null);
+  }, [fetchPage]);
+
+  const updateDraft = (key: keyof PaymentFilter, value: string) => setDraft((prev) => ({ ...prev, [key]: value }));
+  const applyFilter = () => setApplied({ ...draft });
+  const clearFilter = () => { setDraft(emptyFilter()); setApplied(emptyFilter()); };
+  const handleKeyPress = (e: React.KeyboardEvent<HTMLInputElement>) => { if (e.key === 'Enter') applyFilter(); };
+  const isFiltered = JSON.stringify(applied) !== JSON.stringify(emptyFilter());
 
   return (
     <div className="info-card admin-section-card wide">
       <div className="card-header">
         <h2 className="card-title">{t('myPage.menu.adminPayments')}</h2>
-        <span className="admin-count">{filtered.length}건</span>
+        <span className="admin-count">{payments.length}건{hasMore ? '+' : ''}</span>
       </div>
       <div className="admin-search-bar">
         <input
           type="text"
-          placeholder="이메일, 이름, 주문번호로 검색"
-          value={searchQuery}
-          onChange={(e) => onSearchQueryChange(e.target.value)}
-          onKeyPress={onSearchKeyPress}
+          placeholder="주문번호(정확히) 또는 이메일·이름(앞부분)으로 검색"
+          value={draft.q}
+          onChange={(e) => updateDraft('q', e.target.value)}
+          onKeyPress={handleKeyPress}
         />
-        <button onClick={onSearch}>조회</button>
-        {appliedSearch && <button className="clear" onClick={onClearSearch}>초기화</button>}
+        <button onClick={applyFilter}>조회</button>
+        {isFiltered && <button className="clear" onClick={clearFilter}>초기화</button>}
+      </div>
+      <div className="admin-filter-bar">
+        <select value={draft.status} onChange={(e) => updateDraft('status', e.target.value)}>
+          <option value="">전체 상태</option>
+          <option value="C">완료</option>
+          <option value="P">대기</option>
+          <option value="F">실패</option>
+          <option value="R">환불</option>
+        </select>
+        <select value={draft.method} onChange={(e) => updateDraft('method', e.target.value)}>
+          <option value="">전체 결제수단</option>
+          <option value="CARD">카드</option>
+          <option value="VIRTUAL_ACCOUNT">가상계좌</option>
+          <option value="TRANSFER">계좌이체</option>
+          <option value="MOBILE">휴대폰</option>
+        </select>
+        <input type="date" value={draft.from} onChange={(e) => updateDraft('from', e.target.value)} aria-label="시작일" />
+        <span>~</span>
+        <input type="date" value={draft.to} onChange={(e) => updateDraft('to', e.target.value)} aria-label="종료일" />
+        <select value={draft.sort} onChange={(e) => updateDraft('sort', e.target.value)}>
+          <option value="createdAt,desc">최신순</option>
+          <option value="createdAt,asc">오래된순</option>
+          <option value="amount,desc">금액 높은순</option>
+          <option value="amount,asc">금액 낮은순</option>
+        </select>
       </div>
+      {errorMessage && <div className="admin-error">{errorMessage}</div>}
       {isLoading ? (
         <div className="admin-loading">데이터 로딩 중...</div>
       ) : (
@@ -89,8 +160,8 @@ const AdminPaymentsPanel: React.FC<AdminPaymentsPanelProps> = ({
                 </tr>
               </thead>
               <tbody>
-                {paginated.length > 0 ? (
-                  paginated.map((p) => (
+                {payments.length > 0 ? (
+                  payments.map((p) => (
                     <tr key={p.id}>
                       <td className="order-id">{p.orderId}</td>
                       <td>{p.userName || '-'}</td>
@@ -107,11 +178,11 @@ const AdminPaymentsPanel: React.FC<AdminPaymentsPanelProps> = ({
               </tbody>
             </table>
           </div>
-          {totalPages > 1 && (
-            <div className="admin-pagination">
-              <button disabled={currentPage === 1} onClick={() => onPageChange(currentPage - 1)}>&lsaquo;</button>
-              <span>{currentPage} / {totalPages}</span>
-              <button disabled={currentPage === totalPages} onClick={() => onPageChange(currentPage + 1)}>&rsaquo;</button>
+          {hasMore && (
+            <div className="load-more">
+              <button disabled={isLoadingMore} onClick={() => fetchPage(nextCursor)}>
+                {isLoadingMore ? '불러오는 중...' : '더 보기'}
+              </button>
             </div>
           )}
         </>
@@ -19,6 +19,9 @@ export interface PaymentHistoryItem {
 interface PaymentHistoryPanelProps {
   isLoading: boolean;
   payments: PaymentHistoryItem[];
+  hasMore: boolean;
+  isLoadingMore: boolean;
+  onLoadMore: () => void;
 }
 
 // 상태값 → 배지 클래스(공통 .status-badge 색상 재사용)
@@ -29,7 +32,7 @@ const STATUS_CLASS: Record<string, string> = {
   REFUNDED: 'canceled',
 };
 
-const PaymentHistoryPanel: React.FC<PaymentHistoryPanelProps> = ({ isLoading, payments }) => {
+const PaymentHistoryPanel: React.FC<PaymentHistoryPanelProps> = ({ isLoading, payments, hasMore, isLoadingMore, onLoadMore }) => {
   const { t } = useTranslation();
 
   const formatDate = (s: string | null) => {
@@ -52,11 +55,12 @@ const PaymentHistoryPanel: React.FC<PaymentHistoryPanelProps> = ({ isLoading, pa
     <div className="info-card">
       <div className="card-header">
         <h2 className="card-title">{t('myPage.paymentHistory.title')}</h2>
-        <span className="admin-count">{t('myPage.paymentHistory.count', { count: payments.length })}</span>
+        <span className="admin-count">{t('myPage.paymentHistory.count', { count: payments.length })}{hasMore ? '+' : ''}</span>
       </div>
       {isLoading ? (
         <div className="admin-loading">{t('myPage.paymentHistory.loading')}</div>
       ) : (
+        <>
         <div className="admin-table-wrapper">
           <table className="admin-table">
             <thead>
@@ -92,6 +96,14 @@ const PaymentHistoryPanel: React.FC<PaymentHistoryPanelProps> = ({ isLoading, pa
             </tbody>
           </table>
         </div>
+        {hasMore && (
+          <div className="load-more">
+            <button disabled={isLoadingMore} onClick={onLoadMore}>
+              {isLoadingMore ? t('myPage.paymentHistory.loading') : t('myPage.paymentHistory.loadMore')}
+            </button>
+          </div>
+        )}
+        </>
       )}
     </div>
   );
@@ -13,6 +13,8 @@ interface PaymentResult {
   orderName?: string;
   licenseKey?: string;
   licenseValidUntil?: string;
+  // 라이선스 발급은 결제 승인 후 비동기 처리 — PROCESSING 이면 발급 상태를 폴링
+  fulfillmentStatus?: FulfillmentStatus;
   // 가상계좌 정보
   isVirtualAccount?: boolean;
   bankName?: string;
@@ -20,6 +22,11 @@ interface PaymentResult {
   dueDate?: string;
 }
 
+type FulfillmentStatus = 'PROCESSING' | 'ISSUED' | 'COMPLETED' | 'FAILED' | 'TIMEOUT';
+
+const FULFILLMENT_POLL_INTERVAL_MS = 2000;
+const FULFILLMENT_POLL_MAX_ATTEMPTS = 30;
+
 const formatAmount = (amount: number, currency: string) => {
   if (currency === 'USD') {
     return '$' + amount.toLocaleString();
@@ -67,6 +74,7 @@ const PaymentSuccess: React.FC = () => {
           amount: parseInt(amount),
           currency: 'KRW',
           paymentKey,
+          fulfillmentStatus: 'PROCESSING',
         });
         setIsProcessing(false);
         return;
@@ -117,8 +125,7 @@ const PaymentSuccess: React.FC = () => {
           currency: result.currency || 'KRW',
           paymentKey,
           orderName: result.orderName,
-          licenseKey: result.licenseKey,
-          licenseValidUntil: result.licenseValidUntil,
+          fulfillmentStatus: result.fulfillmentStatus,
           // 가상계좌 정보
           isVirtualAccount: result.isVirtualAccount,
           bankName: result.bankName,
@@ -135,6 +142,52 @@ const PaymentSuccess: React.FC = () => {
     confirmPayment();
   }, [searchParams, location.state]);
 
+  // 라이선스 발급 상태 폴링 (아웃박스 비동기 발급)
+  const pollingOrderId = paymentResult?.fulfillmentStatus === 'PROCESSING' ? paymentResult.orderId : null;
+  useEffect(() => {
+    if (!pollingOrderId) return;
+    let cancelled = false;
+    let attempts = 0;
+    let timer: ReturnType<typeof setTimeout>;
+
+    const poll = async () => {
+      attempts += 1;
+      try {
+        const response = await fetch(
+          `${API_URL}/api/payments/${encodeURIComponent(pollingOrderId)}/fulfillment`,
+          { credentials: 'include' }
+        );
+        if (response.ok) {
+          const data = await response.json();
+          if (cancelled) return;
+          if (data.fulfillmentStatus && data.fulfillmentStatus !== 'PROCESSING') {
+            setPaymentResult((prev) => prev && {
+              ...prev,
+              fulfillmentStatus: data.fulfillmentStatus,
+              licenseKey: data.licenseKey,
+              licenseValidUntil: data.licenseValidUntil,
+            });
+            return;
+          }
+        }
+      } catch {
+        // 일시적인 네트워크 오류 — 다음 주기에 재시도
+      }
+      if (cancelled) return;
+      if (attempts >= FULFILLMENT_POLL_MAX_ATTEMPTS) {
+        setPaymentResult((prev) => prev && { ...prev, fulfillmentStatus: 'TIMEOUT' });
+        return;
+      }
+      timer = setTimeout(poll, FULFILLMENT_POLL_INTERVAL_MS);
+    };
+
+    timer = setTimeout(poll, FULFILLMENT_POLL_INTERVAL_MS);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [pollingOrderId]);
+
   if (isProcessing) {
     return (
       <div className="payment-result-page">
@@ -277,6 +330,21 @@ const PaymentSuccess: React.FC = () => {
                 <span className="label">결제금액</span>
                 <span className="value">{formatAmount(paymentResult.amount, paymentResult.currency)}</span>
               </div>
+              {paymentResult.fulfillmentStatus === 'PROCESSING' && (
+                <div className="detail-row">
+                  <span className="label">라이선스 키</span>
+                  <span className="value issuing">
+                    <span className="spinner small"></span>
+                    라이선스 발급 중...
+                  </span>
+                </div>
+              )}
+              {paymentResult.fulfillmentStatus === 'FAILED' && (
+                <div className="detail-row">
+                  <span className="label">라이선스 키</span>
+                  <span className="value">발급 지연 — 고객센터로 문의해주세요</span>
+                </div>
+              )}
               {paymentResult.licenseKey && (
                 <div className="detail-row license-key">
                   <span className="label">라이선스 키</span>
@@ -299,7 +367,9 @@ const PaymentSuccess: React.FC = () => {
           </div>
 
           <p className="result-notice">
-            라이선스 키가 이메일로 발송됩니다.<br/>
+            {paymentResult?.fulfillmentStatus === 'TIMEOUT'
+              ? <>라이선스 발급이 조금 늦어지고 있습니다. 발급이 완료되면 이메일로 안내되며, 마이페이지에서도 확인할 수 있습니다.<br/></>
+              : <>라이선스 키가 이메일로 발송됩니다.<br/></>}
             문의사항은 고객센터로 연락해주세요.
           </p>
         </div>